@@ -34,6 +34,7 @@ public class Constants {
     public static final String DEV_AUTH_CLIENT_ID = "XpQ6lphi7kjKkWzumYyqqNf7CjIa";
     public static final String AUTH_CLIENT_ID = "9rKng8hSZd0VkeA45Lt4LOfCp9Aa";
     public static final String CONFIG_FILE_PATH = "migrate-logicapps.config";
+    public static final String CACHE_DIR_NAME = "migrate-logicapps-cache";
     public static final int AUTHENTICATION_TIMEOUT_SECONDS = 180;
     public static final String DEV_COPILOT_BACKEND_URL = "https://e95488c8-8511-4882-967f-ec3ae2a0f86f-dev." +
             "e1-us-east-azure.choreoapis.dev/ballerina-copilot/ballerina-copilot-api-byo/v2.0";
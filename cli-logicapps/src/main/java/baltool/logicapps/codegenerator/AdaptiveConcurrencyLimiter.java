@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package baltool.logicapps.codegenerator;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of in-flight backend requests and adapts the limit to how the backend responds (AIMD).
+ * <p>
+ * Every successful response that arrives within {@link #LATENCY_TOLERANCE} times the smoothed baseline latency raises
+ * the limit by one. A response that is slower than that lowers the limit slightly, and an overload signal (rate
+ * limiting, a server error or a timeout) halves it. The limit always stays between the configured minimum and maximum.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    static final double LATENCY_TOLERANCE = 2.0;
+    private static final double OVERLOAD_BACKOFF_RATIO = 0.5;
+    private static final double SLOW_RESPONSE_BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyMillis = -1;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: initial=" + initialLimit + ", min=" +
+                    minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Blocks until the number of in-flight requests is below the current limit and takes a permit.
+     */
+    void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                permitAvailable.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit taken with {@link #acquire()}.
+     */
+    void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a successful response.
+     *
+     * @param latencyMillis time it took the backend to respond
+     */
+    void onSuccess(long latencyMillis) {
+        lock.lock();
+        try {
+            if (baselineLatencyMillis < 0) {
+                baselineLatencyMillis = latencyMillis;
+            }
+            if (latencyMillis > LATENCY_TOLERANCE * baselineLatencyMillis) {
+                setLimit(limit * SLOW_RESPONSE_BACKOFF_RATIO);
+            } else {
+                // Slow responses are kept out of the baseline, otherwise a degrading backend would raise its own bar
+                baselineLatencyMillis += LATENCY_SMOOTHING * (latencyMillis - baselineLatencyMillis);
+                setLimit(limit + 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that the backend is overloaded.
+     */
+    void onOverload() {
+        lock.lock();
+        try {
+            setLimit(limit * OVERLOAD_BACKOFF_RATIO);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        permitAvailable.signalAll();
+    }
+}
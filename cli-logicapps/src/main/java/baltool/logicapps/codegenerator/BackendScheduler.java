@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package baltool.logicapps.codegenerator;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends requests to the Copilot backend with adaptive concurrency and retries.
+ * <p>
+ * The number of requests in flight across all logic apps is bounded by an {@link AdaptiveConcurrencyLimiter}, so a
+ * multi-root migration ramps up while the backend keeps up and backs off as soon as it rate limits, fails or slows
+ * down. Rate limited ({@code 429}) and server error ({@code 5xx}) responses, timeouts and connection failures are
+ * retried with full-jitter exponential backoff, honouring {@code Retry-After} when the backend sends it.
+ */
+final class BackendScheduler {
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final int MAX_ATTEMPTS = 4;
+    private static final int INITIAL_CONCURRENCY = 4;
+    private static final int MAX_CONCURRENCY = 32;
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+    private static final BackendScheduler INSTANCE = new BackendScheduler(HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMinutes(5))
+            .executor(Executors.newCachedThreadPool())
+            .build(), new AdaptiveConcurrencyLimiter(INITIAL_CONCURRENCY, 1, MAX_CONCURRENCY), MAX_ATTEMPTS,
+            RESPONSE_TIMEOUT, INITIAL_BACKOFF, MAX_BACKOFF);
+
+    private final HttpClient httpClient;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final int maxAttempts;
+    private final Duration responseTimeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    BackendScheduler(HttpClient httpClient, AdaptiveConcurrencyLimiter limiter, int maxAttempts,
+                     Duration responseTimeout, Duration initialBackoff, Duration maxBackoff) {
+        this.httpClient = httpClient;
+        this.limiter = limiter;
+        this.maxAttempts = maxAttempts;
+        this.responseTimeout = responseTimeout;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    static BackendScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    /**
+     * Sends the request and hands the response to the given handler. The request counts as in flight until the handler
+     * returns, so streamed bodies are consumed before another request takes its place.
+     *
+     * @param request         request to send
+     * @param bodyHandler     body handler of the response
+     * @param responseHandler consumes the response. It receives the last response even if that one is retryable.
+     * @param logger          logger for verbose output
+     * @param fileName        name of the file being processed
+     * @return result of the response handler
+     */
+    <T, R> R send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                  ResponseHandler<T, R> responseHandler, VerboseLoggerFactory logger, String fileName)
+            throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            Optional<String> retryAfter;
+            limiter.acquire();
+            try {
+                long startTime = System.nanoTime();
+                CompletableFuture<HttpResponse<T>> future = httpClient.sendAsync(request, bodyHandler);
+                HttpResponse<T> response;
+                try {
+                    response = future.get(responseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    limiter.onOverload();
+                    logger.printVerboseError(fileName, "Request timed out after " + responseTimeout.toMinutes() +
+                            " minutes");
+                    if (attempt >= maxAttempts) {
+                        throw new IOException("Request timed out", e);
+                    }
+                    response = null;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    logger.printVerboseError(fileName, "Request failed: " + cause.getMessage());
+                    if (!(cause instanceof IOException) || attempt >= maxAttempts) {
+                        throw new IOException("Request failed", cause);
+                    }
+                    limiter.onOverload();
+                    response = null;
+                }
+
+                if (response == null) {
+                    retryAfter = Optional.empty();
+                } else {
+                    long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                    logger.printVerboseInfo(fileName, "Response time: " + latencyMillis + "ms");
+                    logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
+                    if (!isRetryable(response.statusCode())) {
+                        limiter.onSuccess(latencyMillis);
+                        return responseHandler.handle(response);
+                    }
+                    limiter.onOverload();
+                    if (attempt >= maxAttempts) {
+                        return responseHandler.handle(response);
+                    }
+                    closeQuietly(response.body());
+                    retryAfter = response.headers().firstValue("Retry-After");
+                }
+            } finally {
+                limiter.release();
+            }
+            // Wait without holding a permit, other requests may still go through under the reduced limit
+            long delayMillis = backoffMillis(attempt, retryAfter);
+            logger.printVerboseWarn(fileName, "Backend is busy, retrying in " + delayMillis + "ms (attempt " +
+                    (attempt + 1) + " of " + maxAttempts + ", concurrency limit " + limiter.limit() + ")");
+            Thread.sleep(delayMillis);
+        }
+    }
+
+    private static boolean isRetryable(int statusCode) {
+        return statusCode == HTTP_TOO_MANY_REQUESTS || statusCode >= HTTP_SERVER_ERROR;
+    }
+
+    /**
+     * Computes the delay before the next attempt. Full jitter spreads out the retries of requests that failed
+     * together, so they do not hit the backend again at the same instant.
+     */
+    long backoffMillis(int attempt, Optional<String> retryAfter) {
+        long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (retryAfter.isPresent()) {
+            try {
+                delay = Math.max(delay, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.get().trim())));
+            } catch (NumberFormatException e) {
+                // Retry-After may also be an HTTP date, fall back to the computed delay
+            }
+        }
+        return delay;
+    }
+
+    private static void closeQuietly(Object body) {
+        if (body instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // Nothing to do, the response is discarded anyway
+            }
+        }
+    }
+
+    /**
+     * Consumes a backend response.
+     *
+     * @param <T> type of the response body
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    interface ResponseHandler<T, R> {
+
+        R handle(HttpResponse<T> response) throws IOException, InterruptedException;
+    }
+}
@@ -21,46 +21,29 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import io.ballerina.projects.BuildOptions;
-import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.ModuleDescriptor;
-import io.ballerina.projects.PackageCompilation;
-import io.ballerina.projects.directory.BuildProject;
-import io.ballerina.projects.util.ProjectUtils;
-import io.ballerina.tools.diagnostics.Diagnostic;
-import io.ballerina.tools.diagnostics.DiagnosticInfo;
-import io.ballerina.tools.diagnostics.DiagnosticSeverity;
-
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileWriter;
+
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
 
-import static baltool.logicapps.Constants.BALLERINA_TOML_FILE;
 import static baltool.logicapps.Constants.CONTENT;
 import static baltool.logicapps.Constants.COPILOT_BACKEND_URL;
 import static baltool.logicapps.Constants.DEV_COPILOT_BACKEND_URL;
@@ -73,7 +56,6 @@ import static baltool.logicapps.Constants.TRIPLE_BACKTICK_BALLERINA;
  * Utility class for code generation related operations.
  */
 public class CodeGenerationUtils {
-    private static final String TEMP_DIR_PREFIX = "logicapps-migration-tool-codegen-diagnostics-dir-";
     public static final boolean BALLERINA_DEV_UPDATE = Boolean.parseBoolean(
             System.getenv("BALLERINA_DEV_UPDATE"));
 
@@ -176,6 +158,18 @@ public class CodeGenerationUtils {
                                                        String additionalInstructions, VerboseLoggerFactory logger,
                                                        String fileName)
             throws URISyntaxException, IOException, InterruptedException {
+        String cacheKey = ResponseCache.key("executionplan", getCopilotBackendURL(), packageName,
+                additionalInstructions, sourceFiles.toString(), fileAttachmentContents.toString());
+        return ResponseCache.getInstance().getOrLoad(cacheKey, () -> requestLogicAppExecutionPlan(copilotAccessToken,
+                sourceFiles, fileAttachmentContents, packageName, additionalInstructions, logger, fileName),
+                logger, fileName);
+    }
+
+    private static String requestLogicAppExecutionPlan(String copilotAccessToken, JsonArray sourceFiles,
+                                                       JsonArray fileAttachmentContents, String packageName,
+                                                       String additionalInstructions, VerboseLoggerFactory logger,
+                                                       String fileName)
+            throws URISyntaxException, IOException, InterruptedException {
         URI uri = new URI(getCopilotBackendURL() + "/logicapps/executionplan");
 
         logger.printVerboseInfo(fileName, "Preparing execution plan generation payload");
@@ -227,6 +221,21 @@ public class CodeGenerationUtils {
                                               JsonArray fileAttachmentContents, String packageName,
                                               String generatedPrompt, VerboseLoggerFactory logger, String fileName)
             throws URISyntaxException, IOException, InterruptedException {
+        String cacheKey = ResponseCache.key("code", getCopilotBackendURL(), packageName, generatedPrompt,
+                sourceFiles.toString(), fileAttachmentContents.toString());
+        String cacheEntry = ResponseCache.getInstance().getOrLoad(cacheKey, () -> toCacheEntry(requestGeneratedCode(
+                copilotAccessToken, sourceFiles, fileAttachmentContents, packageName, generatedPrompt, logger,
+                fileName)), logger, fileName);
+        GeneratedCode generatedCode = fromCacheEntry(cacheEntry);
+        updateSourceFilesWithGeneratedContent(sourceFiles, generatedCode.codeMap, logger, fileName);
+        return generatedCode;
+    }
+
+    private static GeneratedCode requestGeneratedCode(String copilotAccessToken, JsonArray sourceFiles,
+                                                      JsonArray fileAttachmentContents, String packageName,
+                                                      String generatedPrompt, VerboseLoggerFactory logger,
+                                                      String fileName)
+            throws URISyntaxException, IOException, InterruptedException {
 
         logger.printVerboseInfo(fileName, "Preparing code generation payload");
         JsonObject codeGenerationPayload = constructCodeGenerationPayload(generatedPrompt, sourceFiles,
@@ -242,22 +251,47 @@ public class CodeGenerationUtils {
                 .build();
 
         logger.printVerboseInfo(fileName, "Sending HTTP request to get generated code");
-        HttpResponse<Stream<String>> response = getHttpClient().send(codeGenerationRequest,
-                HttpResponse.BodyHandlers.ofLines());
-        logger.printVerboseInfo(fileName, "Code generation response received");
-        logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
-
-        if (response.statusCode() >= 300) {
-            String errorMsg = "Code generation failed with status: " + response.statusCode();
-            logger.printVerboseError(fileName, errorMsg);
-            throw new RuntimeException(errorMsg);
-        }
+        return BackendScheduler.getInstance().send(codeGenerationRequest, HttpResponse.BodyHandlers.ofLines(),
+                response -> {
+                    logger.printVerboseInfo(fileName, "Code generation response received");
+                    try (Stream<String> lines = response.body()) {
+                        if (response.statusCode() >= 300) {
+                            String errorMsg = "Code generation failed with status: " + response.statusCode();
+                            logger.printVerboseError(fileName, errorMsg);
+                            throw new RuntimeException(errorMsg);
+                        }
+
+                        logger.printVerboseInfo(fileName, "Processing streamed response for code generation");
+                        return extractGeneratedCode(lines, logger, fileName);
+                    }
+                }, logger, fileName);
+    }
 
-        logger.printVerboseInfo(fileName, "Processing streamed response for code generation");
+    private static String toCacheEntry(GeneratedCode generatedCode) {
+        JsonObject codeMap = new JsonObject();
+        generatedCode.codeMap.forEach(codeMap::addProperty);
+        JsonObject cacheEntry = new JsonObject();
+        cacheEntry.add("codeMap", codeMap);
+        cacheEntry.add("functions", generatedCode.functions);
+        JsonArray syntaxErrors = new JsonArray();
+        generatedCode.syntaxErrors.forEach(syntaxErrors::add);
+        cacheEntry.add("syntaxErrors", syntaxErrors);
+        return cacheEntry.toString();
+    }
 
-        GeneratedCode generatedCode = extractGeneratedCode(response.body(), logger, fileName);
-        updateSourceFilesWithGeneratedContent(sourceFiles, generatedCode.codeMap, logger, fileName);
-        return generatedCode;
+    private static GeneratedCode fromCacheEntry(String cacheEntry) {
+        JsonObject cacheEntryJson = JsonParser.parseString(cacheEntry).getAsJsonObject();
+        Map<String, String> codeMap = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : cacheEntryJson.getAsJsonObject("codeMap").entrySet()) {
+            codeMap.put(entry.getKey(), entry.getValue().getAsString());
+        }
+        JsonElement functions = cacheEntryJson.get("functions");
+        List<String> syntaxErrors = new ArrayList<>();
+        if (cacheEntryJson.has("syntaxErrors")) {
+            cacheEntryJson.getAsJsonArray("syntaxErrors").forEach(error -> syntaxErrors.add(error.getAsString()));
+        }
+        return new GeneratedCode(codeMap, functions == null || functions.isJsonNull() ? null :
+                functions.getAsJsonArray(), syntaxErrors);
     }
 
     /**
@@ -283,17 +317,33 @@ public class CodeGenerationUtils {
             throws IOException, URISyntaxException, InterruptedException {
 
         logger.printVerboseInfo(fileName, "Starting code repair process...");
+        DiagnosticsEngine diagnosticsEngine = DiagnosticsEngine.load(sourceFiles, moduleDescriptor, logger, fileName);
         GeneratedCode repairedCode = generatedCode;
+        List<String> syntaxErrors = generatedCode.syntaxErrors;
         for (int iteration = 0; iteration < MAXIMUM_RETRY_COUNT; iteration++) {
             logger.printVerboseInfo(fileName, "Iteration " + (iteration + 1) + " of code repair");
+            Optional<JsonArray> diagnostics;
+            if (syntaxErrors.isEmpty()) {
+                logger.printVerboseInfo(fileName, "Running diagnostics on generated code...");
+                diagnostics = diagnosticsEngine.getDiagnostics(sourceFiles);
+            } else {
+                // Code that does not parse is repaired with the errors found while it was streamed, compiling it
+                // would only add semantic errors caused by the same syntax errors
+                logger.printVerboseInfo(fileName, "Skipping compilation, " + syntaxErrors.size() +
+                        " syntax errors found while streaming");
+                JsonArray syntaxDiagnostics = new JsonArray();
+                syntaxErrors.forEach(syntaxDiagnostics::add);
+                diagnostics = Optional.of(syntaxDiagnostics);
+            }
             GeneratedCode repairedCodeIteration = repairIfDiagnosticsExist(copilotAccessToken, sourceFiles,
-                    fileAttachmentContents, packageName, generatedPrompt, moduleDescriptor, generatedCode, logger,
+                    fileAttachmentContents, packageName, generatedPrompt, diagnostics, generatedCode, logger,
                     fileName);
             if (repairedCodeIteration == null) {
                 logger.printVerboseInfo(fileName, "No code generated in iteration " + (iteration + 1));
                 break;
             } else {
                 repairedCode = repairedCodeIteration;
+                syntaxErrors = repairedCodeIteration.syntaxErrors;
                 logger.printVerboseInfo(fileName, "Code repaired successfully in iteration " + (iteration + 1));
             }
         }
@@ -308,7 +358,7 @@ public class CodeGenerationUtils {
      * @param fileAttachmentContents Array of file attachment contents
      * @param packageName Name of the Ballerina package
      * @param generatedPrompt The prompt used for code generation
-     * @param moduleDescriptor Module descriptor for the Ballerina project
+     * @param diagnostics Errors found in the current source files, if any
      * @param generatedCode Generated code to be repaired
      * @param logger Logger for verbose output
      * @param fileName Name of the file being processed
@@ -318,14 +368,11 @@ public class CodeGenerationUtils {
     private static GeneratedCode repairIfDiagnosticsExist(String copilotAccessToken, JsonArray sourceFiles,
                                                           JsonArray fileAttachmentContents, String packageName,
                                                           String generatedPrompt,
-                                                          ModuleDescriptor moduleDescriptor,
+                                                          Optional<JsonArray> diagnostics,
                                                           GeneratedCode generatedCode, VerboseLoggerFactory logger,
                                                           String fileName)
             throws IOException, URISyntaxException, InterruptedException {
 
-        logger.printVerboseInfo(fileName, "Running diagnostics on generated code...");
-        Optional<JsonArray> diagnostics = getDiagnostics(sourceFiles, moduleDescriptor, logger, fileName);
-
         if (diagnostics.isEmpty()) {
             logger.printVerboseInfo(fileName, "No diagnostics found - code repair not needed");
             return null;
@@ -393,8 +440,8 @@ public class CodeGenerationUtils {
         String repairResponse = responseJson.getAsJsonPrimitive("repairResponse").getAsString();
         logger.printVerboseInfo(fileName, "Repair response extracted successfully");
 
-        GeneratedCode repairedCode = new GeneratedCode(extractGeneratedCodeFromResponse(repairResponse),
-                generatedCodeMap.functions);
+        GeneratedCode repairedCode = new GeneratedCode(StreamingCodeParser.parse(repairResponse),
+                generatedCodeMap.functions, List.of());
         updateSourceFilesWithGeneratedContent(sourceFiles, repairedCode.codeMap, logger, fileName);
         return repairedCode;
     }
@@ -428,61 +475,13 @@ public class CodeGenerationUtils {
                 codeReparationPayload.toString().length() + " characters");
 
         logger.printVerboseInfo(fileName, "Sending HTTP request to get the repaired code");
-        HttpResponse<Stream<String>> response = sendStreamRequestAsync(uri, codeReparationPayload, copilotAccessToken,
-                logger, fileName);
-        logger.printVerboseInfo(fileName, "Code repair response received");
-        logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
-
-        logger.printVerboseInfo(fileName, "Processing streamed response for code reparation");
-
-        return extractGeneratedCode(response.body(), logger, fileName);
-    }
-
-    /**
-     * Retrieves the diagnostics for the given source files and module descriptor.
-     *
-     * @param sourceFiles Array of source files to analyze
-     * @param moduleDescriptor Module descriptor for the Ballerina project
-     * @param logger Logger for verbose output
-     * @param fileName Name of the file being processed
-     *
-     * @return Optional<JsonArray> containing diagnostics if any errors are found, otherwise empty
-     */
-    private static Optional<JsonArray> getDiagnostics(JsonArray sourceFiles, ModuleDescriptor moduleDescriptor,
-                                                      VerboseLoggerFactory logger, String fileName) throws IOException {
-
-        logger.printVerboseInfo(fileName, "Creating temporary project for diagnostics");
-        BuildProject project = createProject(sourceFiles, moduleDescriptor, logger, fileName);
-
-        logger.printVerboseInfo(fileName, "Compiling project for diagnostics");
-        PackageCompilation compilation = project.currentPackage().getCompilation();
-        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-
-        logger.printVerboseInfo(fileName, "Diagnostic compilation completed");
-        logger.printVerboseInfo(fileName, "Total diagnostics: " + diagnosticResult.diagnostics().size());
-        logger.printVerboseInfo(fileName, "Error count: " + diagnosticResult.errorCount());
-        logger.printVerboseInfo(fileName, "Warning count: " + diagnosticResult.warningCount());
-
-        if (diagnosticResult.errorCount() == 0) {
-            logger.printVerboseInfo(fileName, "No errors found - diagnostics successful");
-            return Optional.empty();
-        }
-
-        logger.printVerboseInfo(fileName, "Processing error diagnostics");
-        JsonArray diagnostics = new JsonArray();
-        int errorCount = 0;
-
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
-            DiagnosticInfo diagnosticInfo = diagnostic.diagnosticInfo();
-            if (diagnosticInfo.severity() != DiagnosticSeverity.ERROR) {
-                continue;
+        return sendStreamRequestAsync(uri, codeReparationPayload, copilotAccessToken, response -> {
+            logger.printVerboseInfo(fileName, "Code repair response received");
+            logger.printVerboseInfo(fileName, "Processing streamed response for code reparation");
+            try (Stream<String> lines = response.body()) {
+                return extractGeneratedCode(lines, logger, fileName);
             }
-            diagnostics.add(diagnostic.toString());
-            errorCount++;
-        }
-
-        logger.printVerboseInfo(fileName, "Processed " + errorCount + " error diagnostics");
-        return Optional.of(diagnostics);
+        }, logger, fileName);
     }
 
     /**
@@ -522,101 +521,9 @@ public class CodeGenerationUtils {
     }
 
     /**
-     * Creates a temporary Ballerina project with the provided source files and module descriptor.
-     *
-     * @param sourceFiles Array of source files to include in the project
-     * @param moduleDescriptor Module descriptor for the Ballerina project
-     * @param logger Logger for verbose output
-     * @param fileName Name of the file being processed
-     * @return BuildProject representing the temporary Ballerina project
-     */
-    private static BuildProject createProject(JsonArray sourceFiles, ModuleDescriptor moduleDescriptor,
-                                              VerboseLoggerFactory logger, String fileName) throws IOException {
-
-        Path tempProjectDir = Files.createTempDirectory(TEMP_DIR_PREFIX + System.currentTimeMillis());
-        tempProjectDir.toFile().deleteOnExit();
-        logger.printVerboseInfo(fileName, "Created Temporary project directory: " + tempProjectDir.toAbsolutePath());
-
-        logger.printVerboseInfo(fileName, "Writing source files to temporary directory");
-        int fileCount = 0;
-        for (JsonElement sourceFile : sourceFiles) {
-            JsonObject sourceFileObj = sourceFile.getAsJsonObject();
-            String filePath = sourceFileObj.get(FILE_PATH).getAsString();
-            String content = sourceFileObj.get(CONTENT).getAsString();
-
-            File file = Files.createFile(tempProjectDir.resolve(Path.of(filePath))).toFile();
-            file.deleteOnExit();
-
-            try (FileWriter fileWriter = new FileWriter(file, StandardCharsets.UTF_8)) {
-                fileWriter.write(content);
-            }
-
-            fileCount++;
-        }
-        logger.printVerboseInfo(fileName, "Total files written: " + fileCount);
-
-        Path ballerinaTomlPath = tempProjectDir.resolve(BALLERINA_TOML_FILE);
-        File balTomlFile = Files.createFile(ballerinaTomlPath).toFile();
-        balTomlFile.deleteOnExit();
-
-        String tomlContent = String.format("""
-                [package]
-                org = "%s"
-                name = "%s"
-                version = "%s"
-                """,
-                moduleDescriptor.org().value(),
-                moduleDescriptor.packageName().value(),
-                moduleDescriptor.version().value());
-
-        try (FileWriter fileWriter = new FileWriter(balTomlFile, StandardCharsets.UTF_8)) {
-            fileWriter.write(tomlContent);
-        }
-        logger.printVerboseInfo(fileName, "Ballerina.toml created successfully");
-
-        Path ballerinaHomePath = Path.of(Objects.requireNonNull(getBallerinaHome(logger, fileName)));
-        System.setProperty("ballerina.home", ballerinaHomePath.toString());
-        logger.printVerboseInfo(fileName, "Ballerina home set to: " + ballerinaHomePath);
-
-        BuildOptions buildOptions = BuildOptions.builder().targetDir(ProjectUtils.getTemporaryTargetPath()).build();
-        BuildProject project = BuildProject.load(tempProjectDir, buildOptions);
-        logger.printVerboseInfo(fileName, "Temporary project created successfully");
-
-        return project;
-    }
-
-    /**
-     * Extracts generated code from the response body.
-     *
-     * @param generatedResponseBody String containing the response body from the Copilot service
-     * @return Map<String, String> containing filenames and their corresponding code content
-     */
-    private static Map<String, String> extractGeneratedCodeFromResponse(String generatedResponseBody) {
-        Map<String, String> generatedCodeMap = new HashMap<>();
-
-        // Pattern to match the code blocks with filename and content
-        // Captures: filename and the code content between triple backticks
-        Pattern pattern = Pattern.compile(
-                "<code filename=\"([^\"]+)\">\\s*```ballerina[^\\n]*\\n(.*?)\\n```\\s*</code>",
-                Pattern.DOTALL
-        );
-
-        Matcher matcher = pattern.matcher(generatedResponseBody);
-
-        while (matcher.find()) {
-            String filename = matcher.group(1);  // Extract filename
-            String codeContent = matcher.group(2);  // Extract code content
-
-            codeContent = codeContent.trim();
-
-            generatedCodeMap.put(filename, codeContent);
-        }
-
-        return generatedCodeMap;
-    }
-
-    /**
-     * Extracts generated code from the streamed response lines.
+     * Extracts generated code from the streamed response lines. The stream is parsed as it arrives and every file is
+     * syntax checked as soon as it is complete, so local validation overlaps with generation and the response is never
+     * held in memory as a whole. Syntax errors let the repair step skip compiling code that does not parse.
      *
      * @param lines Stream of response lines from the Copilot service
      * @param logger Logger for verbose output
@@ -626,63 +533,94 @@ public class CodeGenerationUtils {
     private static GeneratedCode extractGeneratedCode(Stream<String> lines, VerboseLoggerFactory logger,
                                                       String fileName) {
         logger.printVerboseInfo(fileName, "Processing streamed response lines");
-        String[] linesArr = lines.toArray(String[]::new);
-        int length = linesArr.length;
-
-        if (length == 1) {
-            JsonObject jsonObject = JsonParser.parseString(linesArr[0]).getAsJsonObject();
-            if (jsonObject.has("error_message")) {
-                String errorMsg = jsonObject.get("error_message").getAsString();
-                logger.printVerboseError(fileName, errorMsg);
-                throw new RuntimeException(errorMsg);
-            }
-        }
-
-        StringBuilder responseBody = new StringBuilder();
+        Map<String, CompletableFuture<List<String>>> syntaxChecks = new LinkedHashMap<>();
+        StreamingCodeParser codeParser = new StreamingCodeParser((sourceFileName, content) -> {
+            logger.printVerboseInfo(fileName, "Received " + sourceFileName + ", checking syntax");
+            syntaxChecks.put(sourceFileName, DiagnosticsEngine.checkSyntax(sourceFileName, content));
+        });
         JsonArray functions = null;
         int contentBlocks = 0;
         int functionBlocks = 0;
 
         logger.printVerboseInfo(fileName, "Parsing response stream");
-        int index = 0;
-        while (index < length) {
-            String line = linesArr[index];
+        Iterator<String> iterator = lines.iterator();
+        boolean firstLine = true;
+        while (iterator.hasNext()) {
+            String line = iterator.next();
+            if (firstLine) {
+                firstLine = false;
+                checkErrorResponse(line, logger, fileName);
+            }
 
             if (line.isBlank()) {
-                index++;
                 continue;
             }
 
-            if ("event: content_block_delta".equals(line)) {
-                line = linesArr[++index].substring(6);
+            if ("event: content_block_delta".equals(line) && iterator.hasNext()) {
+                line = iterator.next().substring(6);
                 String textContent = JsonParser.parseString(line).getAsJsonObject()
                         .getAsJsonPrimitive("text").getAsString();
-                responseBody.append(textContent);
+                codeParser.append(textContent);
                 contentBlocks++;
                 continue;
             }
 
-            if ("event: functions".equals(line)) {
-                line = linesArr[++index].substring(6);
+            if ("event: functions".equals(line) && iterator.hasNext()) {
+                line = iterator.next().substring(6);
                 functions = JsonParser.parseString(line).getAsJsonArray();
                 functionBlocks++;
-                continue;
             }
-
-            index++;
         }
 
         logger.printVerboseInfo(fileName, "Response parsing completed");
         logger.printVerboseInfo(fileName, "Content blocks processed: " + contentBlocks);
         logger.printVerboseInfo(fileName, "Function blocks processed: " + functionBlocks);
 
-        String responseBodyString = responseBody.toString();
-        Map<String, String> codeMap = extractGeneratedCodeFromResponse(responseBodyString);
+        Map<String, String> codeMap = codeParser.codeMap();
+        List<String> syntaxErrors = collectSyntaxErrors(syntaxChecks, logger, fileName);
 
         logger.printVerboseInfo(fileName, "Code extraction completed");
         logger.printVerboseInfo(fileName, "Extracted files: " + codeMap.size());
 
-        return new GeneratedCode(codeMap, functions);
+        return new GeneratedCode(codeMap, functions, syntaxErrors);
+    }
+
+    /**
+     * Fails with the backend error message if the response is an error object instead of an event stream.
+     */
+    private static void checkErrorResponse(String firstLine, VerboseLoggerFactory logger, String fileName) {
+        if (!firstLine.startsWith("{")) {
+            return;
+        }
+        JsonObject jsonObject = JsonParser.parseString(firstLine).getAsJsonObject();
+        if (jsonObject.has("error_message")) {
+            String errorMsg = jsonObject.get("error_message").getAsString();
+            logger.printVerboseError(fileName, errorMsg);
+            throw new RuntimeException(errorMsg);
+        }
+    }
+
+    /**
+     * Waits for the syntax checks started while the response was streamed and returns their errors. A file whose check
+     * failed is left to the full compilation during repair.
+     */
+    private static List<String> collectSyntaxErrors(Map<String, CompletableFuture<List<String>>> syntaxChecks,
+                                                    VerboseLoggerFactory logger, String fileName) {
+        List<String> syntaxErrors = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<List<String>>> syntaxCheck : syntaxChecks.entrySet()) {
+            try {
+                List<String> errors = syntaxCheck.getValue().join();
+                logger.printVerboseInfo(fileName, "Syntax errors in " + syntaxCheck.getKey() + ": " + errors.size());
+                for (String error : errors) {
+                    logger.printVerboseInfo(fileName, "  " + error);
+                }
+                syntaxErrors.addAll(errors);
+            } catch (CompletionException e) {
+                logger.printVerboseWarn(fileName, "Syntax check of " + syntaxCheck.getKey() + " failed: " +
+                        e.getCause().getMessage());
+            }
+        }
+        return syntaxErrors;
     }
 
     /**
@@ -700,8 +638,9 @@ public class CodeGenerationUtils {
      *
      * @param codeMap
      * @param functions
+     * @param syntaxErrors syntax errors found in the generated files while they were streamed
      */
-    private record GeneratedCode(Map<String, String> codeMap, JsonArray functions) { }
+    private record GeneratedCode(Map<String, String> codeMap, JsonArray functions, List<String> syntaxErrors) { }
 
     /**
      * Updates the source files with the generated content from the code generation process.
@@ -866,20 +805,9 @@ public class CodeGenerationUtils {
         return payload;
     }
 
-    /**
-     * Returns a configured HttpClient with a 5-minute connection timeout.
-     *
-     * @return Configured HttpClient instance
-     */
-    private static HttpClient getHttpClient() {
-        return HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMinutes(5))
-                .executor(Executors.newCachedThreadPool())
-                .build();
-    }
-
-    private static HttpResponse<Stream<String>> sendStreamRequestAsync(URI uri, JsonObject payload, String accessToken,
-                                                                       VerboseLoggerFactory logger, String fileName)
+    private static <R> R sendStreamRequestAsync(URI uri, JsonObject payload, String accessToken,
+                                                BackendScheduler.ResponseHandler<Stream<String>, R> responseHandler,
+                                                VerboseLoggerFactory logger, String fileName)
             throws IOException, InterruptedException {
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(uri)
@@ -887,32 +815,8 @@ public class CodeGenerationUtils {
                 .POST(HttpRequest.BodyPublishers.ofString(payload.toString()))
                 .timeout(Duration.ofMinutes(8))
                 .build();
-
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-
-        CompletableFuture<HttpResponse<Stream<String>>> future = getHttpClient().sendAsync(
-                request, HttpResponse.BodyHandlers.ofLines());
-
-        HttpResponse<Stream<String>> response;
-        try {
-            long startTime = System.currentTimeMillis();
-            response = future.get(5, TimeUnit.MINUTES);
-            long duration = System.currentTimeMillis() - startTime;
-
-            logger.printVerboseInfo(fileName, "Response time: " + duration + "ms");
-            logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
-        } catch (TimeoutException e) {
-            future.cancel(true);
-            logger.printVerboseError(fileName, "Request timed out after 5 minutes");
-            throw new IOException("Request timed out", e);
-        } catch (ExecutionException e) {
-            logger.printVerboseError(fileName, "Request failed: " + e.getCause().getMessage());
-            throw new IOException("Request failed", e.getCause());
-        } finally {
-            scheduler.shutdown();
-        }
-
-        return response;
+        return BackendScheduler.getInstance().send(request, HttpResponse.BodyHandlers.ofLines(), responseHandler,
+                logger, fileName);
     }
 
     private static HttpResponse<String> sendRequestAsync(URI uri, JsonObject payload, String accessToken,
@@ -925,32 +829,8 @@ public class CodeGenerationUtils {
                 .POST(HttpRequest.BodyPublishers.ofString(payload.toString()))
                 .timeout(Duration.ofMinutes(5))
                 .build();
-
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-
-        CompletableFuture<HttpResponse<String>> future = getHttpClient().sendAsync(
-                request, HttpResponse.BodyHandlers.ofString());
-
-        HttpResponse<String> response;
-        try {
-            long startTime = System.currentTimeMillis();
-            response = future.get(5, TimeUnit.MINUTES);
-            long duration = System.currentTimeMillis() - startTime;
-
-            logger.printVerboseInfo(fileName, "Response time: " + duration + "ms");
-            logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
-        } catch (TimeoutException e) {
-            future.cancel(true);
-            logger.printVerboseError(fileName, "Request timed out after 5 minutes");
-            throw new IOException("Request timed out", e);
-        } catch (ExecutionException e) {
-            logger.printVerboseError(fileName, "Request failed: " + e.getCause().getMessage());
-            throw new IOException("Request failed", e.getCause());
-        } finally {
-            scheduler.shutdown();
-        }
-
-        return response;
+        return BackendScheduler.getInstance().send(request, HttpResponse.BodyHandlers.ofString(),
+                response -> response, logger, fileName);
     }
 
     /**
@@ -991,59 +871,6 @@ public class CodeGenerationUtils {
         return sourceFilesArray;
     }
 
-    /**
-     * Retrieves the Ballerina home directory by executing the 'bal home' command.
-     *
-     * @param logger Logger for verbose output
-     * @param fileName Name of the file being processed
-     *
-     * @return The Ballerina home directory as a String, or null if it cannot be determined
-     */
-    private static String getBallerinaHome(VerboseLoggerFactory logger, String fileName) {
-        logger.printVerboseInfo(fileName, "Determining Ballerina home directory...");
-        ProcessBuilder processBuilder = new ProcessBuilder("bal", "home");
-        processBuilder.redirectErrorStream(true);
-
-        try {
-            logger.printVerboseInfo(fileName, "Executing 'bal home' command...");
-            Process process = processBuilder.start();
-            boolean finished = process.waitFor(5, TimeUnit.SECONDS);
-            if (!finished) {
-                logger.printVerboseError(fileName, "Command timed out, destroying process");
-                process.destroyForcibly();
-                logger.printError(fileName, "Ballerina home cannot be determined: 'bal home' command timed out.");
-                return null;
-            }
-
-            if (process.exitValue() == 0) {
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-
-                    String line = reader.readLine();
-                    if (line != null && !line.trim().isEmpty()) {
-                        String ballerinaHome = line.trim();
-                        return ballerinaHome;
-                    }
-                }
-            } else {
-                logger.printVerboseError(fileName, "Command failed with exit code: " + process.exitValue());
-                logger.printError(fileName, "Ballerina home cannot be determined: bal home command failed.");
-            }
-
-        } catch (IOException e) {
-            String errorMsg = "Error executing 'bal home' command: " + e.getMessage();
-            logger.printError(fileName, errorMsg);
-            logger.printStackTrace(fileName, e.getStackTrace());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            String errorMsg = "Command 'bal home' was interrupted";
-            logger.printError(fileName, errorMsg);
-            logger.printStackTrace(fileName, e.getStackTrace());
-        }
-
-        return null;
-    }
-
     /**
      * Returns the Copilot backend URL based on the environment.
      *
@@ -0,0 +1,417 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package baltool.logicapps.codegenerator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentConfig;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDescriptor;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.util.ProjectUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static baltool.logicapps.Constants.BALLERINA_TOML_FILE;
+import static baltool.logicapps.Constants.CONTENT;
+import static baltool.logicapps.Constants.FILE_PATH;
+
+/**
+ * Compiles the generated source files to find the diagnostics to repair.
+ * <p>
+ * The project is written to disk and loaded once. Each later call applies only the files whose content changed as
+ * in-memory document modifications, so the compiler reuses everything that was not touched instead of loading and
+ * compiling a fresh project on every repair iteration.
+ */
+final class DiagnosticsEngine {
+
+    private static final String TEMP_DIR_PREFIX = "logicapps-migration-tool-codegen-diagnostics-dir-";
+    private static final AtomicInteger COMPILATION_THREAD_COUNTER = new AtomicInteger();
+    // Compilation is CPU bound, so it runs on its own processor-sized pool. Logic apps waiting on the backend then
+    // never hold up compilation, and a burst of compilations cannot starve the threads that wait on the backend.
+    private static final ExecutorService COMPILATION_POOL = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "bal-diagnostics-" +
+                        COMPILATION_THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final VerboseLoggerFactory logger;
+    private final String fileName;
+    private final Map<String, String> loadedContents = new HashMap<>();
+    private Package currentPackage;
+    private boolean compiled;
+    private Optional<JsonArray> lastDiagnostics = Optional.empty();
+    private Set<String> lastErrors = Set.of();
+
+    private DiagnosticsEngine(Package currentPackage, VerboseLoggerFactory logger, String fileName) {
+        this.currentPackage = currentPackage;
+        this.logger = logger;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Creates a temporary Ballerina project with the given source files and loads it.
+     *
+     * @param sourceFiles Array of source files to include in the project
+     * @param moduleDescriptor Module descriptor for the Ballerina project
+     * @param logger Logger for verbose output
+     * @param fileName Name of the file being processed
+     * @return diagnostics engine backed by the loaded project
+     */
+    static DiagnosticsEngine load(JsonArray sourceFiles, ModuleDescriptor moduleDescriptor,
+                                  VerboseLoggerFactory logger, String fileName)
+            throws IOException, InterruptedException {
+        return runOnCompilationPool(() -> loadProject(sourceFiles, moduleDescriptor, logger, fileName));
+    }
+
+    private static DiagnosticsEngine loadProject(JsonArray sourceFiles, ModuleDescriptor moduleDescriptor,
+                                                 VerboseLoggerFactory logger, String fileName) throws IOException {
+        logger.printVerboseInfo(fileName, "Creating temporary project for diagnostics");
+        BuildProject project = createProject(sourceFiles, moduleDescriptor, logger, fileName);
+        DiagnosticsEngine engine = new DiagnosticsEngine(project.currentPackage(), logger, fileName);
+        for (JsonElement sourceFile : sourceFiles) {
+            JsonObject sourceFileObj = sourceFile.getAsJsonObject();
+            engine.loadedContents.put(sourceFileObj.get(FILE_PATH).getAsString(),
+                    sourceFileObj.get(CONTENT).getAsString());
+        }
+        return engine;
+    }
+
+    /**
+     * Retrieves the diagnostics for the current content of the given source files.
+     *
+     * @param sourceFiles Array of source files to analyze
+     *
+     * @return Optional<JsonArray> containing diagnostics if any errors are found, otherwise empty
+     */
+    Optional<JsonArray> getDiagnostics(JsonArray sourceFiles) throws IOException, InterruptedException {
+        return runOnCompilationPool(() -> compile(sourceFiles));
+    }
+
+    private Optional<JsonArray> compile(JsonArray sourceFiles) {
+        int changedFiles = applyChanges(sourceFiles);
+        if (changedFiles == 0 && compiled) {
+            logger.printVerboseInfo(fileName, "Source files unchanged - reusing previous diagnostics");
+            return lastDiagnostics;
+        }
+
+        logger.printVerboseInfo(fileName, "Compiling project for diagnostics (" + changedFiles + " changed files)");
+        DiagnosticResult diagnosticResult = currentPackage.getCompilation().diagnosticResult();
+
+        logger.printVerboseInfo(fileName, "Diagnostic compilation completed");
+        logger.printVerboseInfo(fileName, "Total diagnostics: " + diagnosticResult.diagnostics().size());
+        logger.printVerboseInfo(fileName, "Error count: " + diagnosticResult.errorCount());
+        logger.printVerboseInfo(fileName, "Warning count: " + diagnosticResult.warningCount());
+
+        Set<String> errors = errorMessages(diagnosticResult.diagnostics());
+        logDiff(errors);
+        lastErrors = errors;
+        compiled = true;
+
+        if (errors.isEmpty()) {
+            logger.printVerboseInfo(fileName, "No errors found - diagnostics successful");
+            lastDiagnostics = Optional.empty();
+            return lastDiagnostics;
+        }
+
+        JsonArray diagnostics = new JsonArray();
+        errors.forEach(diagnostics::add);
+        logger.printVerboseInfo(fileName, "Processed " + errors.size() + " error diagnostics");
+        lastDiagnostics = Optional.of(diagnostics);
+        return lastDiagnostics;
+    }
+
+    private int applyChanges(JsonArray sourceFiles) {
+        Module module = currentPackage.getDefaultModule();
+        Map<String, String> changedFiles = changedFiles(sourceFiles, loadedContents);
+        for (Map.Entry<String, String> changedFile : changedFiles.entrySet()) {
+            String filePath = changedFile.getKey();
+            String content = changedFile.getValue();
+            Optional<DocumentId> documentId = findDocument(module, filePath);
+            if (documentId.isPresent()) {
+                Document document = module.document(documentId.get());
+                module = document.modify().withContent(content).apply().module();
+            } else {
+                DocumentConfig documentConfig = DocumentConfig.from(
+                        DocumentId.create(filePath, module.moduleId()), content, filePath);
+                module = module.modify().addDocument(documentConfig).apply();
+            }
+            loadedContents.put(filePath, content);
+        }
+        currentPackage = module.packageInstance();
+        return changedFiles.size();
+    }
+
+    /**
+     * Finds the source files whose content differs from the content last applied to the project.
+     *
+     * @param sourceFiles    current source files
+     * @param loadedContents content last applied to the project, by file path
+     * @return content of the new and changed files by file path, in the order of the source files
+     */
+    static Map<String, String> changedFiles(JsonArray sourceFiles, Map<String, String> loadedContents) {
+        Map<String, String> changedFiles = new LinkedHashMap<>();
+        for (JsonElement sourceFile : sourceFiles) {
+            JsonObject sourceFileObj = sourceFile.getAsJsonObject();
+            String filePath = sourceFileObj.get(FILE_PATH).getAsString();
+            String content = sourceFileObj.get(CONTENT).getAsString();
+            if (!content.equals(loadedContents.get(filePath))) {
+                changedFiles.put(filePath, content);
+            }
+        }
+        return changedFiles;
+    }
+
+    /**
+     * Collects the messages of the error diagnostics. A diagnostic reported more than once is kept once, in the
+     * position it was first reported.
+     *
+     * @param diagnostics diagnostics reported by the compiler or the parser
+     * @return messages of the error diagnostics in the order they were reported
+     */
+    static Set<String> errorMessages(Iterable<Diagnostic> diagnostics) {
+        Set<String> errors = new LinkedHashSet<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
+                errors.add(diagnostic.toString());
+            }
+        }
+        return errors;
+    }
+
+    private static Optional<DocumentId> findDocument(Module module, String filePath) {
+        for (DocumentId documentId : module.documentIds()) {
+            if (module.document(documentId).name().equals(filePath)) {
+                return Optional.of(documentId);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void logDiff(Set<String> errors) {
+        if (!compiled) {
+            return;
+        }
+        ErrorDiff diff = ErrorDiff.between(lastErrors, errors);
+        logger.printVerboseInfo(fileName, "Errors resolved since last iteration: " + diff.resolved().size() +
+                ", new errors: " + diff.introduced().size());
+    }
+
+    /**
+     * Difference between the errors of two consecutive compilations.
+     *
+     * @param resolved   errors of the previous compilation that are no longer reported
+     * @param introduced errors that were not reported by the previous compilation
+     */
+    record ErrorDiff(List<String> resolved, List<String> introduced) {
+
+        static ErrorDiff between(Set<String> previous, Set<String> current) {
+            return new ErrorDiff(previous.stream().filter(error -> !current.contains(error)).toList(),
+                    current.stream().filter(error -> !previous.contains(error)).toList());
+        }
+    }
+
+    /**
+     * Parses a single generated file on the compilation pool and collects its syntax errors. This needs no project,
+     * so it can run while the rest of the response is still being generated.
+     *
+     * @param filePath path of the file within the project
+     * @param content  content of the file
+     * @return future completed with the syntax errors of the file
+     */
+    static CompletableFuture<List<String>> checkSyntax(String filePath, String content) {
+        return CompletableFuture.supplyAsync(() -> {
+            SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(content), filePath);
+            return List.copyOf(errorMessages(syntaxTree.diagnostics()));
+        }, COMPILATION_POOL);
+    }
+
+    private static <T> T runOnCompilationPool(Callable<T> task) throws IOException, InterruptedException {
+        Future<T> future = COMPILATION_POOL.submit(task);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Creates a temporary Ballerina project with the provided source files and module descriptor.
+     *
+     * @param sourceFiles Array of source files to include in the project
+     * @param moduleDescriptor Module descriptor for the Ballerina project
+     * @param logger Logger for verbose output
+     * @param fileName Name of the file being processed
+     * @return BuildProject representing the temporary Ballerina project
+     */
+    private static BuildProject createProject(JsonArray sourceFiles, ModuleDescriptor moduleDescriptor,
+                                              VerboseLoggerFactory logger, String fileName) throws IOException {
+
+        Path tempProjectDir = Files.createTempDirectory(TEMP_DIR_PREFIX + System.currentTimeMillis());
+        tempProjectDir.toFile().deleteOnExit();
+        logger.printVerboseInfo(fileName, "Created Temporary project directory: " + tempProjectDir.toAbsolutePath());
+
+        logger.printVerboseInfo(fileName, "Writing source files to temporary directory");
+        int fileCount = 0;
+        for (JsonElement sourceFile : sourceFiles) {
+            JsonObject sourceFileObj = sourceFile.getAsJsonObject();
+            String filePath = sourceFileObj.get(FILE_PATH).getAsString();
+            String content = sourceFileObj.get(CONTENT).getAsString();
+
+            File file = Files.createFile(tempProjectDir.resolve(Path.of(filePath))).toFile();
+            file.deleteOnExit();
+
+            try (FileWriter fileWriter = new FileWriter(file, StandardCharsets.UTF_8)) {
+                fileWriter.write(content);
+            }
+
+            fileCount++;
+        }
+        logger.printVerboseInfo(fileName, "Total files written: " + fileCount);
+
+        Path ballerinaTomlPath = tempProjectDir.resolve(BALLERINA_TOML_FILE);
+        File balTomlFile = Files.createFile(ballerinaTomlPath).toFile();
+        balTomlFile.deleteOnExit();
+
+        String tomlContent = String.format("""
+                [package]
+                org = "%s"
+                name = "%s"
+                version = "%s"
+                """,
+                moduleDescriptor.org().value(),
+                moduleDescriptor.packageName().value(),
+                moduleDescriptor.version().value());
+
+        try (FileWriter fileWriter = new FileWriter(balTomlFile, StandardCharsets.UTF_8)) {
+            fileWriter.write(tomlContent);
+        }
+        logger.printVerboseInfo(fileName, "Ballerina.toml created successfully");
+
+        Path ballerinaHomePath = Path.of(Objects.requireNonNull(getBallerinaHome(logger, fileName)));
+        System.setProperty("ballerina.home", ballerinaHomePath.toString());
+        logger.printVerboseInfo(fileName, "Ballerina home set to: " + ballerinaHomePath);
+
+        BuildOptions buildOptions = BuildOptions.builder().targetDir(ProjectUtils.getTemporaryTargetPath()).build();
+        BuildProject project = BuildProject.load(tempProjectDir, buildOptions);
+        logger.printVerboseInfo(fileName, "Temporary project created successfully");
+
+        return project;
+    }
+
+    /**
+     * Retrieves the Ballerina home directory by executing the 'bal home' command.
+     *
+     * @param logger Logger for verbose output
+     * @param fileName Name of the file being processed
+     *
+     * @return The Ballerina home directory as a String, or null if it cannot be determined
+     */
+    private static String getBallerinaHome(VerboseLoggerFactory logger, String fileName) {
+        logger.printVerboseInfo(fileName, "Determining Ballerina home directory...");
+        ProcessBuilder processBuilder = new ProcessBuilder("bal", "home");
+        processBuilder.redirectErrorStream(true);
+
+        try {
+            logger.printVerboseInfo(fileName, "Executing 'bal home' command...");
+            Process process = processBuilder.start();
+            boolean finished = process.waitFor(5, TimeUnit.SECONDS);
+            if (!finished) {
+                logger.printVerboseError(fileName, "Command timed out, destroying process");
+                process.destroyForcibly();
+                logger.printError(fileName, "Ballerina home cannot be determined: 'bal home' command timed out.");
+                return null;
+            }
+
+            if (process.exitValue() == 0) {
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+
+                    String line = reader.readLine();
+                    if (line != null && !line.trim().isEmpty()) {
+                        String ballerinaHome = line.trim();
+                        return ballerinaHome;
+                    }
+                }
+            } else {
+                logger.printVerboseError(fileName, "Command failed with exit code: " + process.exitValue());
+                logger.printError(fileName, "Ballerina home cannot be determined: bal home command failed.");
+            }
+
+        } catch (IOException e) {
+            String errorMsg = "Error executing 'bal home' command: " + e.getMessage();
+            logger.printError(fileName, errorMsg);
+            logger.printStackTrace(fileName, e.getStackTrace());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            String errorMsg = "Command 'bal home' was interrupted";
+            logger.printError(fileName, errorMsg);
+            logger.printStackTrace(fileName, e.getStackTrace());
+        }
+
+        return null;
+    }
+}
@@ -61,6 +61,7 @@ import static baltool.logicapps.Constants.FILE_PATH;
 public class LogicAppsMigrationExecutor {
     private static final String BALLERINA_PROJECT_SUFFIX = "_ballerina";
     private static final int TOTAL_STEPS = 3;
+    private static final int MAX_PARALLEL_LOGIC_APPS = 32;
 
     private static AtomicInteger errorFiles = new AtomicInteger(0);
 
@@ -77,6 +78,25 @@ public class LogicAppsMigrationExecutor {
     public static void migrateLogicAppToBallerina(Path logicAppFilePath, String additionalInstructions,
                                                   Path targetDir, boolean verbose, boolean multiRoot,
                                                   VerboseLogger logger) {
+        migrateLogicAppToBallerina(logicAppFilePath, additionalInstructions, targetDir, verbose, multiRoot, null,
+                logger);
+    }
+
+    /**
+     * Migrates a Logic App JSON file or a directory to a Ballerina project/s with specified output directory, streaming
+     * a newline-delimited JSON metrics record for each logic app and one with the totals to a file.
+     *
+     * @param logicAppFilePath        the path to the Logic App JSON file or directory containing multiple files.
+     * @param additionalInstructions  additional instructions for the migration process.
+     * @param targetDir               the target directory for the generated Ballerina project.
+     * @param verbose                 whether to enable verbose logging.
+     * @param multiRoot               whether to process multiple logic app files concurrently.
+     * @param metricsOut              the file the metrics are written to, or null to not write metrics.
+     * @param logger                  logger instance for logging messages.
+     */
+    public static void migrateLogicAppToBallerina(Path logicAppFilePath, String additionalInstructions,
+                                                  Path targetDir, boolean verbose, boolean multiRoot,
+                                                  Path metricsOut, VerboseLogger logger) {
         try {
             logger.printVerboseInfo("Starting migration with specified output directory: " +
                     targetDir.toString());
@@ -89,18 +109,15 @@ public class LogicAppsMigrationExecutor {
             }
             logger.printVerboseInfo("Access token obtained successfully");
 
-            if (multiRoot && Files.isDirectory(logicAppFilePath)) {
-                logger.printVerboseInfo("Multi-root mode enabled, processing directory: " + logicAppFilePath);
-                processMultipleLogicApps(logicAppFilePath, additionalInstructions, targetDir,
-                        copilotAccessToken, verbose, logger);
-            } else {
-                String fileName = logicAppFilePath.getFileName().toString();
-                VerboseLoggerFactory loggerFactory = VerboseLoggerFactory.getInstance(verbose);
-                loggerFactory.addProcess(fileName, TOTAL_STEPS);
-                logger.printVerboseInfo("Single file mode, processing: " + logicAppFilePath);
-                processSingleLogicApp(logicAppFilePath, additionalInstructions, targetDir, copilotAccessToken,
-                        false, loggerFactory, fileName);
-                loggerFactory.setProgressBarActive(false);
+            try (MetricsWriter metrics = MetricsWriter.open(metricsOut)) {
+                if (multiRoot && Files.isDirectory(logicAppFilePath)) {
+                    logger.printVerboseInfo("Multi-root mode enabled, processing directory: " + logicAppFilePath);
+                    processMultipleLogicApps(logicAppFilePath, additionalInstructions, targetDir,
+                            copilotAccessToken, verbose, metrics, logger);
+                } else {
+                    migrateSingleLogicApp(logicAppFilePath, additionalInstructions, targetDir, copilotAccessToken,
+                            verbose, metrics, logger);
+                }
             }
             System.exit(0);
         } catch (Exception e) {
@@ -121,6 +138,24 @@ public class LogicAppsMigrationExecutor {
      */
     public static void migrateLogicAppToBallerina(Path logicAppFilePath, String additionalInstructions,
                                                   boolean verbose, boolean multiRoot, VerboseLogger logger) {
+        migrateLogicAppToBallerina(logicAppFilePath, additionalInstructions, verbose, multiRoot, null, logger);
+    }
+
+    /**
+     * Migrates a Logic App JSON file or a directory to a Ballerina project/s with the provided Logic App file
+     * directory as the target directory, streaming a newline-delimited JSON metrics record for each logic app and one
+     * with the totals to a file.
+     *
+     * @param logicAppFilePath        the path to the Logic App JSON file or directory containing multiple files.
+     * @param additionalInstructions  additional instructions for the migration process.
+     * @param verbose                 whether to enable verbose logging.
+     * @param multiRoot               whether to process multiple logic app files concurrently.
+     * @param metricsOut              the file the metrics are written to, or null to not write metrics.
+     * @param logger                  logger instance for logging messages.
+     */
+    public static void migrateLogicAppToBallerina(Path logicAppFilePath, String additionalInstructions,
+                                                  boolean verbose, boolean multiRoot, Path metricsOut,
+                                                  VerboseLogger logger) {
         try {
             logger.printVerboseInfo("Starting migration with current directory");
 
@@ -136,18 +171,15 @@ public class LogicAppsMigrationExecutor {
                     logicAppFilePath.getParent();
             logger.printVerboseInfo("Project root directory: " + targetDir.toAbsolutePath());
 
-            if (multiRoot && Files.isDirectory(logicAppFilePath)) {
-                logger.printVerboseInfo("Multi-root mode enabled, processing directory: " + logicAppFilePath);
-                processMultipleLogicApps(logicAppFilePath, additionalInstructions, targetDir,
-                        copilotAccessToken, verbose, logger);
-            } else {
-                String fileName = logicAppFilePath.getFileName().toString();
-                VerboseLoggerFactory loggerFactory = VerboseLoggerFactory.getInstance(verbose);
-                loggerFactory.addProcess(fileName, TOTAL_STEPS);
-                logger.printVerboseInfo("Single file mode, processing: " + logicAppFilePath);
-                processSingleLogicApp(logicAppFilePath, additionalInstructions, targetDir, copilotAccessToken,
-                        false, loggerFactory, fileName);
-                loggerFactory.setProgressBarActive(false);
+            try (MetricsWriter metrics = MetricsWriter.open(metricsOut)) {
+                if (multiRoot && Files.isDirectory(logicAppFilePath)) {
+                    logger.printVerboseInfo("Multi-root mode enabled, processing directory: " + logicAppFilePath);
+                    processMultipleLogicApps(logicAppFilePath, additionalInstructions, targetDir,
+                            copilotAccessToken, verbose, metrics, logger);
+                } else {
+                    migrateSingleLogicApp(logicAppFilePath, additionalInstructions, targetDir, copilotAccessToken,
+                            verbose, metrics, logger);
+                }
             }
             System.exit(0);
         } catch (IOException e) {
@@ -159,6 +191,27 @@ public class LogicAppsMigrationExecutor {
         }
     }
 
+    private static void migrateSingleLogicApp(Path logicAppFilePath, String additionalInstructions, Path targetDir,
+                                              String copilotAccessToken, boolean verbose, MetricsWriter metrics,
+                                              VerboseLogger logger) {
+        long startedAt = System.nanoTime();
+        String fileName = logicAppFilePath.getFileName().toString();
+        VerboseLoggerFactory loggerFactory = VerboseLoggerFactory.getInstance(verbose);
+        loggerFactory.addProcess(fileName, TOTAL_STEPS);
+        logger.printVerboseInfo("Single file mode, processing: " + logicAppFilePath);
+        boolean failed = false;
+        try {
+            processSingleLogicApp(logicAppFilePath, additionalInstructions, targetDir, copilotAccessToken,
+                    false, loggerFactory, fileName, metrics);
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            recordSummary(metrics, 1, failed ? 1 : 0, startedAt);
+        }
+        loggerFactory.setProgressBarActive(false);
+    }
+
     /**
      * Processes multiple Logic App files in a directory concurrently.
      *
@@ -167,13 +220,15 @@ public class LogicAppsMigrationExecutor {
      * @param projectRootDir         the root directory for the generated Ballerina projects.
      * @param copilotAccessToken     the access token for Copilot authentication.
      * @param verbose                whether to enable verbose logging.
+     * @param metrics                writer for the metrics of each logic app and of the whole run.
      * @param logger                 logger instance for logging messages.
      * @throws IOException if an I/O error occurs while processing files.
      */
     private static void processMultipleLogicApps(Path logicAppDirectory, String additionalInstructions,
                                                  Path projectRootDir, String copilotAccessToken, boolean verbose,
-                                                 VerboseLogger logger)
+                                                 MetricsWriter metrics, VerboseLogger logger)
             throws IOException {
+        long startedAt = System.nanoTime();
 
         logger.printVerboseInfo("MULTI-ROOT PROCESSING MODE");
         logger.printVerboseInfo("Scanning directory " + logicAppDirectory.toAbsolutePath() + " for JSON files...");
@@ -194,8 +249,11 @@ public class LogicAppsMigrationExecutor {
         int totalFiles = logicAppFiles.size();
         VerboseLoggerFactory loggerFactory = VerboseLoggerFactory.getInstance(verbose);
 
-        int threadPoolSize = Math.min(logicAppFiles.size(), Runtime.getRuntime().availableProcessors());
-        logger.printVerboseInfo("Available processors: " + Runtime.getRuntime().availableProcessors());
+        // Logic apps spend most of their time waiting on the backend. The number of requests in flight is adapted by
+        // the BackendScheduler and compilation runs on its own processor-sized pool, so the number of workers is not
+        // tied to the processor count.
+        int threadPoolSize = Math.min(logicAppFiles.size(), MAX_PARALLEL_LOGIC_APPS);
+        logger.printVerboseInfo("Worker threads: " + threadPoolSize);
         ExecutorService executorService = Executors.newFixedThreadPool(threadPoolSize);
 
         try {
@@ -209,7 +267,7 @@ public class LogicAppsMigrationExecutor {
                         Path individualProjectDir = projectRootDir.resolve(projectName);
 
                         processSingleLogicApp(logicAppFile, additionalInstructions, individualProjectDir,
-                                copilotAccessToken, true, loggerFactory, fileName);
+                                copilotAccessToken, true, loggerFactory, fileName, metrics);
 
                     } catch (Exception e) {
                         errorFiles.incrementAndGet();
@@ -267,6 +325,7 @@ public class LogicAppsMigrationExecutor {
         logger.printInfo("Total files: " + totalFiles);
         logger.printInfo("Completed: " + (totalFiles - errorFiles.get()));
         logger.printInfo("Failed: " + errorFiles);
+        recordSummary(metrics, totalFiles, errorFiles.get(), startedAt);
     }
 
     /**
@@ -279,10 +338,14 @@ public class LogicAppsMigrationExecutor {
      * @param isMultiThreaded         whether this is being called in multi-threaded mode.
      * @param logger                  logger instance for logging messages.
      * @param fileName                the name of the file being processed, used for logging.
+     * @param metrics                 writer the metrics of the logic app are recorded to.
      */
     private static void processSingleLogicApp(Path logicAppFilePath, String additionalInstructions, Path targetDir,
                                               String copilotAccessToken, boolean isMultiThreaded,
-                                              VerboseLoggerFactory logger, String fileName) {
+                                              VerboseLoggerFactory logger, String fileName, MetricsWriter metrics) {
+        JsonObject record = MetricsWriter.newRecord(MetricsWriter.LOGIC_APP);
+        record.addProperty("file", fileName);
+        JsonObject phases = new JsonObject();
         try {
             if (!isMultiThreaded) {
                 logger.printVerboseInfo(fileName, "SINGLE FILE PROCESSING MODE");
@@ -300,23 +363,38 @@ public class LogicAppsMigrationExecutor {
             String projectName = logicAppFilePath.getFileName().toString().replace(".json", BALLERINA_PROJECT_SUFFIX);
             String packageName = URLEncoder.encode(projectName, StandardCharsets.UTF_8).replace("-", "_");
             logger.printVerboseInfo(fileName, "Package name: " + packageName);
+            record.addProperty("project", packageName);
+            record.addProperty("sourceBytes", Files.size(logicAppFilePath));
 
             ModuleDescriptor moduleDescriptor = getModuleDescriptor(packageName);
 
+            long phaseStart = System.nanoTime();
             JsonArray generatedSourceFiles = CodeGenerationUtils.generateCodeForLogicApp(copilotAccessToken,
                     logicAppFilePath, packageName, additionalInstructions, moduleDescriptor, logger, fileName);
+            phases.addProperty("generate", MetricsWriter.millisSince(phaseStart));
             logger.printVerboseInfo(fileName, "Code generation completed. Generated " +
                     generatedSourceFiles.size() + " source files");
+            record.add("generated", generatedStats(generatedSourceFiles));
 
             if (!generatedSourceFiles.isEmpty()) {
                 Path projectDir = targetDir.resolve(projectName);
+                phaseStart = System.nanoTime();
                 createProjectFromGeneratedSource(generatedSourceFiles, moduleDescriptor, projectDir, logger,
                         fileName);
+                phases.addProperty("write", MetricsWriter.millisSince(phaseStart));
                 logger.finishProgress(fileName, true, "Completed");
+                record.addProperty("status", "completed");
             } else {
                 logger.printVerboseWarn(fileName, "No source files were generated");
+                record.addProperty("status", "empty");
             }
+            record.add("phases", phases);
+            metrics.record(record);
         } catch (Exception e) {
+            record.addProperty("status", "failed");
+            record.addProperty("error", e.getMessage());
+            record.add("phases", phases);
+            metrics.record(record);
             logger.finishProgress(fileName, false, e.getMessage());
             logger.printError(fileName, e.getMessage());
             logger.printStackTrace(fileName, e.getStackTrace());
@@ -324,6 +402,43 @@ public class LogicAppsMigrationExecutor {
         }
     }
 
+    /**
+     * Summarizes the generated source files for the metrics of a logic app.
+     *
+     * @param sourceFiles the generated source files as a JsonArray.
+     * @return the number of generated files and lines.
+     */
+    private static JsonObject generatedStats(JsonArray sourceFiles) {
+        long lines = 0;
+        for (JsonElement sourceFile : sourceFiles) {
+            lines += sourceFile.getAsJsonObject().get(CONTENT).getAsString().lines().count();
+        }
+        JsonObject generated = new JsonObject();
+        generated.addProperty("files", sourceFiles.size());
+        generated.addProperty("lines", lines);
+        return generated;
+    }
+
+    /**
+     * Records the totals of a migration run.
+     *
+     * @param metrics   the metrics writer.
+     * @param logicApps the number of logic apps in the run.
+     * @param failed    the number of logic apps that failed.
+     * @param startedAt the {@link System#nanoTime()} the run started at.
+     */
+    private static void recordSummary(MetricsWriter metrics, int logicApps, int failed, long startedAt) {
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        JsonObject record = MetricsWriter.newRecord(MetricsWriter.SUMMARY);
+        record.addProperty("logicApps", logicApps);
+        record.addProperty("completed", logicApps - failed);
+        record.addProperty("failed", failed);
+        record.addProperty("elapsedMillis", MetricsWriter.millisSince(startedAt));
+        metrics.record(record);
+    }
+
     /**
      * Creates a ModuleDescriptor for the given package name.
      *
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package baltool.logicapps.codegenerator;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Streams migration metrics as newline-delimited JSON, one record per line, in the same format as the other migration
+ * tools. A {@code file} record is written as soon as each logic app is done and a {@code project} record with the
+ * totals once the run finishes. Each record is flushed right away so the file can be followed while a large batch is
+ * running. Records may be written from several worker threads.
+ */
+final class MetricsWriter implements Closeable {
+
+    static final String LOGIC_APP = "file";
+    static final String SUMMARY = "project";
+    static final MetricsWriter NONE = new MetricsWriter(null);
+    private static final String TOOL = "logicapps";
+    private static final Gson GSON = new Gson();
+
+    private final Writer out;
+    private IOException failure;
+
+    private MetricsWriter(Writer out) {
+        this.out = out;
+    }
+
+    static MetricsWriter open(Path file) throws IOException {
+        if (file == null) {
+            return NONE;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new MetricsWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+
+    boolean isEnabled() {
+        return out != null;
+    }
+
+    static JsonObject newRecord(String type) {
+        JsonObject record = new JsonObject();
+        record.addProperty("type", type);
+        record.addProperty("tool", TOOL);
+        record.addProperty("timestamp", Instant.now().toString());
+        return record;
+    }
+
+    static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    synchronized void record(JsonObject record) {
+        if (out == null || failure != null) {
+            return;
+        }
+        try {
+            out.write(GSON.toJson(record));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            // Metrics must never fail the migration, the error is reported once the writer is closed
+            failure = e;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (out == null) {
+            return;
+        }
+        out.close();
+        if (failure != null) {
+            throw new IOException("Error writing metrics: " + failure.getMessage(), failure);
+        }
+    }
+}
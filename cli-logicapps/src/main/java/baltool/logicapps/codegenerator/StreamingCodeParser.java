@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package baltool.logicapps.codegenerator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts generated source files from the text of a code generation response while it is being streamed.
+ * <p>
+ * Files are delimited as {@code <code filename="...">```ballerina ... ```</code>}. As soon as the closing tag of a
+ * file arrives the file is handed to the listener, so it can be checked while the rest of the response is still
+ * being generated. Only the text of the file that is currently open is buffered; text between files is dropped.
+ */
+final class StreamingCodeParser {
+
+    private static final String BLOCK_START = "<code filename=\"";
+    private static final String BLOCK_END = "</code>";
+    private static final Pattern CODE_BLOCK_PATTERN = Pattern.compile(
+            "<code filename=\"([^\"]+)\">\\s*```ballerina[^\\n]*\\n(.*?)\\n```\\s*</code>", Pattern.DOTALL);
+    private static final Pattern BLOCK_HEADER_PATTERN = Pattern.compile(
+            "<code filename=\"([^\"]+)\">\\s*```ballerina[^\\n]*\\n");
+
+    private final BiConsumer<String, String> fileListener;
+    private final Map<String, String> codeMap = new HashMap<>();
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean inBlock;
+    private int searchFrom;
+
+    /**
+     * @param fileListener called with the file name and content of every file as soon as it is complete, or
+     *                     {@code null} if the files are only read once the response is complete
+     */
+    StreamingCodeParser(BiConsumer<String, String> fileListener) {
+        this.fileListener = fileListener;
+    }
+
+    /**
+     * Extracts the files of a response that has already been received in full.
+     *
+     * @param text response text
+     * @return content of every file, keyed by file name
+     */
+    static Map<String, String> parse(String text) {
+        StreamingCodeParser codeParser = new StreamingCodeParser(null);
+        codeParser.append(text);
+        return codeParser.codeMap();
+    }
+
+    /**
+     * Appends the next chunk of response text.
+     *
+     * @param text text delta from the response stream
+     */
+    void append(String text) {
+        buffer.append(text);
+        while (inBlock ? completeBlock() : openBlock()) {
+            // Keep going, a single chunk may close one file and open the next one
+        }
+    }
+
+    /**
+     * @return content of every file completed so far, keyed by file name
+     */
+    Map<String, String> codeMap() {
+        return codeMap;
+    }
+
+    private boolean openBlock() {
+        int start = buffer.indexOf(BLOCK_START, searchFrom);
+        if (start < 0) {
+            // Text between files is not needed. Keep just enough of it to recognize a start tag split across chunks.
+            int keep = Math.min(buffer.length(), BLOCK_START.length() - 1);
+            buffer.delete(0, buffer.length() - keep);
+            searchFrom = 0;
+            return false;
+        }
+        buffer.delete(0, start);
+        inBlock = true;
+        searchFrom = BLOCK_START.length();
+        return true;
+    }
+
+    private boolean completeBlock() {
+        int end = buffer.indexOf(BLOCK_END, searchFrom);
+        if (end < 0) {
+            searchFrom = Math.max(BLOCK_START.length(), buffer.length() - BLOCK_END.length() + 1);
+            return false;
+        }
+        int blockEnd = end + BLOCK_END.length();
+        Matcher matcher = CODE_BLOCK_PATTERN.matcher(buffer).region(0, blockEnd);
+        if (matcher.lookingAt()) {
+            String filename = matcher.group(1);
+            String content = matcher.group(2).trim();
+            codeMap.put(filename, content);
+            if (fileListener != null) {
+                fileListener.accept(filename, content);
+            }
+            buffer.delete(0, blockEnd);
+        } else if (BLOCK_HEADER_PATTERN.matcher(buffer).region(0, blockEnd).lookingAt()) {
+            // The closing tag is part of the file content, the file ends at a later closing tag
+            searchFrom = blockEnd;
+            return true;
+        } else {
+            // Not a well-formed file, look for the next start tag after this one
+            buffer.delete(0, 1);
+        }
+        inBlock = false;
+        searchFrom = 0;
+        return true;
+    }
+}
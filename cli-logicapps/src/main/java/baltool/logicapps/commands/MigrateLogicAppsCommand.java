@@ -41,7 +41,7 @@ public class MigrateLogicAppsCommand implements BLauncherCmd {
     private final PrintStream errStream;
     private final PrintStream outStream;
     private static final String USAGE = "bal migrate-logicapps <source-logicapp-file> " +
-            "[-v|--verbose] [-o|--out <output-directory>] [-m|--multi-root]";
+            "[-v|--verbose] [-o|--out <output-directory>] [-m|--multi-root] [--metrics-out <file>]";
 
     public MigrateLogicAppsCommand() {
         errStream = System.err;
@@ -63,6 +63,10 @@ public class MigrateLogicAppsCommand implements BLauncherCmd {
             defaultValue = "false")
     private boolean multiRoot;
 
+    @CommandLine.Option(names = {"--metrics-out"},
+            description = "Write per-logic-app and summary metrics as newline-delimited JSON to this file")
+    private String metricsOut;
+
     @Override
     public void execute() {
         try {
@@ -94,6 +98,7 @@ public class MigrateLogicAppsCommand implements BLauncherCmd {
             String additionalInstructions = "";
 
             Path logicAppFilePath = Path.of(sourcePath).toAbsolutePath();
+            Path metricsPath = metricsOut != null ? Path.of(metricsOut).toAbsolutePath() : null;
 
             if (verbose) {
                 outStream.println("  Resolved source path: " + logicAppFilePath.toAbsolutePath());
@@ -103,10 +108,10 @@ public class MigrateLogicAppsCommand implements BLauncherCmd {
             if (outputPath != null) {
                 Path outputDir = Path.of(outputPath).toAbsolutePath();
                 LogicAppsMigrationExecutor.migrateLogicAppToBallerina(logicAppFilePath, additionalInstructions,
-                        outputDir, verbose, multiRoot, new VerboseLogger(verbose));
+                        outputDir, verbose, multiRoot, metricsPath, new VerboseLogger(verbose));
             } else {
                 LogicAppsMigrationExecutor.migrateLogicAppToBallerina(logicAppFilePath, additionalInstructions, verbose,
-                        multiRoot, new VerboseLogger(verbose));
+                        multiRoot, metricsPath, new VerboseLogger(verbose));
             }
         } catch (Exception e) {
             errStream.println("Error during command execution: " + e.getMessage());
@@ -151,6 +156,8 @@ public class MigrateLogicAppsCommand implements BLauncherCmd {
                 "project\n");
         stringBuilder.append("  --verbose, -v           Enable detailed logging output\n");
         stringBuilder.append("  --multi-root, -m        Process multiple logic app files concurrently\n");
+        stringBuilder.append("  --metrics-out           Write per-logic-app and summary metrics as newline-delimited " +
+                "JSON to a file\n");
     }
 
     @Override
@@ -166,6 +173,8 @@ public class MigrateLogicAppsCommand implements BLauncherCmd {
         stringBuilder.append("  bal migrate-logicapps /path/to/logicapp-json-file --out /path/to/output --name " +
                 "my-logic-app-project\n");
         stringBuilder.append("  bal migrate-logicapps /path/to/directory --out /path/to/output --multi-root\n");
+        stringBuilder.append("  bal migrate-logicapps /path/to/directory --multi-root " +
+                "--metrics-out /path/to/metrics.ndjson\n");
     }
 
     @Override
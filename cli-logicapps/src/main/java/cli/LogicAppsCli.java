@@ -21,6 +21,8 @@ import baltool.logicapps.codegenerator.LogicAppsMigrationExecutor;
 import baltool.logicapps.codegenerator.VerboseLogger;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
@@ -30,20 +32,35 @@ import java.util.logging.Logger;
 public class LogicAppsCli {
 
     private static final Logger logger = Logger.getLogger(LogicAppsCli.class.getName());
+    private static final String USAGE = "Usage: java -jar logicapps-migration-assistant.jar <source-file> " +
+            "[-o|--out <output-directory>] [-v|--verbose] [-m|--multi-root] [--metrics-out <file>]";
 
     // For testing jar
     public static void main(String[] args) {
-        if (args.length < 1 || args.length > 3) {
-            logger.severe("Usage: java -jar logicapps-migration-assistant.jar <source-file> " +
-                    "[-o|--out <output-directory>] [-v|--verbose] [-m|--multi-root]");
+        List<String> positionalArgs = new ArrayList<>();
+        Path metricsOut = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--metrics-out")) {
+                if (i + 1 >= args.length) {
+                    logger.severe(USAGE);
+                    System.exit(1);
+                }
+                metricsOut = Path.of(args[++i]);
+            } else {
+                positionalArgs.add(args[i]);
+            }
+        }
+
+        if (positionalArgs.isEmpty() || positionalArgs.size() > 3) {
+            logger.severe(USAGE);
             System.exit(1);
         }
 
-        Path sourceFile = Path.of(args[0]);
+        Path sourceFile = Path.of(positionalArgs.get(0));
         // Default to empty path if not provided
-        Path outputDirectory = args.length > 1 ? Path.of(args[1]) : Path.of("");
+        Path outputDirectory = positionalArgs.size() > 1 ? Path.of(positionalArgs.get(1)) : Path.of("");
 
         LogicAppsMigrationExecutor.migrateLogicAppToBallerina(sourceFile, "", outputDirectory,
-                false, false, new VerboseLogger(false));
+                false, false, metricsOut, new VerboseLogger(false));
     }
 }
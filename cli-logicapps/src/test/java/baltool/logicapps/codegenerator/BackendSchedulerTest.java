@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package baltool.logicapps.codegenerator;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the backend scheduler against a local fake Copilot backend.
+ */
+public class BackendSchedulerTest {
+
+    private final VerboseLoggerFactory logger = VerboseLoggerFactory.getInstance(false);
+    private HttpServer backend;
+    private AtomicInteger requestCount;
+    private AtomicInteger inFlight;
+    private AtomicInteger maxInFlight;
+    private volatile int rateLimitedResponses;
+    private volatile long responseDelayMillis;
+
+    @BeforeMethod
+    public void startBackend() throws IOException {
+        requestCount = new AtomicInteger();
+        inFlight = new AtomicInteger();
+        maxInFlight = new AtomicInteger();
+        rateLimitedResponses = 0;
+        responseDelayMillis = 0;
+        backend = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        backend.setExecutor(Executors.newCachedThreadPool());
+        backend.createContext("/code", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(responseDelayMillis);
+                boolean rateLimited = requestCount.incrementAndGet() <= rateLimitedResponses;
+                byte[] body = (rateLimited ? "busy" : "ok").getBytes(StandardCharsets.UTF_8);
+                if (rateLimited) {
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                }
+                exchange.sendResponseHeaders(rateLimited ? 429 : 200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        backend.start();
+    }
+
+    @AfterMethod
+    public void stopBackend() {
+        backend.stop(0);
+    }
+
+    @Test
+    public void testRetriesRateLimitedRequests() throws Exception {
+        rateLimitedResponses = 2;
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 8);
+
+        HttpResponse<String> response = createScheduler(limiter, 4).send(request(),
+                HttpResponse.BodyHandlers.ofString(), r -> r, logger, "test.json");
+
+        Assert.assertEquals(response.statusCode(), 200);
+        Assert.assertEquals(response.body(), "ok");
+        Assert.assertEquals(requestCount.get(), 3);
+        Assert.assertEquals(limiter.inFlight(), 0);
+    }
+
+    @Test
+    public void testReturnsLastResponseWhenAttemptsAreExhausted() throws Exception {
+        rateLimitedResponses = Integer.MAX_VALUE;
+
+        HttpResponse<String> response = createScheduler(new AdaptiveConcurrencyLimiter(4, 1, 8), 3).send(request(),
+                HttpResponse.BodyHandlers.ofString(), r -> r, logger, "test.json");
+
+        Assert.assertEquals(response.statusCode(), 429);
+        Assert.assertEquals(requestCount.get(), 3);
+    }
+
+    @Test
+    public void testConcurrencyIsBoundedByLimit() throws Exception {
+        responseDelayMillis = 50;
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 2);
+        BackendScheduler scheduler = createScheduler(limiter, 1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> scheduler.send(request(),
+                        HttpResponse.BodyHandlers.ofString(), HttpResponse::statusCode, logger, "test.json")));
+            }
+            for (Future<Integer> future : futures) {
+                Assert.assertEquals(future.get().intValue(), 200);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertTrue(maxInFlight.get() <= 2, "Max in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    public void testBackoffHonoursRetryAfter() {
+        BackendScheduler scheduler = createScheduler(new AdaptiveConcurrencyLimiter(1, 1, 1), 4);
+        for (int attempt = 1; attempt <= 4; attempt++) {
+            long delay = scheduler.backoffMillis(attempt, Optional.empty());
+            Assert.assertTrue(delay >= 0 && delay <= 10L << (attempt - 1), "Delay: " + delay);
+        }
+        Assert.assertTrue(scheduler.backoffMillis(1, Optional.of("2")) >= 2000);
+    }
+
+    @Test
+    public void testLimiterAdditiveIncreaseMultiplicativeDecrease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10);
+        limiter.onSuccess(100);
+        limiter.onSuccess(100);
+        Assert.assertEquals(limiter.limit(), 6);
+
+        limiter.onOverload();
+        Assert.assertEquals(limiter.limit(), 3);
+
+        limiter.onSuccess((long) (100 * AdaptiveConcurrencyLimiter.LATENCY_TOLERANCE) + 1);
+        Assert.assertEquals(limiter.limit(), 2);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.onOverload();
+        }
+        Assert.assertEquals(limiter.limit(), 1);
+        for (int i = 0; i < 20; i++) {
+            limiter.onSuccess(100);
+        }
+        Assert.assertEquals(limiter.limit(), 10);
+    }
+
+    private BackendScheduler createScheduler(AdaptiveConcurrencyLimiter limiter, int maxAttempts) {
+        return new BackendScheduler(HttpClient.newHttpClient(), limiter, maxAttempts, Duration.ofSeconds(30),
+                Duration.ofMillis(10), Duration.ofMillis(100));
+    }
+
+    private HttpRequest request() {
+        return HttpRequest.newBuilder()
+                .uri(URI.create("http://" + backend.getAddress().getHostString() + ":" +
+                        backend.getAddress().getPort() + "/code"))
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+    }
+}
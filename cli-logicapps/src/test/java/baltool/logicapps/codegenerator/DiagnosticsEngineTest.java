@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package baltool.logicapps.codegenerator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static baltool.logicapps.Constants.CONTENT;
+import static baltool.logicapps.Constants.FILE_PATH;
+
+/**
+ * Tests finding the changed files and the error diff between repair iterations without compiling a project.
+ */
+public class DiagnosticsEngineTest {
+
+    @Test
+    public void testOnlyNewAndChangedFilesAreApplied() {
+        JsonArray sourceFiles = new JsonArray();
+        sourceFiles.add(sourceFile("main.bal", "public function main() {}\n"));
+        sourceFiles.add(sourceFile("types.bal", "type Foo record {};\n"));
+        sourceFiles.add(sourceFile("config.bal", "configurable int port = 9090;\n"));
+
+        Map<String, String> changedFiles = DiagnosticsEngine.changedFiles(sourceFiles, Map.of(
+                "main.bal", "public function main() {}\n",
+                "types.bal", "type Foo record {int bar;};\n"));
+
+        Assert.assertEquals(new ArrayList<>(changedFiles.keySet()), List.of("types.bal", "config.bal"));
+        Assert.assertEquals(changedFiles.get("types.bal"), "type Foo record {};\n");
+        Assert.assertEquals(changedFiles.get("config.bal"), "configurable int port = 9090;\n");
+
+        Map<String, String> allFiles = DiagnosticsEngine.changedFiles(sourceFiles, Map.of());
+        Assert.assertEquals(allFiles.size(), 3);
+        Assert.assertTrue(DiagnosticsEngine.changedFiles(sourceFiles, allFiles).isEmpty());
+    }
+
+    @Test
+    public void testErrorsAreReportedOnceInOrder() {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        SyntaxTree.from(TextDocuments.from("function foo() {\n"), "main.bal").diagnostics()
+                .forEach(diagnostics::add);
+        Assert.assertFalse(diagnostics.isEmpty());
+        List<Diagnostic> reportedTwice = new ArrayList<>(diagnostics);
+        reportedTwice.addAll(diagnostics);
+
+        Set<String> errors = DiagnosticsEngine.errorMessages(reportedTwice);
+
+        Assert.assertEquals(new ArrayList<>(errors), diagnostics.stream().map(Diagnostic::toString).toList());
+    }
+
+    @Test
+    public void testErrorDiffBetweenIterations() {
+        DiagnosticsEngine.ErrorDiff diff = DiagnosticsEngine.ErrorDiff.between(
+                Set.of("missing semicolon", "undefined symbol 'foo'"),
+                Set.of("undefined symbol 'foo'", "incompatible types"));
+
+        Assert.assertEquals(diff.resolved(), List.of("missing semicolon"));
+        Assert.assertEquals(diff.introduced(), List.of("incompatible types"));
+
+        DiagnosticsEngine.ErrorDiff unchanged = DiagnosticsEngine.ErrorDiff.between(
+                Set.of("undefined symbol 'foo'"), Set.of("undefined symbol 'foo'"));
+        Assert.assertTrue(unchanged.resolved().isEmpty());
+        Assert.assertTrue(unchanged.introduced().isEmpty());
+    }
+
+    private static JsonObject sourceFile(String filePath, String content) {
+        JsonObject sourceFile = new JsonObject();
+        sourceFile.addProperty(FILE_PATH, filePath);
+        sourceFile.addProperty(CONTENT, content);
+        return sourceFile;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package baltool.logicapps.codegenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Tests the response cache against a temporary cache directory.
+ */
+public class ResponseCacheTest {
+
+    private final VerboseLoggerFactory logger = VerboseLoggerFactory.getInstance(false);
+    private Path cacheDir;
+
+    @BeforeMethod
+    public void createCacheDir() throws IOException {
+        cacheDir = Files.createTempDirectory("response-cache-test");
+    }
+
+    @AfterMethod
+    public void deleteCacheDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testKeyDependsOnKindAndParts() {
+        String key = ResponseCache.key("code", "https://backend", "package", "prompt");
+        Assert.assertEquals(ResponseCache.key("code", "https://backend", "package", "prompt"), key);
+        Assert.assertNotEquals(ResponseCache.key("executionplan", "https://backend", "package", "prompt"), key);
+        Assert.assertNotEquals(ResponseCache.key("code", "https://backend", "package", "other prompt"), key);
+        Assert.assertNotEquals(ResponseCache.key("code", "ab", "c"), ResponseCache.key("code", "a", "bc"));
+        Assert.assertEquals(ResponseCache.key("code", "a", null), ResponseCache.key("code", "a", ""));
+    }
+
+    @Test
+    public void testCachedResponseIsReused() throws Exception {
+        ResponseCache cache = new ResponseCache(cacheDir, Duration.ofHours(1), Long.MAX_VALUE);
+        AtomicInteger loads = new AtomicInteger();
+        String key = ResponseCache.key("code", "reused");
+
+        Assert.assertEquals(cache.getOrLoad(key, () -> "response" + loads.incrementAndGet(), logger, "test.json"),
+                "response1");
+        Assert.assertEquals(cache.getOrLoad(key, () -> "response" + loads.incrementAndGet(), logger, "test.json"),
+                "response1");
+        Assert.assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testExpiredEntryIsReloaded() throws Exception {
+        ResponseCache cache = new ResponseCache(cacheDir, Duration.ofHours(1), Long.MAX_VALUE);
+        AtomicInteger loads = new AtomicInteger();
+        String key = ResponseCache.key("code", "expired");
+        cache.getOrLoad(key, () -> "response" + loads.incrementAndGet(), logger, "test.json");
+
+        Path entry = cacheDir.resolve(key + ".json");
+        Files.setLastModifiedTime(entry, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        Assert.assertEquals(cache.getOrLoad(key, () -> "response" + loads.incrementAndGet(), logger, "test.json"),
+                "response2");
+        Assert.assertEquals(loads.get(), 2);
+        Assert.assertEquals(Files.readString(entry), "response2");
+    }
+
+    @Test
+    public void testLeastRecentlyWrittenEntriesAreEvicted() throws Exception {
+        // Room for two 8 byte entries, the third one pushes the oldest out
+        ResponseCache cache = new ResponseCache(cacheDir, Duration.ofHours(1), 20);
+        String[] keys = {ResponseCache.key("code", "first"), ResponseCache.key("code", "second"),
+                ResponseCache.key("code", "third")};
+        for (int i = 0; i < keys.length; i++) {
+            String response = "entry-0" + i;
+            cache.getOrLoad(keys[i], () -> response, logger, "test.json");
+            // File times may be coarse, so the write order is made explicit
+            Files.setLastModifiedTime(cacheDir.resolve(keys[i] + ".json"),
+                    FileTime.from(Instant.now().minus(Duration.ofMinutes(keys.length - i))));
+        }
+
+        Assert.assertFalse(Files.exists(cacheDir.resolve(keys[0] + ".json")));
+        Assert.assertTrue(Files.exists(cacheDir.resolve(keys[1] + ".json")));
+        Assert.assertTrue(Files.exists(cacheDir.resolve(keys[2] + ".json")));
+    }
+
+    @Test
+    public void testDirectoryIsScannedOncePastTheSizeLimit() throws Exception {
+        ResponseCache cache = new ResponseCache(cacheDir, Duration.ofHours(1), 20);
+        cache.getOrLoad(ResponseCache.key("code", "first"), () -> "entry-00", logger, "test.json");
+        // Only a scan of the directory notices an entry that expired without being read
+        Path expired = Files.writeString(cacheDir.resolve(ResponseCache.key("code", "expired") + ".json"), "entry");
+        Files.setLastModifiedTime(expired, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        cache.getOrLoad(ResponseCache.key("code", "second"), () -> "entry-01", logger, "test.json");
+        Assert.assertTrue(Files.exists(expired));
+
+        cache.getOrLoad(ResponseCache.key("code", "third"), () -> "entry-02", logger, "test.json");
+        Assert.assertFalse(Files.exists(expired));
+    }
+
+    @Test
+    public void testStaleTemporaryFilesAreRemoved() throws Exception {
+        Path staleTempFile = Files.writeString(cacheDir.resolve("stale.tmp"), "partial");
+        Files.setLastModifiedTime(staleTempFile, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        Path recentTempFile = Files.writeString(cacheDir.resolve("recent.tmp"), "partial");
+
+        ResponseCache cache = new ResponseCache(cacheDir, Duration.ofHours(1), Long.MAX_VALUE);
+        cache.getOrLoad(ResponseCache.key("code", "temp"), () -> "response", logger, "test.json");
+
+        Assert.assertFalse(Files.exists(staleTempFile));
+        Assert.assertTrue(Files.exists(recentTempFile));
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            Assert.assertEquals(files.filter(file -> file.toString().endsWith(".tmp")).count(), 1);
+        }
+    }
+
+    @Test
+    public void testConcurrentIdenticalRequestsAreCoalesced() throws Exception {
+        // Without a cache directory only the coalescing of in-flight requests is left
+        ResponseCache cache = new ResponseCache(null, Duration.ofHours(1), Long.MAX_VALUE);
+        String key = ResponseCache.key("code", "coalesced");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicReference<Thread> waitingThread = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.getOrLoad(key, () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "response";
+            }, logger, "first.json"));
+            Assert.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(() -> {
+                waitingThread.set(Thread.currentThread());
+                return cache.getOrLoad(key, () -> "response" + loads.incrementAndGet(), logger, "second.json");
+            });
+            // Only release the first request once the second one is waiting for it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (waitingThread.get() == null || waitingThread.get().getState() != Thread.State.WAITING) {
+                Assert.assertTrue(System.nanoTime() < deadline, "Second request did not wait for the first one");
+                Thread.sleep(10);
+            }
+            releaseLoad.countDown();
+
+            Assert.assertEquals(first.get(10, TimeUnit.SECONDS), "response");
+            Assert.assertEquals(second.get(10, TimeUnit.SECONDS), "response");
+            Assert.assertEquals(loads.get(), 1);
+        } finally {
+            releaseLoad.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package baltool.logicapps.codegenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests extracting generated files from a streamed code generation response.
+ */
+public class StreamingCodeParserTest {
+
+    private static final String RESPONSE = """
+            Here is the migrated integration.
+
+            <code filename="main.bal">
+            ```ballerina
+            import ballerina/http;
+
+            service / on new http:Listener(9090) {
+            }
+            ```
+            </code>
+
+            Types used by the service:
+            <code filename="types.bal">
+            ```ballerina
+            // Wraps </code> in a string
+            type Payload record {| string tag = "</code>"; |};
+            ```
+            </code>
+            <code filename="broken.bal">
+            no code fence here
+            </code>
+            <code filename="config.bal">```ballerina
+            configurable int port = 9090;
+            ```</code>
+            """;
+
+    private static final Map<String, String> EXPECTED_FILES = Map.of(
+            "main.bal", "import ballerina/http;\n\nservice / on new http:Listener(9090) {\n}",
+            "types.bal", "// Wraps </code> in a string\ntype Payload record {| string tag = \"</code>\"; |};",
+            "config.bal", "configurable int port = 9090;");
+
+    @Test
+    public void testFilesAreExtractedRegardlessOfChunking() {
+        for (int chunkSize : new int[]{1, 2, 3, 7, 16, 64, RESPONSE.length()}) {
+            StreamingCodeParser codeParser = new StreamingCodeParser((fileName, content) -> {
+            });
+            for (int i = 0; i < RESPONSE.length(); i += chunkSize) {
+                codeParser.append(RESPONSE.substring(i, Math.min(RESPONSE.length(), i + chunkSize)));
+            }
+            Assert.assertEquals(codeParser.codeMap(), EXPECTED_FILES, "Chunk size: " + chunkSize);
+        }
+    }
+
+    @Test
+    public void testFilesAreReportedWhenComplete() {
+        List<String> completedFiles = new ArrayList<>();
+        StreamingCodeParser codeParser = new StreamingCodeParser((fileName, content) -> completedFiles.add(fileName));
+
+        int mainEnd = RESPONSE.indexOf("</code>") + "</code>".length();
+        codeParser.append(RESPONSE.substring(0, mainEnd - 1));
+        Assert.assertEquals(completedFiles, List.of());
+
+        codeParser.append(RESPONSE.substring(mainEnd - 1, mainEnd));
+        Assert.assertEquals(completedFiles, List.of("main.bal"));
+
+        codeParser.append(RESPONSE.substring(mainEnd));
+        Assert.assertEquals(completedFiles, List.of("main.bal", "types.bal", "config.bal"));
+    }
+
+    @Test
+    public void testCompleteResponseIsParsedWithoutListener() {
+        Assert.assertEquals(StreamingCodeParser.parse(RESPONSE), EXPECTED_FILES);
+    }
+}
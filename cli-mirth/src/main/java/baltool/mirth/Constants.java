@@ -13,6 +13,7 @@ public class Constants {
     public static final String DEV_AUTH_CLIENT_ID = "XpQ6lphi7kjKkWzumYyqqNf7CjIa";
     public static final String AUTH_CLIENT_ID = "9rKng8hSZd0VkeA45Lt4LOfCp9Aa";
     public static final String CONFIG_FILE_PATH = "migrate-mirth.config";
+    public static final String CACHE_DIR_NAME = "migrate-mirth-cache";
     public static final int AUTHENTICATION_TIMEOUT_SECONDS = 180;
     public static final String DEV_COPILOT_BACKEND_URL = "http://localhost:9094/ai";
     public static final String COPILOT_BACKEND_URL = "https://dev-tools.wso2.com/ballerina-copilot/v2.0";
@@ -4,20 +4,10 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import io.ballerina.projects.BuildOptions;
-import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.ModuleDescriptor;
-import io.ballerina.projects.PackageCompilation;
-import io.ballerina.projects.directory.BuildProject;
-import io.ballerina.projects.util.ProjectUtils;
-import io.ballerina.tools.diagnostics.Diagnostic;
-import io.ballerina.tools.diagnostics.DiagnosticInfo;
-import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.xml.sax.InputSource;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -33,9 +23,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -44,12 +32,10 @@ import java.util.stream.Stream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
-import static baltool.mirth.Constants.BALLERINA_TOML_FILE;
 import static baltool.mirth.Constants.CONTENT;
 import static baltool.mirth.Constants.COPILOT_BACKEND_URL;
 import static baltool.mirth.Constants.DEV_COPILOT_BACKEND_URL;
 import static baltool.mirth.Constants.FILE_PATH;
-import static baltool.mirth.codegenerator.HttpUtils.getHttpClient;
 import static baltool.mirth.codegenerator.HttpUtils.sendRequestAsync;
 import static baltool.mirth.codegenerator.HttpUtils.sendStreamRequestAsync;
 
@@ -57,7 +43,6 @@ public class CodeGenerationUtils {
 
     public static final boolean BALLERINA_DEV_UPDATE = Boolean.parseBoolean(
             System.getenv("BALLERINA_DEV_UPDATE"));
-    private static final String TEMP_DIR_PREFIX = "mirth-migration-tool-codegen-diagnostics-dir-";
 
     private record GeneratedCode(Map<String, String> codeMap, JsonArray functions) {
     }
@@ -172,6 +157,18 @@ public class CodeGenerationUtils {
                                                            String additionalInstructions, VerboseLoggerFactory logger,
                                                            String fileName)
             throws URISyntaxException, IOException, InterruptedException {
+        String cacheKey = ResponseCache.key("executionplan", getCopilotBackendURL(), packageName,
+                additionalInstructions, sourceFiles.toString(), fileAttachmentContents.toString());
+        return ResponseCache.getInstance().getOrLoad(cacheKey, () -> requestMirthChannelExecutionPlan(
+                copilotAccessToken, sourceFiles, fileAttachmentContents, packageName, additionalInstructions, logger,
+                fileName), logger, fileName);
+    }
+
+    private static String requestMirthChannelExecutionPlan(String copilotAccessToken, JsonArray sourceFiles,
+                                                           JsonArray fileAttachmentContents, String packageName,
+                                                           String additionalInstructions, VerboseLoggerFactory logger,
+                                                           String fileName)
+            throws URISyntaxException, IOException, InterruptedException {
 
         //Replace this with Mirth Channel specific execution plan generation endpoint
         URI uri = new URI(getCopilotBackendURL() + "/mirthchannel/executionplan");
@@ -258,6 +255,21 @@ public class CodeGenerationUtils {
                                               JsonArray fileAttachmentContents, String packageName,
                                               String generatedPrompt, VerboseLoggerFactory logger, String fileName)
             throws URISyntaxException, IOException, InterruptedException {
+        String cacheKey = ResponseCache.key("code", getCopilotBackendURL(), packageName, generatedPrompt,
+                sourceFiles.toString(), fileAttachmentContents.toString());
+        String cacheEntry = ResponseCache.getInstance().getOrLoad(cacheKey, () -> toCacheEntry(requestGeneratedCode(
+                copilotAccessToken, sourceFiles, fileAttachmentContents, packageName, generatedPrompt, logger,
+                fileName)), logger, fileName);
+        GeneratedCode generatedCode = fromCacheEntry(cacheEntry);
+        updateSourceFilesWithGeneratedContent(sourceFiles, generatedCode.codeMap, logger, fileName);
+        return generatedCode;
+    }
+
+    private static GeneratedCode requestGeneratedCode(String copilotAccessToken, JsonArray sourceFiles,
+                                                      JsonArray fileAttachmentContents, String packageName,
+                                                      String generatedPrompt, VerboseLoggerFactory logger,
+                                                      String fileName)
+            throws URISyntaxException, IOException, InterruptedException {
 
         logger.printVerboseInfo(fileName, "Preparing code generation payload");
         JsonObject codeGenerationPayload = constructCodeGenerationPayload(generatedPrompt, sourceFiles,
@@ -275,8 +287,8 @@ public class CodeGenerationUtils {
                 .build();
 
         logger.printVerboseInfo(fileName, "Sending HTTP request to get generated code");
-        HttpResponse<InputStream> response = getHttpClient().send(codeGenerationRequest,
-                HttpResponse.BodyHandlers.ofInputStream());
+        HttpResponse<InputStream> response = HttpUtils.send(codeGenerationRequest,
+                HttpResponse.BodyHandlers.ofInputStream(), logger, fileName);
 
         logger.printVerboseInfo(fileName, "Code generation response received");
         logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
@@ -289,11 +301,27 @@ public class CodeGenerationUtils {
 
         logger.printVerboseInfo(fileName, "Processing streamed response for code generation");
 
+        return extractGeneratedCode(response.body(), logger, fileName);
+    }
 
-        GeneratedCode generatedCode = extractGeneratedCode(response.body(), logger, fileName);
+    private static String toCacheEntry(GeneratedCode generatedCode) {
+        JsonObject codeMap = new JsonObject();
+        generatedCode.codeMap.forEach(codeMap::addProperty);
+        JsonObject cacheEntry = new JsonObject();
+        cacheEntry.add("codeMap", codeMap);
+        cacheEntry.add("functions", generatedCode.functions);
+        return cacheEntry.toString();
+    }
 
-        updateSourceFilesWithGeneratedContent(sourceFiles, generatedCode.codeMap, logger, fileName);
-        return generatedCode;
+    private static GeneratedCode fromCacheEntry(String cacheEntry) {
+        JsonObject cacheEntryJson = JsonParser.parseString(cacheEntry).getAsJsonObject();
+        Map<String, String> codeMap = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : cacheEntryJson.getAsJsonObject("codeMap").entrySet()) {
+            codeMap.put(entry.getKey(), entry.getValue().getAsString());
+        }
+        JsonElement functions = cacheEntryJson.get("functions");
+        return new GeneratedCode(codeMap, functions == null || functions.isJsonNull() ? null :
+                functions.getAsJsonArray());
     }
 
     private static JsonObject constructCodeGenerationPayload(String generatedPrompt, JsonArray sourceFiles,
@@ -510,11 +538,12 @@ public class CodeGenerationUtils {
 
         logger.printVerboseInfo(fileName, "Starting code repair process...");
         logger.printVerboseInfo(fileName, "Maximum repair iterations: " + maxRepairIterations);
+        DiagnosticsEngine diagnosticsEngine = DiagnosticsEngine.load(sourceFiles, moduleDescriptor, logger, fileName);
         GeneratedCode repairedCode = generatedCode;
         for (int iteration = 0; iteration < maxRepairIterations; iteration++) {
             logger.printVerboseInfo(fileName, "Iteration " + (iteration + 1) + " of code repair");
             GeneratedCode repairedCodeIteration = repairIfDiagnosticsExist(copilotAccessToken, sourceFiles,
-                    fileAttachmentContents, packageName, generatedPrompt, moduleDescriptor, generatedCode, logger,
+                    fileAttachmentContents, packageName, generatedPrompt, diagnosticsEngine, generatedCode, logger,
                     fileName);
 
             if (repairedCodeIteration == null) {
@@ -531,13 +560,13 @@ public class CodeGenerationUtils {
     private static GeneratedCode repairIfDiagnosticsExist(String copilotAccessToken, JsonArray sourceFiles,
                                                           JsonArray fileAttachmentContents, String packageName,
                                                           String generatedPrompt,
-                                                          ModuleDescriptor moduleDescriptor,
+                                                          DiagnosticsEngine diagnosticsEngine,
                                                           GeneratedCode generatedCode, VerboseLoggerFactory logger,
                                                           String fileName)
             throws IOException, URISyntaxException, InterruptedException {
 
         logger.printVerboseInfo(fileName, "Running diagnostics on generated code...");
-        Optional<JsonArray> diagnostics = getDiagnostics(sourceFiles, moduleDescriptor, logger, fileName);
+        Optional<JsonArray> diagnostics = diagnosticsEngine.getDiagnostics(sourceFiles);
 
         if (diagnostics.isEmpty()) {
             logger.printVerboseInfo(fileName, "No diagnostics found - code repair not needed");
@@ -557,144 +586,6 @@ public class CodeGenerationUtils {
         return repairedCode;
     }
 
-    private static Optional<JsonArray> getDiagnostics(JsonArray sourceFiles, ModuleDescriptor moduleDescriptor,
-                                                      VerboseLoggerFactory logger, String fileName) throws IOException {
-
-        logger.printVerboseInfo(fileName, "Creating temporary project for diagnostics");
-        BuildProject project = createProject(sourceFiles, moduleDescriptor, logger, fileName);
-
-        logger.printVerboseInfo(fileName, "Compiling project for diagnostics");
-        PackageCompilation compilation = project.currentPackage().getCompilation();
-        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-
-        logger.printVerboseInfo(fileName, "Diagnostic compilation completed");
-        logger.printVerboseInfo(fileName, "Total diagnostics: " + diagnosticResult.diagnostics().size());
-        logger.printVerboseInfo(fileName, "Error count: " + diagnosticResult.errorCount());
-        logger.printVerboseInfo(fileName, "Warning count: " + diagnosticResult.warningCount());
-
-        if (diagnosticResult.errorCount() == 0) {
-            logger.printVerboseInfo(fileName, "No errors found - diagnostics successful");
-            return Optional.empty();
-        }
-
-        logger.printVerboseInfo(fileName, "Processing error diagnostics");
-        JsonArray diagnostics = new JsonArray();
-        int errorCount = 0;
-
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
-            DiagnosticInfo diagnosticInfo = diagnostic.diagnosticInfo();
-            if (diagnosticInfo.severity() != DiagnosticSeverity.ERROR) {
-                continue;
-            }
-            diagnostics.add(diagnostic.toString());
-            errorCount++;
-        }
-
-        logger.printVerboseInfo(fileName, "Processed " + errorCount + " error diagnostics");
-        return Optional.of(diagnostics);
-    }
-
-    private static BuildProject createProject(JsonArray sourceFiles, ModuleDescriptor moduleDescriptor,
-                                              VerboseLoggerFactory logger, String fileName) throws IOException {
-
-        Path tempProjectDir = Files.createTempDirectory(TEMP_DIR_PREFIX + System.currentTimeMillis());
-        tempProjectDir.toFile().deleteOnExit();
-        logger.printVerboseInfo(fileName, "Created Temporary project directory: " +
-                tempProjectDir.toAbsolutePath());
-
-        logger.printVerboseInfo(fileName, "Writing source files to temporary directory");
-        int fileCount = 0;
-        for (JsonElement sourceFile : sourceFiles) {
-            JsonObject sourceFileObj = sourceFile.getAsJsonObject();
-            String filePath = sourceFileObj.get(FILE_PATH).getAsString();
-            String content = sourceFileObj.get(CONTENT).getAsString();
-
-            File file = Files.createFile(tempProjectDir.resolve(Path.of(filePath))).toFile();
-            file.deleteOnExit();
-
-            try (FileWriter fileWriter = new FileWriter(file, StandardCharsets.UTF_8)) {
-                fileWriter.write(content);
-            }
-
-            fileCount++;
-        }
-        logger.printVerboseInfo(fileName, "Total files written: " + fileCount);
-
-        Path ballerinaTomlPath = tempProjectDir.resolve(BALLERINA_TOML_FILE);
-        File balTomlFile = Files.createFile(ballerinaTomlPath).toFile();
-        balTomlFile.deleteOnExit();
-
-        String tomlContent = String.format("""
-                        [package]
-                        org = "%s"
-                        name = "%s"
-                        version = "%s"
-                        """,
-                moduleDescriptor.org().value(),
-                moduleDescriptor.packageName().value(),
-                moduleDescriptor.version().value());
-
-        try (FileWriter fileWriter = new FileWriter(balTomlFile, StandardCharsets.UTF_8)) {
-            fileWriter.write(tomlContent);
-        }
-        logger.printVerboseInfo(fileName, "Ballerina.toml created successfully");
-
-        Path ballerinaHomePath = Path.of(Objects.requireNonNull(getBallerinaHome(logger, fileName)));
-        System.setProperty("ballerina.home", ballerinaHomePath.toString());
-        logger.printVerboseInfo(fileName, "Ballerina home set to: " + ballerinaHomePath);
-
-        BuildOptions buildOptions = BuildOptions.builder().targetDir(ProjectUtils.getTemporaryTargetPath()).build();
-        BuildProject project = BuildProject.load(tempProjectDir, buildOptions);
-        logger.printVerboseInfo(fileName, "Temporary project created successfully");
-
-        return project;
-    }
-
-    private static String getBallerinaHome(VerboseLoggerFactory logger, String fileName) {
-        logger.printVerboseInfo(fileName, "Determining Ballerina home directory...");
-        ProcessBuilder processBuilder = new ProcessBuilder("bal", "home");
-        processBuilder.redirectErrorStream(true);
-
-        try {
-            logger.printVerboseInfo(fileName, "Executing 'bal home' command...");
-            Process process = processBuilder.start();
-            boolean finished = process.waitFor(5, TimeUnit.SECONDS);
-            if (!finished) {
-                logger.printVerboseError(fileName, "Command timed out, destroying process");
-                process.destroyForcibly();
-                logger.printError(fileName, "Ballerina home cannot be determined: 'bal home' command timed out.");
-                return null;
-            }
-
-            if (process.exitValue() == 0) {
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-
-                    String line = reader.readLine();
-                    if (line != null && !line.trim().isEmpty()) {
-                        String ballerinaHome = line.trim();
-                        return ballerinaHome;
-                    }
-                }
-            } else {
-                logger.printVerboseError(fileName, "Command failed with exit code: " + process.exitValue());
-                logger.printError(fileName, "Ballerina home cannot be determined: bal home command failed.");
-            }
-
-        } catch (IOException e) {
-            String errorMsg = "Error executing 'bal home' command: " + e.getMessage();
-            logger.printError(fileName, errorMsg);
-            logger.printStackTrace(fileName, e.getStackTrace());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            String errorMsg = "Command 'bal home' was interrupted";
-            logger.printError(fileName, errorMsg);
-            logger.printStackTrace(fileName, e.getStackTrace());
-        }
-
-        return null;
-    }
-
     private static GeneratedCode getRepairedCodeFromStream(String copilotAccessToken, JsonArray sourceFiles,
                                                            JsonArray fileAttachmentContents, String packageName,
                                                            String generatedPrompt,
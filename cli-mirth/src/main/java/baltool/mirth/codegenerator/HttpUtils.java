@@ -8,10 +8,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -23,6 +26,10 @@ public class HttpUtils {
             .version(HttpClient.Version.HTTP_1_1)
             .connectTimeout(Duration.ofMinutes(8))
             .build();
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int MAX_RATE_LIMIT_RETRIES = 5;
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(2);
+    private static final AtomicLong PAUSED_UNTIL_MILLIS = new AtomicLong();
 
     static HttpResponse<Stream<String>> sendStreamRequestAsync(URI uri, JsonObject payload, String accessToken,
                                                                VerboseLoggerFactory logger, String fileName)
@@ -36,27 +43,8 @@ public class HttpUtils {
                 .timeout(Duration.ofMinutes(8))
                 .build();
 
-        CompletableFuture<HttpResponse<Stream<String>>> future = getHttpClient().sendAsync(
-                request, HttpResponse.BodyHandlers.ofLines());
-
-        HttpResponse<Stream<String>> response;
-        try {
-            long startTime = System.currentTimeMillis();
-            response = future.get(8, TimeUnit.MINUTES);
-            long duration = System.currentTimeMillis() - startTime;
-
-            logger.printVerboseInfo(fileName, "Response time: " + duration + "ms");
-            logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
-        } catch (TimeoutException e) {
-            future.cancel(true);
-            logger.printVerboseError(fileName, "Request timed out after 8 minutes");
-            throw new IOException("Request timed out", e);
-        } catch (ExecutionException e) {
-            logger.printVerboseError(fileName, "Request failed: " + e.getCause().getMessage());
-            throw new IOException("Request failed", e.getCause());
-        }
-
-        return response;
+        return sendWithBackoff(() -> sendAndWait(request, HttpResponse.BodyHandlers.ofLines(),
+                "Request timed out after 8 minutes", logger, fileName), logger, fileName);
     }
 
     static HttpResponse<String> sendRequestAsync(URI uri, JsonObject payload, String accessToken,
@@ -71,10 +59,47 @@ public class HttpUtils {
                 .timeout(Duration.ofMinutes(5))
                 .build();
 
-        CompletableFuture<HttpResponse<String>> future = getHttpClient().sendAsync(
-                request, HttpResponse.BodyHandlers.ofString());
+        return sendWithBackoff(() -> sendAndWait(request, HttpResponse.BodyHandlers.ofString(),
+                "Request timed out after 5 minutes", logger, fileName), logger, fileName);
+    }
+
+    static <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                    VerboseLoggerFactory logger, String fileName)
+            throws IOException, InterruptedException {
+        return sendWithBackoff(() -> getHttpClient().send(request, bodyHandler), logger, fileName);
+    }
+
+    /**
+     * Sends a request, backing off when the backend rate limits. A rate limited response pauses every request sent
+     * through this class, not just the one that was rejected, so concurrent channel migrations slow down together
+     * instead of piling more requests onto the backend.
+     */
+    private static <T> HttpResponse<T> sendWithBackoff(RequestAttempt<T> requestAttempt, VerboseLoggerFactory logger,
+                                                       String fileName)
+            throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            awaitRateLimit();
+            HttpResponse<T> response = requestAttempt.send();
+            if (response.statusCode() != HTTP_TOO_MANY_REQUESTS || attempt > MAX_RATE_LIMIT_RETRIES) {
+                return response;
+            }
+            if (response.body() instanceof AutoCloseable body) {
+                closeQuietly(body);
+            }
+            long delayMillis = retryDelayMillis(response, attempt);
+            PAUSED_UNTIL_MILLIS.accumulateAndGet(System.currentTimeMillis() + delayMillis, Math::max);
+            logger.printVerboseInfo(fileName, "Rate limited by the backend, retrying in " + delayMillis + "ms (" +
+                    attempt + "/" + MAX_RATE_LIMIT_RETRIES + ")");
+        }
+    }
+
+    private static <T> HttpResponse<T> sendAndWait(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                   String timeoutMessage, VerboseLoggerFactory logger,
+                                                   String fileName)
+            throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<T>> future = getHttpClient().sendAsync(request, bodyHandler);
 
-        HttpResponse<String> response;
+        HttpResponse<T> response;
         try {
             long startTime = System.currentTimeMillis();
             response = future.get(8, TimeUnit.MINUTES);
@@ -84,7 +109,7 @@ public class HttpUtils {
             logger.printVerboseInfo(fileName, "Response status: " + response.statusCode());
         } catch (TimeoutException e) {
             future.cancel(true);
-            logger.printVerboseError(fileName, "Request timed out after 5 minutes");
+            logger.printVerboseError(fileName, timeoutMessage);
             throw new IOException("Request timed out", e);
         } catch (ExecutionException e) {
             logger.printVerboseError(fileName, "Request failed: " + e.getCause().getMessage());
@@ -94,7 +119,42 @@ public class HttpUtils {
         return response;
     }
 
+    private static void awaitRateLimit() throws InterruptedException {
+        long waitMillis = PAUSED_UNTIL_MILLIS.get() - System.currentTimeMillis();
+        while (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+            waitMillis = PAUSED_UNTIL_MILLIS.get() - System.currentTimeMillis();
+        }
+    }
+
+    private static long retryDelayMillis(HttpResponse<?> response, int attempt) {
+        Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+        if (retryAfter.isPresent()) {
+            try {
+                return Math.max(0, Long.parseLong(retryAfter.get().trim())) * 1000;
+            } catch (NumberFormatException e) {
+                // Retry-After may also be an HTTP date, fall back to exponential backoff
+            }
+        }
+        long backoffMillis = INITIAL_RETRY_DELAY.toMillis() << Math.min(attempt - 1, 6);
+        return backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // The rejected response is discarded anyway
+        }
+    }
+
     static HttpClient getHttpClient() {
         return HTTP_CLIENT;
     }
+
+    @FunctionalInterface
+    private interface RequestAttempt<T> {
+
+        HttpResponse<T> send() throws IOException, InterruptedException;
+    }
 }
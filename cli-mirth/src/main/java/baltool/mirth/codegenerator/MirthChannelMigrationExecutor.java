@@ -14,13 +14,30 @@ import io.ballerina.projects.PackageVersion;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import static baltool.mirth.Constants.BALLERINA_TOML_FILE;
 import static baltool.mirth.Constants.CONTENT;
@@ -31,26 +48,244 @@ import static baltool.mirth.Constants.FILE_PATH;
 public class MirthChannelMigrationExecutor {
 
     private static final String BALLERINA_PROJECT_SUFFIX = "_ballerina";
+    private static final String CHANNEL_ELEMENT = "channel";
     private static final int TOTAL_STEPS = 3;
 
-
     public static void migrateChannelToBallerina(Path channelFilePath, Path outputDir, String additionalInstructions,
                                                  boolean verbose, int maxRepairIterations, VerboseLogger logger) {
-        executeMigration(channelFilePath, outputDir, additionalInstructions, verbose, maxRepairIterations, logger);
+        migrateChannelToBallerina(channelFilePath, outputDir, additionalInstructions, verbose, maxRepairIterations,
+                null, logger);
+    }
+
+    /**
+     * Migrates a single Mirth channel, writing newline-delimited JSON metrics for it to {@code metricsOut} when it is
+     * not {@code null}.
+     */
+    public static void migrateChannelToBallerina(Path channelFilePath, Path outputDir, String additionalInstructions,
+                                                 boolean verbose, int maxRepairIterations, Path metricsOut,
+                                                 VerboseLogger logger) {
+        executeMigration(channelFilePath, outputDir, additionalInstructions, verbose, maxRepairIterations, metricsOut,
+                logger);
     }
 
     public static void migrateChannelToBallerina(Path channelFilePath, boolean verbose, int maxRepairIterations,
                                                  VerboseLogger logger) {
+        migrateChannelToBallerina(channelFilePath, verbose, maxRepairIterations, null, logger);
+    }
+
+    public static void migrateChannelToBallerina(Path channelFilePath, boolean verbose, int maxRepairIterations,
+                                                 Path metricsOut, VerboseLogger logger) {
         Path targetDir = Files.isDirectory(channelFilePath) ? channelFilePath :
                 channelFilePath.toAbsolutePath().getParent();
         logger.printVerboseInfo("Project root directory: " + targetDir.toAbsolutePath());
-        executeMigration(channelFilePath, targetDir, "", verbose, maxRepairIterations, logger);
+        executeMigration(channelFilePath, targetDir, "", verbose, maxRepairIterations, metricsOut, logger);
 
     }
 
-    private static void executeMigration(Path channelFilePath, Path outputDir, String additionalInstructions,
-                                         boolean verbose, int maxRepairIterations, VerboseLogger logger) {
+    /**
+     * Migrates every Mirth channel export directly in the given directory. Channels are processed concurrently on a
+     * bounded pool and share a single access token, HTTP client and Ballerina home lookup, so each extra channel only
+     * pays for its own code generation.
+     *
+     * @param channelDirectory       directory containing the exported channel files
+     * @param outputDir              directory the Ballerina project of each channel is created in
+     * @param additionalInstructions additional instructions for the migration
+     * @param verbose                whether to enable verbose logging
+     * @param maxRepairIterations    maximum number of code repair iterations per channel
+     * @param jobs                   maximum number of channels migrated at the same time
+     * @param channelTimeout         time a single channel may take once it has started before it is abandoned
+     * @param logger                 logger instance for logging messages
+     */
+    public static void migrateChannelsToBallerina(Path channelDirectory, Path outputDir, String additionalInstructions,
+                                                  boolean verbose, int maxRepairIterations, int jobs,
+                                                  Duration channelTimeout, VerboseLogger logger) {
+        migrateChannelsToBallerina(channelDirectory, outputDir, additionalInstructions, verbose, maxRepairIterations,
+                jobs, channelTimeout, null, logger);
+    }
+
+    /**
+     * Migrates every Mirth channel under the given directory, streaming a newline-delimited JSON metrics record for
+     * each channel as soon as it is done and one with the totals at the end to {@code metricsOut}.
+     *
+     * @param metricsOut file the metrics are written to, or {@code null} to not write metrics
+     * @see #migrateChannelsToBallerina(Path, Path, String, boolean, int, int, Duration, VerboseLogger)
+     */
+    public static void migrateChannelsToBallerina(Path channelDirectory, Path outputDir, String additionalInstructions,
+                                                  boolean verbose, int maxRepairIterations, int jobs,
+                                                  Duration channelTimeout, Path metricsOut, VerboseLogger logger) {
+        try (MetricsWriter metrics = MetricsWriter.open(metricsOut)) {
+            long startedAt = System.nanoTime();
+            logger.printVerboseInfo("Scanning directory " + channelDirectory.toAbsolutePath() +
+                    " for channel files...");
+            List<Path> channelFiles = findChannelFiles(channelDirectory, logger);
+            if (channelFiles.isEmpty()) {
+                logger.printError("No channel files found in directory: " + channelDirectory);
+                return;
+            }
+            logger.printVerboseInfo("Found " + channelFiles.size() + " channel files");
+
+            logger.printVerboseInfo("Obtaining access token");
+            String copilotAccessToken = getAccessToken(logger);
+            if (copilotAccessToken == null) {
+                logger.printVerboseInfo("Access token is null, terminating migration");
+                return;
+            }
+            logger.printVerboseInfo("Access token obtained successfully");
+
+            VerboseLoggerFactory loggerFactory = VerboseLoggerFactory.getInstance(verbose);
+            int failed = processMirthChannels(channelFiles, jobs, channelTimeout, loggerFactory, metrics, logger,
+                    (channelFile, fileName) -> processMirthChannel(channelFile, additionalInstructions, outputDir,
+                            copilotAccessToken, maxRepairIterations, loggerFactory, fileName, metrics));
+            loggerFactory.setProgressBarActive(false);
+            recordSummary(metrics, channelFiles.size(), failed, startedAt);
+
+            logger.printInfo("Migration Summary:");
+            logger.printInfo("Total channels: " + channelFiles.size());
+            logger.printInfo("Completed: " + (channelFiles.size() - failed));
+            logger.printInfo("Failed: " + failed);
+        } catch (Exception e) {
+            logger.printError("Error during migration process: " + e.getMessage());
+            logger.printStackTrace(e.getStackTrace());
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the Mirth channel exports directly in the given directory. Other XML files, such as exported code
+     * templates or configuration, and files in subdirectories are skipped.
+     */
+    static List<Path> findChannelFiles(Path channelDirectory, VerboseLogger logger) throws IOException {
+        List<Path> channelFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.list(channelDirectory)) {
+            for (Path file : files.filter(Files::isRegularFile)
+                    .filter(path -> path.toString().toLowerCase(Locale.ROOT).endsWith(".xml"))
+                    .sorted()
+                    .toList()) {
+                if (isChannelFile(file)) {
+                    channelFiles.add(file);
+                } else {
+                    logger.printVerboseInfo("Skipping " + file.getFileName() + " as it is not a channel export");
+                }
+            }
+        }
+        return channelFiles;
+    }
+
+    private static boolean isChannelFile(Path file) {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                        return CHANNEL_ELEMENT.equals(reader.getLocalName());
+                    }
+                }
+                return false;
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Migrates the given channels on a pool of {@code jobs} workers, abandoning a channel that takes longer than
+     * {@code channelTimeout} once it has started.
+     *
+     * @return number of channels that failed or timed out
+     */
+    static int processMirthChannels(List<Path> channelFiles, int jobs, Duration channelTimeout,
+                                    VerboseLoggerFactory loggerFactory, MetricsWriter metrics, VerboseLogger logger,
+                                    ChannelMigration migration) throws InterruptedException {
+        int poolSize = Math.max(1, Math.min(jobs, channelFiles.size()));
+        logger.printVerboseInfo("Migrating channels with " + poolSize + " parallel jobs");
+        ExecutorService executorService = Executors.newFixedThreadPool(poolSize);
+        int failed = 0;
         try {
+            List<PendingChannel> pendingChannels = new ArrayList<>(channelFiles.size());
+            for (Path channelFile : channelFiles) {
+                String fileName = channelFile.getFileName().toString();
+                loggerFactory.addProcess(fileName, TOTAL_STEPS);
+                AtomicLong startedAt = new AtomicLong();
+                Future<?> future = executorService.submit(() -> {
+                    startedAt.set(System.nanoTime());
+                    migration.migrate(channelFile, fileName);
+                });
+                pendingChannels.add(new PendingChannel(fileName, future, startedAt));
+            }
+
+            for (PendingChannel pending : pendingChannels) {
+                try {
+                    await(pending, channelTimeout.toNanos());
+                } catch (TimeoutException e) {
+                    pending.future().cancel(true);
+                    failed++;
+                    loggerFactory.finishProgress(pending.fileName(), false, "Timed out");
+                    logger.printError("Migration of " + pending.fileName() + " timed out after " +
+                            channelTimeout.toMinutes() + " minutes");
+                    if (metrics.isEnabled()) {
+                        JsonObject record = MetricsWriter.newRecord(MetricsWriter.CHANNEL);
+                        record.addProperty("file", pending.fileName());
+                        record.addProperty("status", "timedOut");
+                        metrics.record(record);
+                    }
+                } catch (ExecutionException e) {
+                    // The failure has already been reported by processMirthChannel
+                    failed++;
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return failed;
+    }
+
+    private static void await(PendingChannel pending, long timeoutNanos)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        // The timeout is measured from the moment a worker picks the channel up, so channels waiting for a free
+        // worker are not penalized.
+        while (true) {
+            long startedAt = pending.startedAt().get();
+            long waitNanos = startedAt == 0 ? timeoutNanos : startedAt + timeoutNanos - System.nanoTime();
+            try {
+                pending.future().get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+                return;
+            } catch (TimeoutException e) {
+                startedAt = pending.startedAt().get();
+                if (startedAt != 0 && System.nanoTime() - startedAt >= timeoutNanos) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private record PendingChannel(String fileName, Future<?> future, AtomicLong startedAt) {
+    }
+
+    /**
+     * Migrates a single channel of a batch.
+     */
+    @FunctionalInterface
+    interface ChannelMigration {
+
+        /**
+         * Migrates the channel, reporting and then throwing a runtime exception if it fails.
+         *
+         * @param channelFile channel export to migrate
+         * @param fileName    name of the channel file, used to tag its progress and log messages
+         */
+        void migrate(Path channelFile, String fileName);
+    }
+
+    private static void executeMigration(Path channelFilePath, Path outputDir, String additionalInstructions,
+                                         boolean verbose, int maxRepairIterations, Path metricsOut,
+                                         VerboseLogger logger) {
+        try (MetricsWriter metrics = MetricsWriter.open(metricsOut)) {
+            long startedAt = System.nanoTime();
             logger.printVerboseInfo("Starting migration with specified output directory: " +
                     outputDir.toString());
 
@@ -66,8 +301,16 @@ public class MirthChannelMigrationExecutor {
             VerboseLoggerFactory loggerFactory = VerboseLoggerFactory.getInstance(verbose);
             loggerFactory.addProcess(fileName, TOTAL_STEPS);
             logger.printVerboseInfo("Single file mode, processing: " + channelFilePath);
-            processMirthChannel(channelFilePath, additionalInstructions, outputDir, copilotAccessToken,
-                    maxRepairIterations, loggerFactory, fileName);
+            boolean failed = false;
+            try {
+                processMirthChannel(channelFilePath, additionalInstructions, outputDir, copilotAccessToken,
+                        maxRepairIterations, loggerFactory, fileName, metrics);
+            } catch (RuntimeException e) {
+                failed = true;
+                throw e;
+            } finally {
+                recordSummary(metrics, 1, failed ? 1 : 0, startedAt);
+            }
             loggerFactory.setProgressBarActive(false);
         } catch (Exception e) {
             logger.printError("Error during migration process: " + e.getMessage());
@@ -78,7 +321,10 @@ public class MirthChannelMigrationExecutor {
 
     private static void processMirthChannel(Path mirthChannelFilePath, String additionalInstructions, Path targetDir,
                                             String copilotAccessToken, int maxRepairIterations,
-                                            VerboseLoggerFactory logger, String fileName) {
+                                            VerboseLoggerFactory logger, String fileName, MetricsWriter metrics) {
+        JsonObject record = MetricsWriter.newRecord(MetricsWriter.CHANNEL);
+        record.addProperty("file", fileName);
+        JsonObject phases = new JsonObject();
         try {
 
             logger.printVerboseInfo(fileName, "Processing file: " + mirthChannelFilePath.toAbsolutePath());
@@ -95,24 +341,39 @@ public class MirthChannelMigrationExecutor {
             String projectName = (baseName + BALLERINA_PROJECT_SUFFIX).toLowerCase(Locale.ROOT);
             String packageName = projectName.replaceAll("[^a-z0-9_]", "_");
             logger.printVerboseInfo(fileName, "Package name: " + packageName);
+            record.addProperty("project", packageName);
+            record.addProperty("sourceBytes", Files.size(mirthChannelFilePath));
 
             ModuleDescriptor moduleDescriptor = getModuleDescriptor(packageName);
 
+            long phaseStart = System.nanoTime();
             JsonArray generatedSourceFiles = CodeGenerationUtils.generateCodeForMirthChannel(copilotAccessToken,
                     mirthChannelFilePath, packageName, additionalInstructions, moduleDescriptor, maxRepairIterations,
                     logger, fileName);
+            phases.addProperty("generate", MetricsWriter.millisSince(phaseStart));
             logger.printVerboseInfo(fileName, "Code generation completed. Generated " +
                     generatedSourceFiles.size() + " source files");
+            record.add("generated", generatedStats(generatedSourceFiles));
 
             if (!generatedSourceFiles.isEmpty()) {
                 Path projectDir = targetDir.resolve(projectName);
+                phaseStart = System.nanoTime();
                 createProjectFromGeneratedSource(generatedSourceFiles, moduleDescriptor, projectDir, logger,
                         fileName);
+                phases.addProperty("write", MetricsWriter.millisSince(phaseStart));
                 logger.finishProgress(fileName, true, "Completed");
+                record.addProperty("status", "completed");
             } else {
                 logger.printVerboseWarn(fileName, "No source files were generated");
+                record.addProperty("status", "empty");
             }
+            record.add("phases", phases);
+            metrics.record(record);
         } catch (Exception e) {
+            record.addProperty("status", "failed");
+            record.addProperty("error", e.getMessage());
+            record.add("phases", phases);
+            metrics.record(record);
             logger.finishProgress(fileName, false, e.getMessage());
             logger.printError(fileName, e.getMessage());
             logger.printStackTrace(fileName, e.getStackTrace());
@@ -120,6 +381,29 @@ public class MirthChannelMigrationExecutor {
         }
     }
 
+    private static JsonObject generatedStats(JsonArray sourceFiles) {
+        long lines = 0;
+        for (JsonElement sourceFile : sourceFiles) {
+            lines += sourceFile.getAsJsonObject().get(CONTENT).getAsString().lines().count();
+        }
+        JsonObject generated = new JsonObject();
+        generated.addProperty("files", sourceFiles.size());
+        generated.addProperty("lines", lines);
+        return generated;
+    }
+
+    private static void recordSummary(MetricsWriter metrics, int channels, int failed, long startedAt) {
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        JsonObject record = MetricsWriter.newRecord(MetricsWriter.SUMMARY);
+        record.addProperty("channels", channels);
+        record.addProperty("completed", channels - failed);
+        record.addProperty("failed", failed);
+        record.addProperty("elapsedMillis", MetricsWriter.millisSince(startedAt));
+        metrics.record(record);
+    }
+
     private static ModuleDescriptor getModuleDescriptor(String packageName) throws UnsupportedEncodingException {
         ModuleName moduleName = ModuleName.from(PackageName.from(packageName));
         PackageDescriptor packageDescriptor = PackageDescriptor.from(PackageOrg.from(DEFAULT_ORG_NAME),
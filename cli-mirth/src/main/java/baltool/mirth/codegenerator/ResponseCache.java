@@ -0,0 +1,289 @@
+package baltool.mirth.codegenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import static baltool.mirth.Constants.BALLERINA_USER_HOME_NAME;
+import static baltool.mirth.Constants.CACHE_DIR_NAME;
+
+/**
+ * Content-addressed cache of Copilot responses such as execution plans and generated code.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of everything that went into the request (source content, instructions,
+ * package name, backend and tool version), so a changed input never hits a stale entry. Entries expire after a fixed
+ * time to live. The size of the entries is tracked as they are written. Once it passes the size limit, the directory
+ * is scanned and the oldest entries are evicted, along with expired entries and temporary files left behind by
+ * interrupted writes. The first write of a run scans the directory as well. Identical requests that are made
+ * concurrently, e.g. duplicate channels in a batch, are coalesced so that only one of them reaches the
+ * backend. Setting the {@code BAL_MIGRATE_DISABLE_CACHE} environment variable to {@code true} turns the on-disk
+ * cache off; concurrent requests are still coalesced.
+ */
+final class ResponseCache {
+
+    static final boolean CACHE_DISABLED = Boolean.parseBoolean(System.getenv("BAL_MIGRATE_DISABLE_CACHE"));
+    private static final Duration TIME_TO_LIVE = Duration.ofDays(7);
+    private static final long MAX_SIZE_BYTES = 256L * 1024 * 1024;
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    // Temporary files younger than this may still be written by another migration running on the same cache
+    private static final Duration STALE_TEMP_FILE_AGE = Duration.ofHours(1);
+    private static final String TOOL_VERSION = Optional.ofNullable(
+            ResponseCache.class.getPackage().getImplementationVersion()).orElse("dev");
+    private static final ResponseCache INSTANCE = new ResponseCache(CACHE_DISABLED ? null :
+            Paths.get(System.getProperty("user.home"), BALLERINA_USER_HOME_NAME, CACHE_DIR_NAME), TIME_TO_LIVE,
+            MAX_SIZE_BYTES);
+
+    private final Path cacheDir;
+    private final Duration timeToLive;
+    private final long maxSizeBytes;
+    private final Map<String, CompletableFuture<String>> inFlightRequests = new ConcurrentHashMap<>();
+    // Size of the entries found by the last scan plus the size of the entries written since, or -1 before the first
+    // scan. Entries removed by other processes are only accounted for by the next scan.
+    private long trackedSizeBytes = -1;
+
+    /**
+     * Creates a cache backed by the given directory.
+     *
+     * @param cacheDir     directory to store the entries in, or {@code null} to only coalesce concurrent requests
+     * @param timeToLive   time after which an entry is no longer used
+     * @param maxSizeBytes total size of the entries above which the least recently written ones are evicted, until
+     *                     the entries take up at most four fifths of it
+     */
+    ResponseCache(Path cacheDir, Duration timeToLive, long maxSizeBytes) {
+        this.cacheDir = cacheDir;
+        this.timeToLive = timeToLive;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    static ResponseCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Computes the cache key of a request.
+     *
+     * @param kind  kind of the cached response, e.g. {@code "executionplan"}
+     * @param parts every input that influences the response
+     * @return hex encoded SHA-256 digest of the tool version, kind and parts
+     */
+    static String key(String kind, String... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, TOOL_VERSION);
+        update(digest, kind);
+        for (String part : parts) {
+            update(digest, part == null ? "" : part);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Length prefix each part so that ("ab", "c") and ("a", "bc") produce different keys
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    /**
+     * Returns the cached response for the key, or loads it and caches the result. If another thread is already
+     * loading the same key, waits for that request instead of sending a duplicate one. Failed loads are not cached.
+     *
+     * @param key      cache key computed with {@link #key(String, String...)}
+     * @param loader   sends the request to the backend on a cache miss
+     * @param logger   logger for verbose output
+     * @param fileName name of the file being processed
+     * @return the cached or freshly loaded response
+     */
+    String getOrLoad(String key, Loader loader, VerboseLoggerFactory logger, String fileName)
+            throws URISyntaxException, IOException, InterruptedException {
+        Optional<String> cached = read(key);
+        if (cached.isPresent()) {
+            logger.printVerboseInfo(fileName, "Using cached response " + key.substring(0, 12));
+            return cached.get();
+        }
+
+        CompletableFuture<String> request = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = inFlightRequests.putIfAbsent(key, request);
+        if (inFlight != null) {
+            logger.printVerboseInfo(fileName, "Waiting for identical in-flight request " + key.substring(0, 12));
+            return await(inFlight);
+        }
+
+        try {
+            // Another thread may have finished the same request between the lookup above and claiming the key
+            Optional<String> loaded = read(key);
+            String response = loaded.isPresent() ? loaded.get() : loader.load();
+            if (loaded.isEmpty()) {
+                write(key, response, logger, fileName);
+            }
+            request.complete(response);
+            return response;
+        } catch (Throwable e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, request);
+        }
+    }
+
+    private static String await(CompletableFuture<String> inFlight)
+            throws URISyntaxException, IOException, InterruptedException {
+        try {
+            return inFlight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof URISyntaxException uriSyntaxException) {
+                throw uriSyntaxException;
+            } else if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private Optional<String> read(String key) {
+        if (cacheDir == null) {
+            return Optional.empty();
+        }
+        Path entry = cacheDir.resolve(key + ENTRY_SUFFIX);
+        try {
+            if (isExpired(Files.getLastModifiedTime(entry))) {
+                Files.deleteIfExists(entry);
+                return Optional.empty();
+            }
+            return Optional.of(Files.readString(entry, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Missing, concurrently evicted or unreadable entries are treated as a cache miss
+            return Optional.empty();
+        }
+    }
+
+    private void write(String key, String response, VerboseLoggerFactory logger, String fileName) {
+        if (cacheDir == null) {
+            return;
+        }
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheDir);
+            tempFile = Files.createTempFile(cacheDir, key, TEMP_FILE_SUFFIX);
+            Files.writeString(tempFile, response, StandardCharsets.UTF_8);
+            long size = Files.size(tempFile);
+            Files.move(tempFile, cacheDir.resolve(key + ENTRY_SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+            recordWrite(size);
+        } catch (IOException | UncheckedIOException e) {
+            // The cache is an optimization, a failure to store an entry must not fail the migration
+            logger.printVerboseWarn(fileName, "Failed to cache response: " + e.getMessage());
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // Removed by the next scan once it is stale
+                }
+            }
+        }
+    }
+
+    private synchronized void recordWrite(long size) throws IOException {
+        if (trackedSizeBytes >= 0) {
+            trackedSizeBytes += size;
+            if (trackedSizeBytes <= maxSizeBytes) {
+                return;
+            }
+        }
+        evict();
+    }
+
+    private void evict() throws IOException {
+        List<CacheEntry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.toList()) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_FILE_SUFFIX)) {
+                    if (isOlderThan(attributes.lastModifiedTime(), STALE_TEMP_FILE_AGE)) {
+                        Files.deleteIfExists(file);
+                    }
+                } else if (name.endsWith(ENTRY_SUFFIX)) {
+                    if (isExpired(attributes.lastModifiedTime())) {
+                        Files.deleteIfExists(file);
+                    } else {
+                        entries.add(new CacheEntry(file, attributes.lastModifiedTime(), attributes.size()));
+                    }
+                }
+            }
+        }
+
+        long totalSize = entries.stream().mapToLong(CacheEntry::size).sum();
+        if (totalSize > maxSizeBytes) {
+            // Leave some room, so that a full cache is not scanned again by the next few writes
+            long targetSize = maxSizeBytes - maxSizeBytes / 5;
+            entries.sort(Comparator.comparing(CacheEntry::lastModified));
+            for (int i = 0; i < entries.size() && totalSize > targetSize; i++) {
+                Files.deleteIfExists(entries.get(i).file());
+                totalSize -= entries.get(i).size();
+            }
+        }
+        trackedSizeBytes = totalSize;
+    }
+
+    private boolean isExpired(FileTime lastModified) {
+        return isOlderThan(lastModified, timeToLive);
+    }
+
+    private static boolean isOlderThan(FileTime lastModified, Duration age) {
+        return System.currentTimeMillis() - lastModified.toMillis() > age.toMillis();
+    }
+
+    private record CacheEntry(Path file, FileTime lastModified, long size) {
+    }
+
+    /**
+     * Sends a request to the backend and returns the response to cache.
+     */
+    @FunctionalInterface
+    interface Loader {
+
+        String load() throws URISyntaxException, IOException, InterruptedException;
+    }
+}
@@ -6,7 +6,9 @@ import io.ballerina.cli.BLauncherCmd;
 import picocli.CommandLine;
 
 import java.io.PrintStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
 import static baltool.mirth.Constants.CMD_NAME;
 
@@ -24,7 +26,8 @@ public class MigrateMirthChannelCommand implements BLauncherCmd {
     private final PrintStream errStream;
     private final PrintStream outStream;
     private static final String USAGE = "bal migrate-mirth <source-channel-file> " +
-            "[-v|--verbose] [-o|--out <output-directory>] [-r|--max-repair-iterations <iterations>]";
+            "[-v|--verbose] [-o|--out <output-directory>] [-r|--max-repair-iterations <iterations>] " +
+            "[-m|--multi-root] [-j|--jobs <count>] [--channel-timeout <minutes>] [--metrics-out <file>]";
 
     public MigrateMirthChannelCommand() {
         errStream = System.err;
@@ -45,6 +48,22 @@ public class MigrateMirthChannelCommand implements BLauncherCmd {
             description = "Maximum number of code repair iterations", defaultValue = "2")
     private int maxRepairIterations;
 
+    @CommandLine.Option(names = {"--multi-root", "-m"},
+            description = "Treat the source path as a directory of channel `.xml` files", defaultValue = "false")
+    private boolean multiRoot;
+
+    @CommandLine.Option(names = {"--jobs", "-j"},
+            description = "Maximum number of channels migrated in parallel in multi-root mode")
+    private Integer jobs;
+
+    @CommandLine.Option(names = {"--channel-timeout"},
+            description = "Minutes a single channel may take in multi-root mode", defaultValue = "30")
+    private int channelTimeoutMinutes;
+
+    @CommandLine.Option(names = {"--metrics-out"},
+            description = "Write per-channel and summary metrics as newline-delimited JSON to this file")
+    private String metricsOut;
+
     @Override
     public void execute() {
         try {
@@ -54,6 +73,7 @@ public class MigrateMirthChannelCommand implements BLauncherCmd {
                 outStream.println("  Source path: " + (sourcePath != null ? sourcePath : "Not provided"));
                 outStream.println("  Output path: " + (outputPath != null ? outputPath : "Default (source directory)"));
                 outStream.println("  Max repair iterations: " + maxRepairIterations);
+                outStream.println("  Multi-root: " + multiRoot);
                 outStream.println();
             }
 
@@ -72,19 +92,36 @@ public class MigrateMirthChannelCommand implements BLauncherCmd {
             }
 
             Path channelFilePath = Path.of(sourcePath).toAbsolutePath();
+            Path metricsPath = metricsOut != null ? Path.of(metricsOut).toAbsolutePath() : null;
 
             if (verbose) {
                 outStream.println("  Resolved source path: " + channelFilePath.toAbsolutePath());
                 outStream.println();
             }
 
-            if (outputPath != null) {
+            if (multiRoot) {
+                if (!Files.isDirectory(channelFilePath)) {
+                    errStream.println("Error: source path must be a directory in multi-root mode: " + sourcePath);
+                    onInvalidInput();
+                    return;
+                }
+                if ((jobs != null && jobs < 1) || channelTimeoutMinutes < 1) {
+                    errStream.println("Error: --jobs and --channel-timeout must be positive.");
+                    onInvalidInput();
+                    return;
+                }
+                Path outputDir = outputPath != null ? Path.of(outputPath).toAbsolutePath() : channelFilePath;
+                int parallelJobs = jobs != null ? jobs : Runtime.getRuntime().availableProcessors();
+                MirthChannelMigrationExecutor.migrateChannelsToBallerina(channelFilePath, outputDir, "", verbose,
+                        maxRepairIterations, parallelJobs, Duration.ofMinutes(channelTimeoutMinutes), metricsPath,
+                        new VerboseLogger(verbose));
+            } else if (outputPath != null) {
                 Path outputDir = Path.of(outputPath).toAbsolutePath();
                 MirthChannelMigrationExecutor.migrateChannelToBallerina(channelFilePath, outputDir,
-                        "", verbose, maxRepairIterations, new VerboseLogger(verbose));
+                        "", verbose, maxRepairIterations, metricsPath, new VerboseLogger(verbose));
             } else {
                 MirthChannelMigrationExecutor.migrateChannelToBallerina(channelFilePath, verbose,
-                        maxRepairIterations, new VerboseLogger(verbose));
+                        maxRepairIterations, metricsPath, new VerboseLogger(verbose));
             }
         } catch (Exception e) {
             errStream.println("Error during command execution: " + e.getMessage());
@@ -128,6 +165,14 @@ public class MigrateMirthChannelCommand implements BLauncherCmd {
         stringBuilder.append("  --out, -o               Specify the output directory for the generated Ballerina " +
                 "project\n");
         stringBuilder.append("  --max-repair-iterations, -r  Maximum number of code repair iterations (default: 2)\n");
+        stringBuilder.append("  --multi-root, -m        Treat the source path as a directory of channel files and " +
+                "migrate each one\n");
+        stringBuilder.append("  --jobs, -j              Maximum number of channels migrated in parallel in " +
+                "multi-root mode (default: number of processors)\n");
+        stringBuilder.append("  --channel-timeout       Minutes a single channel may take in multi-root mode " +
+                "(default: 30)\n");
+        stringBuilder.append("  --metrics-out           Write per-channel and summary metrics as newline-delimited " +
+                "JSON to a file\n");
         stringBuilder.append("  --verbose, -v           Enable detailed logging output\n");
     }
 
@@ -139,6 +184,9 @@ public class MigrateMirthChannelCommand implements BLauncherCmd {
         stringBuilder.append("  bal migrate-mirth /path/to/channel-xml-file --out /path/to/output\n");
         stringBuilder.append("  bal migrate-mirth /path/to/channel-xml-file --max-repair-iterations 3\n");
         stringBuilder.append("  bal migrate-mirth /path/to/channel-xml-file --verbose\n");
+        stringBuilder.append("  bal migrate-mirth /path/to/channels-directory --multi-root --jobs 4\n");
+        stringBuilder.append("  bal migrate-mirth /path/to/channels-directory --multi-root " +
+                "--metrics-out /path/to/metrics.ndjson\n");
     }
 
     @Override
@@ -4,26 +4,42 @@ import baltool.mirth.codegenerator.MirthChannelMigrationExecutor;
 import baltool.mirth.codegenerator.VerboseLogger;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 public class MirthConnectCli {
 
     private static final Logger logger = Logger.getLogger(MirthConnectCli.class.getName());
+    private static final String USAGE = "Usage: java -jar mirthconnect-migration-assistant.jar <source-file> " +
+            "[-o|--out <output-directory>] [-v|--verbose] [--metrics-out <file>]";
 
 
     // For testing jar
     public static void main(String[] args) {
+        List<String> positionalArgs = new ArrayList<>();
+        Path metricsOut = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--metrics-out")) {
+                if (i + 1 >= args.length) {
+                    logger.severe(USAGE);
+                    System.exit(1);
+                }
+                metricsOut = Path.of(args[++i]);
+            } else {
+                positionalArgs.add(args[i]);
+            }
+        }
 
-        if (args.length < 1 || args.length > 3) {
-            logger.severe("Usage: java -jar mirthconnect-migration-assistant.jar <source-file> " +
-                    "[-o|--out <output-directory>] [-v|--verbose]");
+        if (positionalArgs.isEmpty() || positionalArgs.size() > 3) {
+            logger.severe(USAGE);
             System.exit(1);
         }
-        Path sourceFile = Path.of(args[0]);
+        Path sourceFile = Path.of(positionalArgs.get(0));
         // Default to empty path if not provided
-        Path outputDirectory = args.length > 1 ? Path.of(args[1]) : Path.of("");
+        Path outputDirectory = positionalArgs.size() > 1 ? Path.of(positionalArgs.get(1)) : Path.of("");
 
         MirthChannelMigrationExecutor.migrateChannelToBallerina(sourceFile, outputDirectory, "",
-                false, 2, new VerboseLogger(false));
+                false, 2, metricsOut, new VerboseLogger(false));
     }
 }
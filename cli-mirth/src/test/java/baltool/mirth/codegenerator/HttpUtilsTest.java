@@ -0,0 +1,100 @@
+package baltool.mirth.codegenerator;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the rate limit handling of {@link HttpUtils} against a local fake Copilot backend.
+ */
+public class HttpUtilsTest {
+
+    private static final long RETRY_AFTER_MILLIS = 1000;
+
+    private final VerboseLoggerFactory logger = VerboseLoggerFactory.getInstance(false);
+    private HttpServer backend;
+    private AtomicInteger requestCount;
+    private List<Long> arrivals;
+    private CountDownLatch rateLimited;
+
+    @BeforeMethod
+    public void startBackend() throws IOException {
+        requestCount = new AtomicInteger();
+        arrivals = new CopyOnWriteArrayList<>();
+        rateLimited = new CountDownLatch(1);
+        backend = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        backend.setExecutor(Executors.newCachedThreadPool());
+        backend.createContext("/code", exchange -> {
+            arrivals.add(System.nanoTime());
+            // Only the first request is rate limited
+            boolean limited = requestCount.incrementAndGet() == 1;
+            byte[] body = (limited ? "busy" : "ok").getBytes(StandardCharsets.UTF_8);
+            if (limited) {
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(RETRY_AFTER_MILLIS / 1000));
+            }
+            exchange.sendResponseHeaders(limited ? 429 : 200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+            if (limited) {
+                rateLimited.countDown();
+            }
+        });
+        backend.start();
+    }
+
+    @AfterMethod
+    public void stopBackend() {
+        backend.stop(0);
+    }
+
+    @Test
+    public void testRateLimitPausesAllRequests() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<HttpResponse<String>> limited = executorService.submit(this::send);
+            Assert.assertTrue(rateLimited.await(10, TimeUnit.SECONDS));
+            // Give the client time to read the rejected response before another channel sends a request
+            Thread.sleep(200);
+            Future<HttpResponse<String>> other = executorService.submit(this::send);
+
+            Assert.assertEquals(limited.get().statusCode(), 200);
+            Assert.assertEquals(limited.get().body(), "ok");
+            Assert.assertEquals(other.get().statusCode(), 200);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertEquals(requestCount.get(), 3);
+        long pausedFor = TimeUnit.NANOSECONDS.toMillis(Math.min(arrivals.get(1), arrivals.get(2)) - arrivals.get(0));
+        Assert.assertTrue(pausedFor >= RETRY_AFTER_MILLIS - 100, "Paused for " + pausedFor + "ms");
+    }
+
+    private HttpResponse<String> send() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://" + backend.getAddress().getHostString() + ":" +
+                        backend.getAddress().getPort() + "/code"))
+                .GET()
+                .build();
+        return HttpUtils.send(request, HttpResponse.BodyHandlers.ofString(), logger, "test.xml");
+    }
+}
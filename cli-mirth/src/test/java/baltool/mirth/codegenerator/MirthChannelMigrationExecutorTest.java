@@ -0,0 +1,136 @@
+package baltool.mirth.codegenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Tests the batch migration of a directory of Mirth channels.
+ */
+public class MirthChannelMigrationExecutorTest {
+
+    private final VerboseLoggerFactory loggerFactory = VerboseLoggerFactory.getInstance(false);
+    private final VerboseLogger logger = new VerboseLogger(false);
+    private Path channelDirectory;
+
+    @BeforeMethod
+    public void createChannelDirectory() throws IOException {
+        channelDirectory = Files.createTempDirectory("mirth-channels");
+    }
+
+    @AfterMethod
+    public void deleteChannelDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(channelDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testFindsOnlyChannelExports() throws IOException {
+        Path first = writeChannel("b_channel.xml");
+        Path second = writeChannel("a_channel.XML");
+        Files.writeString(channelDirectory.resolve("codeTemplates.xml"),
+                "<list><codeTemplateLibrary version=\"4.5.0\"/></list>");
+        Files.writeString(channelDirectory.resolve("broken.xml"), "<channel");
+        Files.writeString(channelDirectory.resolve("notes.txt"), "<channel/>");
+        Files.createDirectories(channelDirectory.resolve("backup"));
+        Files.writeString(channelDirectory.resolve("backup").resolve("old_channel.xml"), channelXml());
+
+        List<Path> channelFiles = MirthChannelMigrationExecutor.findChannelFiles(channelDirectory, logger);
+
+        Assert.assertEquals(channelFiles, List.of(second, first));
+    }
+
+    @Test
+    public void testChannelsMigratedOnBoundedPool() throws Exception {
+        List<Path> channelFiles = writeChannels(8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<String> migrated = ConcurrentHashMap.newKeySet();
+
+        int failed = MirthChannelMigrationExecutor.processMirthChannels(channelFiles, 3, Duration.ofMinutes(1),
+                loggerFactory, MetricsWriter.NONE, logger, (channelFile, fileName) -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        sleep(Duration.ofMillis(50));
+                        if (fileName.equals("channel_5.xml")) {
+                            throw new IllegalStateException("generation failed");
+                        }
+                        migrated.add(fileName);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+
+        Assert.assertEquals(failed, 1);
+        Assert.assertEquals(migrated.size(), 7);
+        Assert.assertFalse(migrated.contains("channel_5.xml"));
+        Assert.assertTrue(maxInFlight.get() <= 3, "Max in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    public void testTimedOutChannelIsCancelled() throws Exception {
+        List<Path> channelFiles = writeChannels(2);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Set<String> migrated = ConcurrentHashMap.newKeySet();
+
+        // A single worker, so the second channel only runs once the first one has been cancelled
+        int failed = MirthChannelMigrationExecutor.processMirthChannels(channelFiles, 1, Duration.ofMillis(200),
+                loggerFactory, MetricsWriter.NONE, logger, (channelFile, fileName) -> {
+                    if (fileName.equals("channel_0.xml")) {
+                        try {
+                            Thread.sleep(Duration.ofMinutes(1).toMillis());
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("cancelled", e);
+                        }
+                    }
+                    migrated.add(fileName);
+                });
+
+        Assert.assertEquals(failed, 1);
+        Assert.assertEquals(interrupted.getCount(), 0L, "The timed out channel should be interrupted");
+        Assert.assertEquals(migrated, Set.of("channel_1.xml"));
+    }
+
+    private List<Path> writeChannels(int count) throws IOException {
+        List<Path> channelFiles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            channelFiles.add(writeChannel("channel_" + i + ".xml"));
+        }
+        return channelFiles;
+    }
+
+    private Path writeChannel(String fileName) throws IOException {
+        return Files.writeString(channelDirectory.resolve(fileName), channelXml());
+    }
+
+    private static String channelXml() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<channel version=\"4.5.0\"><name>demo</name></channel>\n";
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -17,11 +17,15 @@
  */
 package baltool.mule.commands;
 
+import common.FormattingMode;
+import common.daemon.MigrationDaemon;
 import io.ballerina.cli.BLauncherCmd;
 import mule.MuleMigrator;
 import picocli.CommandLine;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
 
 /**
  * This class represents the "migrate-mule" bal tool command.
@@ -38,7 +42,9 @@ public class MigrateMuleCommand implements BLauncherCmd {
     private static final String USAGE = "bal migrate-mule <source-project/s-directory-or-file> " +
             "[-o|--out <output-directory>] [-f|--force-version <3|4>]" +
             "[-v|--verbose] [-k|--keep-structure] [-d|--dry-run] [-m|--multi-root] " +
-            "[-g|--org-name <organization-name>] [-p|--project-name <project-name>]";
+            "[-g|--org-name <organization-name>] [-p|--project-name <project-name>] [--format <none|fast|full>] " +
+            "[--metrics-out <file>] [--assess] [--stream-db-results] [--parallel-foreach] " +
+            "[--daemon [--daemon-socket <path>]]";
 
     public MigrateMuleCommand() {
         errStream = System.err;
@@ -79,14 +85,68 @@ public class MigrateMuleCommand implements BLauncherCmd {
             description = "Project name for the generating Ballerina package")
     private String projectName;
 
+    @CommandLine.Option(names = {"--format"},
+            description = "Formatting applied to the generated code: none, fast or full", defaultValue = "full")
+    private String format;
+
+    @CommandLine.Option(names = {"--metrics-out"},
+            description = "Stream per-file and per-project metrics to the file as newline-delimited JSON")
+    private String metricsOut;
+
+    @CommandLine.Option(names = {"--assess"},
+            description = "Only assess the projects and write the reports, with an estimated line count, "
+                    + "without generating code", defaultValue = "false")
+    private boolean assess;
+
+    @CommandLine.Option(names = {"--stream-db-results"},
+            description = "Stream the rows of a database select into a following for-each even when the select "
+                    + "result is left as the payload at the end of the flow", defaultValue = "false")
+    private boolean streamDbResults;
+
+    @CommandLine.Option(names = {"--parallel-foreach"},
+            description = "Run the iterations of a for-each concurrently when they do not write any shared variable",
+            defaultValue = "false")
+    private boolean parallelForeach;
+
+    @CommandLine.Option(names = {"--daemon"},
+            description = "Keep running and serve migration requests as JSON-RPC over stdio", defaultValue = "false")
+    private boolean daemon;
+
+    @CommandLine.Option(names = {"--daemon-socket"},
+            description = "Serve the daemon over the Unix domain socket at this path instead of stdio")
+    private String daemonSocket;
+
     @Override
     public void execute() {
+        if (daemon || daemonSocket != null) {
+            runDaemon();
+            return;
+        }
         if (sourcePath == null) {
             errStream.println("Error: mule project directory or mule xml file path is required.");
             onInvalidInput();
         }
-        MuleMigrator.migrateAndExportMuleSource(sourcePath, outputPath, orgName, projectName, muleVersion, dryRun,
-                verbose, keepStructure, multiRoot);
+        FormattingMode formattingMode = null;
+        try {
+            formattingMode = FormattingMode.fromString(format);
+        } catch (IllegalArgumentException e) {
+            errStream.println("Error: " + e.getMessage());
+            onInvalidInput();
+        }
+        MuleMigrator.migrateAndExportMuleSource(sourcePath, outputPath, MuleMigrator.MigrationOptions.builder()
+                .orgName(orgName).projectName(projectName).muleVersion(muleVersion).dryRun(dryRun).verbose(verbose)
+                .keepStructure(keepStructure).multiRoot(multiRoot).formattingMode(formattingMode)
+                .metricsOut(metricsOut != null ? Path.of(metricsOut) : null).assess(assess)
+                .streamDbResults(streamDbResults).parallelForeach(parallelForeach).build());
+    }
+
+    private void runDaemon() {
+        try {
+            MigrationDaemon.run("mule", MuleMigrator::migrateMule, daemonSocket != null ? Path.of(daemonSocket) : null);
+        } catch (IOException e) {
+            errStream.println("Error: migration daemon stopped: " + e.getMessage());
+            System.exit(1);
+        }
     }
 
     private void onInvalidInput() {
@@ -115,6 +175,20 @@ public class MigrateMuleCommand implements BLauncherCmd {
                 " all of them\n");
         stringBuilder.append("  --org-name, -g           Organization name for the generated Ballerina package\n");
         stringBuilder.append("  --project-name, -p       Project name for the generated Ballerina package\n");
+        stringBuilder.append("  --format                 Formatting applied to the generated code: none, fast or full" +
+                " (default: full)\n");
+        stringBuilder.append("  --metrics-out            Stream per-file and per-project metrics to the given file as" +
+                " newline-delimited JSON\n");
+        stringBuilder.append("  --assess                 Only parse the projects and write the reports, estimating" +
+                " the generated line count\n");
+        stringBuilder.append("  --stream-db-results      Stream the rows of a database select into a following" +
+                " for-each even when the select result is left as the payload at the end of the flow\n");
+        stringBuilder.append("  --parallel-foreach       Run the iterations of a for-each concurrently when they do" +
+                " not write any shared variable\n");
+        stringBuilder.append("  --daemon                 Keep running and serve migration requests as JSON-RPC over" +
+                " stdio\n");
+        stringBuilder.append("  --daemon-socket          Serve the daemon over the given Unix domain socket instead" +
+                " of stdio\n");
     }
 
     @Override
@@ -133,6 +207,11 @@ public class MigrateMuleCommand implements BLauncherCmd {
         stringBuilder.append("  bal migrate-mule /path/to/mule-projects-directory --multi-root --dry-run\n");
         stringBuilder.append("  bal migrate-mule /path/to/mule-project --force-version 3\n");
         stringBuilder.append("  bal migrate-mule /path/to/mule-project --force-version 4\n");
+        stringBuilder.append("  bal migrate-mule /path/to/mule-projects-directory --multi-root --format fast\n");
+        stringBuilder.append("  bal migrate-mule /path/to/mule-projects-directory --multi-root " +
+                "--metrics-out metrics.ndjson\n");
+        stringBuilder.append("  bal migrate-mule /path/to/mule-projects-directory --multi-root --assess\n");
+        stringBuilder.append("  bal migrate-mule --daemon-socket /tmp/mule-migration.sock\n");
     }
 
     @Override
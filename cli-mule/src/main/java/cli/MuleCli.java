@@ -17,9 +17,13 @@
  */
 package cli;
 
+import common.FormattingMode;
+import common.daemon.MigrationDaemon;
 import mule.MuleMigrator;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 public class MuleCli {
@@ -40,6 +44,13 @@ public class MuleCli {
         boolean verbose = false;
         boolean keepStructure = false;
         boolean multiRoot = false;
+        FormattingMode formattingMode = FormattingMode.defaultMode();
+        Path metricsOut = null;
+        boolean assess = false;
+        boolean streamDbResults = false;
+        boolean parallelForeach = false;
+        boolean daemon = false;
+        Path daemonSocket = null;
 
         for (int i = 0; i < args.length; i++) {
             String arg = args[i];
@@ -101,6 +112,45 @@ public class MuleCli {
                     }
                     projectName = args[++i];
                     break;
+                case "--format":
+                    if (i + 1 >= args.length) {
+                        logger.severe("Error: --format requires an argument (none, fast or full)");
+                        printUsageAndExit();
+                    }
+                    try {
+                        formattingMode = FormattingMode.fromString(args[++i]);
+                    } catch (IllegalArgumentException e) {
+                        logger.severe("Error: " + e.getMessage());
+                        printUsageAndExit();
+                    }
+                    break;
+                case "--metrics-out":
+                    if (i + 1 >= args.length) {
+                        logger.severe("Error: --metrics-out requires an argument");
+                        printUsageAndExit();
+                    }
+                    metricsOut = Path.of(args[++i]);
+                    break;
+                case "--assess":
+                    assess = true;
+                    break;
+                case "--stream-db-results":
+                    streamDbResults = true;
+                    break;
+                case "--parallel-foreach":
+                    parallelForeach = true;
+                    break;
+                case "--daemon":
+                    daemon = true;
+                    break;
+                case "--daemon-socket":
+                    if (i + 1 >= args.length) {
+                        logger.severe("Error: --daemon-socket requires an argument");
+                        printUsageAndExit();
+                    }
+                    daemon = true;
+                    daemonSocket = Path.of(args[++i]);
+                    break;
                 default:
                     if (arg.startsWith("-")) {
                         logger.severe("Error: Unknown option: " + arg);
@@ -117,13 +167,30 @@ public class MuleCli {
             }
         }
 
+        if (daemon) {
+            runDaemon(daemonSocket);
+            return;
+        }
+
         if (inputPathArg == null) {
             logger.severe("Error: mule project directory or mule xml file path is required");
             printUsageAndExit();
         }
 
-        MuleMigrator.migrateAndExportMuleSource(inputPathArg, outputPathArg, orgName, projectName, muleVersion,
-                dryRun, verbose, keepStructure, multiRoot);
+        MuleMigrator.migrateAndExportMuleSource(inputPathArg, outputPathArg, MuleMigrator.MigrationOptions.builder()
+                .orgName(orgName).projectName(projectName).muleVersion(muleVersion).dryRun(dryRun).verbose(verbose)
+                .keepStructure(keepStructure).multiRoot(multiRoot).formattingMode(formattingMode)
+                .metricsOut(metricsOut).assess(assess).streamDbResults(streamDbResults)
+                .parallelForeach(parallelForeach).build());
+    }
+
+    private static void runDaemon(Path socketPath) {
+        try {
+            MigrationDaemon.run("mule", MuleMigrator::migrateMule, socketPath);
+        } catch (IOException e) {
+            logger.severe("Error: migration daemon stopped: " + e.getMessage());
+            System.exit(1);
+        }
     }
 
     private static void printUsageAndExit() {
@@ -131,7 +198,10 @@ public class MuleCli {
         err.println("Usage: java -jar mule-migration-assistant.jar <source-project-directory-or-file> " +
                 "[-o|--out <output-directory>] [-f|--force-version <3|4>] [-v|--verbose] " +
                 "[-k|--keep-structure] [-d|--dry-run] [-m|--multi-root] " +
-                "[-g|--org-name <organization-name>] [-p|--project-name <project-name>]");
+                "[-g|--org-name <organization-name>] [-p|--project-name <project-name>] " +
+                "[--format <none|fast|full>] [--metrics-out <file>] [--assess] [--stream-db-results] " +
+                "[--parallel-foreach]");
+        err.println("       java -jar mule-migration-assistant.jar --daemon [--daemon-socket <path>]");
         err.println();
         err.println("Options:");
         err.println("  -o, --out <path>              Output directory path");
@@ -143,6 +213,17 @@ public class MuleCli {
                 "convert all of them");
         err.println("  -g, --org-name <name>         Organization name for the generated Ballerina package");
         err.println("  -p, --project-name <name>     Project name for the generated Ballerina package");
+        err.println("  --format <none|fast|full>     Formatting applied to the generated code (default: full)");
+        err.println("  --metrics-out <file>          Stream per-file and per-project metrics to the file as " +
+                "newline-delimited JSON");
+        err.println("  --assess                      Only parse the projects and write the reports, estimating the " +
+                "generated line count");
+        err.println("  --stream-db-results           Stream the rows of a database select into a following for-each " +
+                "even when the select result is left as the payload at the end of the flow");
+        err.println("  --parallel-foreach            Run the iterations of a for-each concurrently when they do not " +
+                "write any shared variable");
+        err.println("  --daemon                      Keep running and serve migration requests as JSON-RPC over stdio");
+        err.println("  --daemon-socket <path>        Serve the daemon over a Unix domain socket instead of stdio");
         err.println();
         err.println("Examples:");
         err.println("  java -jar mule-migration-assistant.jar /path/to/mule-project");
@@ -153,6 +234,8 @@ public class MuleCli {
         err.println("  java -jar mule-migration-assistant.jar /path/to/mule-project --verbose");
         err.println("  java -jar mule-migration-assistant.jar /path/to/mule-project --force-version 3");
         err.println("  java -jar mule-migration-assistant.jar /path/to/mule-projects-directory --multi-root");
+        err.println("  java -jar mule-migration-assistant.jar /path/to/mule-projects-directory --multi-root --assess");
+        err.println("  java -jar mule-migration-assistant.jar --daemon-socket /tmp/mule-migration.sock");
         err.println("  java -jar mule-migration-assistant.jar /path/to/mule-project --org-name myorg " +
                 "--project-name myproject");
         System.exit(1);
@@ -22,6 +22,7 @@ import picocli.CommandLine;
 import synapse.converter.SynapseConverter;
 
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -37,7 +38,8 @@ public class MigrateSynapseCommand implements BLauncherCmd {
     private static final String CMD_NAME = "migrate-synapse";
     private static final String USAGE = "bal migrate-synapse <source-project-directory-or-file> " +
             "[-o|--out <output-directory>] [-k|--keep-structure] [-v|--verbose] [-d|--dry-run] " +
-            "[-m|--multi-root] [-g|--org-name <organization-name>] [-p|--project-name <project-name>]";
+            "[-m|--multi-root] [-j|--jobs <count>] [-g|--org-name <organization-name>] " +
+            "[-p|--project-name <project-name>] [--metrics-out <file>]";
 
     public MigrateSynapseCommand() {
         errStream = System.err;
@@ -65,6 +67,10 @@ public class MigrateSynapseCommand implements BLauncherCmd {
             defaultValue = "false")
     private boolean multiRoot;
 
+    @CommandLine.Option(names = {"--jobs", "-j"},
+            description = "Maximum number of artifacts converted in parallel", defaultValue = "1")
+    private int jobs;
+
     @CommandLine.Option(names = {"--org-name",
             "-g"}, description = "Organization name for the generated Ballerina package")
     private String orgName;
@@ -73,20 +79,27 @@ public class MigrateSynapseCommand implements BLauncherCmd {
             "-p"}, description = "Project name for the generated Ballerina package")
     private String projectName;
 
+    @CommandLine.Option(names = {"--metrics-out"},
+            description = "Write per-artifact and per-project metrics as newline-delimited JSON to this file")
+    private String metricsOut;
+
     @Override
     public void execute() {
         if (sourcePath == null) {
             errStream.println("Error: Source WSO2 Synapse project directory or artifact file path is required.");
             onInvalidInput();
         }
+        if (jobs < 1) {
+            errStream.println("Error: --jobs must be positive.");
+            onInvalidInput();
+        }
         SynapseConverter.migrateSynapse(sourcePath, outputPath, keepStructure, verbose, dryRun, multiRoot,
-                Optional.ofNullable(orgName), Optional.ofNullable(projectName));
+                Optional.ofNullable(orgName), Optional.ofNullable(projectName),
+                Optional.ofNullable(metricsOut).map(Path::of), jobs);
     }
 
     private void onInvalidInput() {
-        errStream.println("Usage: bal migrate-synapse <source-project-directory-or-file> " +
-                "[-o|--out <output-directory>] [-k|--keep-structure] [-v|--verbose] [-d|--dry-run] [-m|--multi-root] " +
-                "[-g|--org-name <organization-name>] [-p|--project-name <project-name>]");
+        errStream.println("Usage: " + USAGE);
         System.exit(1);
     }
 
@@ -108,8 +121,12 @@ public class MigrateSynapseCommand implements BLauncherCmd {
         stringBuilder.append(
                 "  --multi-root, -m         " +
                         "Treat each child directory as a separate project and convert all of them\n");
+        stringBuilder.append("  --jobs, -j               Maximum number of artifacts converted in parallel " +
+                "(default: 1)\n");
         stringBuilder.append("  --org-name, -g           Organization name for the generated Ballerina package\n");
         stringBuilder.append("  --project-name, -p       Project name for the generated Ballerina package\n");
+        stringBuilder.append("                           In multi-root mode, prefixed to the name of each child project\n");
+        stringBuilder.append("  --metrics-out <file>     Write per-artifact and per-project metrics as NDJSON\n");
     }
 
     @Override
@@ -130,6 +147,8 @@ public class MigrateSynapseCommand implements BLauncherCmd {
         stringBuilder.append("  bal migrate-synapse /path/to/proxy-service.xml -v -d\n");
         stringBuilder.append("  bal migrate-synapse /path/to/projects-directory --multi-root --dry-run\n");
         stringBuilder.append("  bal migrate-synapse /path/to/projects-directory -m -d\n");
+        stringBuilder.append("  bal migrate-synapse /path/to/projects-directory --multi-root --jobs 8\n");
+        stringBuilder.append("  bal migrate-synapse /path/to/synapse-project --metrics-out /path/to/metrics.ndjson\n");
     }
 
     @Override
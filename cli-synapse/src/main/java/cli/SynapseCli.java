@@ -21,6 +21,7 @@ package cli;
 import synapse.converter.SynapseConverter;
 
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -37,10 +38,12 @@ public class SynapseCli {
         String outputPathArg = null;
         String orgName = null;
         String projectName = null;
+        String metricsOut = null;
         boolean dryRun = false;
         boolean verbose = false;
         boolean keepStructure = false;
         boolean multiRoot = false;
+        int jobs = 1;
 
         for (int i = 0; i < args.length; i++) {
             String arg = args[i];
@@ -73,6 +76,25 @@ public class SynapseCli {
                     }
                     projectName = args[++i];
                     break;
+                case "--metrics-out":
+                    if (i + 1 >= args.length) {
+                        logger.severe("Error: --metrics-out requires an argument");
+                        printUsageAndExit();
+                    }
+                    metricsOut = args[++i];
+                    break;
+                case "-m":
+                case "--multi-root":
+                    multiRoot = true;
+                    break;
+                case "-j":
+                case "--jobs":
+                    if (i + 1 >= args.length) {
+                        logger.severe("Error: --jobs requires an argument");
+                        printUsageAndExit();
+                    }
+                    jobs = parseJobs(args[++i]);
+                    break;
                 // TODO: the following options are accepted for parity with the `bal migrate-synapse`
                 //  command and the Mule CLI, but are not yet honoured by the Synapse converter.
                 //  Implement their behaviour and forward the values to SynapseConverter.migrateSynapse(...).
@@ -84,10 +106,6 @@ public class SynapseCli {
                 case "--keep-structure":
                     keepStructure = true;
                     break;
-                case "-m":
-                case "--multi-root":
-                    multiRoot = true;
-                    break;
                 default:
                     if (arg.startsWith("-")) {
                         logger.severe("Error: Unknown option: " + arg);
@@ -110,25 +128,44 @@ public class SynapseCli {
         }
 
         SynapseConverter.migrateSynapse(inputPathArg, outputPathArg, keepStructure, verbose, dryRun, multiRoot,
-                Optional.ofNullable(orgName), Optional.ofNullable(projectName));
+                Optional.ofNullable(orgName), Optional.ofNullable(projectName),
+                Optional.ofNullable(metricsOut).map(Path::of), jobs);
+    }
+
+    private static int parseJobs(String value) {
+        try {
+            int jobs = Integer.parseInt(value);
+            if (jobs >= 1) {
+                return jobs;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        logger.severe("Error: --jobs must be a positive integer: " + value);
+        printUsageAndExit();
+        return 1;
     }
 
     private static void printUsageAndExit() {
         PrintStream err = System.err;
         err.println("Usage: java -jar synapse-migration-assistant.jar <source-project-directory-or-file> " +
                 "[-o|--out <output-directory>] [-d|--dry-run] " +
-                "[-g|--org-name <organization-name>] [-p|--project-name <project-name>]");
+                "[-g|--org-name <organization-name>] [-p|--project-name <project-name>] [-m|--multi-root] " +
+                "[-j|--jobs <count>] [--metrics-out <file>]");
         err.println();
         err.println("Options:");
         err.println("  -o, --out <path>              Output directory path");
         err.println("  -d, --dry-run                 Simulate the conversion without generating output files");
         err.println("  -g, --org-name <name>         Organization name for the generated Ballerina package");
         err.println("  -p, --project-name <name>     Project name for the generated Ballerina package");
+        err.println("                                In multi-root mode, prefixed to the name of each child project");
+        err.println("  -m, --multi-root              Treat each child directory as a separate project");
+        err.println("  -j, --jobs <count>            Convert up to <count> artifacts in parallel (default: 1)");
+        err.println("  --metrics-out <file>          Write per-artifact and per-project metrics as NDJSON");
         err.println();
         err.println("Not supported yet:");
         err.println("  -v, --verbose                 Enable verbose output during conversion");
         err.println("  -k, --keep-structure          Keep Synapse project structure");
-        err.println("  -m, --multi-root              Treat each child directory as a separate project");
         err.println();
         err.println("Examples:");
         err.println("  java -jar synapse-migration-assistant.jar /path/to/synapse-artifact.xml");
@@ -136,6 +173,9 @@ public class SynapseCli {
         err.println("  java -jar synapse-migration-assistant.jar /path/to/synapse-artifact.xml --dry-run");
         err.println("  java -jar synapse-migration-assistant.jar /path/to/synapse-artifact.xml --org-name myorg " +
                 "--project-name myproject");
+        err.println("  java -jar synapse-migration-assistant.jar /path/to/synapse-project " +
+                "--metrics-out /path/to/metrics.ndjson");
+        err.println("  java -jar synapse-migration-assistant.jar /path/to/projects-directory --multi-root --jobs 8");
         System.exit(1);
     }
 }
@@ -18,6 +18,7 @@
 
 package synapse.converter;
 
+import org.testng.Assert;
 import org.testng.SkipException;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -25,8 +26,11 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Converts each Synapse artifact under {@code src/test/resources/synapse/<Name>} and compares the
@@ -66,6 +70,136 @@ public class SynapseProjectConversionTest {
         }
     }
 
+    @Test(dataProvider = "projectTestCaseProvider")
+    public void testParallelConversionMatchesSequential(Path synapseProject, Path expectedBallerinaProject)
+            throws IOException {
+        Path sequentialDir = Files.createTempDirectory("synapse-sequential-test");
+        Path parallelDir = Files.createTempDirectory("synapse-parallel-test");
+        try {
+            String projectName = expectedBallerinaProject.getFileName().toString();
+            SynapseConverter.migrateSynapse(synapseProject.toString(), sequentialDir.toString(), false, false, false,
+                    false, Optional.of("testOrg"), Optional.of(projectName), Optional.empty(), 1);
+            SynapseConverter.migrateSynapse(synapseProject.toString(), parallelDir.toString(), false, false, false,
+                    false, Optional.of("testOrg"), Optional.of(projectName), Optional.empty(), 4);
+
+            assertSameFiles(parallelDir, sequentialDir);
+        } catch (UnsupportedOperationException e) {
+            throw new SkipException("Synapse converter not implemented yet: " + e.getMessage());
+        } finally {
+            TestUtils.deleteDirectory(sequentialDir);
+            TestUtils.deleteDirectory(parallelDir);
+        }
+    }
+
+    @Test
+    public void testMultiRootContinuesAfterFailingProject() throws IOException {
+        Path sourceDir = Files.createTempDirectory("synapse-multi-root-input");
+        Path tempDir = Files.createTempDirectory("synapse-multi-root-test");
+        try {
+            copyDirectory(SYNAPSE_DIR.resolve("sequence1"), sourceDir.resolve("sequence1"));
+            copyDirectory(SYNAPSE_DIR.resolve("sequence2"), sourceDir.resolve("sequence2"));
+            Files.createDirectories(sourceDir.resolve("broken"));
+            Files.writeString(sourceDir.resolve("broken").resolve("broken.xml"), "<sequence name=\"broken\"");
+
+            RuntimeException error = Assert.expectThrows(RuntimeException.class, () ->
+                    SynapseConverter.migrateSynapse(sourceDir.toString(), tempDir.toString(), false, false, false,
+                            true, Optional.of("testOrg"), Optional.empty(), Optional.empty(), 2));
+
+            Assert.assertTrue(error.getMessage().startsWith("Failed to migrate 1 of 3 projects:"),
+                    error.getMessage());
+            Assert.assertTrue(error.getMessage().contains("broken: "), error.getMessage());
+            Assert.assertFalse(Files.exists(tempDir.resolve("broken_converted").resolve("main.bal")));
+            assertSameFiles(tempDir.resolve("sequence1_converted"), BALLERINA_DIR.resolve("sequence1"));
+            assertSameFiles(tempDir.resolve("sequence2_converted"), BALLERINA_DIR.resolve("sequence2"));
+        } finally {
+            TestUtils.deleteDirectory(sourceDir);
+            TestUtils.deleteDirectory(tempDir);
+        }
+    }
+
+    @Test
+    public void testMultiRootPrefixesProjectName() throws IOException {
+        Path sourceDir = Files.createTempDirectory("synapse-multi-root-input");
+        Path tempDir = Files.createTempDirectory("synapse-multi-root-test");
+        try {
+            copyDirectory(SYNAPSE_DIR.resolve("sequence1"), sourceDir.resolve("sequence1"));
+            copyDirectory(SYNAPSE_DIR.resolve("sequence2"), sourceDir.resolve("sequence2"));
+
+            SynapseConverter.migrateSynapse(sourceDir.toString(), tempDir.toString(), false, false, false, true,
+                    Optional.of("testOrg"), Optional.of("estate"));
+
+            for (String child : List.of("sequence1", "sequence2")) {
+                Path ballerinaTomlPath = tempDir.resolve(child + "_converted").resolve("Ballerina.toml");
+                String ballerinaToml = Files.readString(ballerinaTomlPath);
+                Assert.assertTrue(ballerinaToml.contains("name = \"estate_" + child + "\""), ballerinaToml);
+            }
+        } finally {
+            TestUtils.deleteDirectory(sourceDir);
+            TestUtils.deleteDirectory(tempDir);
+        }
+    }
+
+    @Test(dataProvider = "archiveLayoutProvider")
+    public void testArchiveConversion(boolean topLevelDirectory) throws IOException {
+        Path synapseProject = SYNAPSE_DIR.resolve("sequence2");
+        Path archiveDir = Files.createTempDirectory("synapse-archive-input");
+        Path tempDir = Files.createTempDirectory("synapse-archive-test");
+        try {
+            Path archive = archiveDir.resolve("sequence2.zip");
+            zipProject(synapseProject, archive, topLevelDirectory ? "sequence2/" : "");
+
+            SynapseConverter.migrateSynapse(archive.toString(), tempDir.toString(), false, false, false, false,
+                    Optional.of("testOrg"), Optional.of("sequence2"));
+
+            TestUtils.compareDirectories(tempDir, BALLERINA_DIR.resolve("sequence2"));
+        } finally {
+            TestUtils.deleteDirectory(archiveDir);
+            TestUtils.deleteDirectory(tempDir);
+        }
+    }
+
+    @DataProvider
+    public Object[][] archiveLayoutProvider() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    private static void zipProject(Path projectDir, Path archive, String entryPrefix) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive));
+             Stream<Path> files = Files.walk(projectDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                zip.putNextEntry(new ZipEntry(entryPrefix + projectDir.relativize(file).toString().replace('\\', '/')));
+                Files.copy(file, zip);
+                zip.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Asserts that both directories hold the same files with byte-identical content. Unlike
+     * {@link TestUtils#compareDirectories}, this never updates the expected files.
+     */
+    private static void assertSameFiles(Path actual, Path expected) throws IOException {
+        Assert.assertEquals(listFiles(actual), listFiles(expected));
+        for (Path relativePath : listFiles(expected)) {
+            Assert.assertEquals(Files.mismatch(actual.resolve(relativePath), expected.resolve(relativePath)), -1L,
+                    "Content differs: " + relativePath);
+        }
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).map(dir::relativize).sorted().toList();
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : files.toList()) {
+                Files.copy(file, target.resolve(source.relativize(file).toString()));
+            }
+        }
+    }
+
     @DataProvider
     public Object[][] projectTestCaseProvider() throws IOException {
         try (Stream<Path> dirs = Files.list(SYNAPSE_DIR)) {
@@ -17,12 +17,16 @@
  */
 package baltool.tibco.commands;
 
+import common.FormattingMode;
+import common.daemon.MigrationDaemon;
 import io.ballerina.cli.BLauncherCmd;
 import picocli.CommandLine;
+import tibco.TibcoToBalConverter;
 import tibco.converter.TibcoConverter;
 
+import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Optional;
+import java.nio.file.Path;
 
 /**
  * This class represents the "migrate-tibco" bal tool command.
@@ -37,7 +41,9 @@ public class MigrateTibcoCommand implements BLauncherCmd {
     private static final String CMD_NAME = "migrate-tibco";
     private static final String USAGE = "bal migrate-tibco <source-project-directory-or-file> " +
             "[-o|--out <output-directory>] [-k|--keep-structure] [-v|--verbose] [-d|--dry-run] " +
-                    "[-m|--multi-root] [-g|--org-name <organization-name>] [-p|--project-name <project-name>]";
+                    "[-m|--multi-root] [-g|--org-name <organization-name>] [-p|--project-name <project-name>] " +
+                    "[--format <none|fast|full>] [--metrics-out <file>] [--assess] " +
+                    "[--daemon [--daemon-socket <path>]]";
 
     public MigrateTibcoCommand() {
         errStream = System.err;
@@ -73,20 +79,66 @@ public class MigrateTibcoCommand implements BLauncherCmd {
             "-p" }, description = "Project name for the generated Ballerina package")
     private String projectName;
 
+    @CommandLine.Option(names = { "--format" },
+            description = "Formatting applied to the generated code: none, fast or full", defaultValue = "full")
+    private String format;
+
+    @CommandLine.Option(names = { "--metrics-out" },
+            description = "Stream per-file and per-project metrics to the file as newline-delimited JSON")
+    private String metricsOut;
+
+    @CommandLine.Option(names = { "--assess" },
+            description = "Only assess the projects and write the reports, with an estimated line count, "
+                    + "without generating code", defaultValue = "false")
+    private boolean assess;
+
+    @CommandLine.Option(names = { "--daemon" },
+            description = "Keep running and serve migration requests as JSON-RPC over stdio", defaultValue = "false")
+    private boolean daemon;
+
+    @CommandLine.Option(names = { "--daemon-socket" },
+            description = "Serve the daemon over the Unix domain socket at this path instead of stdio")
+    private String daemonSocket;
+
     @Override
     public void execute() {
+        if (daemon || daemonSocket != null) {
+            runDaemon();
+            return;
+        }
         if (sourcePath == null) {
             errStream.println("Error: Source TIBCO BusinessWorks project directory or `.bwp` file path is required.");
             onInvalidInput();
         }
-        TibcoConverter.migrateTibco(sourcePath, outputPath, keepStructure, verbose, dryRun, multiRoot,
-                Optional.ofNullable(orgName), Optional.ofNullable(projectName));
+        FormattingMode formattingMode = null;
+        try {
+            formattingMode = FormattingMode.fromString(format);
+        } catch (IllegalArgumentException e) {
+            errStream.println("Error: " + e.getMessage());
+            onInvalidInput();
+        }
+        TibcoConverter.migrateTibco(sourcePath, outputPath, TibcoConverter.MigrationOptions.builder()
+                .orgName(orgName).projectName(projectName).keepStructure(keepStructure).verbose(verbose)
+                .dryRun(dryRun).multiRoot(multiRoot).formattingMode(formattingMode)
+                .metricsOut(metricsOut != null ? Path.of(metricsOut) : null).assess(assess).build());
+    }
+
+    private void runDaemon() {
+        try {
+            MigrationDaemon.run("tibco", TibcoToBalConverter::migrateTIBCO,
+                    daemonSocket != null ? Path.of(daemonSocket) : null);
+        } catch (IOException e) {
+            errStream.println("Error: migration daemon stopped: " + e.getMessage());
+            System.exit(1);
+        }
     }
 
     private void onInvalidInput() {
         errStream.println("Usage: bal migrate-tibco <source-project-directory-or-file> " +
                 "[-o|--out <output-directory>] [-k|--keep-structure] [-v|--verbose] [-d|--dry-run] [-m|--multi-root] " +
-                        "[-g|--org-name <organization-name>] [-p|--project-name <project-name>]");
+                        "[-g|--org-name <organization-name>] [-p|--project-name <project-name>] " +
+                        "[--format <none|fast|full>] [--metrics-out <file>] [--assess] " +
+                        "[--daemon [--daemon-socket <path>]]");
         System.exit(1);
     }
 
@@ -110,6 +162,16 @@ public class MigrateTibcoCommand implements BLauncherCmd {
                         "Treat each child directory as a separate project and convert all of them\n");
         stringBuilder.append("  --org-name, -g           Organization name for the generated Ballerina package\n");
         stringBuilder.append("  --project-name, -p       Project name for the generated Ballerina package\n");
+        stringBuilder.append("  --format                 " +
+                "Formatting applied to the generated code: none, fast or full (default: full)\n");
+        stringBuilder.append("  --metrics-out            " +
+                "Stream per-file and per-project metrics to the given file as newline-delimited JSON\n");
+        stringBuilder.append("  --assess                 " +
+                "Only parse the projects and write the reports, estimating the generated line count\n");
+        stringBuilder.append("  --daemon                 " +
+                "Keep running and serve migration requests as JSON-RPC over stdio\n");
+        stringBuilder.append("  --daemon-socket          " +
+                "Serve the daemon over the given Unix domain socket instead of stdio\n");
     }
 
     @Override
@@ -130,6 +192,10 @@ public class MigrateTibcoCommand implements BLauncherCmd {
         stringBuilder.append("  bal migrate-tibco /path/to/tibco_process.bwp -v -d\n");
         stringBuilder.append("  bal migrate-tibco /path/to/projects-directory --multi-root --dry-run\n");
         stringBuilder.append("  bal migrate-tibco /path/to/projects-directory -m -d\n");
+        stringBuilder.append("  bal migrate-tibco /path/to/projects-directory --multi-root --format fast\n");
+        stringBuilder.append("  bal migrate-tibco /path/to/projects-directory -m --metrics-out metrics.ndjson\n");
+        stringBuilder.append("  bal migrate-tibco /path/to/projects-directory --multi-root --assess\n");
+        stringBuilder.append("  bal migrate-tibco --daemon-socket /tmp/tibco-migration.sock\n");
     }
 
     @Override
@@ -18,38 +18,84 @@
 
 package cli;
 
+import common.daemon.MigrationDaemon;
+import tibco.TibcoToBalConverter;
 import tibco.converter.TibcoConverter;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public class TibcoCli {
 
+    private static final String USAGE =
+            "Usage: java -jar cli-tibco.jar <source_path> [-o|--out output_path] [--metrics-out metrics_file] " +
+                    "[--assess]\n       java -jar cli-tibco.jar --daemon [--daemon-socket socket_path]";
+
     public static void main(String[] args) {
 
         PrintStream errStream = System.err;
-        if (args.length < 1) {
-            errStream.println("Usage: java -jar cli-tibco.jar <source_path> [-o|--out output_path]");
+        // --metrics-out and --assess may appear anywhere; the remaining arguments keep their positional meaning
+        List<String> arguments = new ArrayList<>(List.of(args));
+        if (arguments.remove("--daemon")) {
+            runDaemon(errStream, null);
+            return;
+        }
+        int socketIndex = arguments.indexOf("--daemon-socket");
+        if (socketIndex >= 0) {
+            if (socketIndex + 1 >= arguments.size()) {
+                errStream.println("Socket path is required when using --daemon-socket option.");
+                System.exit(1);
+            }
+            runDaemon(errStream, Path.of(arguments.get(socketIndex + 1)));
+            return;
+        }
+        boolean assess = arguments.remove("--assess");
+        Optional<Path> metricsOut = Optional.empty();
+        int metricsIndex = arguments.indexOf("--metrics-out");
+        if (metricsIndex >= 0) {
+            if (metricsIndex + 1 >= arguments.size()) {
+                errStream.println("Metrics file path is required when using --metrics-out option.");
+                System.exit(1);
+            }
+            metricsOut = Optional.of(Path.of(arguments.get(metricsIndex + 1)));
+            arguments.subList(metricsIndex, metricsIndex + 2).clear();
+        }
+
+        if (arguments.size() < 1) {
+            errStream.println(USAGE);
             System.exit(1);
         }
-        String sourcePath = args[0];
-        if (args.length > 1) {
-            if (!args[1].equals("-o") && !args[1].equals("--out")) {
-                errStream.println("Invalid option: " + args[1]);
-                errStream.println("Usage: java -jar cli-tibco.jar <source_path> [-o|--out output_path]");
+        String sourcePath = arguments.get(0);
+        TibcoConverter.MigrationOptions options = TibcoConverter.MigrationOptions.builder().verbose(true)
+                .metricsOut(metricsOut.orElse(null)).assess(assess).build();
+        if (arguments.size() > 1) {
+            if (!arguments.get(1).equals("-o") && !arguments.get(1).equals("--out")) {
+                errStream.println("Invalid option: " + arguments.get(1));
+                errStream.println(USAGE);
                 System.exit(1);
             } else {
-                if (args.length < 3) {
+                if (arguments.size() < 3) {
                     errStream.println("Output path is required when using -o or --out option.");
                     System.exit(1);
                 }
-                String outputPath = args[2];
-                TibcoConverter.migrateTibco(sourcePath, outputPath, false, true, false, false,
-                        Optional.empty(), Optional.empty());
+                String outputPath = arguments.get(2);
+                TibcoConverter.migrateTibco(sourcePath, outputPath, options);
             }
         } else {
-            TibcoConverter.migrateTibco(sourcePath, null, false, true, false, false, 
-                    Optional.empty(), Optional.empty());
+            TibcoConverter.migrateTibco(sourcePath, null, options);
+        }
+    }
+
+    private static void runDaemon(PrintStream errStream, Path socketPath) {
+        try {
+            MigrationDaemon.run("tibco", TibcoToBalConverter::migrateTIBCO, socketPath);
+        } catch (IOException e) {
+            errStream.println("Migration daemon stopped: " + e.getMessage());
+            System.exit(1);
         }
     }
 }
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Reads migration sources straight out of zip based archives ({@code .zip}, {@code .jar} and {@code .ear}).
+ * <p>
+ * Archives are mounted as a zip {@link FileSystem}, so readers walk and parse the entries with the regular
+ * {@link Files} API without extracting anything to disk. Paths obtained from a mounted archive belong to that file
+ * system and must be resolved against it, e.g. with {@link Path#resolve(String)} or {@link FileSystem#getPath}, rather
+ * than with {@link Path#of}.
+ */
+public final class ArchiveUtils {
+
+    private static final Set<String> ARCHIVE_EXTENSIONS = Set.of(".zip", ".jar", ".ear");
+
+    private ArchiveUtils() {
+    }
+
+    /**
+     * Checks whether the given path is an archive that can be mounted with {@link #openArchive(Path)}.
+     *
+     * @param path path to check
+     * @return {@code true} if the path is a regular file with a supported archive extension
+     */
+    public static boolean isArchive(Path path) {
+        return Files.isRegularFile(path) && extensionIndex(path) >= 0;
+    }
+
+    /**
+     * Mounts the archive as a read-only file system. The caller must close the returned file system once the entries
+     * are no longer read.
+     *
+     * @param archive archive to mount
+     * @return file system backed by the archive
+     * @throws IOException if the archive cannot be opened
+     */
+    public static FileSystem openArchive(Path archive) throws IOException {
+        return FileSystems.newFileSystem(archive);
+    }
+
+    /**
+     * Finds the project directory inside a mounted archive. Archives created from a project directory usually wrap
+     * everything in a single top level directory, in which case that directory is the project root. Otherwise the root
+     * of the archive is. The archive root has neither a name nor a parent, so callers that derive paths from the name
+     * of the project directory should use {@link #archiveName(Path)} in its place.
+     *
+     * @param archive mounted archive
+     * @return project directory within the archive
+     * @throws IOException if the archive root cannot be listed
+     */
+    public static Path projectRoot(FileSystem archive) throws IOException {
+        Path root = archive.getRootDirectories().iterator().next();
+        List<Path> children;
+        try (Stream<Path> entries = Files.list(root)) {
+            children = entries.toList();
+        }
+        if (children.size() == 1 && Files.isDirectory(children.get(0))) {
+            return children.get(0);
+        }
+        return root;
+    }
+
+    /**
+     * Returns the file name of the archive without its extension, to be used as the project name.
+     *
+     * @param archive archive path
+     * @return archive name without the extension
+     */
+    public static String archiveName(Path archive) {
+        String fileName = archive.getFileName().toString();
+        int extensionIndex = extensionIndex(archive);
+        return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    }
+
+    private static int extensionIndex(Path path) {
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return -1;
+        }
+        String name = fileName.toString();
+        int dotIndex = name.lastIndexOf('.');
+        if (dotIndex < 0 || !ARCHIVE_EXTENSIONS.contains(name.substring(dotIndex).toLowerCase(Locale.ROOT))) {
+            return -1;
+        }
+        return dotIndex;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands messages to a background thread that writes them to the delegate, so verbose logging does not block the
+ * conversion on console output. Messages are written in the order they were logged. Pending messages are flushed by
+ * {@link #flush()} and when the JVM shuts down.
+ */
+public final class AsyncMigrationLogger implements MigrationLogger {
+
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private final MigrationLogger delegate;
+    private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+    public AsyncMigrationLogger(MigrationLogger delegate) {
+        this.delegate = delegate;
+        Thread appender = new Thread(this::append, "migration-log-appender");
+        appender.setDaemon(true);
+        appender.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "migration-log-flush"));
+    }
+
+    @Override
+    public boolean isEnabled(LoggingUtils.Level level) {
+        return delegate.isEnabled(level);
+    }
+
+    @Override
+    public void log(LoggingUtils.Level level, String message) {
+        if (isEnabled(level)) {
+            queue.add(() -> delegate.log(level, message));
+        }
+    }
+
+    /**
+     * Blocks until every message logged so far has been written, or a few seconds have passed.
+     */
+    public void flush() {
+        CountDownLatch flushed = new CountDownLatch(1);
+        queue.add(flushed::countDown);
+        try {
+            flushed.await(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void append() {
+        while (true) {
+            try {
+                queue.take().run();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // A failing handler must not stop the messages that follow
+            }
+        }
+    }
+}
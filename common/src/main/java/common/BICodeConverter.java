@@ -170,7 +170,8 @@ public final class BICodeConverter {
     private BallerinaModel.TextDocument fixImports(BallerinaModel.TextDocument doc) {
         // TODO: we can do this better by visiting tree and figure out types and
         //  function calls. But should be good enough for now
-        SyntaxTree st = new CodeGenerator(doc).generateSyntaxTree();
+        // Only the qualified names matter here, so skip formatting the document just to scan it
+        SyntaxTree st = new CodeGenerator(doc).generateUnformattedSyntaxTree();
         String content = st.toSourceCode();
         Pattern searchPattern = Pattern.compile("([a-zA-Z0-9]+):[a-zA-Z0-9]+");
 
@@ -320,11 +320,16 @@ public record BallerinaModel(DefaultPackage defaultPackage, List<Module> modules
     }
 
     public record ModuleVar(String name, String type, Optional<Expression> expr, boolean isConstant,
-                            boolean isConfigurable) {
+                            boolean isConfigurable, boolean isFinal) {
 
         public ModuleVar {
         }
 
+        public ModuleVar(String name, String type, Optional<Expression> expr, boolean isConstant,
+                         boolean isConfigurable) {
+            this(name, type, expr, isConstant, isConfigurable, false);
+        }
+
         public ModuleVar(String name, String type, Expression expr) {
             this(name, type, Optional.of(expr), false, false);
         }
@@ -345,6 +350,10 @@ public record BallerinaModel(DefaultPackage defaultPackage, List<Module> modules
             return new ModuleVar(name, typeDesc.toString(), Optional.of(new BallerinaExpression("?")), true, true);
         }
 
+        public static ModuleVar finalVar(String name, TypeDesc typeDesc, Expression expr) {
+            return new ModuleVar(name, typeDesc.toString(), Optional.of(expr), false, false, true);
+        }
+
         @Override
         public String toString() {
             StringBuilder sb = new StringBuilder();
@@ -352,6 +361,8 @@ public record BallerinaModel(DefaultPackage defaultPackage, List<Module> modules
                 sb.append("configurable ");
             } else if (isConstant) {
                 sb.append("const ");
+            } else if (isFinal) {
+                sb.append("final ");
             }
             sb.append(type).append(" ").append(name);
             expr.map(initExpr -> sb.append(" = ").append(initExpr));
@@ -70,6 +70,44 @@ public class CodeGenerator {
      * @return SyntaxTree
      */
     public SyntaxTree generateSyntaxTree() {
+        // The default mode skips the formatter when BAL_MIGRATE_SKIP_FORMATTING is set, which avoids running out of
+        // memory on huge projects
+        return generateSyntaxTree(FormattingMode.defaultMode());
+    }
+
+    /**
+     * Generates a syntax tree from IR TextDocument laid out according to the given formatting mode.
+     *
+     * @param formattingMode how the generated source should be laid out
+     * @return SyntaxTree
+     */
+    public SyntaxTree generateSyntaxTree(FormattingMode formattingMode) {
+        return formatSyntaxTree(generateUnformattedSyntaxTree(), formattingMode);
+    }
+
+    /**
+     * Generates the source code of the IR TextDocument laid out according to the given formatting mode. Prefer this
+     * over {@link #generateSyntaxTree(FormattingMode)} when only the text is needed, as it avoids re-parsing the
+     * output of the fast formatter.
+     *
+     * @param formattingMode how the generated source should be laid out
+     * @return source code
+     */
+    public String generateSource(FormattingMode formattingMode) {
+        SyntaxTree syntaxTree = generateUnformattedSyntaxTree();
+        return switch (formattingMode) {
+            case NONE -> syntaxTree.toSourceCode();
+            case FAST -> MinutiaeNormalizer.normalize(syntaxTree);
+            case FULL -> formatSyntaxTree(syntaxTree).toSourceCode();
+        };
+    }
+
+    /**
+     * Generates a syntax tree from IR TextDocument without running the formatter on it.
+     *
+     * @return SyntaxTree
+     */
+    public SyntaxTree generateUnformattedSyntaxTree() {
         List<ImportDeclarationNode> imports = new ArrayList<>();
         for (Import importDeclaration : textDocument.imports()) {
             ImportDeclarationNode importDeclarationNode =
@@ -197,12 +235,7 @@ public class CodeGenerator {
             eofLeadingMinutiae = parseLeadingMinutiae(comments);
         }
 
-        SyntaxTree syntaxTree = createSyntaxTree(importDecls, moduleMemberDecls, eofLeadingMinutiae);
-        // This is to a hack to avoid OOM when we give huge projects
-        if (System.getenv("BAL_MIGRATE_SKIP_FORMATTING") == null) {
-            syntaxTree = formatSyntaxTree(syntaxTree);
-        }
-        return syntaxTree;
+        return createSyntaxTree(importDecls, moduleMemberDecls, eofLeadingMinutiae);
     }
 
     private FunctionDefinitionNode genFunctionDefinitionNode(Function function) {
@@ -297,6 +330,14 @@ public class CodeGenerator {
         return syntaxTree;
     }
 
+    public static SyntaxTree formatSyntaxTree(SyntaxTree syntaxTree, FormattingMode formattingMode) {
+        return switch (formattingMode) {
+            case NONE -> syntaxTree;
+            case FAST -> SyntaxTree.from(TextDocuments.from(MinutiaeNormalizer.normalize(syntaxTree)));
+            case FULL -> formatSyntaxTree(syntaxTree);
+        };
+    }
+
     public static SyntaxTree formatSyntaxTree(SyntaxTree syntaxTree) {
         try {
             syntaxTree = Formatter.format(syntaxTree);
@@ -39,6 +39,17 @@ public class ConversionUtils {
         return new BallerinaModel.TypeDesc.BallerinaType(type);
     }
 
+    /**
+     * Name of the configurable {@code sql:ConnectionPool} passed to a database client, so that migrated pools are
+     * named the same way whatever tool generated them.
+     *
+     * @param clientName name of the client variable
+     * @return name of the connection pool variable
+     */
+    public static String connectionPoolVarName(String clientName) {
+        return clientName + "ConnectionPool";
+    }
+
     /**
      * Escapes special characters in an identifier with a preceding backslash (\).
      * This is part of making an identifier valid in Ballerina syntax.
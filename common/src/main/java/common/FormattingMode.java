@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common;
+
+import java.util.Locale;
+
+/**
+ * Controls how much effort is spent on laying out generated Ballerina source.
+ */
+public enum FormattingMode {
+    /**
+     * Write the generated source as is, without any formatting.
+     */
+    NONE,
+    /**
+     * Normalize whitespace and indentation with {@link MinutiaeNormalizer}. This is a single linear pass over the
+     * tokens and is much cheaper than the full formatter.
+     */
+    FAST,
+    /**
+     * Run the Ballerina formatter on the generated source.
+     */
+    FULL;
+
+    /**
+     * Parses a formatting mode from its (case-insensitive) name.
+     *
+     * @param value one of {@code none}, {@code fast} or {@code full}
+     * @return the matching formatting mode
+     * @throws IllegalArgumentException if the value does not name a formatting mode
+     */
+    public static FormattingMode fromString(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid formatting mode: " + value +
+                    ". Supported values are none, fast and full");
+        }
+    }
+
+    /**
+     * Formatting mode used when none is specified. Setting the {@code BAL_MIGRATE_SKIP_FORMATTING} environment
+     * variable still disables formatting, as it did before the mode could be chosen explicitly.
+     *
+     * @return the default formatting mode
+     */
+    public static FormattingMode defaultMode() {
+        return System.getenv("BAL_MIGRATE_SKIP_FORMATTING") == null ? FULL : NONE;
+    }
+}
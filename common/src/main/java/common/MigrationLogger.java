@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Level-gated logger used by the migrators.
+ * <p>
+ * Messages that are expensive to build should be passed as a {@link Supplier} or as a format string with arguments.
+ * Both are only evaluated when the level is enabled, so hot paths pay nothing for messages a silent logger would drop.
+ */
+public interface MigrationLogger {
+
+    /**
+     * Returns whether messages of the given level are logged. This is cheap enough to call on every message.
+     *
+     * @param level log level
+     * @return {@code true} if messages of the level are logged
+     */
+    boolean isEnabled(LoggingUtils.Level level);
+
+    /**
+     * Logs the message if the level is enabled.
+     *
+     * @param level   log level
+     * @param message message to log
+     */
+    void log(LoggingUtils.Level level, String message);
+
+    default void log(LoggingUtils.Level level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            log(level, message.get());
+        }
+    }
+
+    default void log(LoggingUtils.Level level, String format, Object... args) {
+        if (isEnabled(level)) {
+            log(level, format.formatted(args));
+        }
+    }
+
+    /**
+     * Creates a logger that writes to a {@link Logger}, dropping messages below the given level without building
+     * them.
+     *
+     * @param logger       underlying logger
+     * @param minimumLevel lowest level that is logged
+     * @return the logger
+     */
+    static MigrationLogger forLogger(Logger logger, LoggingUtils.Level minimumLevel) {
+        return new MigrationLogger() {
+            @Override
+            public boolean isEnabled(LoggingUtils.Level level) {
+                return level.compareTo(minimumLevel) >= 0 && logger.isLoggable(toJulLevel(level));
+            }
+
+            @Override
+            public void log(LoggingUtils.Level level, String message) {
+                if (isEnabled(level)) {
+                    logger.log(toJulLevel(level), message);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a logger that sends every message to a callback as {@code "[LEVEL] message"}, the format external
+     * callers of the migrators expect.
+     *
+     * @param logCallback callback receiving the messages
+     * @return the logger
+     */
+    static MigrationLogger forCallback(Consumer<String> logCallback) {
+        return new MigrationLogger() {
+            @Override
+            public boolean isEnabled(LoggingUtils.Level level) {
+                return true;
+            }
+
+            @Override
+            public void log(LoggingUtils.Level level, String message) {
+                logCallback.accept("[" + level + "] " + message);
+            }
+        };
+    }
+
+    private static java.util.logging.Level toJulLevel(LoggingUtils.Level level) {
+        return switch (level) {
+            case INFO -> java.util.logging.Level.INFO;
+            case WARN -> java.util.logging.Level.WARNING;
+            case ERROR, SEVERE -> java.util.logging.Level.SEVERE;
+        };
+    }
+}
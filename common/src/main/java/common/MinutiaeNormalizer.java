@@ -0,0 +1,389 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common;
+
+import io.ballerina.compiler.syntax.tree.Minutiae;
+import io.ballerina.compiler.syntax.tree.MinutiaeList;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Cheap, deterministic layout pass for generated Ballerina source.
+ * <p>
+ * Walks the tokens of a syntax tree once and rewrites only the whitespace between them: runs of spaces collapse to
+ * a single space, line breaks of the original source are kept (at most one blank line), statements and block braces
+ * go on their own lines and every line is indented by four spaces per enclosing block. Comments are preserved, and
+ * template literals and documentation are copied verbatim since whitespace inside them is significant. Unlike the
+ * Ballerina formatter this never re-flows expressions, so it runs in time linear in the size of the source.
+ */
+public final class MinutiaeNormalizer {
+
+    private static final int INDENT_SIZE = 4;
+
+    // Nodes whose whitespace is part of their value.
+    private static final Set<SyntaxKind> VERBATIM_NODES = EnumSet.of(SyntaxKind.XML_TEMPLATE_EXPRESSION,
+            SyntaxKind.STRING_TEMPLATE_EXPRESSION, SyntaxKind.RAW_TEMPLATE_EXPRESSION,
+            SyntaxKind.REGEX_TEMPLATE_EXPRESSION, SyntaxKind.MARKDOWN_DOCUMENTATION);
+
+    // Braces of these nodes are laid out inline, as written, instead of opening an indented block.
+    private static final Set<SyntaxKind> INLINE_BRACE_PARENTS = EnumSet.of(SyntaxKind.MAPPING_CONSTRUCTOR,
+            SyntaxKind.MAPPING_BINDING_PATTERN, SyntaxKind.MAPPING_MATCH_PATTERN);
+
+    private static final Set<SyntaxKind> SAME_LINE_AFTER_BLOCK = EnumSet.of(SyntaxKind.ELSE_KEYWORD,
+            SyntaxKind.ON_KEYWORD);
+
+    private static final Set<SyntaxKind> ATTACHED_AFTER_BLOCK = EnumSet.of(SyntaxKind.SEMICOLON_TOKEN,
+            SyntaxKind.COMMA_TOKEN, SyntaxKind.CLOSE_PAREN_TOKEN, SyntaxKind.CLOSE_BRACKET_TOKEN,
+            SyntaxKind.OPEN_BRACKET_TOKEN, SyntaxKind.DOT_TOKEN, SyntaxKind.OPTIONAL_CHAINING_TOKEN,
+            SyntaxKind.PIPE_TOKEN, SyntaxKind.QUESTION_MARK_TOKEN);
+
+    private final boolean keepLineBreaks;
+    private final StringBuilder out = new StringBuilder();
+    // One entry per open brace, true when the brace opened an indented block.
+    private final Deque<Boolean> braces = new ArrayDeque<>();
+    private Separator pending = Separator.NONE;
+    private Separator trailingWhitespace = Separator.NONE;
+    private SyntaxKind lastKind;
+    private boolean afterBlock;
+    private boolean afterImport;
+    private boolean lineStart = true;
+
+    private MinutiaeNormalizer(boolean keepLineBreaks) {
+        this.keepLineBreaks = keepLineBreaks;
+    }
+
+    /**
+     * Normalizes the layout of the given syntax tree.
+     *
+     * @param syntaxTree syntax tree to lay out
+     * @return normalized source code
+     */
+    public static String normalize(SyntaxTree syntaxTree) {
+        return layout(syntaxTree, true);
+    }
+
+    /**
+     * Normalizes the layout of the given Ballerina source.
+     *
+     * @param source Ballerina source code
+     * @return normalized source code
+     */
+    public static String normalize(String source) {
+        return normalize(SyntaxTree.from(TextDocuments.from(source)));
+    }
+
+    /**
+     * Lays out the given syntax tree like {@link #normalize(SyntaxTree)}, but ignores the line breaks of the original
+     * source. The result only depends on the tokens and comments, so the unformatted, normalized and fully formatted
+     * renderings of a tree all give the same source. Line counts are measured on it so that they do not depend on the
+     * formatting mode.
+     *
+     * @param syntaxTree syntax tree to lay out
+     * @return source code in canonical layout
+     */
+    public static String canonicalize(SyntaxTree syntaxTree) {
+        return layout(syntaxTree, false);
+    }
+
+    /**
+     * Lays out the given Ballerina source like {@link #canonicalize(SyntaxTree)}.
+     *
+     * @param source Ballerina source code
+     * @return source code in canonical layout
+     */
+    public static String canonicalize(String source) {
+        return canonicalize(SyntaxTree.from(TextDocuments.from(source)));
+    }
+
+    private static String layout(SyntaxTree syntaxTree, boolean keepLineBreaks) {
+        MinutiaeNormalizer normalizer = new MinutiaeNormalizer(keepLineBreaks);
+        normalizer.visit(syntaxTree.rootNode());
+        return normalizer.finish();
+    }
+
+    private void visit(Node node) {
+        if (node instanceof Token token) {
+            emitToken(token);
+        } else if (VERBATIM_NODES.contains(node.kind())) {
+            emitVerbatim(node);
+        } else if (node instanceof NonTerminalNode nonTerminalNode) {
+            for (Node child : nonTerminalNode.children()) {
+                visit(child);
+            }
+        }
+    }
+
+    private void emitToken(Token token) {
+        if (token.isMissing()) {
+            return;
+        }
+        SyntaxKind kind = token.kind();
+        SyntaxKind parentKind = token.parent() != null ? token.parent().kind() : null;
+        boolean closing = kind == SyntaxKind.CLOSE_BRACE_TOKEN || kind == SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
+        boolean closesBlock = closing && (braces.isEmpty() || braces.peek());
+
+        writeLeading(token.leadingMinutiae(), kind, token.text(), closing, closesBlock);
+        out.append(token.text());
+        lineStart = lineStart && token.text().isEmpty();
+        lastKind = kind;
+
+        pending = Separator.NONE;
+        afterBlock = false;
+        afterImport = false;
+        switch (kind) {
+            case OPEN_BRACE_TOKEN, OPEN_BRACE_PIPE_TOKEN -> {
+                boolean block = !INLINE_BRACE_PARENTS.contains(parentKind);
+                braces.push(block);
+                if (block) {
+                    pending = Separator.NEWLINE;
+                }
+            }
+            case CLOSE_BRACE_TOKEN, CLOSE_BRACE_PIPE_TOKEN -> afterBlock = closesBlock;
+            case SEMICOLON_TOKEN -> {
+                pending = braces.isEmpty() ? Separator.BLANK_LINE : Separator.NEWLINE;
+                afterImport = parentKind == SyntaxKind.IMPORT_DECLARATION;
+            }
+            default -> {
+            }
+        }
+        writeTrailing(token.trailingMinutiae());
+    }
+
+    private void emitVerbatim(Node node) {
+        MinutiaeList leading = node.leadingMinutiae();
+        MinutiaeList trailing = node.trailingMinutiae();
+        String source = node.toSourceCode();
+        String text = source.substring(length(leading), source.length() - length(trailing));
+
+        writeLeading(leading, node.kind(), text, false, false);
+        if (node.kind() == SyntaxKind.MARKDOWN_DOCUMENTATION) {
+            // Every documentation line starts with '#', so only the indentation needs to be fixed up.
+            String[] lines = text.strip().split("\\R");
+            for (int i = 0; i < lines.length; i++) {
+                if (i > 0) {
+                    newLine();
+                }
+                out.append(lines[i].strip());
+            }
+            pending = Separator.NEWLINE;
+        } else {
+            out.append(text);
+            pending = Separator.NONE;
+        }
+        lineStart = false;
+        lastKind = node.kind();
+        afterBlock = false;
+        afterImport = false;
+        writeTrailing(trailing);
+    }
+
+    private void writeLeading(MinutiaeList minutiae, SyntaxKind kind, String text, boolean closing,
+                              boolean closesBlock) {
+        int lineBreaks = trailingWhitespace == Separator.NEWLINE ? 1 : 0;
+        Separator original = trailingWhitespace;
+        boolean separatorWritten = false;
+        for (Minutiae minutia : minutiae) {
+            switch (minutia.kind()) {
+                case WHITESPACE_MINUTIAE -> original = max(original, Separator.SPACE);
+                case END_OF_LINE_MINUTIAE -> {
+                    lineBreaks++;
+                    if (keepLineBreaks) {
+                        original = max(original, lineBreaks > 1 ? Separator.BLANK_LINE : Separator.NEWLINE);
+                    } else {
+                        original = max(original, Separator.SPACE);
+                    }
+                }
+                case COMMENT_MINUTIAE -> {
+                    // Line comments always run to the end of the line.
+                    Separator beforeComment = separatorWritten ? Separator.NEWLINE : max(pending, original);
+                    writeSeparator(max(beforeComment, Separator.NEWLINE));
+                    out.append(minutia.text());
+                    lineStart = false;
+                    separatorWritten = true;
+                    pending = Separator.NEWLINE;
+                    original = Separator.NONE;
+                    lineBreaks = 0;
+                }
+                case INVALID_NODE_MINUTIAE -> {
+                    writeSeparator(max(max(pending, original), Separator.SPACE));
+                    out.append(minutia.text());
+                    lineStart = false;
+                    separatorWritten = true;
+                    pending = Separator.SPACE;
+                    original = Separator.NONE;
+                    lineBreaks = 0;
+                }
+                default -> {
+                }
+            }
+        }
+        if (closing && !braces.isEmpty()) {
+            // Popped only now so that comments before the brace stay indented with the block they belong to.
+            braces.pop();
+        }
+        if (separatorWritten) {
+            writeSeparator(max(pending, original == Separator.BLANK_LINE ? Separator.NEWLINE : original));
+            return;
+        }
+
+        Separator separator;
+        if (closing) {
+            boolean empty = lastKind == SyntaxKind.OPEN_BRACE_TOKEN || lastKind == SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
+            if (empty) {
+                separator = Separator.NONE;
+            } else if (closesBlock) {
+                separator = Separator.NEWLINE;
+            } else {
+                separator = original == Separator.BLANK_LINE ? Separator.NEWLINE : original;
+            }
+        } else if (afterBlock) {
+            if (SAME_LINE_AFTER_BLOCK.contains(kind)) {
+                separator = Separator.SPACE;
+            } else if (ATTACHED_AFTER_BLOCK.contains(kind)) {
+                separator = Separator.NONE;
+            } else {
+                separator = braces.isEmpty() ? Separator.BLANK_LINE : Separator.NEWLINE;
+            }
+        } else if (afterImport && kind == SyntaxKind.IMPORT_KEYWORD) {
+            separator = Separator.NEWLINE;
+        } else if (lastKind == SyntaxKind.OPEN_BRACE_TOKEN || lastKind == SyntaxKind.OPEN_BRACE_PIPE_TOKEN) {
+            // No blank line at the start of a block.
+            separator = max(pending, original == Separator.BLANK_LINE ? Separator.NEWLINE : original);
+        } else {
+            separator = max(pending, original);
+        }
+        if (separator == Separator.NONE && endsWithWordChar() && !text.isEmpty() && isWordChar(text.charAt(0))) {
+            // Trees built without minutiae would otherwise glue adjacent keywords and identifiers together.
+            separator = Separator.SPACE;
+        }
+        writeSeparator(separator);
+    }
+
+    private void writeTrailing(MinutiaeList minutiae) {
+        trailingWhitespace = Separator.NONE;
+        for (Minutiae minutia : minutiae) {
+            switch (minutia.kind()) {
+                case WHITESPACE_MINUTIAE -> trailingWhitespace = max(trailingWhitespace, Separator.SPACE);
+                case END_OF_LINE_MINUTIAE -> trailingWhitespace = keepLineBreaks ? Separator.NEWLINE
+                        : max(trailingWhitespace, Separator.SPACE);
+                case COMMENT_MINUTIAE, INVALID_NODE_MINUTIAE -> {
+                    // Whether a comment trails a token depends on the line breaks, so canonically it gets its own line
+                    if (keepLineBreaks || minutia.kind() == SyntaxKind.INVALID_NODE_MINUTIAE) {
+                        out.append(' ');
+                    } else {
+                        newLine();
+                    }
+                    out.append(minutia.text());
+                    lineStart = false;
+                    if (minutia.kind() == SyntaxKind.COMMENT_MINUTIAE) {
+                        pending = max(pending, Separator.NEWLINE);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void writeSeparator(Separator separator) {
+        if (out.isEmpty()) {
+            return;
+        }
+        switch (separator) {
+            case SPACE -> {
+                if (!lineStart) {
+                    out.append(' ');
+                }
+            }
+            case NEWLINE -> newLine();
+            case BLANK_LINE -> {
+                newLine();
+                newLine();
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void newLine() {
+        trimTrailingSpaces();
+        if (lineStart && out.length() > 1 && out.charAt(out.length() - 1) == '\n'
+                && out.charAt(out.length() - 2) == '\n') {
+            // Never emit more than one blank line in a row.
+            out.append(" ".repeat(INDENT_SIZE * braces.size()));
+            return;
+        }
+        out.append('\n').append(" ".repeat(INDENT_SIZE * braces.size()));
+        lineStart = true;
+    }
+
+    private String finish() {
+        trimTrailingSpaces();
+        while (!out.isEmpty() && out.charAt(out.length() - 1) == '\n') {
+            out.setLength(out.length() - 1);
+        }
+        return out.isEmpty() ? "" : out.append('\n').toString();
+    }
+
+    private void trimTrailingSpaces() {
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        out.setLength(end);
+    }
+
+    private boolean endsWithWordChar() {
+        return !out.isEmpty() && isWordChar(out.charAt(out.length() - 1));
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '\'';
+    }
+
+    private static int length(MinutiaeList minutiae) {
+        int length = 0;
+        for (Minutiae minutia : minutiae) {
+            length += minutia.text().length();
+        }
+        return length;
+    }
+
+    private static Separator max(Separator a, Separator b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    // Ordered from weakest to strongest.
+    private enum Separator {
+        NONE,
+        SPACE,
+        NEWLINE,
+        BLANK_LINE
+    }
+}
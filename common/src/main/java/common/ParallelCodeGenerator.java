@@ -0,0 +1,232 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import common.output.InMemoryOutputSink;
+import common.output.OutputSink;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static common.BallerinaModel.TextDocument;
+
+/**
+ * Serializes IR text documents to Ballerina source on a bounded pool of worker threads.
+ * <p>
+ * Once the IR is built every {@link TextDocument} is independent, so syntax tree generation and formatting (the most
+ * expensive step per file) can run concurrently. Results are handed over in the order the documents were given, so
+ * the output does not depend on scheduling. Only as many documents as there are workers are in flight at a time, so
+ * documents are not all queued up front and a generated source is released once it has been written. A document that
+ * fails to generate or does not finish within the per-document timeout is written unformatted instead, so a single
+ * pathological file cannot stall the run.
+ * <p>
+ * Workers share no mutable state. Each document gets its own {@link CodeGenerator}, syntax trees are immutable, and
+ * {@code Formatter.format} creates its formatting options and tree modifier for every call instead of keeping them in
+ * static fields, so documents can be formatted concurrently.
+ */
+public final class ParallelCodeGenerator {
+
+    public static final Duration DEFAULT_DOCUMENT_TIMEOUT = Duration.ofMinutes(2);
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final int parallelism;
+    private final long documentTimeoutNanos;
+    private final Function<TextDocument, String> sourceGenerator;
+    private final BiConsumer<LoggingUtils.Level, String> logger;
+
+    public ParallelCodeGenerator(BiConsumer<LoggingUtils.Level, String> logger) {
+        this(FormattingMode.defaultMode(), logger);
+    }
+
+    public ParallelCodeGenerator(FormattingMode formattingMode, BiConsumer<LoggingUtils.Level, String> logger) {
+        this(defaultParallelism(), DEFAULT_DOCUMENT_TIMEOUT, formattingMode, logger);
+    }
+
+    public ParallelCodeGenerator(int parallelism, Duration documentTimeout, FormattingMode formattingMode,
+                                 BiConsumer<LoggingUtils.Level, String> logger) {
+        this(parallelism, documentTimeout, document -> new CodeGenerator(document).generateSource(formattingMode),
+                logger);
+    }
+
+    ParallelCodeGenerator(int parallelism, Duration documentTimeout,
+                          Function<TextDocument, String> sourceGenerator,
+                          BiConsumer<LoggingUtils.Level, String> logger) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got: " + parallelism);
+        }
+        if (documentTimeout.isNegative() || documentTimeout.isZero()) {
+            throw new IllegalArgumentException("Document timeout must be positive, got: " + documentTimeout);
+        }
+        this.parallelism = parallelism;
+        this.documentTimeoutNanos = documentTimeout.toNanos();
+        this.sourceGenerator = sourceGenerator;
+        this.logger = logger;
+    }
+
+    public static int defaultParallelism() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Generates the source code of the given documents.
+     *
+     * @param documents IR text documents to serialize
+     * @return source code of each document keyed by document name
+     * @throws IllegalStateException if a document could not be generated even without formatting
+     */
+    public SortedMap<String, String> generateSources(Collection<TextDocument> documents) {
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        generateSources(documents, sink);
+        return new TreeMap<>(sink.files());
+    }
+
+    /**
+     * Generates the source code of the given documents and writes each one to the sink as soon as it is ready, while
+     * the remaining documents are still being generated. Nothing is retained once a document has been written.
+     *
+     * @param documents IR text documents to serialize
+     * @param sink      destination of the generated sources, keyed by document name
+     * @throws IllegalStateException if a document could not be generated even without formatting
+     */
+    public void generateSources(Collection<TextDocument> documents, OutputSink sink) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        int poolSize = Math.min(parallelism, documents.size());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), workerThreadFactory());
+        try {
+            Iterator<TextDocument> remaining = documents.iterator();
+            Queue<PendingDocument> pendingDocuments = new ArrayDeque<>(poolSize);
+            while (remaining.hasNext() || !pendingDocuments.isEmpty()) {
+                // Submit the next document whenever one has been written. A timed out document is no longer pending
+                // but keeps its worker busy, and the pool grows by one to make up for it.
+                while (remaining.hasNext() && pendingDocuments.size() < poolSize) {
+                    pendingDocuments.add(submit(executor, remaining.next()));
+                }
+                collect(executor, pendingDocuments.remove(), sink);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PendingDocument submit(ThreadPoolExecutor executor, TextDocument document) {
+        AtomicLong startedAt = new AtomicLong();
+        Future<String> future = executor.submit(() -> {
+            startedAt.set(System.nanoTime());
+            return sourceGenerator.apply(document);
+        });
+        return new PendingDocument(document, future, startedAt);
+    }
+
+    private void collect(ThreadPoolExecutor executor, PendingDocument pending, OutputSink sink) {
+        String documentName = pending.document().documentName();
+        try {
+            write(sink, documentName, await(pending));
+        } catch (TimeoutException e) {
+            pending.future().cancel(true);
+            // The formatter does not respond to interrupts, so the worker may stay busy. Grow the pool by one to
+            // keep the number of live workers constant for the remaining documents.
+            executor.setMaximumPoolSize(executor.getMaximumPoolSize() + 1);
+            executor.setCorePoolSize(executor.getCorePoolSize() + 1);
+            logger.accept(LoggingUtils.Level.WARN, "Formatting timed out for " + documentName +
+                    ", writing unformatted source instead");
+            generateUnformatted(pending.document(), sink);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.accept(LoggingUtils.Level.WARN, "Formatting failed for " + documentName + ": " +
+                    cause.getMessage() + ", writing unformatted source instead");
+            generateUnformatted(pending.document(), sink);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating source for " + documentName, e);
+        }
+    }
+
+    private String await(PendingDocument pending) throws InterruptedException, ExecutionException,
+            TimeoutException {
+        // The timeout is measured from the moment a worker picks the document up, not from submission, so
+        // documents waiting in the queue are not penalized.
+        while (true) {
+            long startedAt = pending.startedAt().get();
+            long waitNanos = startedAt == 0 ? documentTimeoutNanos
+                    : startedAt + documentTimeoutNanos - System.nanoTime();
+            try {
+                return pending.future().get(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                startedAt = pending.startedAt().get();
+                if (startedAt != 0 && System.nanoTime() - startedAt >= documentTimeoutNanos) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void generateUnformatted(TextDocument document, OutputSink sink) {
+        String source;
+        try {
+            source = new CodeGenerator(document).generateUnformattedSyntaxTree().toSourceCode();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Error generating syntax tree from BIR file: " +
+                    document.documentName() + ": " + e.getMessage(), e);
+        }
+        write(sink, document.documentName(), source);
+    }
+
+    private void write(OutputSink sink, String documentName, String source) {
+        try {
+            sink.write(documentName, source);
+        } catch (IOException e) {
+            logger.accept(LoggingUtils.Level.SEVERE, "Error writing file: " + documentName + ", " + e.getMessage());
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        int poolId = POOL_COUNTER.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "bal-codegen-" + poolId + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PendingDocument(TextDocument document, Future<String> future, AtomicLong startedAt) {
+
+    }
+}
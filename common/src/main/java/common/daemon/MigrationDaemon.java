@@ -0,0 +1,464 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common.daemon;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Serves migration requests from a long-running JVM, so that repeated migrations do not pay for JVM startup, class
+ * loading of the Ballerina parser and formatter and parser warm-up each time.
+ * <p>
+ * Clients talk JSON-RPC 2.0 over stdio or a Unix domain socket, one message per line. The supported methods are
+ * <ul>
+ *   <li>{@code migrate}: migrates a project. The params are the parameters of the tool's map based API, such as
+ *   {@code orgName}, {@code projectName}, {@code sourcePath} and {@code multiRoot}, and the result is the map the API
+ *   returns. Progress is sent as {@code migrate/state} and {@code migrate/log} notifications carrying the id of the
+ *   request and the message. {@code memoryLimitMb} overrides the memory reserved for the request.</li>
+ *   <li>{@code cancel}: cancels the queued or running request with the given {@code id}. The cancelled request is
+ *   answered with a {@link #REQUEST_CANCELLED} error.</li>
+ *   <li>{@code shutdown}: stops the daemon once the accepted requests are done.</li>
+ * </ul>
+ * Requests are queued and run by a fixed number of workers. When the queue is full a request is rejected with a
+ * {@link #SERVER_BUSY} error rather than waiting, so callers can back off.
+ * <p>
+ * The JVM cannot cap the heap used by a single thread, so the memory limit of a request is a reservation. A request
+ * only starts once its limit fits in the part of the heap not reserved by other running requests, which keeps
+ * requests within their limits from exhausting the heap together. A request that still runs out of memory fails on
+ * its own with a {@link #MEMORY_LIMIT_EXCEEDED} error and the daemon keeps serving.
+ */
+public final class MigrationDaemon {
+
+    public static final int PARSE_ERROR = -32700;
+    public static final int INVALID_REQUEST = -32600;
+    public static final int METHOD_NOT_FOUND = -32601;
+    public static final int INVALID_PARAMS = -32602;
+    public static final int INTERNAL_ERROR = -32603;
+    public static final int MIGRATION_FAILED = -32000;
+    public static final int SERVER_BUSY = -32001;
+    public static final int REQUEST_CANCELLED = -32800;
+    public static final int MEMORY_LIMIT_EXCEEDED = -32002;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long MB = 1024 * 1024;
+
+    private final Function<Map<String, Object>, Map<String, Object>> migrator;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore memoryBudget;
+    private final int budgetMb;
+    private final int requestMemoryMb;
+    private volatile boolean shuttingDown;
+    private volatile ServerSocketChannel server;
+
+    /**
+     * Settings of a daemon.
+     *
+     * @param workers         number of requests migrated at the same time
+     * @param queueCapacity   number of requests that may wait for a worker
+     * @param requestMemoryMb memory reserved for a request that does not set its own limit
+     */
+    public record Options(int workers, int queueCapacity, int requestMemoryMb) {
+
+        public static Options defaults() {
+            return new Options(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 64, 512);
+        }
+    }
+
+    /**
+     * Creates a daemon.
+     *
+     * @param toolName name of the tool, used to name the worker threads
+     * @param migrator the map based migration API of the tool
+     * @param options  settings of the daemon
+     */
+    public MigrationDaemon(String toolName, Function<Map<String, Object>, Map<String, Object>> migrator,
+                           Options options) {
+        this.migrator = migrator;
+        // Part of the heap is left for the daemon itself and for the garbage collector to work with
+        this.budgetMb = (int) Math.max(1, Runtime.getRuntime().maxMemory() / MB * 3 / 4);
+        this.memoryBudget = new Semaphore(budgetMb, true);
+        this.requestMemoryMb = Math.min(options.requestMemoryMb(), budgetMb);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(options.workers(), options.workers(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(options.queueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, toolName + "-migration-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Runs the daemon of a tool until it is shut down, over the Unix domain socket if one is given and over stdio
+     * otherwise. In stdio mode anything the migration prints to standard output is sent to standard error instead, so
+     * that it does not corrupt the protocol.
+     *
+     * @param toolName   name of the tool
+     * @param migrator   the map based migration API of the tool
+     * @param socketPath path of the socket to listen on, or {@code null} to use stdio
+     * @throws IOException if the daemon could not communicate with its clients
+     */
+    public static void run(String toolName, Function<Map<String, Object>, Map<String, Object>> migrator,
+                           Path socketPath) throws IOException {
+        MigrationDaemon daemon = new MigrationDaemon(toolName, migrator, Options.defaults());
+        if (socketPath != null) {
+            daemon.serve(socketPath);
+            return;
+        }
+        PrintStream protocolOut = System.out;
+        System.setOut(System.err);
+        daemon.serve(System.in, protocolOut);
+    }
+
+    /**
+     * Serves a single client over the given streams until the client disconnects or the daemon is shut down. Requests
+     * of a client that disconnects are cancelled, while those accepted before a shutdown are completed.
+     *
+     * @param in  stream of requests
+     * @param out stream of responses and notifications
+     * @throws IOException if the requests could not be read
+     */
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        Connection connection = new Connection(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while (!shuttingDown && (line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    handle(connection, line);
+                }
+            }
+        } finally {
+            if (shuttingDown) {
+                awaitTermination();
+            } else {
+                connection.requests.values().forEach(Request::cancel);
+            }
+        }
+    }
+
+    /**
+     * Listens on a Unix domain socket and serves each client on its own thread until the daemon is shut down. The
+     * socket file is replaced if it exists and removed once the daemon stops.
+     *
+     * @param socketPath path of the socket
+     * @throws IOException if the socket could not be opened
+     */
+    public void serve(Path socketPath) throws IOException {
+        Files.deleteIfExists(socketPath);
+        try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.bind(UnixDomainSocketAddress.of(socketPath));
+            server = channel;
+            while (!shuttingDown) {
+                SocketChannel client;
+                try {
+                    client = channel.accept();
+                } catch (IOException e) {
+                    // Closing the channel on shutdown ends the wait for the next client
+                    if (shuttingDown) {
+                        break;
+                    }
+                    throw e;
+                }
+                Thread thread = new Thread(() -> serveClient(client), "migration-daemon-client");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        } finally {
+            Files.deleteIfExists(socketPath);
+            awaitTermination();
+        }
+    }
+
+    private void serveClient(SocketChannel client) {
+        try (client) {
+            serve(Channels.newInputStream(client), Channels.newOutputStream(client));
+        } catch (IOException e) {
+            // The client went away, its requests have been cancelled
+        }
+    }
+
+    private void handle(Connection connection, String line) {
+        Map<String, Object> message;
+        try {
+            message = MAPPER.readValue(line, new TypeReference<>() { });
+        } catch (JsonProcessingException e) {
+            connection.sendError(null, PARSE_ERROR, "Invalid JSON: " + e.getOriginalMessage());
+            return;
+        }
+        Object id = message.get("id");
+        if (!(message.get("method") instanceof String method)) {
+            connection.sendError(id, INVALID_REQUEST, "Missing method");
+            return;
+        }
+        Object params = message.getOrDefault("params", Map.of());
+        if (!(params instanceof Map<?, ?>)) {
+            connection.sendError(id, INVALID_PARAMS, "Params must be an object");
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> paramMap = (Map<String, Object>) params;
+        switch (method) {
+            case "migrate" -> migrate(connection, id, paramMap);
+            case "cancel" -> cancel(connection, id, paramMap.get("id"));
+            case "shutdown" -> shutdown(connection, id);
+            default -> connection.sendError(id, METHOD_NOT_FOUND, "Unknown method: " + method);
+        }
+    }
+
+    private void migrate(Connection connection, Object id, Map<String, Object> params) {
+        if (id == null) {
+            connection.sendError(null, INVALID_REQUEST, "A migrate request must have an id");
+            return;
+        }
+        if (shuttingDown) {
+            connection.sendError(id, SERVER_BUSY, "The daemon is shutting down");
+            return;
+        }
+        int memoryMb = requestMemoryMb;
+        Object memoryLimit = params.remove("memoryLimitMb");
+        if (memoryLimit != null) {
+            if (!(memoryLimit instanceof Integer limit) || limit <= 0 || limit > budgetMb) {
+                connection.sendError(id, INVALID_PARAMS,
+                        "memoryLimitMb must be a positive integer of at most " + budgetMb);
+                return;
+            }
+            memoryMb = limit;
+        }
+        Request request = new Request(id, memoryMb);
+        if (connection.requests.putIfAbsent(id, request) != null) {
+            connection.sendError(id, INVALID_REQUEST, "A request with id " + id + " is already in progress");
+            return;
+        }
+        try {
+            executor.execute(() -> runMigration(connection, request, params));
+        } catch (RejectedExecutionException e) {
+            connection.requests.remove(id);
+            connection.sendError(id, SERVER_BUSY, "Too many queued requests, retry later");
+        }
+    }
+
+    private void runMigration(Connection connection, Request request, Map<String, Object> params) {
+        boolean reserved = false;
+        try {
+            request.start();
+            memoryBudget.acquire(request.memoryMb);
+            reserved = true;
+            request.checkCancelled();
+            Map<String, Object> parameters = new HashMap<>(params);
+            parameters.put("stateCallback", progress(connection, request, "migrate/state"));
+            parameters.put("logCallback", progress(connection, request, "migrate/log"));
+            Map<String, Object> result = migrator.apply(parameters);
+            request.checkCancelled();
+            Object error = result.get("error");
+            if (error != null) {
+                connection.sendError(request.id, MIGRATION_FAILED, error.toString());
+            } else {
+                connection.sendResult(request.id, result);
+            }
+        } catch (InterruptedException | CancellationException e) {
+            connection.sendError(request.id, REQUEST_CANCELLED, "Request cancelled");
+        } catch (OutOfMemoryError e) {
+            connection.sendError(request.id, MEMORY_LIMIT_EXCEEDED,
+                    "Ran out of memory with " + request.memoryMb + " MB reserved, retry with a higher memoryLimitMb");
+        } catch (RuntimeException e) {
+            // A request cancelled while running may fail with any error, such as a closed file
+            if (request.cancelled) {
+                connection.sendError(request.id, REQUEST_CANCELLED, "Request cancelled");
+            } else {
+                connection.sendError(request.id, INTERNAL_ERROR, "Migration failed: " + e.getMessage());
+            }
+        } finally {
+            request.finish();
+            if (reserved) {
+                memoryBudget.release(request.memoryMb);
+            }
+            connection.requests.remove(request.id, request);
+        }
+    }
+
+    /**
+     * Forwards progress messages of a request to the client. The migrations report progress regularly, so a
+     * cancelled request is stopped at its next message.
+     */
+    private static Consumer<String> progress(Connection connection, Request request, String method) {
+        return message -> {
+            request.checkCancelled();
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("id", request.id);
+            params.put("message", message);
+            connection.sendNotification(method, params);
+        };
+    }
+
+    private void cancel(Connection connection, Object id, Object targetId) {
+        Request request = targetId != null ? connection.requests.get(targetId) : null;
+        if (request != null) {
+            request.cancel();
+        }
+        if (id != null) {
+            connection.sendResult(id, request != null);
+        }
+    }
+
+    private void shutdown(Connection connection, Object id) {
+        shuttingDown = true;
+        executor.shutdown();
+        ServerSocketChannel channel = server;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // The daemon is stopping anyway
+            }
+        }
+        if (id != null) {
+            connection.sendResult(id, null);
+        }
+    }
+
+    private void awaitTermination() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Request {
+
+        private final Object id;
+        private final int memoryMb;
+        private volatile boolean cancelled;
+        private Thread worker;
+
+        Request(Object id, int memoryMb) {
+            this.id = id;
+            this.memoryMb = memoryMb;
+        }
+
+        synchronized void start() {
+            checkCancelled();
+            worker = Thread.currentThread();
+        }
+
+        synchronized void finish() {
+            worker = null;
+            // Do not let an interrupt meant for this request reach the next one run by the worker
+            Thread.interrupted();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+
+        void checkCancelled() {
+            if (cancelled) {
+                throw new CancellationException("Request cancelled");
+            }
+        }
+    }
+
+    private static final class Connection {
+
+        private final Writer out;
+        private final Map<Object, Request> requests = new ConcurrentHashMap<>();
+        private boolean closed;
+
+        Connection(Writer out) {
+            this.out = out;
+        }
+
+        void sendResult(Object id, Object result) {
+            Map<String, Object> message = newMessage(id);
+            message.put("result", result);
+            send(message);
+        }
+
+        void sendError(Object id, int code, String errorMessage) {
+            Map<String, Object> message = newMessage(id);
+            message.put("error", Map.of("code", code, "message", errorMessage));
+            send(message);
+        }
+
+        void sendNotification(String method, Map<String, Object> params) {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("jsonrpc", "2.0");
+            message.put("method", method);
+            message.put("params", params);
+            send(message);
+        }
+
+        private static Map<String, Object> newMessage(Object id) {
+            Map<String, Object> message = new LinkedHashMap<>();
+            message.put("jsonrpc", "2.0");
+            message.put("id", id);
+            return message;
+        }
+
+        private synchronized void send(Map<String, Object> message) {
+            if (closed) {
+                return;
+            }
+            try {
+                out.write(MAPPER.writeValueAsString(message));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                // The client is gone, so nobody is waiting for the outcome of its requests
+                closed = true;
+                requests.values().forEach(Request::cancel);
+            }
+        }
+    }
+}
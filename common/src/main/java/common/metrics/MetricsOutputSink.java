@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common.metrics;
+
+import common.MinutiaeNormalizer;
+import common.output.OutputSink;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Counts the lines of the generated files passing through to another sink and records an {@code output} record for
+ * each of them. Ballerina sources are counted in their {@link MinutiaeNormalizer#canonicalize(String) canonical
+ * layout}, so the counts do not depend on the formatting mode.
+ */
+public final class MetricsOutputSink implements OutputSink {
+
+    private final OutputSink delegate;
+    private final MetricsRecorder recorder;
+    private final String tool;
+    private final String project;
+    private int fileCount;
+    private long lineCount;
+
+    /**
+     * Creates a sink.
+     *
+     * @param delegate sink the files are written to
+     * @param recorder recorder of the {@code output} records
+     * @param tool     migration tool generating the files
+     * @param project  project the files belong to
+     */
+    public MetricsOutputSink(OutputSink delegate, MetricsRecorder recorder, String tool, String project) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.tool = tool;
+        this.project = project;
+    }
+
+    @Override
+    public void write(String relativePath, String content) throws IOException {
+        delegate.write(relativePath, content);
+        fileWritten(relativePath, lineCount(relativePath.endsWith(".bal") ?
+                MinutiaeNormalizer.canonicalize(content) : content));
+    }
+
+    @Override
+    public void write(String relativePath, ContentWriter content) throws IOException {
+        long[] lines = new long[1];
+        delegate.write(relativePath, writer -> {
+            LineCountingWriter counter = new LineCountingWriter(writer);
+            content.writeTo(counter);
+            lines[0] = counter.lineCount();
+        });
+        fileWritten(relativePath, lines[0]);
+    }
+
+    /**
+     * Returns the number of files written so far.
+     *
+     * @return number of files
+     */
+    public synchronized int fileCount() {
+        return fileCount;
+    }
+
+    /**
+     * Returns the number of lines of the files written so far.
+     *
+     * @return number of lines
+     */
+    public synchronized long lineCount() {
+        return lineCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private void fileWritten(String relativePath, long lines) {
+        synchronized (this) {
+            fileCount++;
+            lineCount += lines;
+        }
+        recorder.record(MetricsRecord.of(MetricsRecord.OUTPUT_FILE, tool)
+                .put("project", project)
+                .put("file", relativePath)
+                .put("lines", lines));
+    }
+
+    static long lineCount(String content) {
+        if (content.isEmpty()) {
+            return 0;
+        }
+        long lines = content.chars().filter(c -> c == '\n').count();
+        return content.endsWith("\n") ? lines : lines + 1;
+    }
+
+    /**
+     * Counts the lines of the content written through it, using the same rules as {@link #lineCount(String)}.
+     */
+    private static final class LineCountingWriter extends FilterWriter {
+
+        private long newLines;
+        private char last = '\n';
+
+        LineCountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            count((char) c);
+        }
+
+        @Override
+        public void write(char[] buffer, int off, int len) throws IOException {
+            out.write(buffer, off, len);
+            for (int i = off; i < off + len; i++) {
+                count(buffer[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            for (int i = off; i < off + len; i++) {
+                count(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The underlying writer is owned by the sink
+            flush();
+        }
+
+        long lineCount() {
+            return last == '\n' ? newLines : newLines + 1;
+        }
+
+        private void count(char c) {
+            if (c == '\n') {
+                newLines++;
+            }
+            last = c;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single metrics record. Every record carries its type, such as {@code file} or {@code project}, the migration tool
+ * that produced it and the time it was created, followed by the fields added to it in order.
+ */
+public final class MetricsRecord {
+
+    public static final String SOURCE_FILE = "file";
+    public static final String OUTPUT_FILE = "output";
+    public static final String PROJECT = "project";
+
+    private final Map<String, Object> fields = new LinkedHashMap<>();
+
+    private MetricsRecord(String type, String tool) {
+        fields.put("type", type);
+        fields.put("tool", tool);
+        fields.put("timestamp", Instant.now().toString());
+    }
+
+    /**
+     * Creates a record.
+     *
+     * @param type type of the record
+     * @param tool migration tool producing the record, such as {@code mule}
+     * @return the record
+     */
+    public static MetricsRecord of(String type, String tool) {
+        return new MetricsRecord(type, tool);
+    }
+
+    /**
+     * Adds a field. Values may be strings, numbers, booleans or maps and lists of them.
+     *
+     * @param name  name of the field
+     * @param value value of the field
+     * @return this record
+     */
+    public MetricsRecord put(String name, Object value) {
+        fields.put(name, value);
+        return this;
+    }
+
+    /**
+     * Adds the time spent in each phase, in milliseconds, under {@code phases}.
+     *
+     * @param timer timer of the phases
+     * @return this record
+     */
+    public MetricsRecord phases(PhaseTimer timer) {
+        return put("phases", timer.millis());
+    }
+
+    public Map<String, Object> fields() {
+        return Collections.unmodifiableMap(fields);
+    }
+}
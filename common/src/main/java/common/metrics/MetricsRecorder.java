@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common.metrics;
+
+/**
+ * Receives machine-readable metrics while a migration is running, such as one record per source file and one per
+ * project as soon as each of them is done. Implementations must be safe to use from multiple threads.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Recorder used when no metrics are requested.
+     */
+    MetricsRecorder NONE = new MetricsRecorder() {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(MetricsRecord record) {
+        }
+    };
+
+    /**
+     * Returns whether records are kept, so that callers can skip collecting metrics nobody reads.
+     *
+     * @return {@code true} if records are kept
+     */
+    boolean isEnabled();
+
+    /**
+     * Records a single metrics record.
+     *
+     * @param record the record
+     */
+    void record(MetricsRecord record);
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes metrics records to a file as newline-delimited JSON, one record per line. Each record is flushed as soon as
+ * it is written so that long runs can be followed while they are in progress.
+ * <p>
+ * A failure to write does not interrupt the migration. Recording stops at the first failure, which is reported when
+ * the writer is closed.
+ */
+public final class NdjsonMetricsWriter implements MetricsRecorder, Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Writer writer;
+    private IOException failure;
+
+    private NdjsonMetricsWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a writer for the given file, replacing any existing content.
+     *
+     * @param file file to write the records to
+     * @return the writer
+     * @throws IOException if the file could not be created
+     */
+    public static NdjsonMetricsWriter open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new NdjsonMetricsWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public synchronized void record(MetricsRecord record) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            writer.write(MAPPER.writeValueAsString(record.fields()));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+        if (failure != null) {
+            throw new IOException("Error writing metrics: " + failure.getMessage(), failure);
+        }
+    }
+}
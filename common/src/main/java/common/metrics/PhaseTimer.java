@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates the time spent in the phases of a migration, such as parsing and code generation. A phase may be
+ * timed several times, in which case the times are added up.
+ */
+public final class PhaseTimer {
+
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+    /**
+     * Adds the time elapsed since {@code startNanos} to a phase.
+     *
+     * @param phase      name of the phase
+     * @param startNanos value of {@link System#nanoTime()} when the phase started
+     */
+    public synchronized void add(String phase, long startNanos) {
+        phaseNanos.merge(phase, System.nanoTime() - startNanos, Long::sum);
+    }
+
+    /**
+     * Adds the times of all phases of another timer to this one.
+     *
+     * @param other timer to add
+     */
+    public void add(PhaseTimer other) {
+        Map<String, Long> otherNanos;
+        synchronized (other) {
+            otherNanos = new LinkedHashMap<>(other.phaseNanos);
+        }
+        synchronized (this) {
+            otherNanos.forEach((phase, nanos) -> phaseNanos.merge(phase, nanos, Long::sum));
+        }
+    }
+
+    /**
+     * Returns the time spent in each phase, in the order the phases were first timed.
+     *
+     * @return milliseconds keyed by phase
+     */
+    public synchronized Map<String, Long> millis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        phaseNanos.forEach((phase, nanos) -> millis.put(phase, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        return millis;
+    }
+}
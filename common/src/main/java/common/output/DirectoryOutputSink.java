@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common.output;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes generated files under a root directory, creating parent directories as needed.
+ */
+public final class DirectoryOutputSink implements OutputSink {
+
+    private final Path root;
+
+    public DirectoryOutputSink(Path root) {
+        this.root = root;
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    @Override
+    public void write(String relativePath, String content) throws IOException {
+        Files.writeString(prepareFile(relativePath), content, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(String relativePath, ContentWriter content) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(prepareFile(relativePath), StandardCharsets.UTF_8)) {
+            content.writeTo(writer);
+        }
+    }
+
+    private Path prepareFile(String relativePath) throws IOException {
+        Path filePath = root.resolve(relativePath).normalize();
+        if (!filePath.startsWith(root.normalize())) {
+            throw new IOException("File path escapes the output directory: " + relativePath);
+        }
+        Path parent = filePath.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return filePath;
+    }
+}
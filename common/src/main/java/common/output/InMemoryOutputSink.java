@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common.output;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps generated files in memory, for callers such as the IDE integration that return the files instead of writing
+ * them.
+ */
+public final class InMemoryOutputSink implements OutputSink {
+
+    private final SortedMap<String, String> files = new TreeMap<>();
+
+    @Override
+    public synchronized void write(String relativePath, String content) {
+        files.put(relativePath, content);
+    }
+
+    /**
+     * Returns the files written so far.
+     *
+     * @return snapshot of the files keyed by relative path, sorted by path
+     */
+    public synchronized SortedMap<String, String> files() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(files));
+    }
+}
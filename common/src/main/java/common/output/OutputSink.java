@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Destination for generated project files.
+ * <p>
+ * Generators write each file as soon as it is ready instead of collecting the whole project in memory first, so the
+ * sink decides whether files go to disk, into an archive or stay in memory. Implementations must be safe to use from
+ * multiple threads.
+ */
+public interface OutputSink extends Closeable {
+
+    /**
+     * Writes a file to the sink, replacing any earlier content written under the same path where the sink supports
+     * it.
+     *
+     * @param relativePath path of the file relative to the project root, using {@code /} as the separator
+     * @param content      file content
+     * @throws IOException if the file could not be written
+     */
+    void write(String relativePath, String content) throws IOException;
+
+    /**
+     * Writes a file whose content is produced incrementally. Sinks backed by files stream the content as it is
+     * produced; the default implementation collects it in memory and delegates to {@link #write(String, String)}.
+     *
+     * @param relativePath path of the file relative to the project root, using {@code /} as the separator
+     * @param content      produces the file content
+     * @throws IOException if the content could not be produced or the file could not be written
+     */
+    default void write(String relativePath, ContentWriter content) throws IOException {
+        StringWriter writer = new StringWriter();
+        content.writeTo(writer);
+        write(relativePath, writer.toString());
+    }
+
+    /**
+     * Produces the content of a file written with {@link #write(String, ContentWriter)}.
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+
+        /**
+         * Writes the content. The writer is owned by the sink and must not be closed.
+         *
+         * @param writer destination of the content
+         * @throws IOException if the content could not be written
+         */
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common.output;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes generated files as entries of a zip archive. Entries are written in the order the files arrive, and each
+ * path may only be written once.
+ */
+public final class ZipOutputSink implements OutputSink {
+
+    private final ZipOutputStream zipOutputStream;
+    private boolean closed;
+
+    public ZipOutputSink(Path zipFile) throws IOException {
+        Path parent = zipFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.zipOutputStream = new ZipOutputStream(Files.newOutputStream(zipFile), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void write(String relativePath, String content) throws IOException {
+        if (closed) {
+            throw new IOException("Zip output is already closed, cannot write: " + relativePath);
+        }
+        zipOutputStream.putNextEntry(new ZipEntry(relativePath));
+        zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.closeEntry();
+    }
+
+    @Override
+    public synchronized void write(String relativePath, ContentWriter content) throws IOException {
+        if (closed) {
+            throw new IOException("Zip output is already closed, cannot write: " + relativePath);
+        }
+        zipOutputStream.putNextEntry(new ZipEntry(relativePath));
+        // The entry writer must not close the archive stream, only flush into it
+        Writer writer = new OutputStreamWriter(new FilterOutputStream(zipOutputStream) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        }, StandardCharsets.UTF_8);
+        content.writeTo(writer);
+        writer.close();
+        zipOutputStream.closeEntry();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        zipOutputStream.close();
+    }
+}
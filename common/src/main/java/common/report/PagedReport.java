@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common.report;
+
+import common.output.OutputSink;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Function;
+
+/**
+ * An HTML report whose bulky parts, such as the code of unsupported blocks, are kept out of the markup.
+ * <p>
+ * The report is a small static HTML shell plus a data file holding the rows of its large sections as compressed JSON.
+ * The browser decompresses the data, renders each section a page at a time and only adds the code of a block to the
+ * page when it is expanded, so reports of very large estates stay small and open quickly. The data file is a script
+ * rather than plain JSON since pages opened from disk are not allowed to fetch sibling files.
+ */
+public final class PagedReport {
+
+    public static final int PAGE_SIZE = 50;
+    private static final String DATA_VARIABLE = "migrationReportData";
+    private static final String DATA_FILE_SUFFIX = ".data.js";
+
+    private final Function<String, String> shell;
+    private final DataSource dataSource;
+
+    /**
+     * Creates a paged report.
+     *
+     * @param shell      builds the HTML of the report given the script markup, which must be placed at the end of the
+     *                   body. Large sections are left as {@link #section(String)} placeholders.
+     * @param dataSource writes the rows of the large sections
+     */
+    public PagedReport(Function<String, String> shell, DataSource dataSource) {
+        this.shell = shell;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Writes the rows of the large sections of a report.
+     */
+    @FunctionalInterface
+    public interface DataSource {
+
+        void writeRows(ReportDataWriter writer) throws IOException;
+    }
+
+    /**
+     * Returns the placeholder that the rows of a section are rendered into.
+     *
+     * @param id id of the section
+     * @return placeholder markup
+     */
+    public static String section(String id) {
+        return "<div class=\"paged-section\" data-report-section=\"" + id + "\"></div>";
+    }
+
+    /**
+     * Returns the placeholder for a section whose rows are table rows, to be placed inside a {@code <table>}.
+     *
+     * @param id id of the section
+     * @return placeholder markup
+     */
+    public static String tableSection(String id) {
+        return "<tbody data-report-section=\"" + id + "\"></tbody>";
+    }
+
+    /**
+     * Returns the path of the data file written next to a report.
+     *
+     * @param htmlPath path of the report
+     * @return path of the data file
+     */
+    public static String dataFilePath(String htmlPath) {
+        String basePath = htmlPath.endsWith(".html") ? htmlPath.substring(0, htmlPath.length() - 5) : htmlPath;
+        return basePath + DATA_FILE_SUFFIX;
+    }
+
+    /**
+     * Generates the report as a single self-contained HTML document with the data inlined, for callers that display
+     * the report without writing it to disk. A report without any rows is rendered without scripts.
+     *
+     * @return HTML of the report
+     */
+    public String toHTML() {
+        StringWriter scripts = new StringWriter();
+        int rowCount;
+        try {
+            scripts.write("<script>");
+            rowCount = writeDataScript(scripts);
+            scripts.write("</script>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Without any rows there is nothing to render, so the document is left free of scripts
+        return shell.apply(rowCount == 0 ? "" : scripts + RENDERER);
+    }
+
+    /**
+     * Writes the HTML shell and its data file to the sink. The data is streamed to the sink while it is generated.
+     *
+     * @param sink     destination of the report
+     * @param htmlPath path of the report relative to the sink root. The data file is written next to it.
+     * @throws IOException if the report could not be written
+     */
+    public void write(OutputSink sink, String htmlPath) throws IOException {
+        String dataPath = dataFilePath(htmlPath);
+        sink.write(dataPath, writer -> writeDataScript(writer));
+        String dataFileName = dataPath.substring(dataPath.lastIndexOf('/') + 1);
+        sink.write(htmlPath, shell.apply("<script src=\"" + dataFileName + "\"></script>\n" + RENDERER));
+    }
+
+    private int writeDataScript(Writer out) throws IOException {
+        out.write("window." + DATA_VARIABLE + " = \"");
+        ReportDataWriter writer = new ReportDataWriter(out);
+        try (writer) {
+            dataSource.writeRows(writer);
+        }
+        out.write("\";\n");
+        return writer.rowCount();
+    }
+
+    private static final String RENDERER = """
+            <style>
+              .report-pager { display: flex; align-items: center; gap: 12px; margin: 12px 0; }
+              .report-pager button { padding: 4px 12px; cursor: pointer; }
+              .report-pager button:disabled { cursor: default; opacity: 0.5; }
+              .block-toggle summary { cursor: pointer; color: #1565c0; margin: 8px 0; }
+            </style>
+            <script>
+              (function () {
+                const PAGE_SIZE = %d;
+
+                function decode(encoded) {
+                  const bytes = Uint8Array.from(atob(encoded), c => c.charCodeAt(0));
+                  const stream = new Blob([bytes]).stream().pipeThrough(new DecompressionStream('gzip'));
+                  return new Response(stream).json();
+                }
+
+                function element(tag, className, text) {
+                  const node = document.createElement(tag);
+                  if (className) {
+                    node.className = className;
+                  }
+                  if (text !== undefined) {
+                    node.textContent = text;
+                  }
+                  return node;
+                }
+
+                function codeBlock(row) {
+                  const item = element('div', 'block-item');
+                  const header = element('div', 'block-header');
+                  header.appendChild(element('span', 'block-number', row.title));
+                  if (row.file) {
+                    header.appendChild(element('span', 'file-name', row.file));
+                  }
+                  header.appendChild(element('span', 'block-type', row.kind));
+                  item.appendChild(header);
+                  // The code is only added to the page once the block is expanded
+                  const details = element('details', 'block-toggle');
+                  details.appendChild(element('summary', null, 'Show code'));
+                  details.addEventListener('toggle', () => {
+                    if (details.open && !details.querySelector('pre')) {
+                      const pre = element('pre', 'block-code');
+                      pre.appendChild(element('code', null, row.code));
+                      details.appendChild(pre);
+                    }
+                  });
+                  item.appendChild(details);
+                  return item;
+                }
+
+                function renderSection(container, rows) {
+                  const pageCount = Math.ceil(rows.length / PAGE_SIZE);
+                  const pager = element('div', 'report-pager');
+                  const previous = element('button', null, 'Previous');
+                  const label = element('span');
+                  const next = element('button', null, 'Next');
+                  pager.append(previous, label, next);
+                  let page = 0;
+
+                  function show(index) {
+                    page = index;
+                    container.replaceChildren();
+                    for (const row of rows.slice(page * PAGE_SIZE, (page + 1) * PAGE_SIZE)) {
+                      if (row.html !== undefined) {
+                        container.insertAdjacentHTML('beforeend', row.html);
+                      } else {
+                        container.appendChild(codeBlock(row));
+                      }
+                    }
+                    label.textContent = 'Page ' + (page + 1) + ' of ' + pageCount + ' (' + rows.length + ' items)';
+                    previous.disabled = page === 0;
+                    next.disabled = page >= pageCount - 1;
+                  }
+
+                  previous.addEventListener('click', () => show(page - 1));
+                  next.addEventListener('click', () => show(page + 1));
+                  if (pageCount > 1) {
+                    (container.closest('table') || container).after(pager);
+                  }
+                  show(0);
+                }
+
+                document.addEventListener('DOMContentLoaded', () => {
+                  const containers = document.querySelectorAll('[data-report-section]');
+                  if (containers.length === 0 || !window.%s) {
+                    return;
+                  }
+                  if (typeof DecompressionStream === 'undefined') {
+                    containers.forEach(c => c.textContent = 'This browser cannot display this section.');
+                    return;
+                  }
+                  decode(window.%s).then(data => {
+                    for (const section of data.sections) {
+                      document.querySelectorAll('[data-report-section="' + section.id + '"]')
+                          .forEach(container => renderSection(container, section.rows));
+                    }
+                  });
+                });
+              })();
+            </script>
+            """.formatted(PAGE_SIZE, DATA_VARIABLE, DATA_VARIABLE);
+}
@@ -22,6 +22,7 @@ import common.ReportUtils;
 import common.TimeEstimation;
 import common.UnhandledElement;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,6 +32,8 @@ import java.util.Map;
  */
 public class ProjectReport {
 
+    private static final String UNSUPPORTED_BLOCKS_SECTION = "unsupportedBlocks";
+
     private final String reportTitle;
     private final int totalElementCount;
     private final int unhandledElementCount;
@@ -99,6 +102,15 @@ public class ProjectReport {
      * @return A string containing the HTML report
      */
     public String toHTML() {
+        return toPagedReport().toHTML();
+    }
+
+    /**
+     * Generates the report as an HTML shell with the code of the unsupported blocks kept in a separate data file.
+     *
+     * @return The paged report
+     */
+    public PagedReport toPagedReport() {
         // Calculate frequencies for types from the unhandled elements map
         Map<String, Integer> typeFrequencyMap = calculateTypeFrequencies();
 
@@ -126,35 +138,48 @@ public class ProjectReport {
                 .merge(partiallySupportedComponent.styles())
                 .merge(footerComponent.styles());
 
-        // Build final HTML document
-        StringBuilder html = new StringBuilder();
-
-        // HTML head with merged styles
-        html.append("""
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <title>%s</title>
-                    <style>
-                %s
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <h1>%s</h1>
-                """.formatted(reportTitle, mergedStyles.toHTML(), reportTitle));
-
-        // Append all component content
-        html.append(summaryComponent.content());
-        html.append(estimateViewComponent.content());
-        html.append(estimationScenariosComponent.content());
-        html.append(unsupportedElementsComponent.content());
-        html.append(unsupportedBlocksComponent.content());
-        html.append(partiallySupportedComponent.content());
-        html.append("    </div>\n"); // Close the container div
-        html.append(footerComponent.content());
-
-        return html.toString();
+        return new PagedReport(scripts -> {
+            // Build final HTML document
+            StringBuilder html = new StringBuilder();
+
+            // HTML head with merged styles
+            html.append("""
+                    <!DOCTYPE html>
+                    <html>
+                    <head>
+                        <title>%s</title>
+                        <style>
+                    %s
+                        </style>
+                    </head>
+                    <body>
+                        <div class="container">
+                            <h1>%s</h1>
+                    """.formatted(reportTitle, mergedStyles.toHTML(), reportTitle));
+
+            // Append all component content
+            html.append(summaryComponent.content());
+            html.append(estimateViewComponent.content());
+            html.append(estimationScenariosComponent.content());
+            html.append(unsupportedElementsComponent.content());
+            html.append(unsupportedBlocksComponent.content());
+            html.append(partiallySupportedComponent.content());
+            html.append("    </div>\n"); // Close the container div
+            html.append(scripts);
+            html.append(footerComponent.content());
+
+            return html.toString();
+        }, this::writeUnsupportedBlockRows);
+    }
+
+    private void writeUnsupportedBlockRows(ReportDataWriter writer) throws IOException {
+        writer.beginSection(UNSUPPORTED_BLOCKS_SECTION);
+        int blockCounter = 1;
+        for (Map.Entry<String, Collection<UnhandledElement>> entry : unhandledElements.entrySet()) {
+            for (UnhandledElement elem : entry.getValue()) {
+                writer.addCodeBlock("Block #" + blockCounter++, entry.getKey(), elem.fileName(), elem.code());
+            }
+        }
     }
 
     /**
@@ -308,39 +333,20 @@ public class ProjectReport {
     }
 
     /**
-     * Generates the unsupported elements blocks section HTML.
+     * Generates the unsupported elements blocks section HTML. The blocks themselves are rendered from the report data.
      *
      * @param unhandledElements Map containing unhandled elements
      * @return ReportComponent containing HTML and styles for the unsupported elements blocks section
      */
     private static ReportComponent generateUnsupportedElementsBlocks(
             Map<String, Collection<UnhandledElement>> unhandledElements) {
-        int blockCounter = 1;
-        boolean hasUnhandledBlocks = false;
-        StringBuilder blocksSection = new StringBuilder();
-
-        for (Map.Entry<String, Collection<UnhandledElement>> entry : unhandledElements.entrySet()) {
-            String kind = entry.getKey();
-            for (UnhandledElement elem : entry.getValue()) {
-                if (!hasUnhandledBlocks) {
-                    blocksSection.append("""
-                                <div class="summary-container unsupported-blocks">
-                                    <h2>Activities that required manual Conversion</h2>
-                            """);
-                    hasUnhandledBlocks = true;
-                }
-                String blockName = "Block #" + blockCounter++;
-                appendElement(blocksSection, kind, blockName, elem.code(), elem.fileName());
-            }
-        }
-
-        String htmlContent;
-        if (hasUnhandledBlocks) {
-            blocksSection.append("</div>");
-            htmlContent = blocksSection.toString();
-        } else {
-            htmlContent = "";
-        }
+        boolean hasUnhandledBlocks = unhandledElements.values().stream().anyMatch(elements -> !elements.isEmpty());
+        String htmlContent = hasUnhandledBlocks ? """
+                    <div class="summary-container unsupported-blocks">
+                        <h2>Activities that required manual Conversion</h2>
+                        %s
+                    </div>
+                """.formatted(PagedReport.section(UNSUPPORTED_BLOCKS_SECTION)) : "";
 
         Styles styles = StyleDefinitions.getSharedContainerStyles()
                 .merge(StyleDefinitions.getCodeBlockStyles());
@@ -471,19 +477,6 @@ public class ProjectReport {
         return new ReportComponent(htmlContent, styles);
     }
 
-    private static void appendElement(StringBuilder sb, String kind, String name, String code, String fileName) {
-        sb.append("""
-                        <div class="block-item">
-                            <div class="block-header">
-                                <span class="block-number">%s</span>
-                                <span class="file-name">%s</span>
-                                <span class="block-type">%s</span>
-                            </div>
-                            <pre class="block-code"><code>%s</code></pre>
-                        </div>
-                """.formatted(name, fileName, kind, ReportUtils.escapeHtml(code)));
-    }
-
     /**
      * Calculate percentage of a part relative to a total.
      *
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common.report;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the rows of a {@link PagedReport} as gzip-compressed JSON, encoded in base64 so it can be embedded in a
+ * JavaScript string literal. Rows are grouped into sections, each rendered into the report element with the matching
+ * {@code data-report-section} attribute.
+ * <p>
+ * The data has the shape {@code {"sections": [{"id": "...", "rows": [...]}]}}, where a row is either
+ * {@code {"html": "..."}} for pre-rendered markup or {@code {"title", "kind", "file", "code"}} for a code block.
+ */
+public final class ReportDataWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer json;
+    private boolean inSection;
+    private boolean firstSection = true;
+    private boolean firstRow;
+    private int rowCount;
+
+    ReportDataWriter(Writer out) throws IOException {
+        OutputStream base64 = Base64.getEncoder().wrap(new AsciiOutputStream(out));
+        this.json = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(base64, BUFFER_SIZE),
+                StandardCharsets.UTF_8), BUFFER_SIZE);
+        json.write("{\"sections\":[");
+    }
+
+    /**
+     * Starts a new section. Rows added afterwards belong to it until the next section is started.
+     *
+     * @param id id of the section, matching the {@code data-report-section} attribute of its container
+     * @throws IOException if the data could not be written
+     */
+    public void beginSection(String id) throws IOException {
+        endSection();
+        if (!firstSection) {
+            json.write(',');
+        }
+        firstSection = false;
+        json.write("{\"id\":");
+        writeString(id);
+        json.write(",\"rows\":[");
+        inSection = true;
+        firstRow = true;
+    }
+
+    /**
+     * Adds a row of pre-rendered markup. The markup is inserted as is, so any user content must already be escaped.
+     *
+     * @param html markup of the row
+     * @throws IOException if the data could not be written
+     */
+    public void addHtml(String html) throws IOException {
+        beginRow();
+        json.write("{\"html\":");
+        writeString(html);
+        json.write('}');
+    }
+
+    /**
+     * Adds a code block row. The code is shown only when the reader expands the block.
+     *
+     * @param title    title of the block, such as its number
+     * @param kind     kind of element the block represents
+     * @param fileName file the block was found in, or {@code null} if unknown
+     * @param code     source of the block
+     * @throws IOException if the data could not be written
+     */
+    public void addCodeBlock(String title, String kind, String fileName, String code) throws IOException {
+        beginRow();
+        json.write("{\"title\":");
+        writeString(title);
+        json.write(",\"kind\":");
+        writeString(kind);
+        if (fileName != null) {
+            json.write(",\"file\":");
+            writeString(fileName);
+        }
+        json.write(",\"code\":");
+        writeString(code);
+        json.write('}');
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        endSection();
+        json.write("]}");
+        json.close();
+    }
+
+    private void beginRow() throws IOException {
+        if (!inSection) {
+            throw new IllegalStateException("A section must be started before adding rows");
+        }
+        if (!firstRow) {
+            json.write(',');
+        }
+        firstRow = false;
+        rowCount++;
+    }
+
+    private void endSection() throws IOException {
+        if (inSection) {
+            json.write("]}");
+            inSection = false;
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            json.write("null");
+            return;
+        }
+        json.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.write("\\\"");
+                case '\\' -> json.write("\\\\");
+                case '\n' -> json.write("\\n");
+                case '\r' -> json.write("\\r");
+                case '\t' -> json.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.write(c);
+                    }
+                }
+            }
+        }
+        json.write('"');
+    }
+
+    /**
+     * Passes the ASCII output of the base64 encoder to a character writer without closing it.
+     */
+    private static final class AsciiOutputStream extends OutputStream {
+
+        private final Writer out;
+
+        AsciiOutputStream(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write((char) (b & 0xFF));
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            char[] chars = new char[len];
+            for (int i = 0; i < len; i++) {
+                chars[i] = (char) (b[off + i] & 0xFF);
+            }
+            out.write(chars);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import common.output.ZipOutputSink;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestArchiveUtils {
+
+    @Test
+    public void testReadProjectFromArchive() throws IOException {
+        Path archive = Files.createTempDirectory("archive-test").resolve("sample_project.zip");
+        try (ZipOutputSink sink = new ZipOutputSink(archive)) {
+            sink.write("sample_project/Processes/main.bwp", "<process/>");
+            sink.write("sample_project/Schemas/types.xsd", "<schema/>");
+        }
+
+        Assert.assertTrue(ArchiveUtils.isArchive(archive));
+        Assert.assertEquals(ArchiveUtils.archiveName(archive), "sample_project");
+        try (FileSystem fs = ArchiveUtils.openArchive(archive)) {
+            Path projectRoot = ArchiveUtils.projectRoot(fs);
+            Assert.assertEquals(projectRoot.getFileName().toString(), "sample_project");
+            Assert.assertEquals(Files.readString(projectRoot.resolve("Processes/main.bwp")), "<process/>");
+        }
+    }
+
+    @Test
+    public void testArchiveWithoutTopLevelDirectory() throws IOException {
+        Path archive = Files.createTempDirectory("archive-test").resolve("artifacts.JAR");
+        try (ZipOutputSink sink = new ZipOutputSink(archive)) {
+            sink.write("api.xml", "<api/>");
+            sink.write("sequences/main.xml", "<sequence/>");
+        }
+
+        Assert.assertTrue(ArchiveUtils.isArchive(archive));
+        Assert.assertEquals(ArchiveUtils.archiveName(archive), "artifacts");
+        try (FileSystem fs = ArchiveUtils.openArchive(archive)) {
+            Path projectRoot = ArchiveUtils.projectRoot(fs);
+            Assert.assertNull(projectRoot.getFileName());
+            Assert.assertTrue(Files.isRegularFile(projectRoot.resolve("api.xml")));
+        }
+    }
+
+    @Test
+    public void testDirectoryIsNotArchive() throws IOException {
+        Path dir = Files.createTempDirectory("archive-test").resolve("project.zip");
+        Files.createDirectories(dir);
+        Assert.assertFalse(ArchiveUtils.isArchive(dir));
+    }
+}
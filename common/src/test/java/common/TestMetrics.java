@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import common.metrics.MetricsOutputSink;
+import common.metrics.MetricsRecord;
+import common.metrics.MetricsRecorder;
+import common.metrics.NdjsonMetricsWriter;
+import common.metrics.PhaseTimer;
+import common.output.InMemoryOutputSink;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class TestMetrics {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testRecordsWrittenOnePerLine() throws IOException {
+        Path file = Files.createTempDirectory("metrics-test").resolve("metrics.ndjson");
+        PhaseTimer timer = new PhaseTimer();
+        timer.add("parse", System.nanoTime());
+        try (NdjsonMetricsWriter writer = NdjsonMetricsWriter.open(file)) {
+            writer.record(MetricsRecord.of(MetricsRecord.SOURCE_FILE, "mule")
+                    .put("file", "main.xml")
+                    .put("unsupportedTags", Map.of("db:select", 2)));
+            // Each record is visible as soon as it is written
+            Assert.assertEquals(Files.readAllLines(file).size(), 1);
+            writer.record(MetricsRecord.of(MetricsRecord.PROJECT, "mule").put("project", "demo").phases(timer));
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        Assert.assertEquals(lines.size(), 2);
+        JsonNode fileRecord = MAPPER.readTree(lines.get(0));
+        Assert.assertEquals(fileRecord.get("type").asText(), "file");
+        Assert.assertEquals(fileRecord.get("tool").asText(), "mule");
+        Assert.assertTrue(fileRecord.has("timestamp"));
+        Assert.assertEquals(fileRecord.get("unsupportedTags").get("db:select").asInt(), 2);
+        JsonNode projectRecord = MAPPER.readTree(lines.get(1));
+        Assert.assertEquals(projectRecord.get("project").asText(), "demo");
+        Assert.assertTrue(projectRecord.get("phases").has("parse"));
+    }
+
+    @Test
+    public void testOutputSinkCountsLines() throws IOException {
+        Path file = Files.createTempDirectory("metrics-test").resolve("metrics.ndjson");
+        InMemoryOutputSink files = new InMemoryOutputSink();
+        try (NdjsonMetricsWriter writer = NdjsonMetricsWriter.open(file);
+             MetricsOutputSink sink = new MetricsOutputSink(files, writer, "tibco", "demo")) {
+            sink.write("main.bal", "import ballerina/http;\n\nservice / on ep {\n}\n");
+            sink.write("types.bal", "type T int;");
+            sink.write("report.data.js", out -> out.write("a\nb\n"));
+            Assert.assertEquals(sink.fileCount(), 3);
+            Assert.assertEquals(sink.lineCount(), 6L);
+        }
+
+        Assert.assertEquals(files.files().get("report.data.js"), "a\nb\n");
+        List<String> lines = Files.readAllLines(file);
+        Assert.assertEquals(lines.size(), 3);
+        JsonNode first = MAPPER.readTree(lines.get(0));
+        Assert.assertEquals(first.get("type").asText(), "output");
+        Assert.assertEquals(first.get("project").asText(), "demo");
+        Assert.assertEquals(first.get("file").asText(), "main.bal");
+        Assert.assertEquals(first.get("lines").asLong(), 3L);
+    }
+
+    @Test
+    public void testBallerinaLinesCountedIndependentOfLayout() throws IOException {
+        InMemoryOutputSink files = new InMemoryOutputSink();
+        try (MetricsOutputSink formatted = new MetricsOutputSink(files, MetricsRecorder.NONE, "mule", "demo");
+             MetricsOutputSink unformatted = new MetricsOutputSink(files, MetricsRecorder.NONE, "mule", "demo")) {
+            formatted.write("main.bal", "function f(int a,\n        int b) returns int {\n    return a + b;\n}\n");
+            unformatted.write("main.bal", "function f(int a, int b) returns int {return a + b;}");
+            Assert.assertEquals(unformatted.lineCount(), formatted.lineCount());
+            Assert.assertEquals(formatted.lineCount(), 3L);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import common.daemon.MigrationDaemon;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class TestMigrationDaemon {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testMigrateReportsProgressAndResult() throws Exception {
+        try (Client client = new Client(parameters -> {
+            progress(parameters, "stateCallback").accept("Parsing " + parameters.get("sourcePath"));
+            return Map.of("textEdits", Map.of("main.bal", "import ballerina/http;"));
+        })) {
+            client.send("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"migrate\","
+                    + "\"params\":{\"sourcePath\":\"/tmp/app\"}}");
+            JsonNode state = client.receive();
+            Assert.assertEquals(state.get("method").asText(), "migrate/state");
+            Assert.assertEquals(state.get("params").get("id").asInt(), 1);
+            Assert.assertEquals(state.get("params").get("message").asText(), "Parsing /tmp/app");
+            JsonNode response = client.receive();
+            Assert.assertEquals(response.get("id").asInt(), 1);
+            Assert.assertEquals(response.get("result").get("textEdits").get("main.bal").asText(),
+                    "import ballerina/http;");
+        }
+    }
+
+    @Test
+    public void testCancelRunningRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        try (Client client = new Client(parameters -> {
+            started.countDown();
+            Consumer<String> log = progress(parameters, "logCallback");
+            while (true) {
+                log.accept("working");
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return Map.of("error", "interrupted");
+                }
+            }
+        })) {
+            client.send("{\"jsonrpc\":\"2.0\",\"id\":\"a\",\"method\":\"migrate\",\"params\":{}}");
+            started.await();
+            client.send("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"cancel\",\"params\":{\"id\":\"a\"}}");
+            JsonNode cancelResponse = null;
+            JsonNode migrateResponse = null;
+            // Progress sent before the cancellation took effect is skipped, and the two responses may come in any order
+            while (cancelResponse == null || migrateResponse == null) {
+                JsonNode message = client.receive();
+                if (message.has("method")) {
+                    continue;
+                }
+                if (message.get("id").isInt()) {
+                    cancelResponse = message;
+                } else {
+                    migrateResponse = message;
+                }
+            }
+            Assert.assertTrue(cancelResponse.get("result").asBoolean());
+            Assert.assertEquals(migrateResponse.get("id").asText(), "a");
+            Assert.assertEquals(migrateResponse.get("error").get("code").asInt(), MigrationDaemon.REQUEST_CANCELLED);
+        }
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        try (Client client = new Client(parameters -> Map.of("error", "Source path does not exist"))) {
+            client.send("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"migrate\",\"params\":{}}");
+            JsonNode failed = client.receive();
+            Assert.assertEquals(failed.get("error").get("code").asInt(), MigrationDaemon.MIGRATION_FAILED);
+            Assert.assertEquals(failed.get("error").get("message").asText(), "Source path does not exist");
+
+            client.send("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"convert\"}");
+            Assert.assertEquals(client.receive().get("error").get("code").asInt(), MigrationDaemon.METHOD_NOT_FOUND);
+
+            client.send("not json");
+            Assert.assertEquals(client.receive().get("error").get("code").asInt(), MigrationDaemon.PARSE_ERROR);
+
+            client.send("{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"migrate\",\"params\":{\"memoryLimitMb\":0}}");
+            Assert.assertEquals(client.receive().get("error").get("code").asInt(), MigrationDaemon.INVALID_PARAMS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<String> progress(Map<String, Object> parameters, String key) {
+        return (Consumer<String>) parameters.get(key);
+    }
+
+    /**
+     * Runs a daemon on a background thread and talks to it over pipes. Closing the client shuts the daemon down.
+     */
+    private static final class Client implements AutoCloseable {
+
+        private final Writer requests;
+        private final BufferedReader responses;
+        private final Thread daemonThread;
+
+        Client(Function<Map<String, Object>, Map<String, Object>> migrator) throws IOException {
+            PipedOutputStream requestOut = new PipedOutputStream();
+            PipedInputStream requestIn = new PipedInputStream(requestOut);
+            PipedOutputStream responseOut = new PipedOutputStream();
+            PipedInputStream responseIn = new PipedInputStream(responseOut, 1024 * 1024);
+            MigrationDaemon daemon = new MigrationDaemon("test", migrator, new MigrationDaemon.Options(2, 4, 16));
+            daemonThread = new Thread(() -> {
+                try {
+                    daemon.serve(requestIn, responseOut);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            daemonThread.start();
+            requests = new OutputStreamWriter(requestOut, StandardCharsets.UTF_8);
+            responses = new BufferedReader(new InputStreamReader(responseIn, StandardCharsets.UTF_8));
+        }
+
+        void send(String message) throws IOException {
+            requests.write(message + "\n");
+            requests.flush();
+        }
+
+        JsonNode receive() throws IOException {
+            return MAPPER.readTree(responses.readLine());
+        }
+
+        @Override
+        public void close() throws Exception {
+            send("{\"jsonrpc\":\"2.0\",\"id\":0,\"method\":\"shutdown\"}");
+            JsonNode message;
+            do {
+                message = receive();
+            } while (!message.has("id") || message.get("id").asInt(-1) != 0);
+            daemonThread.join();
+        }
+    }
+}
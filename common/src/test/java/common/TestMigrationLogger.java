@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+public class TestMigrationLogger {
+
+    @Test
+    public void testDisabledMessagesAreNotBuilt() {
+        List<String> records = new ArrayList<>();
+        MigrationLogger logger = MigrationLogger.forLogger(captureLogger("test-disabled", records),
+                LoggingUtils.Level.WARN);
+
+        logger.log(LoggingUtils.Level.INFO, () -> {
+            throw new AssertionError("Message of a disabled level must not be built");
+        });
+        logger.log(LoggingUtils.Level.INFO, "%s", new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("Arguments of a disabled level must not be formatted");
+            }
+        });
+        logger.log(LoggingUtils.Level.WARN, () -> "warning");
+        logger.log(LoggingUtils.Level.SEVERE, "%s %d", "severe", 1);
+
+        Assert.assertFalse(logger.isEnabled(LoggingUtils.Level.INFO));
+        Assert.assertEquals(records, List.of("WARNING warning", "SEVERE severe 1"));
+    }
+
+    @Test
+    public void testCallbackFormat() {
+        List<String> messages = new ArrayList<>();
+        MigrationLogger logger = MigrationLogger.forCallback(messages::add);
+
+        logger.log(LoggingUtils.Level.INFO, () -> "info");
+        logger.log(LoggingUtils.Level.ERROR, "error");
+
+        Assert.assertEquals(messages, List.of("[INFO] info", "[ERROR] error"));
+    }
+
+    @Test
+    public void testAsyncLoggerPreservesOrder() {
+        List<String> records = Collections.synchronizedList(new ArrayList<>());
+        AsyncMigrationLogger logger = new AsyncMigrationLogger(
+                MigrationLogger.forLogger(captureLogger("test-async", records), LoggingUtils.Level.INFO));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            logger.log(LoggingUtils.Level.INFO, "message " + i);
+            expected.add("INFO message " + i);
+        }
+        logger.flush();
+
+        Assert.assertEquals(records, expected);
+    }
+
+    private static Logger captureLogger(String name, List<String> records) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record.getLevel() + " " + record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return logger;
+    }
+}
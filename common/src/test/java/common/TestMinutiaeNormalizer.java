@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TestMinutiaeNormalizer {
+
+    @Test
+    public void testNormalizeLayout() {
+        String source = "import ballerina/http;\nimport ballerina/log;\n\n\n\n" +
+                "public   function foo(int a) returns int {   if a > 1 {return a;} else {\n\n\nreturn 0;} }\n" +
+                "// trailing comment\n";
+        String expected = """
+                import ballerina/http;
+                import ballerina/log;
+
+                public function foo(int a) returns int {
+                    if a > 1 {
+                        return a;
+                    } else {
+                        return 0;
+                    }
+                }
+                // trailing comment
+                """;
+        Assert.assertEquals(MinutiaeNormalizer.normalize(source), expected);
+    }
+
+    @Test
+    public void testTemplatesAndMappingsKeptInline() {
+        String source = "function f() returns string {map<int> m = {a: 1,  b: 2};return string `a   ${m.length()}`;}";
+        String expected = """
+                function f() returns string {
+                    map<int> m = {a: 1, b: 2};
+                    return string `a   ${m.length()}`;
+                }
+                """;
+        Assert.assertEquals(MinutiaeNormalizer.normalize(source), expected);
+    }
+
+    @Test
+    public void testNormalizeIsIdempotentAndParses() {
+        String source = "type R record {|int a;string b;|};\nservice /api on new http:Listener(9090) {\n" +
+                "resource function get greeting() returns string {\nreturn \"hi\";\n}\n}\n";
+        String normalized = MinutiaeNormalizer.normalize(source);
+        Assert.assertEquals(MinutiaeNormalizer.normalize(normalized), normalized);
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(normalized));
+        Assert.assertFalse(syntaxTree.hasDiagnostics());
+    }
+
+    @Test
+    public void testCanonicalLayoutIgnoresLineBreaks() {
+        String wrapped = "function f(int a,\n        int b) returns int {\n    // sum\n    return a +\n        b;\n" +
+                "}\n\n\ntype R record {|\n    int a;\n|};\n";
+        String unwrapped = "function f(int a, int b) returns int { // sum\n return a + b;} " +
+                "type R record {| int a; |};";
+        String expected = """
+                function f(int a, int b) returns int {
+                    // sum
+                    return a + b;
+                }
+
+                type R record {|
+                    int a;
+                |};
+                """;
+        Assert.assertEquals(MinutiaeNormalizer.canonicalize(wrapped), expected);
+        Assert.assertEquals(MinutiaeNormalizer.canonicalize(unwrapped), expected);
+    }
+}
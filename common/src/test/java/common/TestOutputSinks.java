@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import common.output.DirectoryOutputSink;
+import common.output.InMemoryOutputSink;
+import common.output.OutputSink;
+import common.output.ZipOutputSink;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class TestOutputSinks {
+
+    @Test
+    public void testInMemorySink() {
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        sink.write("main.bal", "public function main() {\n}\n");
+        sink.write("Ballerina.toml", "[package]\n");
+        sink.write("main.bal", "// replaced\n");
+
+        Map<String, String> files = sink.files();
+        Assert.assertEquals(List.copyOf(files.keySet()), List.of("Ballerina.toml", "main.bal"));
+        Assert.assertEquals(files.get("main.bal"), "// replaced\n");
+    }
+
+    @Test
+    public void testDirectorySink() throws IOException {
+        Path root = Files.createTempDirectory("output-sink-test");
+        try (OutputSink sink = new DirectoryOutputSink(root)) {
+            sink.write("main.bal", "public function main() {\n}\n");
+            sink.write("tests/main_test.bal", "import ballerina/test;\n");
+        }
+
+        Assert.assertEquals(Files.readString(root.resolve("main.bal")), "public function main() {\n}\n");
+        Assert.assertEquals(Files.readString(root.resolve("tests/main_test.bal")), "import ballerina/test;\n");
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testDirectorySinkRejectsPathsOutsideRoot() throws IOException {
+        Path root = Files.createTempDirectory("output-sink-test");
+        new DirectoryOutputSink(root).write("../escaped.bal", "");
+    }
+
+    @Test
+    public void testZipSink() throws IOException {
+        Path zipFile = Files.createTempDirectory("output-sink-test").resolve("out/project.zip");
+        try (OutputSink sink = new ZipOutputSink(zipFile)) {
+            sink.write("main.bal", "public function main() {\n}\n");
+            sink.write("tests/main_test.bal", "import ballerina/test;\n");
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(zipFile))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Assert.assertEquals(entries, Map.of("main.bal", "public function main() {\n}\n",
+                "tests/main_test.bal", "import ballerina/test;\n"));
+    }
+}
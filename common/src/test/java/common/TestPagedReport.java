@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package common;
+
+import common.output.InMemoryOutputSink;
+import common.report.PagedReport;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+public class TestPagedReport {
+
+    private static final String DATA_PREFIX = "window.migrationReportData = \"";
+
+    @Test
+    public void testShellAndDataWrittenSeparately() throws IOException {
+        PagedReport report = createReport();
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        report.write(sink, "project/report.html");
+
+        Map<String, String> files = sink.files();
+        Assert.assertEquals(files.keySet(), Set.of("project/report.html", "project/report.data.js"));
+
+        String html = files.get("project/report.html");
+        Assert.assertTrue(html.contains("<script src=\"report.data.js\"></script>"));
+        Assert.assertTrue(html.contains("data-report-section=\"blocks\""));
+        Assert.assertFalse(html.contains("<flow name"), "Code must not be inlined in the shell");
+
+        Assert.assertEquals(decode(files.get("project/report.data.js")),
+                "{\"sections\":[{\"id\":\"blocks\",\"rows\":[" +
+                        "{\"title\":\"Block #1\",\"kind\":\"flow\",\"file\":\"main.xml\"," +
+                        "\"code\":\"<flow name=\\\"a\\\">\\n\\t</flow>\"}," +
+                        "{\"title\":\"Block #2\",\"kind\":\"flow\",\"code\":\"\\u0001\"}]}," +
+                        "{\"id\":\"cards\",\"rows\":[{\"html\":\"<div>card</div>\"}]}]}");
+    }
+
+    @Test
+    public void testSelfContainedReportInlinesData() {
+        String html = createReport().toHTML();
+
+        int start = html.indexOf("<script>" + DATA_PREFIX);
+        Assert.assertTrue(start > 0);
+        Assert.assertTrue(html.startsWith("<html><body>"));
+        Assert.assertTrue(html.endsWith("</body></html>"));
+        Assert.assertFalse(html.contains("<flow name"), "Code must be compressed, not inlined as text");
+    }
+
+    @Test
+    public void testDataFilePath() {
+        Assert.assertEquals(PagedReport.dataFilePath("report.html"), "report.data.js");
+        Assert.assertEquals(PagedReport.dataFilePath("a/b/summary"), "a/b/summary.data.js");
+    }
+
+    private static PagedReport createReport() {
+        return new PagedReport(scripts -> "<html><body>" + PagedReport.section("blocks") +
+                "<table>" + PagedReport.tableSection("cards") + "</table>" + scripts + "</body></html>",
+                writer -> {
+                    writer.beginSection("blocks");
+                    writer.addCodeBlock("Block #1", "flow", "main.xml", "<flow name=\"a\">\n\t</flow>");
+                    writer.addCodeBlock("Block #2", "flow", null, "\u0001");
+                    writer.beginSection("cards");
+                    writer.addHtml("<div>card</div>");
+                });
+    }
+
+    private static String decode(String dataScript) throws IOException {
+        Assert.assertTrue(dataScript.startsWith(DATA_PREFIX));
+        Assert.assertTrue(dataScript.endsWith("\";\n"));
+        String encoded = dataScript.substring(DATA_PREFIX.length(), dataScript.length() - 3);
+        byte[] compressed = Base64.getDecoder().decode(encoded);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package common;
+
+import common.output.InMemoryOutputSink;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static common.ConversionUtils.stmtFrom;
+import static common.ConversionUtils.typeFrom;
+
+public class TestParallelCodeGenerator {
+
+    @Test
+    public void testSourcesMatchSequentialGeneration() {
+        List<BallerinaModel.TextDocument> documents = new ArrayList<>();
+        for (int i = 9; i >= 0; i--) {
+            documents.add(createDocument("file_" + i + ".bal", "fn" + i));
+        }
+
+        SortedMap<String, String> sources = new ParallelCodeGenerator(4, Duration.ofMinutes(1),
+                FormattingMode.FULL, (level, msg) -> {
+        }).generateSources(documents);
+
+        Assert.assertEquals(sources.size(), documents.size());
+        Assert.assertEquals(sources.firstKey(), "file_0.bal");
+        Assert.assertEquals(sources.lastKey(), "file_9.bal");
+        for (BallerinaModel.TextDocument document : documents) {
+            Assert.assertEquals(sources.get(document.documentName()), document.toSource());
+        }
+    }
+
+    @Test
+    public void testSourcesStreamedToSink() {
+        List<BallerinaModel.TextDocument> documents = List.of(createDocument("b.bal", "b"),
+                createDocument("a.bal", "a"));
+        ParallelCodeGenerator generator = new ParallelCodeGenerator(2, Duration.ofMinutes(1), FormattingMode.FULL,
+                (level, msg) -> {
+                });
+
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        generator.generateSources(documents, sink);
+
+        Assert.assertEquals(sink.files(), generator.generateSources(documents));
+    }
+
+    @Test
+    public void testConcurrentFormattingMatchesSequentialGeneration() {
+        List<BallerinaModel.TextDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            documents.add(createDocument("file_" + i + ".bal", "fn" + i));
+        }
+
+        SortedMap<String, String> sources = new ParallelCodeGenerator(8, Duration.ofMinutes(1),
+                FormattingMode.FULL, (level, msg) -> {
+        }).generateSources(documents);
+
+        Assert.assertEquals(sources.size(), documents.size());
+        for (BallerinaModel.TextDocument document : documents) {
+            Assert.assertEquals(sources.get(document.documentName()),
+                    new CodeGenerator(document).generateSource(FormattingMode.FULL));
+        }
+    }
+
+    @Test
+    public void testTimedOutDocumentIsWrittenUnformatted() {
+        BallerinaModel.TextDocument slow = createDocument("slow.bal", "slow");
+        BallerinaModel.TextDocument fast = createDocument("fast.bal", "fast");
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> warnings = new CopyOnWriteArrayList<>();
+        // A single worker that ignores interrupts, like the formatter, so the fast document can only be generated if
+        // the pool grows once the slow one times out
+        ParallelCodeGenerator generator = new ParallelCodeGenerator(1, Duration.ofMillis(200), document -> {
+            if (document == slow) {
+                awaitUninterruptibly(release);
+            }
+            return new CodeGenerator(document).generateSource(FormattingMode.FULL);
+        }, (level, msg) -> {
+            if (level == LoggingUtils.Level.WARN) {
+                warnings.add(msg);
+            }
+        });
+
+        try {
+            SortedMap<String, String> sources = generator.generateSources(List.of(slow, fast));
+
+            Assert.assertEquals(sources.get("slow.bal"),
+                    new CodeGenerator(slow).generateUnformattedSyntaxTree().toSourceCode());
+            Assert.assertEquals(sources.get("fast.bal"), new CodeGenerator(fast).generateSource(FormattingMode.FULL));
+            Assert.assertEquals(warnings,
+                    List.of("Formatting timed out for slow.bal, writing unformatted source instead"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testFailedDocumentIsWrittenUnformatted() {
+        BallerinaModel.TextDocument failing = createDocument("failing.bal", "failing");
+        BallerinaModel.TextDocument other = createDocument("other.bal", "other");
+        List<String> warnings = new CopyOnWriteArrayList<>();
+        ParallelCodeGenerator generator = new ParallelCodeGenerator(2, Duration.ofMinutes(1), document -> {
+            if (document == failing) {
+                throw new IllegalStateException("formatter failure");
+            }
+            return new CodeGenerator(document).generateSource(FormattingMode.FULL);
+        }, (level, msg) -> {
+            if (level == LoggingUtils.Level.WARN) {
+                warnings.add(msg);
+            }
+        });
+
+        SortedMap<String, String> sources = generator.generateSources(List.of(failing, other));
+
+        Assert.assertEquals(sources.get("failing.bal"),
+                new CodeGenerator(failing).generateUnformattedSyntaxTree().toSourceCode());
+        Assert.assertEquals(sources.get("other.bal"), new CodeGenerator(other).generateSource(FormattingMode.FULL));
+        Assert.assertEquals(warnings,
+                List.of("Formatting failed for failing.bal: formatter failure, writing unformatted source instead"));
+    }
+
+    @Test
+    public void testPendingDocumentsBoundedByParallelism() {
+        List<BallerinaModel.TextDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            documents.add(createDocument("file_" + i + ".bal", "fn" + i));
+        }
+        int parallelism = 2;
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger maxPending = new AtomicInteger();
+        ParallelCodeGenerator generator = new ParallelCodeGenerator(parallelism, Duration.ofMinutes(1), document -> {
+            maxPending.accumulateAndGet(started.incrementAndGet() - written.get(), Math::max);
+            return new CodeGenerator(document).generateSource(FormattingMode.FULL);
+        }, (level, msg) -> {
+        });
+
+        // A slow sink gives the workers time to run ahead if documents were all submitted up front
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        generator.generateSources(documents, (relativePath, content) -> {
+            sleep(Duration.ofMillis(20));
+            sink.write(relativePath, content);
+            written.incrementAndGet();
+        });
+
+        Assert.assertEquals(sink.files().size(), documents.size());
+        Assert.assertTrue(maxPending.get() <= parallelism, "Pending documents: " + maxPending.get());
+    }
+
+    @Test
+    public void testEmptyInput() {
+        SortedMap<String, String> sources = new ParallelCodeGenerator((level, msg) -> {
+        }).generateSources(List.of());
+        Assert.assertTrue(sources.isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        new ParallelCodeGenerator(0, Duration.ofMinutes(1), FormattingMode.FULL, (level, msg) -> {
+        });
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static BallerinaModel.TextDocument createDocument(String documentName, String functionName) {
+        BallerinaModel.Function function = new BallerinaModel.Function(Optional.of("public"), functionName,
+                List.of(new BallerinaModel.Parameter("value", typeFrom("int"))), Optional.of(typeFrom("int")),
+                new BallerinaModel.BlockFunctionBody(List.of(stmtFrom("return value + 1;"))));
+        return new BallerinaModel.TextDocument(documentName, List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(function), List.of());
+    }
+}
@@ -17,21 +17,35 @@
  */
 package mule;
 
+import common.ArchiveUtils;
 import common.ConversionUtils;
+import common.output.DirectoryOutputSink;
+import common.report.PagedReport;
 import mule.common.MuleLogger;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 public class MigratorUtils {
 
     public static final String BAL_PROJECT_SUFFIX = "_ballerina";
@@ -45,6 +59,22 @@ public class MigratorUtils {
             "xmlns:dw", "<dw:transform-message"
     );
 
+    private static final int MAX_DETECTED_VERSIONS = 1024;
+
+    private record DetectedVersion(FileTime lastModified, MuleMigrator.MuleVersion version) {
+    }
+
+    private static final Map<Path, DetectedVersion> DETECTED_VERSIONS = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, DetectedVersion> eldest) {
+                    return size() > MAX_DETECTED_VERSIONS;
+                }
+            });
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory(true);
+    // Version markers are matched on prefixed names, whether or not the config declares the prefixes
+    private static final XMLInputFactory PREFIXED_XML_INPUT_FACTORY = createXmlInputFactory(false);
+
     public static String getBalProjectName(String projectNameArg, String sourceName) {
         String projectName = projectNameArg != null ? projectNameArg : sourceName;
         return ConversionUtils.escapeIdentifier(projectName);
@@ -69,14 +99,25 @@ public class MigratorUtils {
                 Files.createDirectories(parent);
             }
             Files.writeString(filePath, content, StandardCharsets.UTF_8);
-            logger.logInfo("Wrote file: " + filePath);
+            logger.logInfo(() -> "Wrote file: " + filePath);
         } catch (IOException e) {
             logger.logSevere("Error writing to file: " + filePath + ", " + e.getMessage());
         }
     }
 
+    public static void writeReport(MuleLogger logger, Path targetDir, String fileName, PagedReport report) {
+        Path filePath = targetDir.resolve(fileName);
+        try {
+            // The report data is streamed to disk next to the report instead of being inlined in it
+            report.write(new DirectoryOutputSink(targetDir), fileName);
+            logger.logInfo(() -> "Wrote report: " + filePath);
+        } catch (IOException e) {
+            logger.logSevere("Error writing report: " + filePath + ", " + e.getMessage());
+        }
+    }
+
     public static void createDirectories(MuleLogger logger, Path path) {
-        logger.logInfo("Creating directories if they do not exist: " + path);
+        logger.logInfo(() -> "Creating directories if they do not exist: " + path);
         if (!Files.exists(path)) {
             try {
                 Files.createDirectories(path);
@@ -86,37 +127,52 @@ public class MigratorUtils {
         }
     }
 
-    public static List<Path> getImmediateSubdirectories(Path directory) throws IOException {
-        Stream<Path> paths = Files.list(directory);
-        return paths.filter(Files::isDirectory).collect(Collectors.toList());
+    /**
+     * Collects the XML files under the folder. The folder may be a directory of a mounted archive, so it is walked with
+     * the {@link Files} API rather than as a {@link java.io.File}. A folder that does not exist has no files.
+     *
+     * @param folder   folder to walk
+     * @param xmlFiles list to add the files found to, in path order
+     */
+    public static void collectXmlFiles(Path folder, List<Path> xmlFiles) {
+        xmlFiles.addAll(collectFiles(folder, Set.of(".xml")));
     }
 
-    public static void collectXmlFiles(File folder, List<File> xmlFiles) {
-        File[] files = folder.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.isDirectory()) {
-                    collectXmlFiles(file, xmlFiles);
-                } else if (file.getName().toLowerCase().endsWith(".xml")) {
-                    xmlFiles.add(file);
-                }
-            }
+    public static void collectYamlAndPropertyFiles(Path folder, List<Path> yamlFiles, List<Path> propertiesFiles) {
+        yamlFiles.addAll(collectFiles(folder, Set.of(".yaml", ".yml")));
+        propertiesFiles.addAll(collectFiles(folder, Set.of(".properties")));
+    }
+
+    private static List<Path> collectFiles(Path folder, Set<String> extensions) {
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(folder)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> hasExtension(path, extensions))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading directory: " + folder, e);
         }
     }
 
-    public static void collectYamlAndPropertyFiles(File folder, List<File> yamlFiles, List<File> propertiesFiles) {
-        File[] files = folder.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.isDirectory()) {
-                    collectYamlAndPropertyFiles(file, yamlFiles, propertiesFiles);
-                } else if (file.getName().toLowerCase().endsWith(".yaml")
-                        || file.getName().toLowerCase().endsWith(".yml")) {
-                    yamlFiles.add(file);
-                } else if (file.getName().toLowerCase().endsWith(".properties")) {
-                    propertiesFiles.add(file);
-                }
-            }
+    private static boolean hasExtension(Path path, Set<String> extensions) {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return extensions.stream().anyMatch(fileName::endsWith);
+    }
+
+    /**
+     * Lists the Mule projects of a multi-root source directory, which are its sub directories and the archives
+     * directly in it.
+     *
+     * @param directory multi-root source directory
+     * @return project directories and archives, in path order
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> getProjectPaths(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> Files.isDirectory(path) || ArchiveUtils.isArchive(path)).sorted().toList();
         }
     }
 
@@ -156,32 +212,145 @@ public class MigratorUtils {
 
     /**
      * Detects the Mule version based on the content of the provided XML file.
+     * <p>
+     * A config that contains any of the {@link #MULE_V4_ONLY_TERMS} is a Mule 4 config, wherever the term appears and
+     * whatever else the config contains. Any other config is taken to be a Mule 3 config. The file is streamed until
+     * the first Mule 4 marker, which is usually declared by the root element, so only the header of a Mule 4 config is
+     * read. The verdicts of the most recently detected files are cached until the files change.
      *
      * @param xmlFilePath The path to the XML file to analyze.
      * @return The detected MuleVersion, either MULE_V3 or MULE_V4.
      */
     public static MuleMigrator.MuleVersion detectVersionForFile(Path xmlFilePath) {
         assert xmlFilePath != null;
-        String content;
+        Path path = xmlFilePath.toAbsolutePath().normalize();
+        FileTime lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading xml file: " + xmlFilePath, e);
+        }
+        DetectedVersion cached = DETECTED_VERSIONS.get(path);
+        if (cached != null && cached.lastModified().equals(lastModified)) {
+            return cached.version();
+        }
+
+        MuleMigrator.MuleVersion version;
         try {
-            content = Files.readString(xmlFilePath);
-        } catch (Exception e) {
+            version = containsMuleV4Marker(path) ? MuleMigrator.MuleVersion.MULE_V4 : MuleMigrator.MuleVersion.MULE_V3;
+        } catch (IOException e) {
             throw new IllegalStateException("Error reading xml file: " + xmlFilePath, e);
         }
+        DETECTED_VERSIONS.put(path, new DetectedVersion(lastModified, version));
+        return version;
+    }
 
-        for (String s : MULE_V4_ONLY_TERMS) {
-            if (content.contains(s)) {
-                return MuleMigrator.MuleVersion.MULE_V4;
+    private static boolean containsMuleV4Marker(Path xmlFile) throws IOException {
+        XMLStreamReader reader = null;
+        try (InputStream in = Files.newInputStream(xmlFile)) {
+            reader = PREFIXED_XML_INPUT_FACTORY.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && hasMuleV4Marker(reader)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (XMLStreamException e) {
+            // The markers of a malformed config may be anywhere in it, so look for them in the text
+            String content = Files.readString(xmlFile);
+            return MULE_V4_ONLY_TERMS.stream().anyMatch(content::contains);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Nothing to release, the stream is closed by the try-with-resources
+                }
             }
         }
+    }
 
-        for (String s : MULE_V3_ONLY_TERMS) {
-            if (content.contains(s)) {
-                return MuleMigrator.MuleVersion.MULE_V3;
+    private static boolean hasMuleV4Marker(XMLStreamReader element) {
+        if (MULE_V4_ONLY_TERMS.contains("<" + qualifiedName(element.getPrefix(), element.getLocalName()))) {
+            return true;
+        }
+        for (int i = 0; i < element.getNamespaceCount(); i++) {
+            String prefix = element.getNamespacePrefix(i);
+            if (prefix != null && MULE_V4_ONLY_TERMS.contains("xmlns:" + prefix)) {
+                return true;
+            }
+        }
+        for (int i = 0; i < element.getAttributeCount(); i++) {
+            if (MULE_V4_ONLY_TERMS.contains(qualifiedName(element.getAttributePrefix(i),
+                    element.getAttributeLocalName(i)))) {
+                return true;
             }
         }
+        return false;
+    }
 
-        // Unable to determine version, default to MULE_V3
-        return MuleMigrator.MuleVersion.MULE_V3;
+    /**
+     * Reads the names of the flows and sub-flows declared at the top level of the given Mule configs, without parsing
+     * them into the Mule model.
+     *
+     * @param xmlFiles Mule XML configs
+     * @return flow and sub-flow names, in document order
+     */
+    public static List<String> readFlowNames(List<Path> xmlFiles) {
+        List<String> flowNames = new ArrayList<>();
+        for (Path xmlFile : xmlFiles) {
+            try (InputStream in = Files.newInputStream(xmlFile)) {
+                readFlowNames(in, flowNames);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading xml file: " + xmlFile, e);
+            }
+        }
+        return flowNames;
+    }
+
+    private static void readFlowNames(InputStream in, List<String> flowNames) {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            int depth = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                } else if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String elementName = qualifiedName(reader.getPrefix(), reader.getLocalName());
+                    // Flows are the direct children of the root element
+                    if (depth == 2 && (elementName.equals("flow") || elementName.equals("sub-flow"))) {
+                        String name = reader.getAttributeValue(null, "name");
+                        if (name != null) {
+                            flowNames.add(name);
+                        }
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            // Malformed configs are reported by the actual parse, so their flows are just not registered here
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Nothing to release, the stream is closed by the caller
+                }
+            }
+        }
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    private static XMLInputFactory createXmlInputFactory(boolean namespaceAware) {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, namespaceAware);
+        return factory;
     }
 }
@@ -17,11 +17,22 @@
  */
 package mule;
 
+import common.ArchiveUtils;
 import common.BICodeConverter;
 import common.BallerinaModel;
-import common.CodeGenerator;
-import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import common.FormattingMode;
+import common.ParallelCodeGenerator;
+import common.metrics.MetricsOutputSink;
+import common.metrics.MetricsRecord;
+import common.metrics.MetricsRecorder;
+import common.metrics.NdjsonMetricsWriter;
+import common.output.DirectoryOutputSink;
+import common.output.InMemoryOutputSink;
+import common.output.OutputSink;
+import common.report.PagedReport;
 import mule.common.ContextBase;
+import mule.common.DWConstructBase;
+import mule.common.DWConversionStats;
 import mule.common.MigrationResult;
 import mule.common.MuleLogger;
 import mule.common.MultiMigrationResult;
@@ -33,21 +44,25 @@ import mule.common.report.ProjectMigrationStats;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static common.BallerinaModel.Import;
@@ -56,7 +71,7 @@ import static common.BallerinaModel.TextDocument;
 import static mule.MigratorUtils.collectXmlFiles;
 import static mule.MigratorUtils.collectYamlAndPropertyFiles;
 import static mule.MigratorUtils.createDirectories;
-import static mule.MigratorUtils.getImmediateSubdirectories;
+import static mule.MigratorUtils.getProjectPaths;
 import static mule.common.report.IndividualReportGenerator.INDIVIDUAL_REPORT_NAME;
 import static mule.common.report.IndividualReportGenerator.getProjectMigrationStats;
 import static mule.v4.MuleToBalConverter.createTextDocument;
@@ -66,6 +81,8 @@ public class MuleMigrator {
     public static final String INTERNAL_TYPES_FILE_NAME = "internal_types.bal";
     public static final String MULE_V3_DEFAULT_XML_CONFIGS_DIR_NAME = "app";
     public static final String MULE_V4_DEFAULT_XML_CONFIGS_DIR_NAME = "mule";
+    static final double ESTIMATED_LINES_PER_CONFIG = 10.2;
+    static final double ESTIMATED_LINES_PER_ELEMENT = 2.3;
 
     public enum MuleVersion {
         MULE_V3(3), MULE_V4(4);
@@ -86,6 +103,129 @@ public class MuleMigrator {
         }
     }
 
+    /**
+     * Settings of a migration. Assessing never generates code, so it implies a dry run.
+     *
+     * @param orgName         organization name of the generated packages, or {@code null} for the default
+     * @param projectName     name of the generated package, or {@code null} to name it after the source
+     * @param muleVersion     Mule version of the source, or {@code null} to detect it
+     * @param dryRun          only write the reports, without writing the generated code
+     * @param verbose         log the progress of the migration
+     * @param keepStructure   keep the structure of the Mule project in the generated package
+     * @param multiRoot       migrate each child directory of the source as a separate project
+     * @param formattingMode  how the generated code is formatted
+     * @param metricsOut      file to stream a newline-delimited JSON metrics record to for each source file and
+     *                        project as soon as it is done, or {@code null} to skip recording metrics
+     * @param assess          only parse the source and write the reports, without generating any code. Projects are
+     *                        assessed one at a time and released as soon as they are done, and the number of lines a
+     *                        migration would generate is estimated.
+     * @param streamDbResults stream the rows of every database select that is followed by a for-each over its result
+     *                        into the loop, leaving the payload empty afterwards. Otherwise the rows are streamed
+     *                        only when the result is not used after the loop.
+     * @param parallelForeach run the iterations of a for-each concurrently when its body does not write any shared
+     *                        variable. Otherwise iterations run one after the other.
+     */
+    public record MigrationOptions(String orgName, String projectName, Integer muleVersion, boolean dryRun,
+                                   boolean verbose, boolean keepStructure, boolean multiRoot,
+                                   FormattingMode formattingMode, Path metricsOut, boolean assess,
+                                   boolean streamDbResults, boolean parallelForeach) {
+
+        public MigrationOptions {
+            dryRun = dryRun || assess;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * Builds {@link MigrationOptions}, starting from the defaults of the command line tools.
+         */
+        public static final class Builder {
+
+            private String orgName;
+            private String projectName;
+            private Integer muleVersion;
+            private boolean dryRun;
+            private boolean verbose;
+            private boolean keepStructure;
+            private boolean multiRoot;
+            private FormattingMode formattingMode = FormattingMode.defaultMode();
+            private Path metricsOut;
+            private boolean assess;
+            private boolean streamDbResults;
+            private boolean parallelForeach;
+
+            private Builder() {
+            }
+
+            public Builder orgName(String orgName) {
+                this.orgName = orgName;
+                return this;
+            }
+
+            public Builder projectName(String projectName) {
+                this.projectName = projectName;
+                return this;
+            }
+
+            public Builder muleVersion(Integer muleVersion) {
+                this.muleVersion = muleVersion;
+                return this;
+            }
+
+            public Builder dryRun(boolean dryRun) {
+                this.dryRun = dryRun;
+                return this;
+            }
+
+            public Builder verbose(boolean verbose) {
+                this.verbose = verbose;
+                return this;
+            }
+
+            public Builder keepStructure(boolean keepStructure) {
+                this.keepStructure = keepStructure;
+                return this;
+            }
+
+            public Builder multiRoot(boolean multiRoot) {
+                this.multiRoot = multiRoot;
+                return this;
+            }
+
+            public Builder formattingMode(FormattingMode formattingMode) {
+                this.formattingMode = formattingMode;
+                return this;
+            }
+
+            public Builder metricsOut(Path metricsOut) {
+                this.metricsOut = metricsOut;
+                return this;
+            }
+
+            public Builder assess(boolean assess) {
+                this.assess = assess;
+                return this;
+            }
+
+            public Builder streamDbResults(boolean streamDbResults) {
+                this.streamDbResults = streamDbResults;
+                return this;
+            }
+
+            public Builder parallelForeach(boolean parallelForeach) {
+                this.parallelForeach = parallelForeach;
+                return this;
+            }
+
+            public MigrationOptions build() {
+                return new MigrationOptions(orgName, projectName, muleVersion, dryRun, verbose, keepStructure,
+                        multiRoot, formattingMode, metricsOut, assess, streamDbResults, parallelForeach);
+            }
+        }
+    }
+
     @SuppressWarnings("unused")
     public static Map<String, Object> migrateMule(Map<String, Object> parameters) {
         try {
@@ -112,8 +252,8 @@ public class MuleMigrator {
                                                         Integer muleVersion, Consumer<String> stateCallback,
                                                         Consumer<String> logCallback) {
         MuleLogger logger = new MuleLogger(stateCallback, logCallback);
-        MigrationResult result = migrateMuleSourceInMemory(logger, sourcePath, null, orgName, projectName, muleVersion,
-                false, false, false, false);
+        MigrationResult result = migrateMuleSourceInMemory(logger, sourcePath, null, MigrationOptions.builder()
+                .orgName(orgName).projectName(projectName).muleVersion(muleVersion).build());
         if (result.getFatalError().isPresent()) {
             return Map.of("error", result.getFatalError().get());
         }
@@ -141,8 +281,8 @@ public class MuleMigrator {
             return Map.of("error", "Multi-root conversion requires a directory path: " + sourcePath);
         }
 
-        MigrationResult result = migrateMuleSourceInMemory(logger, sourcePath, null, orgName, projectName, muleVersion,
-                false, false, false, true);
+        MigrationResult result = migrateMuleSourceInMemory(logger, sourcePath, null, MigrationOptions.builder()
+                .orgName(orgName).projectName(projectName).muleVersion(muleVersion).multiRoot(true).build());
         if (result.getFatalError().isPresent()) {
             return Map.of("error", result.getFatalError().get());
         }
@@ -182,7 +322,7 @@ public class MuleMigrator {
         AggregateReportGenerator.AggregateStatistics stats =
                 AggregateReportGenerator.calculateAggregateStatistics(projResultList);
         String aggregatedHtmlReport = AggregateReportGenerator.generateHtmlReport(stats, logger, projResultList,
-                targetPath, false);
+                targetPath, false).toHTML();
         allFiles.put(AggregateReportGenerator.AGGREGATE_MIGRATION_REPORT_NAME, aggregatedHtmlReport);
 
         // Generate aggregated JSON report
@@ -258,88 +398,164 @@ public class MuleMigrator {
     public static void migrateAndExportMuleSource(String inputPathArg, String outputPathArg, String orgName,
                                                   String projectName, Integer muleVersion, boolean dryRun,
                                                   boolean verbose, boolean keepStructure, boolean multiRoot) {
-        MuleLogger logger = new MuleLogger(verbose);
-        MigrationResult result = migrateMuleSourceInMemory(logger, inputPathArg, outputPathArg, orgName, projectName,
-                muleVersion, dryRun, verbose, keepStructure, multiRoot);
-        if (result.getFatalError().isPresent()) {
-            logger.logSevere(result.getFatalError().get());
-            return;
+        migrateAndExportMuleSource(inputPathArg, outputPathArg, MigrationOptions.builder().orgName(orgName)
+                .projectName(projectName).muleVersion(muleVersion).dryRun(dryRun).verbose(verbose)
+                .keepStructure(keepStructure).multiRoot(multiRoot).build());
+    }
+
+    /**
+     * Migrates or assesses the Mule source and writes the generated packages and reports.
+     *
+     * @param inputPathArg  Mule project directory, Mule XML file or, in multi-root mode, directory of projects
+     * @param outputPathArg directory to write the generated packages to, or {@code null} to use the source directory
+     * @param options       settings of the migration
+     */
+    public static void migrateAndExportMuleSource(String inputPathArg, String outputPathArg,
+                                                  MigrationOptions options) {
+        Path metricsOut = options.metricsOut();
+        MuleLogger logger = new MuleLogger(options.verbose());
+        NdjsonMetricsWriter metricsWriter = null;
+        if (metricsOut != null) {
+            try {
+                metricsWriter = NdjsonMetricsWriter.open(metricsOut);
+            } catch (IOException e) {
+                logger.logSevere("Unable to create metrics file: " + metricsOut + ", " + e.getMessage());
+                logger.flush();
+                return;
+            }
+        }
+        MetricsRecorder metrics = metricsWriter != null ? metricsWriter : MetricsRecorder.NONE;
+        // Generated files are streamed into the package directory as soon as they are ready instead of being kept
+        // in memory until the whole migration is done
+        MigrationResult result = migrateMuleSource(logger, inputPathArg, outputPathArg, options,
+                projResult -> new DirectoryOutputSink(getBalPackageDir(projResult)), metrics);
+        try {
+            if (result.getFatalError().isPresent()) {
+                logger.logSevere(result.getFatalError().get());
+                return;
+            }
+
+            logger.logState("Writing output...");
+            if (result instanceof ProjectMigrationResult projResult) {
+                writeSingleRootMigration(logger, projResult, options.dryRun());
+            } else if (result instanceof MultiMigrationResult multiResult)  {
+                writeMultiRootMigration(logger, options.dryRun(), options.assess(), multiResult);
+            } else {
+                throw new IllegalStateException("Unexpected MigrationResult type: " + result.getClass().getName());
+            }
+            logger.logState("Writing output completed");
+        } finally {
+            closeMetricsWriter(logger, metricsWriter);
+            // Verbose messages are appended on a background thread; drain them before the CLI returns
+            logger.flush();
         }
+    }
 
-        logger.logState("Writing output...");
-        if (result instanceof ProjectMigrationResult projResult) {
-            writeSingleRootMigration(logger, projResult, dryRun);
-        } else if (result instanceof MultiMigrationResult multiResult)  {
-            writeMultiRootMigration(logger, dryRun, multiResult);
-        } else {
-            throw new IllegalStateException("Unexpected MigrationResult type: " + result.getClass().getName());
+    private static void closeMetricsWriter(MuleLogger logger, NdjsonMetricsWriter metricsWriter) {
+        if (metricsWriter == null) {
+            return;
+        }
+        try {
+            metricsWriter.close();
+        } catch (IOException e) {
+            logger.logSevere(e.getMessage());
         }
-        logger.logState("Writing output completed");
     }
 
+    /**
+     * Migrates the Mule source, keeping the generated files in memory. Metrics are not recorded.
+     */
     public static MigrationResult migrateMuleSourceInMemory(MuleLogger logger, String inputPathArg,
-                                                            String outputPathArg, String orgNameArg,
-                                                            String projectNameArg, Integer muleVersion, boolean dryRun,
-                                                            boolean verbose, boolean keepStructure, boolean multiRoot) {
-        logger.logState("Initializing migrate-mule tool...");
-        logger.logInfo("migrate-mule tool initialized with --dry-run =" + dryRun + ", --verbose = " + verbose +
-                ", --keep-structure = " + keepStructure + ", --multi-root = " + multiRoot);
+                                                            String outputPathArg, MigrationOptions options) {
+        return migrateMuleSource(logger, inputPathArg, outputPathArg, options, projResult -> new InMemoryOutputSink(),
+                MetricsRecorder.NONE);
+    }
 
-        MigrationResult result = multiRoot ? new MultiMigrationResult() : new ProjectMigrationResult();
+    private static MigrationResult migrateMuleSource(MuleLogger logger, String inputPathArg, String outputPathArg,
+                                                     MigrationOptions options,
+                                                     Function<ProjectMigrationResult, OutputSink> sinkFactory,
+                                                     MetricsRecorder metrics) {
+        logger.logState("Initializing migrate-mule tool...");
+        logger.logInfo(() -> "migrate-mule tool initialized with --dry-run =" + options.dryRun() + ", --assess = " +
+                options.assess() + ", --verbose = " + options.verbose() +
+                ", --keep-structure = " + options.keepStructure() + ", --multi-root = " + options.multiRoot() +
+                ", --format = " + options.formattingMode().name().toLowerCase(Locale.ROOT) +
+                ", --stream-db-results = " + options.streamDbResults() +
+                ", --parallel-foreach = " + options.parallelForeach());
+
+        MigrationResult result = options.multiRoot() ? new MultiMigrationResult() : new ProjectMigrationResult();
         validateInputPathArg(result, inputPathArg);
-        validateMuleVersionArg(logger, result, muleVersion);
+        validateMuleVersionArg(logger, result, options.muleVersion());
 
         if (result.getFatalError().isPresent()) {
             return result;
         }
 
-        if (multiRoot) {
-            migrateMultiMuleSource(logger, (MultiMigrationResult) result, inputPathArg, outputPathArg, muleVersion,
-                    dryRun, verbose, keepStructure);
+        if (options.multiRoot()) {
+            migrateMultiMuleSource(logger, (MultiMigrationResult) result, inputPathArg, outputPathArg, options,
+                    sinkFactory, metrics);
         } else {
-            migrateSingleMuleSource(logger, (ProjectMigrationResult) result, inputPathArg, outputPathArg, orgNameArg,
-                    projectNameArg, muleVersion, dryRun, verbose, keepStructure);
+            migrateSingleMuleSource(logger, (ProjectMigrationResult) result, inputPathArg, outputPathArg, options,
+                    sinkFactory, metrics);
         }
         return result;
     }
 
     private static void migrateSingleMuleSource(MuleLogger logger, ProjectMigrationResult result, String inputPathArg,
-                                               String outputPathArg, String orgNameArg, String projectNameArg,
-                                               Integer muleVersion,
-                                               boolean dryRun, boolean verbose, boolean keepStructure) {
+                                               String outputPathArg, MigrationOptions options,
+                                               Function<ProjectMigrationResult, OutputSink> sinkFactory,
+                                               MetricsRecorder metrics) {
         Path sourcePath = Paths.get(inputPathArg);
-        if (Files.isDirectory(sourcePath)) {
-            logger.logInfo("Source path is a Mule project directory: '" + sourcePath + "'");
-            ContextBase ctx = createProjectContext(logger, result, inputPathArg, outputPathArg, orgNameArg,
-                    projectNameArg, muleVersion, dryRun, keepStructure, false, null);
-            if (ctx != null) {
-                try {
-                    parseMuleProject(ctx);
-                    generateCodeFromParsedProject(ctx);
-                } catch (Exception e) {
-                    logger.logSevere("Unrecoverable error while migrating %s".formatted(sourcePath));
+        if (Files.isDirectory(sourcePath) || ArchiveUtils.isArchive(sourcePath)) {
+            logger.logInfo(() -> "Source path is a Mule project directory or archive: '" + sourcePath + "'");
+            try (ProjectSource source = ProjectSource.open(sourcePath)) {
+                ContextBase ctx = createProjectContext(logger, result, source, outputPathArg, options.orgName(),
+                        options.projectName(), options.muleVersion(), options.dryRun(), options.keepStructure(),
+                        false, null);
+                if (ctx != null) {
+                    configureContext(ctx, options, metrics);
+                    try {
+                        parseMuleProject(ctx, !options.assess());
+                        migrateParsedProject(ctx, options.assess(), options.formattingMode(), sinkFactory);
+                    } catch (Exception e) {
+                        logger.logSevere("Unrecoverable error while migrating %s".formatted(sourcePath));
+                    }
                 }
+            } catch (IOException e) {
+                result.setFatalError("Error reading the Mule archive: '" + sourcePath + "': " + e.getMessage());
             }
         } else if (Files.isRegularFile(sourcePath) && inputPathArg.endsWith(".xml")) {
-            logger.logInfo("Source path is a Mule XML file: '" + sourcePath + "'");
-            convertMuleXmlFile(logger, result, inputPathArg, outputPathArg, orgNameArg, projectNameArg, muleVersion,
-                    dryRun, keepStructure);
+            logger.logInfo(() -> "Source path is a Mule XML file: '" + sourcePath + "'");
+            convertMuleXmlFile(logger, result, inputPathArg, outputPathArg, options, sinkFactory, metrics);
         } else {
-            result.setFatalError("Invalid source path: '" + sourcePath + "'. Must be a directory or .xml file.");
+            result.setFatalError("Invalid source path: '" + sourcePath +
+                    "'. Must be a directory, a .zip, .jar or .ear archive, or an .xml file.");
         }
     }
 
     private static void migrateMultiMuleSource(MuleLogger logger, MultiMigrationResult result, String inputPathArg,
-                                              String outputPathArg, Integer muleVersion, boolean dryRun,
-                                              boolean verbose, boolean keepStructure) {
+                                              String outputPathArg, MigrationOptions options,
+                                              Function<ProjectMigrationResult, OutputSink> sinkFactory,
+                                              MetricsRecorder metrics) {
         Path sourcePath = Paths.get(inputPathArg);
-        logger.logInfo("Multi-root mode enabled. Converting all Mule projects in the directory: '" +
+        logger.logInfo(() -> "Multi-root mode enabled. Converting all Mule projects in the directory: '" +
                 sourcePath + "'");
         if (!Files.isDirectory(sourcePath)) {
             result.setFatalError("Multi-root mode requires a directory as input, but got a file: '" + sourcePath + "'");
             return;
         }
-        convertMuleMultiProjects(logger, result, inputPathArg, outputPathArg, muleVersion, dryRun, keepStructure);
+        if (options.assess()) {
+            assessMuleMultiProjects(logger, result, inputPathArg, outputPathArg, options.muleVersion(),
+                    options.keepStructure(), metrics);
+            return;
+        }
+        convertMuleMultiProjects(logger, result, inputPathArg, outputPathArg, options, sinkFactory, metrics);
+    }
+
+    private static void configureContext(ContextBase ctx, MigrationOptions options, MetricsRecorder metrics) {
+        ctx.setMetricsRecorder(metrics);
+        ctx.setStreamDbResults(options.streamDbResults());
+        ctx.setParallelForeach(options.parallelForeach());
     }
 
     private static void validateInputPathArg(MigrationResult result, String inputPathArg) {
@@ -354,7 +570,7 @@ public class MuleMigrator {
             logger.logInfo("No Mule version specified. Tool will automatically detect the Mule version.");
             return;
         }
-        logger.logInfo("Validating Mule version argument: " + muleVersion);
+        logger.logInfo(() -> "Validating Mule version argument: " + muleVersion);
         if (muleVersion != 3 && muleVersion != 4) {
             result.setFatalError("Invalid Mule version specified: " + muleVersion + ". Must be 3 or 4.");
         }
@@ -362,81 +578,154 @@ public class MuleMigrator {
 
     private static void convertMuleMultiProjects(MuleLogger logger, MultiMigrationResult multiResult,
                                                  String sourceProjectsDir,
-                                                 String outputPathArg,
-                                                 Integer muleVersion,
-                                                 boolean dryRun, boolean keepStructure) {
+                                                 String outputPathArg, MigrationOptions options,
+                                                 Function<ProjectMigrationResult, OutputSink> sinkFactory,
+                                                 MetricsRecorder metrics) {
         logger.logState("Processing multi-root Mule projects");
         Path sourceProjectsDirPath = Path.of(sourceProjectsDir);
         Path targetPath = outputPathArg != null ? Path.of(outputPathArg) : sourceProjectsDirPath;
         multiResult.setTargetPath(targetPath);
 
-        List<Path> projectDirectories;
+        List<Path> projectPaths;
         try {
-            logger.logInfo("Listing immediate subdirectories in: " + sourceProjectsDir);
-            projectDirectories = getImmediateSubdirectories(sourceProjectsDirPath);
+            logger.logInfo(() -> "Listing projects in: " + sourceProjectsDir);
+            projectPaths = getProjectPaths(sourceProjectsDirPath);
         } catch (IOException e) {
             multiResult.setFatalError("Error listing subdirectories of " + sourceProjectsDir + ": " + e.getMessage());
             return;
         }
 
+        Integer muleVersion = options.muleVersion();
         if (muleVersion != null) {
-            logger.logInfo("Using specified Mule version: " + muleVersion);
+            logger.logInfo(() -> "Using specified Mule version: " + muleVersion);
         }
 
-        List<ContextBase> projectContexts = new ArrayList<>();
+        // Projects only call the flows of each other by name, so the flow names of every project are registered up
+        // front. Each project is then parsed and generated on its own, and released once its files are written.
+        record PendingProject(ProjectSource source, ContextBase ctx) {
+        }
+        Queue<PendingProject> pendingProjects = new ArrayDeque<>();
         MultiRootContext multiRootContext = new MultiRootContext();
+        List<ProjectMigrationResult> projResultList = new ArrayList<>();
+        try {
+            // Phase 1: Register the flows of all projects
+            for (Path projectPath : projectPaths) {
+                ProjectMigrationResult projResult = new ProjectMigrationResult();
+                ProjectSource source = null;
+                try {
+                    source = ProjectSource.open(projectPath);
+                    ContextBase ctx = createProjectContext(logger, projResult, source, outputPathArg, null, null,
+                            muleVersion, options.dryRun(), options.keepStructure(), true, multiRootContext);
+                    if (ctx != null) {
+                        configureContext(ctx, options, metrics);
+                        ctx.registerFlows();
+                        pendingProjects.add(new PendingProject(source, ctx));
+                        source = null;
+                    }
+                } catch (Exception e) {
+                    logger.logSevere("Error reading Mule project " + projectPath + ": " + e.getMessage());
+                } finally {
+                    if (source != null) {
+                        closeProjectSource(logger, source);
+                    }
+                }
+            }
 
-        // Phase 1: Parse all projects
-        for (Path projectDir : projectDirectories) {
-            logger.logState("Parsing Mule project: " + projectDir);
-            ProjectMigrationResult projResult = new ProjectMigrationResult();
-            try {
-                ContextBase ctx = createProjectContext(logger, projResult, projectDir.toString(), outputPathArg, null,
-                        null, muleVersion, dryRun, keepStructure, true, multiRootContext);
-                if (ctx != null) {
-                    parseMuleProject(ctx);
-                    projectContexts.add(ctx);
-                    logger.logState("Completed parsing Mule project: " + projectDir);
+            // Phase 2: Parse and generate code for one project at a time
+            PendingProject project;
+            while ((project = pendingProjects.poll()) != null) {
+                ContextBase ctx = project.ctx();
+                try {
+                    logger.logState("Parsing Mule project: " + ctx.sourceName);
+                    parseMuleProject(ctx, true);
+                    projResultList.add(ctx.result);
+                    logger.logState("Generating code for Mule project: " + ctx.sourceName);
+                    generateCodeFromParsedProject(ctx, options.formattingMode(), sinkFactory);
+                    logger.logState("Completed converting Mule project: " + ctx.sourceName);
+                } catch (Exception e) {
+                    logger.logSevere("Error converting Mule project " + ctx.sourceName + ": " + e.getMessage());
+                } finally {
+                    closeProjectSource(logger, project.source());
                 }
-            } catch (Exception e) {
-                logger.logSevere("Error parsing Mule project " + projectDir + ": " + e.getMessage());
             }
+        } finally {
+            pendingProjects.forEach(project -> closeProjectSource(logger, project.source()));
         }
 
-        // Phase 2: Generate code for all parsed projects
-        for (ContextBase ctx : projectContexts) {
-            try {
-                logger.logState("Generating code for Mule project: " + ctx.sourceName);
-                generateCodeFromParsedProject(ctx);
-                logger.logState("Completed converting Mule project: " + ctx.sourceName);
+        setAggregateReport(logger, multiResult, projResultList, targetPath, options.dryRun());
+        logger.logState("Completed converting Mule projects via multi-root mode");
+    }
+
+    /**
+     * Assesses each Mule project in the directory. A project is parsed and its report written before the next one is
+     * read, and only its statistics are kept for the aggregate report, so memory use does not grow with the number of
+     * projects. Projects are not registered with a {@link MultiRootContext} since cross-project references are only
+     * resolved during code generation.
+     */
+    private static void assessMuleMultiProjects(MuleLogger logger, MultiMigrationResult multiResult,
+                                                String sourceProjectsDir, String outputPathArg, Integer muleVersion,
+                                                boolean keepStructure, MetricsRecorder metrics) {
+        logger.logState("Assessing multi-root Mule projects");
+        Path sourceProjectsDirPath = Path.of(sourceProjectsDir);
+        Path targetPath = outputPathArg != null ? Path.of(outputPathArg) : sourceProjectsDirPath;
+        multiResult.setTargetPath(targetPath);
+
+        List<Path> projectPaths;
+        try {
+            projectPaths = getProjectPaths(sourceProjectsDirPath);
+        } catch (IOException e) {
+            multiResult.setFatalError("Error listing subdirectories of " + sourceProjectsDir + ": " + e.getMessage());
+            return;
+        }
+
+        List<ProjectMigrationResult> projResultList = new ArrayList<>();
+        for (Path projectPath : projectPaths) {
+            logger.logState("Assessing Mule project: " + projectPath);
+            ProjectMigrationResult projResult = new ProjectMigrationResult();
+            try (ProjectSource source = ProjectSource.open(projectPath)) {
+                ContextBase ctx = createProjectContext(logger, projResult, source, outputPathArg, null, null,
+                        muleVersion, true, keepStructure, true, null);
+                if (ctx != null) {
+                    ctx.setMetricsRecorder(metrics);
+                    parseMuleProject(ctx, false);
+                    assessParsedProject(ctx);
+                    writeProjectReport(logger, projResult);
+                    projResult.setHtmlReport(null);
+                    projResult.setJsonReport(null);
+                    projResultList.add(projResult);
+                }
             } catch (Exception e) {
-                logger.logSevere("Error generating code for Mule project " + ctx.sourceName + ": " + e.getMessage());
+                logger.logSevere("Error assessing Mule project " + projectPath + ": " + e.getMessage());
             }
         }
+        setAggregateReport(logger, multiResult, projResultList, targetPath, true);
+        logger.logState("Completed assessing Mule projects via multi-root mode");
+    }
 
-        List<ProjectMigrationResult> projResultList = projectContexts.stream()
-                .map(ctx -> ctx.result)
+    private static void setAggregateReport(MuleLogger logger, MultiMigrationResult multiResult,
+                                           List<ProjectMigrationResult> projResults, Path targetPath,
+                                           boolean dryRun) {
+        List<ProjectMigrationResult> projResultList = projResults.stream()
                 .filter(result -> result.getMigrationStats() != null)
                 .toList();
         multiResult.setMigrationResults(projResultList);
         AggregateReportGenerator.AggregateStatistics stats =
                 AggregateReportGenerator.calculateAggregateStatistics(projResultList);
-        String aggregateReport = AggregateReportGenerator.generateHtmlReport(stats, logger, projResultList, targetPath,
-                dryRun);
+        PagedReport aggregateReport = AggregateReportGenerator.generateHtmlReport(stats, logger, projResultList,
+                targetPath, dryRun);
         multiResult.setHtmlReport(aggregateReport);
-        logger.logState("Completed converting Mule projects via multi-root mode");
     }
 
     private static ContextBase createProjectContext(MuleLogger logger, ProjectMigrationResult result,
-                                                    String inputPathArg, String outputPathArg, String orgNameArg,
+                                                    ProjectSource source, String outputPathArg, String orgNameArg,
                                                     String projectNameArg, Integer muleVersion, boolean dryRun,
                                                     boolean keepStructure, boolean multiRoot,
                                                     MultiRootContext multiRootContext) {
-        Path sourcePath = Path.of(inputPathArg);
-        Path targetPath = outputPathArg != null ? Path.of(outputPathArg) : sourcePath;
+        Path sourcePath = source.root();
+        Path targetPath = outputPathArg != null ? Path.of(outputPathArg) : source.defaultTargetPath();
         result.setTargetPath(targetPath);
 
-        String sourceProjectName = sourcePath.getFileName().toString();
+        String sourceProjectName = source.name();
         result.setSourceName(sourceProjectName);
         logger.logState("Processing Mule Project:" + sourceProjectName);
 
@@ -447,18 +736,18 @@ public class MuleMigrator {
         MuleVersion version;
         if (muleVersion == null) {
             version = MigratorUtils.detectVersionForProject(sourcePath);
-            logger.logInfo("Detected Mule version: " + version);
+            logger.logInfo(() -> "Detected Mule version: " + version);
         } else {
             version = MuleVersion.fromInt(muleVersion);
             if (!multiRoot) {
-                logger.logInfo("Using specified Mule version: " + version);
+                logger.logInfo(() -> "Using specified Mule version: " + version);
             }
         }
         result.setMuleVersion(version);
 
         // Collect xml configs, yaml and property files
         logger.logInfo("Collecting XML configs, YAML, and property files in Mule project...");
-        List<File> xmlFiles = new ArrayList<>();
+        List<Path> xmlFiles = new ArrayList<>();
 
         Path muleXmlConfigDir = sourcePath.resolve("src").resolve("main");
         if (version.equals(MuleVersion.MULE_V3)) {
@@ -469,28 +758,28 @@ public class MuleMigrator {
             muleXmlConfigDir = muleXmlConfigDir.resolve(MULE_V4_DEFAULT_XML_CONFIGS_DIR_NAME);
         }
 
-        collectXmlFiles(muleXmlConfigDir.toFile(), xmlFiles);
+        collectXmlFiles(muleXmlConfigDir, xmlFiles);
         if (xmlFiles.isEmpty()) {
             result.setFatalError("No XML files found in the directory: " + muleXmlConfigDir);
             return null;
         }
 
-        List<File> yamlFiles = new ArrayList<>();
-        List<File> propertyFiles = new ArrayList<>();
+        List<Path> yamlFiles = new ArrayList<>();
+        List<Path> propertyFiles = new ArrayList<>();
         Path muleResourcesDir = sourcePath.resolve("src").resolve("main").resolve("resources");
         Path propFileLocation = version.equals(MuleVersion.MULE_V3) ? muleXmlConfigDir : muleResourcesDir;
-        collectYamlAndPropertyFiles(propFileLocation.toFile(), yamlFiles, propertyFiles);
+        collectYamlAndPropertyFiles(propFileLocation, yamlFiles, propertyFiles);
 
-        List<File> munitXmlFiles = new ArrayList<>();
+        List<Path> munitXmlFiles = new ArrayList<>();
         Path munitDir = sourcePath.resolve("src").resolve("test").resolve("munit");
         if (Files.isDirectory(munitDir)) {
-            collectXmlFiles(munitDir.toFile(), munitXmlFiles);
+            collectXmlFiles(munitDir, munitXmlFiles);
             if (!munitXmlFiles.isEmpty()) {
-                logger.logInfo("Found " + munitXmlFiles.size() + " MUnit test XML file(s) in " + munitDir);
+                logger.logInfo(() -> "Found " + munitXmlFiles.size() + " MUnit test XML file(s) in " + munitDir);
             }
         }
 
-        logger.logInfo("Found " + xmlFiles.size() + " .xml files, " + yamlFiles.size() + ".yaml files, and " +
+        logger.logInfo(() -> "Found " + xmlFiles.size() + " .xml files, " + yamlFiles.size() + ".yaml files, and " +
                 propertyFiles.size() + " .properties files.");
 
         ContextBase ctx = getContext(version, xmlFiles, yamlFiles, muleXmlConfigDir, propertyFiles,
@@ -498,9 +787,55 @@ public class MuleMigrator {
         return ctx;
     }
 
+    private static void closeProjectSource(MuleLogger logger, ProjectSource source) {
+        try {
+            source.close();
+        } catch (IOException e) {
+            logger.logWarn("Error closing the Mule archive " + source.name() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Mule project read either from a directory or from a mounted archive. Config files of an archive are read
+     * straight out of it, without extracting it, so the archive must stay open until the project is converted.
+     *
+     * @param root              project directory, which is within the archive for archived projects
+     * @param name              source project name
+     * @param defaultTargetPath output path used when none is given
+     * @param archive           mounted archive, or {@code null} for a project directory
+     */
+    private record ProjectSource(Path root, String name, Path defaultTargetPath, FileSystem archive)
+            implements AutoCloseable {
+
+        static ProjectSource open(Path sourcePath) throws IOException {
+            if (!ArchiveUtils.isArchive(sourcePath)) {
+                return new ProjectSource(sourcePath, sourcePath.getFileName().toString(), sourcePath, null);
+            }
+            FileSystem archive = ArchiveUtils.openArchive(sourcePath);
+            try {
+                // An archive without a top level directory has the project at its root, which is named after the
+                // archive
+                Path parent = sourcePath.toAbsolutePath().getParent();
+                return new ProjectSource(ArchiveUtils.projectRoot(archive), ArchiveUtils.archiveName(sourcePath),
+                        parent != null ? parent : Path.of("."), archive);
+            } catch (IOException e) {
+                archive.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (archive != null) {
+                archive.close();
+            }
+        }
+    }
+
     private static void convertMuleXmlFile(MuleLogger logger, ProjectMigrationResult result, String inputPathArg,
-                                           String outputPathArg, String orgNameArg, String projectNameArg,
-                                           Integer muleVersion, boolean dryRun, boolean keepStructure) {
+                                           String outputPathArg, MigrationOptions options,
+                                           Function<ProjectMigrationResult, OutputSink> sinkFactory,
+                                           MetricsRecorder metrics) {
         logger.logState("Processing Mule XML file");
         Path inputXmlFilePath = Path.of(inputPathArg);
         Path sourceDir = inputXmlFilePath.getParent() != null ? inputXmlFilePath.getParent() : Path.of(".");
@@ -510,37 +845,37 @@ public class MuleMigrator {
         String inputFileName = inputXmlFilePath.getFileName().toString().split(".xml")[0];
         result.setSourceName(inputFileName);
 
-        result.setOrgName(MigratorUtils.getBalOrgName(orgNameArg));
-        result.setProjectName(MigratorUtils.getBalProjectName(projectNameArg, inputFileName));
+        result.setOrgName(MigratorUtils.getBalOrgName(options.orgName()));
+        result.setProjectName(MigratorUtils.getBalProjectName(options.projectName(), inputFileName));
 
         MuleVersion version;
-        if (muleVersion == null) {
+        if (options.muleVersion() == null) {
             version = MigratorUtils.detectVersionForFile(inputXmlFilePath);
-            logger.logInfo("Detected Mule version: " + version);
+            logger.logInfo(() -> "Detected Mule version: " + version);
         } else {
-            version = MuleVersion.fromInt(muleVersion);
-            logger.logInfo("Using specified Mule version: " + version);
+            version = MuleVersion.fromInt(options.muleVersion());
+            logger.logInfo(() -> "Using specified Mule version: " + version);
         }
         result.setMuleVersion(version);
 
-        File xmlConfigFile = inputXmlFilePath.toFile();
-        ContextBase ctx = getContext(version, Collections.singletonList(xmlConfigFile), Collections.emptyList(),
-                sourceDir, Collections.emptyList(), inputFileName, dryRun, keepStructure, logger, result, null,
-                Collections.emptyList());
+        ContextBase ctx = getContext(version, Collections.singletonList(inputXmlFilePath), Collections.emptyList(),
+                sourceDir, Collections.emptyList(), inputFileName, options.dryRun(), options.keepStructure(), logger,
+                result, null, Collections.emptyList());
+        configureContext(ctx, options, metrics);
         try {
-            parseMuleProject(ctx);
-            generateCodeFromParsedProject(ctx);
+            parseMuleProject(ctx, !options.assess());
+            migrateParsedProject(ctx, options.assess(), options.formattingMode(), sinkFactory);
         } catch (Exception ex) {
-            logger.logSevere("Unrecoverable error while converting %s".formatted(xmlConfigFile));
+            logger.logSevere("Unrecoverable error while converting %s".formatted(inputXmlFilePath));
         }
     }
 
-    private static ContextBase getContext(MuleVersion muleVersion, List<File> xmlFiles, List<File> yamlFiles,
-            Path muleAppDir, List<File> propertyFiles, String sourceName,
+    private static ContextBase getContext(MuleVersion muleVersion, List<Path> xmlFiles, List<Path> yamlFiles,
+            Path muleAppDir, List<Path> propertyFiles, String sourceName,
                                           boolean dryRun, boolean keepStructure, MuleLogger logger,
                                           ProjectMigrationResult result,
                                           MultiRootContext multiRootContext,
-                                          List<File> munitXmlFiles) {
+                                          List<Path> munitXmlFiles) {
         if (muleVersion == MuleVersion.MULE_V3) {
             return new mule.v3.Context(xmlFiles, yamlFiles, muleAppDir, muleVersion, propertyFiles, sourceName,
                     dryRun, keepStructure, logger, result, multiRootContext, munitXmlFiles);
@@ -553,22 +888,41 @@ public class MuleMigrator {
     }
 
     private static void writeSingleRootMigration(MuleLogger logger, ProjectMigrationResult result, boolean dryRun) {
-        Path balPackageDir = result.getTargetPath().resolve(result.getProjectName());
-        createDirectories(logger, balPackageDir);
-        MigratorUtils.writeFile(logger, balPackageDir, INDIVIDUAL_REPORT_NAME, result.getHtmlReport());
-        if (!dryRun) {
+        Path balPackageDir = writeProjectReport(logger, result);
+        // Files streamed to disk during code generation are not retained in the result
+        if (!dryRun && result.getFiles() != null) {
             MigratorUtils.writeFilesFromMap(logger, balPackageDir, result.getFiles());
         }
     }
 
-    private static void writeMultiRootMigration(MuleLogger logger, boolean dryRun, MultiMigrationResult multiResult) {
+    private static Path writeProjectReport(MuleLogger logger, ProjectMigrationResult result) {
+        Path balPackageDir = getBalPackageDir(result);
+        createDirectories(logger, balPackageDir);
+        MigratorUtils.writeReport(logger, balPackageDir, INDIVIDUAL_REPORT_NAME, result.getPagedReport());
+        return balPackageDir;
+    }
+
+    private static Path getBalPackageDir(ProjectMigrationResult result) {
+        return result.getTargetPath().resolve(result.getProjectName());
+    }
+
+    /**
+     * Writes the reports of a multi-root migration. When assessing, the project reports have already been written
+     * while the projects were assessed and no packages are generated, so only the aggregate report is written.
+     */
+    private static void writeMultiRootMigration(MuleLogger logger, boolean dryRun, boolean assess,
+                                                MultiMigrationResult multiResult) {
+        Path targetPath = multiResult.getTargetPath();
+        if (assess) {
+            MigratorUtils.writeReport(logger, targetPath, AggregateReportGenerator.AGGREGATE_MIGRATION_REPORT_NAME,
+                    multiResult.getPagedReport());
+            return;
+        }
         for (ProjectMigrationResult projResult : multiResult.getMigrationResults()) {
             writeSingleRootMigration(logger, projResult, dryRun);
         }
-        String aggregateReport = multiResult.getHtmlReport();
-        Path targetPath = multiResult.getTargetPath();
-        MigratorUtils.writeFile(logger, targetPath, AggregateReportGenerator.AGGREGATE_MIGRATION_REPORT_NAME,
-                aggregateReport);
+        MigratorUtils.writeReport(logger, targetPath, AggregateReportGenerator.AGGREGATE_MIGRATION_REPORT_NAME,
+                multiResult.getPagedReport());
 
         // Generate workspace Ballerina.toml for multi-root projects
         writeWorkspaceBallerinaToml(logger, multiResult);
@@ -611,12 +965,16 @@ public class MuleMigrator {
         // Write workspace Ballerina.toml to target directory
         Path targetPath = multiResult.getTargetPath();
         MigratorUtils.writeFile(logger, targetPath, "Ballerina.toml", tomlContent);
-        logger.logInfo("Created workspace Ballerina.toml at: " + targetPath.resolve("Ballerina.toml"));
+        logger.logInfo(() -> "Created workspace Ballerina.toml at: " + targetPath.resolve("Ballerina.toml"));
     }
 
-    private static void parseMuleProject(ContextBase ctx) {
+    private static void parseMuleProject(ContextBase ctx, boolean parseTests) {
         ctx.logger.logState("Converting Mule XML configs to ballerina intermediate representation...");
         ctx.parseAllFiles();
+        if (!parseTests) {
+            return;
+        }
+        long start = System.nanoTime();
         if (ctx instanceof mule.v4.Context v4Ctx && v4Ctx.hasMUnitFiles()) {
             ctx.logger.logState("Parsing MUnit test XML files...");
             v4Ctx.parseMUnitFiles();
@@ -624,11 +982,63 @@ public class MuleMigrator {
             ctx.logger.logState("Parsing MUnit test XML files...");
             v3Ctx.parseMUnitFiles();
         }
+        ctx.phaseTimer.add("parseTests", start);
+    }
+
+    private static void migrateParsedProject(ContextBase ctx, boolean assess, FormattingMode formattingMode,
+                                             Function<ProjectMigrationResult, OutputSink> sinkFactory) {
+        if (assess) {
+            assessParsedProject(ctx);
+        } else {
+            generateCodeFromParsedProject(ctx, formattingMode, sinkFactory);
+        }
+    }
+
+    /**
+     * Generates the reports of a parsed project without generating any code. All element and DataWeave counts are
+     * gathered while parsing, so the reports are the same as for a dry run.
+     */
+    private static void assessParsedProject(ContextBase ctx) {
+        generateReports(ctx);
+        long assessStart = System.nanoTime();
+        long estimatedLines = estimateGeneratedLineCount(ctx);
+        ctx.phaseTimer.add("assess", assessStart);
+        ctx.logger.logState("Assessment completed for project: " + ctx.sourceName + ", estimated " + estimatedLines +
+                " lines of Ballerina code");
+        recordProjectMetrics(ctx, Map.of("estimatedLines", estimatedLines));
+    }
+
+    /**
+     * Estimates the number of non-blank lines a migration of the project generates. The coefficients are a least
+     * squares fit over the config and Ballerina file pairs in the test resources, which the estimate is within about
+     * 25% of on average.
+     */
+    private static long estimateGeneratedLineCount(ContextBase ctx) {
+        ProjectMigrationStats stats = ctx.result.getMigrationStats();
+        int elementCount = stats.passedXMLTags().values().stream().mapToInt(Integer::intValue).sum()
+                + stats.failedXMLTags().values().stream().mapToInt(Integer::intValue).sum();
+        return Math.round(ESTIMATED_LINES_PER_CONFIG * ctx.xmlFileCount() + ESTIMATED_LINES_PER_ELEMENT * elementCount);
+    }
+
+    private static void generateReports(ContextBase ctx) {
+        long reportStart = System.nanoTime();
+        ProjectMigrationStats migrationStats = getProjectMigrationStats(ctx.muleVersion, ctx.getMigrationMetrics());
+        ctx.result.setMigrationStats(migrationStats);
+
+        PagedReport individualReport = IndividualReportGenerator.generateHtmlReport(ctx.logger, migrationStats,
+                ctx.muleVersion, ctx.dryRun, ctx.sourceName);
+        ctx.result.setHtmlReport(individualReport);
+
+        Map<String, Object> individualReportJson = IndividualReportGenerator.generateJsonReport(migrationStats);
+        ctx.result.setJsonReport(individualReportJson);
+        ctx.phaseTimer.add("report", reportStart);
     }
 
-    private static void generateCodeFromParsedProject(ContextBase ctx) {
+    private static void generateCodeFromParsedProject(ContextBase ctx, FormattingMode formattingMode,
+                                                      Function<ProjectMigrationResult, OutputSink> sinkFactory) {
+        long codeGenStart = System.nanoTime();
         List<TextDocument> birTxtDocs = ctx.codeGen();
-        ctx.logger.logInfo("Converted " + birTxtDocs.size() + " XML files to Ballerina IR.");
+        ctx.logger.logInfo(() -> "Converted " + birTxtDocs.size() + " XML files to Ballerina IR.");
 
         TextDocument birTxtDoc = genBirForInternalTypes(ctx.logger, ctx);
         birTxtDocs.add(birTxtDoc);
@@ -638,30 +1048,26 @@ public class MuleMigrator {
         if (ctx instanceof mule.v4.Context v4Ctx && v4Ctx.hasMUnitFiles()) {
             ctx.logger.logState("Generating Ballerina test files from MUnit tests...");
             testDocs = v4Ctx.munitCodeGen();
-            ctx.logger.logInfo("Generated " + testDocs.size() + " Ballerina test file(s).");
+            ctx.logger.logInfo(() -> "Generated " + testDocs.size() + " Ballerina test file(s).");
         } else if (ctx instanceof mule.v3.Context v3Ctx && v3Ctx.hasMUnitFiles()) {
             ctx.logger.logState("Generating Ballerina test files from MUnit tests...");
             testDocs = v3Ctx.munitCodeGen();
-            ctx.logger.logInfo("Generated " + testDocs.size() + " Ballerina test file(s).");
+            ctx.logger.logInfo(() -> "Generated " + testDocs.size() + " Ballerina test file(s).");
         }
 
-        // 2. Generate migration report
-        ProjectMigrationStats migrationStats = getProjectMigrationStats(ctx.muleVersion, ctx.getMigrationMetrics());
-        ctx.result.setMigrationStats(migrationStats);
-
-        String individualReportHtml = IndividualReportGenerator.generateHtmlReport(ctx.logger, migrationStats,
-                ctx.muleVersion, ctx.dryRun, ctx.sourceName);
-        ctx.result.setHtmlReport(individualReportHtml);
+        ctx.phaseTimer.add("codegen", codeGenStart);
 
-        Map<String, Object> individualReportJson = IndividualReportGenerator.generateJsonReport(migrationStats);
-        ctx.result.setJsonReport(individualReportJson);
+        // 2. Generate migration report
+        generateReports(ctx);
 
         if (ctx.dryRun) {
             ctx.logger.logState("Dry run completed for project: " + ctx.sourceName);
+            recordProjectMetrics(ctx, Map.of("files", 0, "lines", 0L));
             return;
         }
 
         // 3. Rearrange BIR for BI Structure
+        long generateStart = System.nanoTime();
         if (!ctx.keepStructure) {
             ctx.logger.logState("Re-arranging BIR files to fit Ballerina Integrator project structure...");
             birTxtDocs =
@@ -677,14 +1083,66 @@ public class MuleMigrator {
 
         // 3. Generate project artifacts and bal files
         ctx.logger.logState("Generate project artifacts and bal files...");
-        Map<String, String> allFiles = new HashMap<>();
-        allFiles.putAll(genProjectArtifacts(ctx, ctx.logger));
-        allFiles.putAll(genBalFilesFromBir(ctx.logger, birTxtDocs));
-        allFiles.putAll(genBalFilesFromBir(ctx.logger, testDocs));
-        allFiles.putAll(genConfigTOMLFile(ctx.logger, ctx.yamlFiles, ctx.propertyFiles,
-                ctx.result.getConfigurableVariableNames()));
-        allFiles = Collections.unmodifiableMap(allFiles);
-        ctx.result.setFiles(allFiles);
+        OutputSink projectSink = sinkFactory.apply(ctx.result);
+        MetricsRecorder metrics = ctx.getMetricsRecorder();
+        MetricsOutputSink countingSink = metrics.isEnabled()
+                ? new MetricsOutputSink(projectSink, metrics, "mule", ctx.sourceName) : null;
+        OutputSink sink = countingSink != null ? countingSink : projectSink;
+        try (sink) {
+            writeFiles(ctx.logger, sink, genProjectArtifacts(ctx, ctx.logger));
+            genBalFilesFromBir(ctx.logger, birTxtDocs, formattingMode, sink);
+            genBalFilesFromBir(ctx.logger, testDocs, formattingMode, sink);
+            writeFiles(ctx.logger, sink, genConfigTOMLFile(ctx.logger, ctx.yamlFiles, ctx.propertyFiles,
+                    ctx.result.getConfigurableVariableNames()));
+        } catch (IOException e) {
+            ctx.logger.logSevere("Error closing output of project " + ctx.sourceName + ": " + e.getMessage());
+        }
+        if (projectSink instanceof InMemoryOutputSink inMemorySink) {
+            ctx.result.setFiles(inMemorySink.files());
+        }
+        ctx.phaseTimer.add("generate", generateStart);
+        if (countingSink != null) {
+            recordProjectMetrics(ctx, Map.of("files", countingSink.fileCount(), "lines", countingSink.lineCount()));
+        }
+    }
+
+    private static void recordProjectMetrics(ContextBase ctx, Map<String, ?> generated) {
+        MetricsRecorder metrics = ctx.getMetricsRecorder();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        ProjectMigrationStats stats = ctx.result.getMigrationStats();
+        int supportedCount = stats.passedXMLTags().values().stream().mapToInt(Integer::intValue).sum();
+        int unsupportedCount = stats.failedXMLTags().values().stream().mapToInt(Integer::intValue).sum();
+        DWConversionStats<? extends DWConstructBase> dwStats = stats.dwConversionStats();
+        Map<String, Object> dataweave = new LinkedHashMap<>();
+        dataweave.put("encountered", dwStats.getTotalEncounteredCount());
+        dataweave.put("converted", dwStats.getConvertedCount());
+        dataweave.put("failedExpressions", dwStats.getFailedDWExpressions().size());
+        dataweave.put("parseFailures", dwStats.getParseFailureCount());
+        dataweave.put("totalLines", dwStats.getTotalDWLineCount());
+        dataweave.put("failedLines", dwStats.getFailedDWLineCount());
+        metrics.record(MetricsRecord.of(MetricsRecord.PROJECT, "mule")
+                .put("project", ctx.sourceName)
+                .put("muleVersion", ctx.muleVersion.name())
+                .put("dryRun", ctx.dryRun)
+                .put("coverage", ctx.result.getJsonReport().get("coverageOverview"))
+                .put("elements", Map.of("total", supportedCount + unsupportedCount, "supported", supportedCount,
+                        "unsupported", unsupportedCount))
+                .put("unsupportedTags", stats.failedXMLTags())
+                .put("dataweave", dataweave)
+                .put("generated", generated)
+                .phases(ctx.phaseTimer));
+    }
+
+    private static void writeFiles(MuleLogger logger, OutputSink sink, Map<String, String> files) {
+        for (Map.Entry<String, String> entry : files.entrySet()) {
+            try {
+                sink.write(entry.getKey(), entry.getValue());
+            } catch (IOException e) {
+                logger.logSevere("Error writing to file: " + entry.getKey() + ", " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -704,22 +1162,10 @@ public class MuleMigrator {
                 Collections.emptyList(), Collections.emptyList());
     }
 
-    private static Map<String, String> genBalFilesFromBir(MuleLogger logger, List<TextDocument> birTxtDocs) {
+    private static void genBalFilesFromBir(MuleLogger logger, List<TextDocument> birTxtDocs,
+                                           FormattingMode formattingMode, OutputSink sink) {
         logger.logState("Generating syntax trees from BIR files and write them as .bal files...");
-        Map<String, String> balFiles = new HashMap<>();
-        for (TextDocument bir : birTxtDocs) {
-            SyntaxTree syntaxTree;
-            try {
-                logger.logInfo("Generating syntax tree for BIR file: " + bir.documentName());
-                syntaxTree = new CodeGenerator(bir).generateSyntaxTree();
-            } catch (Exception e) {
-                logger.logSevere("Error generating syntax tree from BIR file: " + bir.documentName());
-                continue;
-            }
-
-            balFiles.put(bir.documentName(), syntaxTree.toSourceCode());
-        }
-        return balFiles;
+        new ParallelCodeGenerator(formattingMode, logger::log).generateSources(birTxtDocs, sink);
     }
 
     private static Map<String, String> genProjectArtifacts(ContextBase ctx, MuleLogger logger) {
@@ -743,28 +1189,29 @@ public class MuleMigrator {
         return Map.of("Ballerina.toml", tomlContent.toString());
     }
 
-    public static Map<String, String> genConfigTOMLFile(MuleLogger logger, List<File> yamlFiles,
-                                                         List<File> propertyFiles,
+    public static Map<String, String> genConfigTOMLFile(MuleLogger logger, List<Path> yamlFiles,
+                                                         List<Path> propertyFiles,
                                                          Set<String> configurableVariableNames) {
         logger.logState("Generating Config.toml file from .yaml and .properties files...");
         StringBuilder tomlContent = new StringBuilder();
 
         // Process .properties files
-        for (File propFile : propertyFiles) {
-            if (propFile.getName().equals("mule-deploy.properties")) {
+        for (Path propFile : propertyFiles) {
+            String fileName = propFile.getFileName().toString();
+            if (fileName.equals("mule-deploy.properties")) {
                 // Skip mule-deploy.properties file
                 continue;
             }
 
             // Add file name as comment
-            tomlContent.append("# Properties from ").append(propFile.getName()).append("\n");
+            tomlContent.append("# Properties from ").append(fileName).append("\n");
             processPropertiesFile(logger, propFile, tomlContent, configurableVariableNames);
             tomlContent.append("\n");
         }
 
         // Process .yaml files using SnakeYAML
-        for (File yamlFile : yamlFiles) {
-            tomlContent.append("# Properties from ").append(yamlFile.getName()).append("\n");
+        for (Path yamlFile : yamlFiles) {
+            tomlContent.append("# Properties from ").append(yamlFile.getFileName()).append("\n");
             processYamlFile(logger, yamlFile, tomlContent, configurableVariableNames);
             tomlContent.append("\n");
         }
@@ -772,10 +1219,9 @@ public class MuleMigrator {
         return Map.of("Config.toml", tomlContent.toString());
     }
 
-    public static void processPropertiesFile(MuleLogger logger, File propFile, StringBuilder tomlContent,
+    public static void processPropertiesFile(MuleLogger logger, Path propFile, StringBuilder tomlContent,
                                              Set<String> configurableVariableNames) {
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new FileInputStream(propFile), StandardCharsets.UTF_8))) {
+        try (BufferedReader reader = Files.newBufferedReader(propFile, StandardCharsets.UTF_8)) {
             String line;
             while ((line = reader.readLine()) != null) {
                 if (line.trim().isEmpty() || line.trim().startsWith("#")) {
@@ -794,7 +1240,7 @@ public class MuleMigrator {
                 }
             }
         } catch (Exception e) {
-            logger.logSevere("Error processing properties file " + propFile.getName() + ": " + e.getMessage());
+            logger.logSevere("Error processing properties file " + propFile.getFileName() + ": " + e.getMessage());
         }
     }
 
@@ -828,18 +1274,18 @@ public class MuleMigrator {
         }
     }
 
-    public static void processYamlFile(MuleLogger logger, File yamlFile, StringBuilder tomlContent,
+    public static void processYamlFile(MuleLogger logger, Path yamlFile, StringBuilder tomlContent,
                                        Set<String> configurableVariableNames) {
         try {
             Yaml yaml = new Yaml();
-            try (FileInputStream inputStream = new FileInputStream(yamlFile)) {
+            try (InputStream inputStream = Files.newInputStream(yamlFile)) {
                 Object data = yaml.load(inputStream);
                 if (data instanceof Map) {
                     flattenYamlToToml((Map<String, Object>) data, "", tomlContent, configurableVariableNames);
                 }
             }
         } catch (Exception e) {
-            logger.logSevere("Error processing YAML file " + yamlFile.getName() + ": " + e.getMessage());
+            logger.logSevere("Error processing YAML file " + yamlFile.getFileName() + ": " + e.getMessage());
         }
     }
 
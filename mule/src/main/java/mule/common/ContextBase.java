@@ -18,14 +18,20 @@
 package mule.common;
 
 import common.BallerinaModel;
+import common.metrics.MetricsRecord;
+import common.metrics.MetricsRecorder;
+import common.metrics.PhaseTimer;
+import mule.MigratorUtils;
 import mule.MuleMigrator.MuleVersion;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static common.BallerinaModel.Import;
@@ -34,31 +40,35 @@ import static common.BallerinaModel.ModuleVar;
 
 public abstract class ContextBase {
 
-    protected final List<File> xmlFiles;
-    public final List<File> yamlFiles;
+    protected final List<Path> xmlFiles;
+    public final List<Path> yamlFiles;
     protected final Path muleAppDir;
     public final MuleVersion muleVersion;
-    public final List<File> propertyFiles;
+    public final List<Path> propertyFiles;
     public final String sourceName;
     public final boolean dryRun;
     public final boolean keepStructure;
     public final MuleLogger logger;
     public final ProjectMigrationResult result;
     protected final MultiRootContext multiRootContext;
-    protected final List<File> munitXmlFiles;
+    protected final List<Path> munitXmlFiles;
+    public final PhaseTimer phaseTimer = new PhaseTimer();
+    private MetricsRecorder metricsRecorder = MetricsRecorder.NONE;
+    private boolean streamDbResults;
+    private boolean parallelForeach;
 
-    protected ContextBase(List<File> xmlFiles, List<File> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
-                         List<File> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
+    protected ContextBase(List<Path> xmlFiles, List<Path> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
+                         List<Path> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
                           @NotNull MuleLogger logger, ProjectMigrationResult result,
                           MultiRootContext multiRootContext) {
         this(xmlFiles, yamlFiles, muleAppDir, muleVersion, propertyFiles, sourceName, dryRun, keepStructure,
                 logger, result, multiRootContext, Collections.emptyList());
     }
 
-    protected ContextBase(List<File> xmlFiles, List<File> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
-                         List<File> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
+    protected ContextBase(List<Path> xmlFiles, List<Path> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
+                         List<Path> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
                           @NotNull MuleLogger logger, ProjectMigrationResult result,
-                          MultiRootContext multiRootContext, List<File> munitXmlFiles) {
+                          MultiRootContext multiRootContext, List<Path> munitXmlFiles) {
         assert logger != null : "Logger must not be null";
         this.xmlFiles = xmlFiles;
         this.yamlFiles = yamlFiles;
@@ -72,13 +82,118 @@ public abstract class ContextBase {
         this.result = result;
         this.multiRootContext = multiRootContext;
         this.munitXmlFiles = munitXmlFiles;
-        if (multiRootContext != null) {
-            multiRootContext.register(this);
-        }
     }
 
     public abstract MigrationMetrics<? extends DWConstructBase> getMigrationMetrics();
 
+    public int xmlFileCount() {
+        return xmlFiles.size();
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    public boolean isStreamDbResults() {
+        return streamDbResults;
+    }
+
+    /**
+     * Sets whether a database select followed by a for-each over its result streams the rows into the loop even when
+     * the result is still the payload at the end of the flow. The rows are never streamed when a processor after the
+     * loop reads them.
+     */
+    public void setStreamDbResults(boolean streamDbResults) {
+        this.streamDbResults = streamDbResults;
+    }
+
+    public boolean isParallelForeach() {
+        return parallelForeach;
+    }
+
+    /**
+     * Sets whether the iterations of a for-each whose body does not write any shared variable run concurrently.
+     * Otherwise iterations run one after the other, as in Mule.
+     */
+    public void setParallelForeach(boolean parallelForeach) {
+        this.parallelForeach = parallelForeach;
+    }
+
+    /**
+     * Parses a single XML config and records a {@code file} metrics record with the elements, unsupported tags and
+     * DataWeave expressions encountered while parsing it.
+     *
+     * @param xmlFile XML config being parsed
+     * @param parser  parses the file
+     */
+    protected void parseFile(Path xmlFile, Runnable parser) {
+        long start = System.nanoTime();
+        if (!metricsRecorder.isEnabled()) {
+            parser.run();
+            phaseTimer.add("parse", start);
+            return;
+        }
+
+        MigrationMetrics<? extends DWConstructBase> metrics = getMigrationMetrics();
+        Map<String, Integer> passedBefore = new HashMap<>(metrics.passedXMLTags);
+        Map<String, Integer> failedBefore = new HashMap<>(metrics.failedXMLTags);
+        int dwEncounteredBefore = metrics.dwConversionStats.getTotalEncounteredCount();
+        int dwConvertedBefore = metrics.dwConversionStats.getConvertedCount();
+        int dwFailedBefore = metrics.dwConversionStats.getFailedDWExpressions().size();
+        parser.run();
+        phaseTimer.add("parse", start);
+
+        Map<String, Integer> unsupportedTags = tagCountsSince(metrics.failedXMLTags, failedBefore);
+        int supportedCount = tagCountsSince(metrics.passedXMLTags, passedBefore).values().stream()
+                .mapToInt(Integer::intValue).sum();
+        int unsupportedCount = unsupportedTags.values().stream().mapToInt(Integer::intValue).sum();
+        metricsRecorder.record(MetricsRecord.of(MetricsRecord.SOURCE_FILE, "mule")
+                .put("project", sourceName)
+                .put("file", relativeSourcePath(xmlFile))
+                .put("parseMillis", (System.nanoTime() - start) / 1_000_000)
+                .put("elements", Map.of("total", supportedCount + unsupportedCount, "supported", supportedCount,
+                        "unsupported", unsupportedCount))
+                .put("unsupportedTags", unsupportedTags)
+                .put("dataweave", Map.of(
+                        "encountered", metrics.dwConversionStats.getTotalEncounteredCount() - dwEncounteredBefore,
+                        "converted", metrics.dwConversionStats.getConvertedCount() - dwConvertedBefore,
+                        "failedExpressions",
+                        metrics.dwConversionStats.getFailedDWExpressions().size() - dwFailedBefore)));
+    }
+
+    private String relativeSourcePath(Path xmlFile) {
+        Path appDir = muleAppDir.toAbsolutePath().normalize();
+        Path file = xmlFile.toAbsolutePath().normalize();
+        return file.startsWith(appDir) ? appDir.relativize(file).toString() : file.getFileName().toString();
+    }
+
+    /**
+     * Derives the name of the Ballerina file generated for a config from its path relative to the Mule app directory,
+     * with the directory separators replaced by dots and without the {@code .xml} extension.
+     *
+     * @param xmlFile XML config under the Mule app directory
+     * @return name of the generated file
+     */
+    protected String configName(Path xmlFile) {
+        return muleAppDir.relativize(xmlFile).toString().replace(muleAppDir.getFileSystem().getSeparator(), ".")
+                .replace(".xml", "");
+    }
+
+    private static Map<String, Integer> tagCountsSince(Map<String, Integer> counts, Map<String, Integer> before) {
+        Map<String, Integer> delta = new LinkedHashMap<>();
+        counts.forEach((tag, count) -> {
+            int added = count - before.getOrDefault(tag, 0);
+            if (added > 0) {
+                delta.put(tag, added);
+            }
+        });
+        return delta;
+    }
+
     public abstract boolean isStandaloneBalFile();
 
     public abstract void parseAllFiles();
@@ -117,6 +232,16 @@ public abstract class ContextBase {
         return result == null ? "" : result.getProjectName();
     }
 
+    /**
+     * Makes the flows of the project callable from the other projects of the multi-root migration. The flow names are
+     * read straight from the configs, so the project does not have to stay parsed while the others are generated.
+     */
+    public void registerFlows() {
+        if (multiRootContext != null) {
+            multiRootContext.registerFlows(getOrgName(), getProjectName(), MigratorUtils.readFlowNames(xmlFiles));
+        }
+    }
+
     public abstract Optional<String> getFlowFuncRef(String flowName);
 
     public abstract Optional<MultiRootContext.LookupResult> lookupResultFlowFunc(String flowName);
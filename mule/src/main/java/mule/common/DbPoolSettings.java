@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package mule.common;
+
+import common.BallerinaModel.ModuleVar;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static common.ConversionUtils.connectionPoolVarName;
+import static common.ConversionUtils.exprFrom;
+import static common.ConversionUtils.typeFrom;
+
+/**
+ * Connection pool settings of a Mule database config, taken from its {@code db:pooling-profile}. When the profile is
+ * present, the pool is declared as a configurable {@code sql:ConnectionPool} that is passed to the client, so the pool
+ * sizing tuned for Mule is kept and can still be changed in {@code Config.toml}. Without a profile the client uses the
+ * pool defaults of the Ballerina library.
+ *
+ * @param maxPoolSize maximum number of open connections, or empty to use the default
+ * @param minPoolSize minimum number of idle connections, or empty to use the default
+ */
+public record DbPoolSettings(String maxPoolSize, String minPoolSize) {
+
+    public static final DbPoolSettings DEFAULT = new DbPoolSettings("", "");
+    private static final String POOLING_PROFILE_TAG = "db:pooling-profile";
+
+    /**
+     * Reads the pool settings from the pooling profile nested in a database config or connection element.
+     *
+     * @param element the config or connection element
+     * @return the pool settings, or {@link #DEFAULT} if there is no pooling profile
+     */
+    public static DbPoolSettings fromPoolingProfile(Element element) {
+        NodeList profiles = element.getElementsByTagName(POOLING_PROFILE_TAG);
+        if (profiles.getLength() == 0) {
+            return DEFAULT;
+        }
+        Element profile = (Element) profiles.item(0);
+        return new DbPoolSettings(profile.getAttribute("maxPoolSize"), profile.getAttribute("minPoolSize"));
+    }
+
+    /**
+     * Returns whether any pool setting is given, in which case the client needs the pool from
+     * {@link #configurables(String)}.
+     */
+    public boolean isDefined() {
+        return isInteger(maxPoolSize) || isInteger(minPoolSize);
+    }
+
+    /**
+     * Returns the configurable holding the connection pool of a client, if any pool setting is given.
+     *
+     * @param clientName name of the client variable
+     * @return the configurable declarations
+     */
+    public List<ModuleVar> configurables(String clientName) {
+        if (!isDefined()) {
+            return List.of();
+        }
+        List<String> poolFields = new ArrayList<>();
+        if (isInteger(maxPoolSize)) {
+            poolFields.add("maxOpenConnections: " + maxPoolSize.trim());
+        }
+        if (isInteger(minPoolSize)) {
+            poolFields.add("minIdleConnections: " + minPoolSize.trim());
+        }
+        return List.of(ModuleVar.configurable(connectionPoolVarName(clientName), typeFrom("sql:ConnectionPool"),
+                exprFrom("{%s}".formatted(String.join(", ", poolFields)))));
+    }
+
+    /**
+     * Returns the expression creating a client with the given arguments, passing the pool from
+     * {@link #configurables(String)} when there is one.
+     *
+     * @param clientName name of the client variable
+     * @param args       expressions of the positional arguments of the client
+     * @return the client initialization expression
+     */
+    public String newClient(String clientName, List<String> args) {
+        List<String> allArgs = new ArrayList<>(args);
+        if (isDefined()) {
+            allArgs.add("connectionPool = " + connectionPoolVarName(clientName));
+        }
+        return "check new (%s)".formatted(String.join(", ", allArgs));
+    }
+
+    private static boolean isInteger(String value) {
+        return value.trim().matches("\\d+");
+    }
+}
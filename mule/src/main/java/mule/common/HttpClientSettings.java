@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package mule.common;
+
+import common.BallerinaModel.ModuleVar;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static common.ConversionUtils.exprFrom;
+import static common.ConversionUtils.typeFrom;
+
+/**
+ * Connection settings of a Mule HTTP request config, used to declare the module-level Ballerina client that all flows
+ * using the config share. The timeout, pool and keep-alive settings the config sets are declared as configurables, so
+ * they can be tuned in {@code Config.toml} without changing the code. Settings the config leaves out are left to the
+ * defaults of the Ballerina client.
+ *
+ * @param responseTimeout          response timeout in milliseconds, or empty
+ * @param maxConnections           maximum number of connections, where {@code -1} means unlimited, or empty
+ * @param connectionIdleTimeout    time in milliseconds an idle connection is kept open, or empty
+ * @param usePersistentConnections whether connections are kept alive, or empty
+ */
+public record HttpClientSettings(String responseTimeout, String maxConnections, String connectionIdleTimeout,
+                                 String usePersistentConnections) {
+
+    public static final HttpClientSettings DEFAULT = new HttpClientSettings("", "", "", "");
+
+    /**
+     * Returns the configurables holding the settings of a client, one for each setting the config sets.
+     *
+     * @param clientName name of the client variable
+     * @return the configurable declarations
+     */
+    public List<ModuleVar> configurables(String clientName) {
+        List<ModuleVar> configurables = new ArrayList<>();
+        String timeout = millisToSeconds(responseTimeout);
+        if (timeout != null) {
+            configurables.add(ModuleVar.configurable(timeoutVar(clientName), typeFrom("decimal"), exprFrom(timeout)));
+        }
+        List<String> poolFields = poolFields();
+        if (!poolFields.isEmpty()) {
+            configurables.add(ModuleVar.configurable(poolConfigVar(clientName), typeFrom("http:PoolConfiguration"),
+                    exprFrom("{%s}".formatted(String.join(", ", poolFields)))));
+        }
+        String keepAlive = keepAlive();
+        if (keepAlive != null) {
+            configurables.add(ModuleVar.configurable(keepAliveVar(clientName), typeFrom("http:KeepAlive"),
+                    exprFrom(keepAlive)));
+        }
+        return configurables;
+    }
+
+    /**
+     * Returns the declaration of a client using the configurables from {@link #configurables(String)}.
+     *
+     * @param clientName name of the client variable
+     * @param url        expression of the URL of the client
+     * @return the client declaration
+     */
+    public ModuleVar client(String clientName, String url) {
+        List<String> configFields = new ArrayList<>();
+        if (millisToSeconds(responseTimeout) != null) {
+            configFields.add("timeout: " + timeoutVar(clientName));
+        }
+        if (!poolFields().isEmpty()) {
+            configFields.add("poolConfig: " + poolConfigVar(clientName));
+        }
+        if (keepAlive() != null) {
+            configFields.add("http1Settings: {keepAlive: %s}".formatted(keepAliveVar(clientName)));
+        }
+        String args = configFields.isEmpty() ? url : "%s, {%s}".formatted(url, String.join(", ", configFields));
+        return ModuleVar.finalVar(clientName, typeFrom("http:Client"), exprFrom("check new (%s)".formatted(args)));
+    }
+
+    private List<String> poolFields() {
+        List<String> poolFields = new ArrayList<>();
+        if (isInteger(maxConnections)) {
+            poolFields.add("maxActiveConnections: " + maxConnections.trim());
+        }
+        String idleTimeout = millisToSeconds(connectionIdleTimeout);
+        if (idleTimeout != null) {
+            poolFields.add("minEvictableIdleTime: " + idleTimeout);
+        }
+        return poolFields;
+    }
+
+    private String keepAlive() {
+        return switch (usePersistentConnections.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> "http:KEEPALIVE_AUTO";
+            case "false" -> "http:KEEPALIVE_NEVER";
+            default -> null;
+        };
+    }
+
+    private static String timeoutVar(String clientName) {
+        return clientName + "_timeout";
+    }
+
+    private static String poolConfigVar(String clientName) {
+        return clientName + "_pool_config";
+    }
+
+    private static String keepAliveVar(String clientName) {
+        return clientName + "_keep_alive";
+    }
+
+    private static String millisToSeconds(String millis) {
+        if (!isInteger(millis)) {
+            return null;
+        }
+        return BigDecimal.valueOf(Long.parseLong(millis.trim()), 3).stripTrailingZeros().toPlainString();
+    }
+
+    private static boolean isInteger(String value) {
+        return value.trim().matches("-?\\d+");
+    }
+}
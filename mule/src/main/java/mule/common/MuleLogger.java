@@ -17,44 +17,74 @@
  */
 package mule.common;
 
+import common.AsyncMigrationLogger;
 import common.LoggingUtils;
+import common.MigrationLogger;
 
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 public class MuleLogger {
 
     public static final String LOGGER_NAME = "migrate-mule";
+    private static AsyncMigrationLogger verboseLogger;
     private final Consumer<String> stateCallback;
-    private final Consumer<String> logCallback;
+    private final MigrationLogger logger;
 
     public MuleLogger(Consumer<String> stateCallback, Consumer<String> logCallback) {
         this.stateCallback = stateCallback;
-        this.logCallback = logCallback;
+        this.logger = MigrationLogger.forCallback(logCallback);
     }
 
     public MuleLogger(boolean verbose) {
         Logger logger = verbose ? createDefaultLogger() : createSilentLogger();
         this.stateCallback = LoggingUtils.wrapLoggerForStateCallback(logger);
-        this.logCallback = LoggingUtils.wrapLoggerForLogCallback(logger);
+        // The silent logger only lets SEVERE records through, which both ERROR and SEVERE map to
+        this.logger = verbose ? getVerboseLogger(logger) :
+                MigrationLogger.forLogger(logger, LoggingUtils.Level.ERROR);
     }
 
     public void logState(String message) {
+        // State messages are written synchronously, so let earlier messages through first to keep the order
+        flush();
         stateCallback.accept(message);
     }
 
+    public boolean isEnabled(LoggingUtils.Level level) {
+        return logger.isEnabled(level);
+    }
+
     public void log(LoggingUtils.Level level, String message) {
-        logCallback.accept("[" + level + "] " + message);
+        logger.log(level, message);
+    }
+
+    /**
+     * Logs a message that is only built if the level is enabled.
+     *
+     * @param level   log level
+     * @param message supplies the message
+     */
+    public void log(LoggingUtils.Level level, Supplier<String> message) {
+        logger.log(level, message);
     }
 
     public void logInfo(String message) {
         log(LoggingUtils.Level.INFO, message);
     }
 
+    public void logInfo(Supplier<String> message) {
+        log(LoggingUtils.Level.INFO, message);
+    }
+
     public void logWarn(String message) {
         log(LoggingUtils.Level.WARN, message);
     }
 
+    public void logWarn(Supplier<String> message) {
+        log(LoggingUtils.Level.WARN, message);
+    }
+
     public void logError(String message) {
         log(LoggingUtils.Level.ERROR, message);
     }
@@ -63,6 +93,27 @@ public class MuleLogger {
         log(LoggingUtils.Level.SEVERE, message);
     }
 
+    public void logSevere(Supplier<String> message) {
+        log(LoggingUtils.Level.SEVERE, message);
+    }
+
+    /**
+     * Blocks until pending verbose messages have been written.
+     */
+    public void flush() {
+        if (logger instanceof AsyncMigrationLogger asyncLogger) {
+            asyncLogger.flush();
+        }
+    }
+
+    private static synchronized MigrationLogger getVerboseLogger(Logger logger) {
+        // All verbose loggers write to the same underlying logger, so they share a single appender thread
+        if (verboseLogger == null) {
+            verboseLogger = new AsyncMigrationLogger(MigrationLogger.forLogger(logger, LoggingUtils.Level.INFO));
+        }
+        return verboseLogger;
+    }
+
     private static Logger createSilentLogger() {
         Logger silentLogger = Logger.getLogger(LOGGER_NAME);
         silentLogger.setFilter(record -> record.getLevel().intValue() >= java.util.logging.Level.SEVERE.intValue());
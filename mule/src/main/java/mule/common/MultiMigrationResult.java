@@ -17,13 +17,14 @@
  */
 package mule.common;
 
+import common.report.PagedReport;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
 public class MultiMigrationResult implements MigrationResult {
     private List<ProjectMigrationResult> migrationResults;
-    private String htmlReport;
+    private PagedReport htmlReport;
     private Path targetPath;
     private Optional<String> fatalError = Optional.empty();
 
@@ -53,11 +54,20 @@ public class MultiMigrationResult implements MigrationResult {
         this.targetPath = targetPath;
     }
 
+    /**
+     * Returns the migration report as a single self-contained HTML document.
+     *
+     * @return HTML of the report
+     */
     public String getHtmlReport() {
+        return htmlReport.toHTML();
+    }
+
+    public PagedReport getPagedReport() {
         return htmlReport;
     }
 
-    public void setHtmlReport(String htmlReport) {
+    public void setHtmlReport(PagedReport htmlReport) {
         this.htmlReport = htmlReport;
     }
 }
@@ -17,20 +17,36 @@
  */
 package mule.common;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Flows of the projects converted together in multi-root mode, so that a project can call the flows of the others.
+ * Only the lookup results are kept, which lets the parsed model of a project be released as soon as its code is
+ * generated.
+ */
 public class MultiRootContext {
-    private final List<ContextBase> projectContexts = new ArrayList<>();
+    private final Map<String, LookupResult> flows = new HashMap<>();
 
-    public void register(ContextBase cx) {
-        assert cx != null;
-        projectContexts.add(cx);
+    /**
+     * Registers the flows and sub-flows of a project. A flow name declared by several projects resolves to the
+     * project registered first.
+     *
+     * @param org       organization of the generated package
+     * @param proj      name of the generated package
+     * @param flowNames names of the flows and sub-flows of the project
+     */
+    public void registerFlows(String org, String proj, Collection<String> flowNames) {
+        for (String flowName : flowNames) {
+            flows.putIfAbsent(flowName, new LookupResult(org, proj,
+                    common.ConversionUtils.convertToBalIdentifier(flowName)));
+        }
     }
 
     public Optional<LookupResult> lookupFlow(String flowName) {
-        return projectContexts.stream().flatMap(cx -> cx.lookupResultFlowFunc(flowName).stream()).findFirst();
+        return Optional.ofNullable(flows.get(flowName));
     }
 
     public record LookupResult(String org, String proj, String identifier) { }
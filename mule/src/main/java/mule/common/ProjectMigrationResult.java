@@ -17,6 +17,7 @@
  */
 package mule.common;
 
+import common.report.PagedReport;
 import mule.common.report.ProjectMigrationStats;
 
 import java.nio.file.Path;
@@ -37,7 +38,7 @@ public final class ProjectMigrationResult implements MigrationResult {
     private String orgName;
     private String projectName;
     private Map<String, String> files;
-    private String htmlReport;
+    private PagedReport htmlReport;
     private Map<String, Object> jsonReport;
     private Path targetPath;
     private Set<String> configurableVariableNames = new HashSet<>();
@@ -100,11 +101,20 @@ public final class ProjectMigrationResult implements MigrationResult {
         this.files = files;
     }
 
+    /**
+     * Returns the migration report as a single self-contained HTML document.
+     *
+     * @return HTML of the report
+     */
     public String getHtmlReport() {
+        return htmlReport.toHTML();
+    }
+
+    public PagedReport getPagedReport() {
         return htmlReport;
     }
 
-    public void setHtmlReport(String htmlReport) {
+    public void setHtmlReport(PagedReport htmlReport) {
         this.htmlReport = htmlReport;
     }
 
@@ -17,6 +17,7 @@
  */
 package mule.common.report;
 
+import common.report.PagedReport;
 import mule.common.MuleLogger;
 import mule.common.ProjectMigrationResult;
 
@@ -38,6 +39,7 @@ public class AggregateReportGenerator {
     public static final String AGGREGATE_MIGRATION_REPORT_NAME = "aggregate_migration_report.html";
     public static final String MIGRATION_SUMMARY_TITLE = "Aggregate Migration Summary";
     public static final String MIGRATION_ASSESSMENT_TITLE = "Aggregate Migration Assessment";
+    private static final String PROJECTS_SECTION = "projects";
 
     /**
      * Record containing all calculated aggregate statistics for migration reports.
@@ -130,7 +132,7 @@ public class AggregateReportGenerator {
                         coverageLevel);
 }
 
-public static String generateHtmlReport(AggregateStatistics stats, MuleLogger logger,
+public static PagedReport generateHtmlReport(AggregateStatistics stats, MuleLogger logger,
                 List<ProjectMigrationResult> projectResults,
                 Path convertedProjectsDir, boolean dryRun) {
         logger.logState("Generating aggregate migration report...");
@@ -142,7 +144,7 @@ public static String generateHtmlReport(AggregateStatistics stats, MuleLogger lo
 
         String reportTitle = dryRun ? MIGRATION_ASSESSMENT_TITLE : MIGRATION_SUMMARY_TITLE;
         logger.logInfo("Formating aggregate migration report...");
-        return String.format(
+        return new PagedReport(scripts -> String.format(
                 AggregateReportTemplate.getHtmlTemplate(),
                 reportTitle,                                     // %s - title
                 reportTitle,                                     // %s - title again
@@ -159,116 +161,118 @@ public static String generateHtmlReport(AggregateStatistics stats, MuleLogger lo
                 AVG_CASE_COMP_TIME_NEW_MINUTES / 60,
                 AVG_CASE_COMP_TIME_REPEATED_MINUTES,
                 AVG_CASE_DW_LINE_TIME_MINUTES,
-                generateProjectCards(projectResults, convertedProjectsDir),
+                // Project cards are rendered from the report data, a page at a time
+                PagedReport.section(PROJECTS_SECTION),
                 // html
-                generateFailedElementsRows(projectResults) // %s - failed elements rows html
-        );
+                generateFailedElementsRows(projectResults), // %s - failed elements rows html
+                scripts
+        ), writer -> {
+            writer.beginSection(PROJECTS_SECTION);
+            for (ProjectMigrationResult result : projectResults) {
+                writer.addHtml(generateProjectCard(result));
+            }
+        });
     }
 
-    private static String generateProjectCards(List<ProjectMigrationResult> projectResults,
-                                               Path convertedProjectsDir) {
-        StringBuilder html = new StringBuilder();
+    private static String generateProjectCard(ProjectMigrationResult result) {
+        ProjectMigrationStats stats = result.getMigrationStats();
+        String statusClass = stats.migrationCoverage() >= 75 ? "status-high" :
+                stats.migrationCoverage() >= 50 ? "status-medium" : "status-low";
+        String statusText = stats.migrationCoverage() >= 75 ? "High Coverage" :
+                stats.migrationCoverage() >= 50 ? "Medium Coverage" : "Low Coverage";
 
-        for (ProjectMigrationResult result : projectResults) {
-            ProjectMigrationStats stats = result.getMigrationStats();
-            String statusClass = stats.migrationCoverage() >= 75 ? "status-high" :
-                    stats.migrationCoverage() >= 50 ? "status-medium" : "status-low";
-            String statusText = stats.migrationCoverage() >= 75 ? "High Coverage" :
-                    stats.migrationCoverage() >= 50 ? "Medium Coverage" : "Low Coverage";
-
-            Path relativeReportPath = Path.of(result.getProjectName(), INDIVIDUAL_REPORT_NAME);
-
-            // Get the appropriate color for the coverage bar
-            String barColor = stats.migrationCoverage() >= 75 ? "#4CAF50" : // Green for high
-                    stats.migrationCoverage() >= 50 ? "#FFC107" :            // Amber for medium
-                   "#F44336";                                                        // Red for low
-
-            int totalItems = calculateTotalXmlElements(stats) +
-                    stats.dwConversionStats().getTotalEncounteredCount();
-            int migratableItems = calculateMigratableXmlElements(stats) +
-                    stats.dwConversionStats().getConvertedCount();
-            int nonMigratableItems = totalItems - migratableItems;
-
-            html.append("    <div class=\"project-card\">\n");
-            html.append("      <div class=\"project-left\">\n");
-            html.append("        <div class=\"project-header\">\n");
-            html.append("          <div class=\"project-name\">\n");
-            html.append("            <a href=\"").append(relativeReportPath).append("\" class=\"project-link\" id=\"")
-                            .append(result.getProjectName()).append("\">").append(result.getSourceName())
-                            .append("</a>\n");
-            html.append("          </div>\n");
-            html.append("          <span class=\"status-badge ").append(statusClass).append("\">").append(statusText)
-                    .append("</span>\n");
-            html.append("        </div>\n\n");
-
-            html.append("        <div class=\"project-details\">\n");
-            html.append("          <div class=\"project-metrics\">\n");
-            html.append("            <div class=\"metric\">\n");
-            html.append("              <div class=\"metric-left\">\n");
-            html.append("                <span class=\"metric-value\">")
-                    .append(String.format("%d%%", stats.migrationCoverage())).append("</span>\n");
-            html.append("                <span class=\"metric-label\">Automated Coverage</span>\n");
-            html.append("                <div class=\"coverage-indicator\">\n");
-            html.append("                  <div class=\"coverage-bar\" style=\"width: ")
-                    .append(stats.migrationCoverage()).append("%; background-color: ").append(barColor)
-                    .append(";\"></div>\n");
-            html.append("                </div>\n");
-            html.append("              </div>\n");
-            html.append("              <div class=\"metric-right\">\n");
-            html.append("                <div class=\"coverage-breakdown\">\n");
-            html.append("                  <div>\n");
-            html.append("                    <span class=\"breakdown-label\">Total Code Lines:</span>\n");
-            html.append("                    <span class=\"breakdown-value\">").append(totalItems).append("</span>\n");
-            html.append("                  </div>\n");
-            html.append("                  <div>\n");
-            html.append("                    <span class=\"breakdown-label\">Migratable Code Lines:</span>\n");
-            html.append("                    <span class=\"breakdown-value\">").append(migratableItems)
-                    .append("</span>\n");
-            html.append("                  </div>\n");
-            html.append("                  <div>\n");
-            html.append("                    <span class=\"breakdown-label\">Non-migratable Code Lines:</span>\n");
-            html.append("                    <span class=\"breakdown-value\">").append(nonMigratableItems)
-                    .append("</span>\n");
-            html.append("                  </div>\n");
-            html.append("                </div>\n");
-            html.append("              </div>\n");
-            html.append("            </div>\n");
-            html.append("          </div>\n");
-            html.append("        </div>\n");
-            html.append("      </div>\n\n");
-
-            html.append("      <div class=\"time-estimates\">\n");
-            html.append("        <div class=\"time-estimate best-case\">\n");
-            html.append("          <div class=\"time-label\">Best Case</div>\n");
-            html.append("          <div class=\"time-value time-best\">\n");
-            html.append("            <span class=\"time-days\">").append(String.format("%.1fd", stats.bestCaseDays()))
-                    .append("</span>\n");
-            html.append("            <span class=\"time-weeks\">(~")
-                    .append(String.format("%.1fw", stats.bestCaseDays() / 5.0)).append(")</span>\n");
-            html.append("          </div>\n");
-            html.append("        </div>\n");
-            html.append("        <div class=\"time-estimate avg-case\">\n");
-            html.append("          <div class=\"time-label\">Average Case</div>\n");
-            html.append("          <div class=\"time-value time-avg\">\n");
-            html.append("            <span class=\"time-days\">")
-                    .append(String.format("%.1fd", stats.averageCaseDays())).append("</span>\n");
-            html.append("            <span class=\"time-weeks\">(~")
-                    .append(String.format("%.1fw", stats.averageCaseDays() / 5.0)).append(")</span>\n");
-            html.append("          </div>\n");
-            html.append("        </div>\n");
-            html.append("        <div class=\"time-estimate worst-case\">\n");
-            html.append("          <div class=\"time-label\">Worst Case</div>\n");
-            html.append("          <div class=\"time-value time-worst\">\n");
-            html.append("            <span class=\"time-days\">").append(String.format("%.1fd", stats.worstCaseDays()))
-                    .append("</span>\n");
-            html.append("            <span class=\"time-weeks\">(~")
-                    .append(String.format("%.1fw", stats.worstCaseDays() / 5.0)).append(")</span>\n");
-            html.append("          </div>\n");
-            html.append("        </div>\n");
-            html.append("      </div>\n");
-            html.append("    </div>\n\n");
-        }
+        Path relativeReportPath = Path.of(result.getProjectName(), INDIVIDUAL_REPORT_NAME);
 
+        // Get the appropriate color for the coverage bar
+        String barColor = stats.migrationCoverage() >= 75 ? "#4CAF50" : // Green for high
+                stats.migrationCoverage() >= 50 ? "#FFC107" :            // Amber for medium
+               "#F44336";                                                        // Red for low
+
+        int totalItems = calculateTotalXmlElements(stats) +
+                stats.dwConversionStats().getTotalEncounteredCount();
+        int migratableItems = calculateMigratableXmlElements(stats) +
+                stats.dwConversionStats().getConvertedCount();
+        int nonMigratableItems = totalItems - migratableItems;
+
+        StringBuilder html = new StringBuilder();
+        html.append("    <div class=\"project-card\">\n");
+        html.append("      <div class=\"project-left\">\n");
+        html.append("        <div class=\"project-header\">\n");
+        html.append("          <div class=\"project-name\">\n");
+        html.append("            <a href=\"").append(relativeReportPath).append("\" class=\"project-link\" id=\"")
+                        .append(result.getProjectName()).append("\">").append(result.getSourceName())
+                        .append("</a>\n");
+        html.append("          </div>\n");
+        html.append("          <span class=\"status-badge ").append(statusClass).append("\">").append(statusText)
+                .append("</span>\n");
+        html.append("        </div>\n\n");
+
+        html.append("        <div class=\"project-details\">\n");
+        html.append("          <div class=\"project-metrics\">\n");
+        html.append("            <div class=\"metric\">\n");
+        html.append("              <div class=\"metric-left\">\n");
+        html.append("                <span class=\"metric-value\">")
+                .append(String.format("%d%%", stats.migrationCoverage())).append("</span>\n");
+        html.append("                <span class=\"metric-label\">Automated Coverage</span>\n");
+        html.append("                <div class=\"coverage-indicator\">\n");
+        html.append("                  <div class=\"coverage-bar\" style=\"width: ")
+                .append(stats.migrationCoverage()).append("%; background-color: ").append(barColor)
+                .append(";\"></div>\n");
+        html.append("                </div>\n");
+        html.append("              </div>\n");
+        html.append("              <div class=\"metric-right\">\n");
+        html.append("                <div class=\"coverage-breakdown\">\n");
+        html.append("                  <div>\n");
+        html.append("                    <span class=\"breakdown-label\">Total Code Lines:</span>\n");
+        html.append("                    <span class=\"breakdown-value\">").append(totalItems).append("</span>\n");
+        html.append("                  </div>\n");
+        html.append("                  <div>\n");
+        html.append("                    <span class=\"breakdown-label\">Migratable Code Lines:</span>\n");
+        html.append("                    <span class=\"breakdown-value\">").append(migratableItems)
+                .append("</span>\n");
+        html.append("                  </div>\n");
+        html.append("                  <div>\n");
+        html.append("                    <span class=\"breakdown-label\">Non-migratable Code Lines:</span>\n");
+        html.append("                    <span class=\"breakdown-value\">").append(nonMigratableItems)
+                .append("</span>\n");
+        html.append("                  </div>\n");
+        html.append("                </div>\n");
+        html.append("              </div>\n");
+        html.append("            </div>\n");
+        html.append("          </div>\n");
+        html.append("        </div>\n");
+        html.append("      </div>\n\n");
+
+        html.append("      <div class=\"time-estimates\">\n");
+        html.append("        <div class=\"time-estimate best-case\">\n");
+        html.append("          <div class=\"time-label\">Best Case</div>\n");
+        html.append("          <div class=\"time-value time-best\">\n");
+        html.append("            <span class=\"time-days\">").append(String.format("%.1fd", stats.bestCaseDays()))
+                .append("</span>\n");
+        html.append("            <span class=\"time-weeks\">(~")
+                .append(String.format("%.1fw", stats.bestCaseDays() / 5.0)).append(")</span>\n");
+        html.append("          </div>\n");
+        html.append("        </div>\n");
+        html.append("        <div class=\"time-estimate avg-case\">\n");
+        html.append("          <div class=\"time-label\">Average Case</div>\n");
+        html.append("          <div class=\"time-value time-avg\">\n");
+        html.append("            <span class=\"time-days\">")
+                .append(String.format("%.1fd", stats.averageCaseDays())).append("</span>\n");
+        html.append("            <span class=\"time-weeks\">(~")
+                .append(String.format("%.1fw", stats.averageCaseDays() / 5.0)).append(")</span>\n");
+        html.append("          </div>\n");
+        html.append("        </div>\n");
+        html.append("        <div class=\"time-estimate worst-case\">\n");
+        html.append("          <div class=\"time-label\">Worst Case</div>\n");
+        html.append("          <div class=\"time-value time-worst\">\n");
+        html.append("            <span class=\"time-days\">").append(String.format("%.1fd", stats.worstCaseDays()))
+                .append("</span>\n");
+        html.append("            <span class=\"time-weeks\">(~")
+                .append(String.format("%.1fw", stats.worstCaseDays() / 5.0)).append(")</span>\n");
+        html.append("          </div>\n");
+        html.append("        </div>\n");
+        html.append("      </div>\n");
+        html.append("    </div>\n\n");
         return html.toString();
     }
 
@@ -598,6 +598,7 @@ public class AggregateReportTemplate {
 
                   document.getElementById("datetime").innerHTML = new Date().toLocaleString();
                 </script>
+                %s
                 </body>
                 </html>
                 """;
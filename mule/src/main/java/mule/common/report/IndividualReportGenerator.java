@@ -19,7 +19,9 @@ package mule.common.report;
 
 import common.ReportUtils;
 import common.TimeEstimation;
+import common.report.PagedReport;
 import common.report.ReportComponent;
+import common.report.ReportDataWriter;
 import common.report.Styles;
 import mule.MuleMigrator.MuleVersion;
 import mule.common.DWConstructBase;
@@ -27,6 +29,7 @@ import mule.common.DWConversionStats;
 import mule.common.MigrationMetrics;
 import mule.common.MuleLogger;
 
+import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +57,9 @@ public class IndividualReportGenerator {
     public static final String MIGRATION_SUMMARY_TITLE = "Migration Summary";
     public static final String MIGRATION_ASSESSMENT_TITLE = "Migration Assessment";
 
+    private static final String UNSUPPORTED_BLOCKS_SECTION = "unsupportedBlocks";
+    private static final String DATAWEAVE_EXPRESSIONS_SECTION = "dataweaveExpressions";
+
     public static Map<String, Object> generateJsonReport(ProjectMigrationStats pms) {
         int migrationCoverage = pms.migrationCoverage();
         String coverageStatus = getCoverageStatus(migrationCoverage);
@@ -86,12 +92,15 @@ public class IndividualReportGenerator {
         return result;
     }
 
-    public static String generateHtmlReport(MuleLogger logger, ProjectMigrationStats pms, MuleVersion muleVersion,
-                                            boolean dryRun, String sourceProjectName) {
+    public static PagedReport generateHtmlReport(MuleLogger logger, ProjectMigrationStats pms,
+                                                 MuleVersion muleVersion, boolean dryRun, String sourceProjectName) {
         logger.logState("Generating individual migration report...");
         String unsupportedElementsTable = generateUnsupportedElementsTable(pms.failedXMLTags());
-        String unsupportedBlocksHtml = generateUnsupportedBlocksHtml(pms.failedBlocks());
-        String dataweaveExpressionsHtml = generateDataweaveExpressionsHtml(pms.dwConversionStats());
+        // The blocks and expressions are rendered from the report data, a page at a time
+        String unsupportedBlocksHtml = pms.failedBlocks().isEmpty() ? "" :
+                PagedReport.section(UNSUPPORTED_BLOCKS_SECTION);
+        String dataweaveExpressionsHtml = pms.dwConversionStats().getFailedDWExpressions().isEmpty() ? "" :
+                PagedReport.section(DATAWEAVE_EXPRESSIONS_SECTION);
 
         // XML Elements metrics
         int totalXmlElements = calculateTotalXmlElements(pms);
@@ -137,7 +146,7 @@ public class IndividualReportGenerator {
                 WORST_CASE_COMP_TIME_NEW_MINUTES, WORST_CASE_COMP_TIME_REPEATED_MINUTES,
                 WORST_CASE_DW_LINE_TIME_MINUTES);
 
-        return String.format(
+        return new PagedReport(scripts -> String.format(
                 IndividualReportTemplate.getHtmlTemplate(),
                 reportTitle,
                 estimationComponent.styles().toHTML(),
@@ -161,8 +170,23 @@ public class IndividualReportGenerator {
                 // Content sections
                 unsupportedElementsTable,
                 unsupportedBlocksHtml,
-                dataweaveExpressionsHtml
-        );
+                dataweaveExpressionsHtml,
+                scripts
+        ), writer -> writeReportData(writer, pms));
+    }
+
+    private static void writeReportData(ReportDataWriter writer, ProjectMigrationStats pms) throws IOException {
+        writer.beginSection(UNSUPPORTED_BLOCKS_SECTION);
+        List<String> failedBlocks = pms.failedBlocks();
+        for (int i = 0; i < failedBlocks.size(); i++) {
+            writer.addCodeBlock("Block #" + (i + 1), getBlockType(failedBlocks.get(i)), null, failedBlocks.get(i));
+        }
+
+        writer.beginSection(DATAWEAVE_EXPRESSIONS_SECTION);
+        int expressionCount = 1;
+        for (String dwExpr : pms.dwConversionStats().getFailedDWExpressions()) {
+            writer.addCodeBlock("Expression #" + expressionCount++, "Dataweave Expression", null, dwExpr);
+        }
     }
 
     private static String getCoverageColor(int coverage) {
@@ -240,43 +264,6 @@ public class IndividualReportGenerator {
         return sb.toString();
     }
 
-    private static String generateUnsupportedBlocksHtml(List<String> failedBlocks) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < failedBlocks.size(); i++) {
-            sb.append(String.format("""
-                <div class="block-item">
-                    <div class="block-header">
-                        <span class="block-number">Block #%d</span>
-                        <span class="block-type">%s</span>
-                    </div>
-                    <pre class="block-code"><code>%s</code></pre>
-                </div>
-                """,
-                i + 1, getBlockType(failedBlocks.get(i)), escapeHtml(failedBlocks.get(i))));
-        }
-        return sb.toString();
-    }
-
-    private static String escapeHtml(String text) {
-        return text.replace("&", "&amp;")
-                .replace("<", "&lt;")
-                .replace(">", "&gt;")
-                .replace("\"", "&quot;")
-                .replace("'", "&#39;");
-    }
-
-    private static String generateDataweaveExpressionsHtml(DWConversionStats<? extends DWConstructBase> dwStats) {
-        StringBuilder sb = new StringBuilder();
-        int expressionCount = 1;
-        for (Object dwExpr : dwStats.getFailedDWExpressions()) {
-            sb.append("<div class=\"block-item\"><div class=\"block-header\">");
-            sb.append("<span class=\"block-number\">Expression #").append(expressionCount++).append("</span>");
-            sb.append("<span class=\"block-type\">").append("Dataweave Expression").append("</span>");
-            sb.append("</div><pre class=\"block-code\">").append(dwExpr).append("</pre></div>");
-        }
-        return sb.toString();
-    }
-
     private static String getBlockType(String block) {
         if (block.contains("<")) {
             int start = block.indexOf("<") + 1;
@@ -473,19 +473,20 @@ public class IndividualReportTemplate {
                       }
 
                       // Check Element Blocks
-                      const manualBlocksSection = document.querySelector('.summary-container:nth-of-type(4) .unsupported-blocks .block-item');
+                      const manualBlocksSection = document.querySelector('.unsupported-blocks > [data-report-section="unsupportedBlocks"]');
                       if (!manualBlocksSection) {
                           document.getElementById('manualBlocksEmpty').style.display = 'block';
                       }
 
                       // Check DataWeave Expressions
-                      const dataweaveBlocks = document.querySelector('#dataweaveContent .block-item');
+                      const dataweaveBlocks = document.querySelector('#dataweaveContent [data-report-section]');
                       if (!dataweaveBlocks) {
                           document.getElementById('dataweaveEmpty').style.display = 'block';
                       }
                   });
                 </script>
                 <script>document.getElementById("datetime").innerHTML = new Date().toLocaleString();</script>
+                %s
                 </body></html>
                 """;
     }
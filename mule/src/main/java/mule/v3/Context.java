@@ -30,7 +30,6 @@ import mule.v3.model.MuleModel;
 import mule.v3.model.ParseResult;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -67,12 +66,12 @@ public class Context extends ContextBase {
     public FileContext currentFileCtx;
     private final boolean isStandaloneBalFile;
     public final MigrationMetrics<DWConstruct> migrationMetrics = new MigrationMetrics<>();
-    private final Map<File, ParseResult> parseResults = new HashMap<>();
-    private final Map<File, FileContext> fileContexts = new HashMap<>();
-    private final Map<File, MUnitModelV3.TestSuite> munitParseResults = new HashMap<>();
+    private final Map<Path, ParseResult> parseResults = new HashMap<>();
+    private final Map<Path, FileContext> fileContexts = new HashMap<>();
+    private final Map<Path, MUnitModelV3.TestSuite> munitParseResults = new HashMap<>();
 
-    public Context(List<File> xmlFiles, List<File> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
-                   List<File> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
+    public Context(List<Path> xmlFiles, List<Path> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
+                   List<Path> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
                    mule.common.MuleLogger logger, mule.common.ProjectMigrationResult result,
                    mule.common.MultiRootContext multiRootContext) {
         super(xmlFiles, yamlFiles, muleAppDir, muleVersion, propertyFiles, sourceName, dryRun, keepStructure,
@@ -80,16 +79,16 @@ public class Context extends ContextBase {
         isStandaloneBalFile = muleAppDir == null;
     }
 
-    public Context(List<File> xmlFiles, List<File> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
-                   List<File> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
+    public Context(List<Path> xmlFiles, List<Path> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
+                   List<Path> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
                    mule.common.MuleLogger logger, mule.common.ProjectMigrationResult result,
-                   mule.common.MultiRootContext multiRootContext, List<File> munitXmlFiles) {
+                   mule.common.MultiRootContext multiRootContext, List<Path> munitXmlFiles) {
         super(xmlFiles, yamlFiles, muleAppDir, muleVersion, propertyFiles, sourceName, dryRun, keepStructure,
                 logger, result, multiRootContext, munitXmlFiles);
         isStandaloneBalFile = muleAppDir == null;
     }
 
-    public Context(List<File> xmlFiles, List<File> yamlFiles, mule.common.MuleLogger logger) {
+    public Context(List<Path> xmlFiles, List<Path> yamlFiles, mule.common.MuleLogger logger) {
         this(xmlFiles, yamlFiles, null, null, Collections.emptyList(), null, false, false, logger, null, null);
     }
 
@@ -105,29 +104,29 @@ public class Context extends ContextBase {
 
     @Override
     public void parseAllFiles() {
-        for (File xmlFile : xmlFiles) {
+        for (Path xmlFile : xmlFiles) {
             currentFileCtx =
-                    this.fileContexts.computeIfAbsent(xmlFile, (path) -> new FileContext(path.getPath(), projectCtx));
-            try {
-                parseResults.put(xmlFile,
-                        mule.v3.reader.MuleConfigReader.readMuleConfigFromRoot(this, getXMLNavigator(),
-                                xmlFile.getPath()));
-            } catch (Exception ex) {
-                logger.logSevere("Error while parsing %s".formatted(xmlFile));
-            }
+                    this.fileContexts.computeIfAbsent(xmlFile, (path) -> new FileContext(path.toString(), projectCtx));
+            parseFile(xmlFile, () -> {
+                try {
+                    parseResults.put(xmlFile,
+                            mule.v3.reader.MuleConfigReader.readMuleConfigFromRoot(this, getXMLNavigator(),
+                                    xmlFile));
+                } catch (Exception ex) {
+                    logger.logSevere("Error while parsing %s".formatted(xmlFile));
+                }
+            });
         }
     }
 
     @Override
     public List<BallerinaModel.TextDocument> codeGen() {
         List<BallerinaModel.TextDocument> result = new ArrayList<>();
-        for (File xmlFile : parseResults.keySet()) {
+        for (Path xmlFile : parseResults.keySet()) {
             currentFileCtx = this.fileContexts.get(xmlFile);
             ParseResult parseResult = parseResults.get(xmlFile);
             assert currentFileCtx != null : "We should have created file ctx when we parse the file";
-            String balFileName = muleAppDir != null ?
-                    muleAppDir.relativize(xmlFile.toPath()).toString().replace(File.separator, ".")
-                            .replace(".xml", "") : "internal.bal";
+            String balFileName = muleAppDir != null ? configName(xmlFile) : "internal.bal";
             try {
                 result.add(generateTextDocument(this, balFileName, parseResult.flows(),
                         parseResult.subFlows()));
@@ -153,13 +152,13 @@ public class Context extends ContextBase {
     }
 
     public void parseMUnitFiles() {
-        for (File munitFile : munitXmlFiles) {
+        for (Path munitFile : munitXmlFiles) {
             currentFileCtx = this.fileContexts.computeIfAbsent(munitFile,
-                    (path) -> new FileContext(path.getPath(), projectCtx));
+                    (path) -> new FileContext(path.toString(), projectCtx));
             try {
                 MUnitModelV3.TestSuite testSuite =
                         mule.v3.reader.MUnitConfigReader.readMUnitTestSuite(this, getMUnitXMLNavigator(),
-                                munitFile.getPath());
+                                munitFile);
                 munitParseResults.put(munitFile, testSuite);
             } catch (Exception ex) {
                 logger.logSevere("Error while parsing MUnit file %s: %s".formatted(munitFile, ex.getMessage()));
@@ -169,12 +168,12 @@ public class Context extends ContextBase {
 
     public List<BallerinaModel.TextDocument> munitCodeGen() {
         List<BallerinaModel.TextDocument> testDocs = new ArrayList<>();
-        for (Map.Entry<File, MUnitModelV3.TestSuite> entry : munitParseResults.entrySet()) {
-            File munitFile = entry.getKey();
+        for (Map.Entry<Path, MUnitModelV3.TestSuite> entry : munitParseResults.entrySet()) {
+            Path munitFile = entry.getKey();
             MUnitModelV3.TestSuite testSuite = entry.getValue();
             currentFileCtx = this.fileContexts.get(munitFile);
 
-            String balFileName = "tests/" + munitFile.getName().replace(".xml", "") + ".bal";
+            String balFileName = "tests/" + munitFile.getFileName().toString().replace(".xml", "") + ".bal";
             try {
                 BallerinaModel.TextDocument testDoc =
                         mule.v3.converter.MUnitConverter.convertTestSuite(this, balFileName, testSuite);
@@ -231,6 +230,7 @@ public class Context extends ContextBase {
         public final LinkedHashMap<String, String> sessionVars = new LinkedHashMap<>();
         public final LinkedHashMap<String, String> inboundProperties = new LinkedHashMap<>();
         public final HashMap<String, String> vmPathToBalFuncMap = new LinkedHashMap<>();
+        public final Map<HttpClientLookupKey, String> httpClients = new HashMap<>();
 
         // Shared configs
         List<HashMap<String, HTTPListenerConfig>> httpListenerConfigMaps = new ArrayList<>();
@@ -381,4 +381,8 @@ public class Context extends ContextBase {
         public int firstSuccessfulFuncCount = 0;
         public int firstSuccessfulCount = 0;
     }
+
+    public record HttpClientLookupKey(String configRef, String url) {
+
+    }
 }
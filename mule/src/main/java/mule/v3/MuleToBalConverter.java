@@ -22,6 +22,7 @@ import common.BallerinaModel.TypeDesc.RecordTypeDesc;
 import common.BallerinaModel.TypeDesc.RecordTypeDesc.RecordField;
 import common.CodeGenerator;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import mule.common.DbPoolSettings;
 import mule.v3.converter.MuleConfigConverter;
 import mule.v3.model.MuleModel;
 
@@ -83,7 +84,7 @@ import static mule.v3.model.MuleModel.UnsupportedBlock;
 public class MuleToBalConverter {
 
     public static SyntaxTree convertStandaloneXMLFileToBallerina(String xmlFilePath, mule.common.MuleLogger logger) {
-        Context ctx = new Context(List.of(Path.of(xmlFilePath).toFile()), List.of(), logger);
+        Context ctx = new Context(List.of(Path.of(xmlFilePath)), List.of(), logger);
         ctx.parseAllFiles();
         TextDocument txtDoc = ctx.codeGen().getFirst();
         return new CodeGenerator(txtDoc).generateSyntaxTree();
@@ -139,35 +140,33 @@ public class MuleToBalConverter {
         List<ModuleVar> moduleVars = new ArrayList<>();
 
         for (DbMSQLConfig dbMSQLConfig : ctx.currentFileCtx.configs.dbMySQLConfigs.values()) {
-            var balExpr = exprFrom("check new (%s, %s, %s, %s, %s)".formatted(
-                    getAttrVal(ctx, dbMSQLConfig.host()), getAttrVal(ctx, dbMSQLConfig.user()),
-                    getAttrVal(ctx, dbMSQLConfig.password()), getAttrVal(ctx, dbMSQLConfig.database()),
-                    getAttrValInt(ctx, dbMSQLConfig.port())));
-            moduleVars.add(new ModuleVar(dbMSQLConfig.name(), typeFrom(Constants.MYSQL_CLIENT_TYPE), balExpr));
+            String clientName = dbMSQLConfig.name();
+            var balExpr = exprFrom(addDbPool(ctx, dbMSQLConfig.poolSettings(), clientName).newClient(clientName,
+                    List.of(getAttrVal(ctx, dbMSQLConfig.host()), getAttrVal(ctx, dbMSQLConfig.user()),
+                            getAttrVal(ctx, dbMSQLConfig.password()), getAttrVal(ctx, dbMSQLConfig.database()),
+                            getAttrValInt(ctx, dbMSQLConfig.port()))));
+            moduleVars.add(new ModuleVar(clientName, typeFrom(Constants.MYSQL_CLIENT_TYPE), balExpr));
         }
 
         for (DbOracleConfig dbOracleConfig : ctx.currentFileCtx.configs.dbOracleConfigs.values()) {
-            var balExpr = exprFrom(String.format("check new (%s, %s, %s, %s, %s)",
-                    getAttrVal(ctx, dbOracleConfig.host()), getAttrVal(ctx, dbOracleConfig.user()),
-                    getAttrVal(ctx, dbOracleConfig.password()), getAttrVal(ctx, dbOracleConfig.instance()),
-                    getAttrValInt(ctx, dbOracleConfig.port())));
-            moduleVars.add(new ModuleVar(dbOracleConfig.name(), typeFrom(Constants.ORACLEDB_CLIENT_TYPE), balExpr));
+            String clientName = dbOracleConfig.name();
+            var balExpr = exprFrom(addDbPool(ctx, dbOracleConfig.poolSettings(), clientName).newClient(clientName,
+                    List.of(getAttrVal(ctx, dbOracleConfig.host()), getAttrVal(ctx, dbOracleConfig.user()),
+                            getAttrVal(ctx, dbOracleConfig.password()), getAttrVal(ctx, dbOracleConfig.instance()),
+                            getAttrValInt(ctx, dbOracleConfig.port()))));
+            moduleVars.add(new ModuleVar(clientName, typeFrom(Constants.ORACLEDB_CLIENT_TYPE), balExpr));
         }
 
         for (DbGenericConfig dbGenericConfig : ctx.currentFileCtx.configs.dbGenericConfigs.values()) {
+            String clientName = ConversionUtils.convertToBalIdentifier(dbGenericConfig.name());
             String url = getAttrVal(ctx, dbGenericConfig.url());
             JavaDependencies javaDependencies = determineJdbcDependencyFromUrl(url);
             ctx.projectCtx.addJavaDependency(javaDependencies);
-            BallerinaExpression balExpr;
-            if (dbGenericConfig.user().isEmpty()) {
-                balExpr = exprFrom(String.format("check new (%s)", url));
-            } else {
-                balExpr = exprFrom(String.format("check new (%s, %s, %s)",
-                        url, getAttrVal(ctx, dbGenericConfig.user()),
-                        getAttrVal(ctx, dbGenericConfig.password())));
-            }
-            moduleVars.add(new ModuleVar(ConversionUtils.convertToBalIdentifier(dbGenericConfig.name()),
-                    typeFrom(Constants.JDBC_CLIENT_TYPE), balExpr));
+            List<String> clientArgs = dbGenericConfig.user().isEmpty() ? List.of(url) : List.of(url,
+                    getAttrVal(ctx, dbGenericConfig.user()), getAttrVal(ctx, dbGenericConfig.password()));
+            BallerinaExpression balExpr = exprFrom(addDbPool(ctx, dbGenericConfig.poolSettings(), clientName)
+                    .newClient(clientName, clientArgs));
+            moduleVars.add(new ModuleVar(clientName, typeFrom(Constants.JDBC_CLIENT_TYPE), balExpr));
         }
 
         for (DbTemplateQuery dbTemplateQuery : ctx.currentFileCtx.configs.dbTemplateQueries.values()) {
@@ -534,6 +533,16 @@ public class MuleToBalConverter {
                 services, classDefs, functions, comments);
     }
 
+    private static DbPoolSettings addDbPool(Context ctx, DbPoolSettings poolSettings, String clientName) {
+        if (poolSettings.isDefined()) {
+            ctx.addImport(new Import(Constants.ORG_BALLERINA, Constants.MODULE_SQL, Optional.empty()));
+            for (ModuleVar configurable : poolSettings.configurables(clientName)) {
+                ctx.addConfigurableVar(configurable.name(), configurable);
+            }
+        }
+        return poolSettings;
+    }
+
     private static JavaDependencies determineJdbcDependencyFromUrl(String dbUrl) {
         String url = dbUrl.trim();
         if (url.startsWith("jdbc:h2:")) {
@@ -17,6 +17,7 @@
  */
 package mule.v3.converter;
 
+import mule.common.HttpClientSettings;
 import mule.v3.Constants;
 import mule.v3.Context;
 import mule.v3.ConversionUtils;
@@ -34,6 +35,7 @@ import static common.BallerinaModel.Expression;
 import static common.BallerinaModel.Function;
 import static common.BallerinaModel.Import;
 import static common.BallerinaModel.ModuleTypeDef;
+import static common.BallerinaModel.ModuleVar;
 import static common.BallerinaModel.OnFailClause;
 import static common.BallerinaModel.Statement;
 import static common.BallerinaModel.Statement.BallerinaStatement;
@@ -62,6 +64,7 @@ import static mule.v3.model.MuleModel.ExpressionComponent;
 import static mule.v3.model.MuleModel.FirstSuccessful;
 import static mule.v3.model.MuleModel.FlowReference;
 import static mule.v3.model.MuleModel.Foreach;
+import static mule.v3.model.MuleModel.HTTPRequestConfig;
 import static mule.v3.model.MuleModel.HttpRequest;
 import static mule.v3.model.MuleModel.Kind;
 import static mule.v3.model.MuleModel.LogLevel;
@@ -90,8 +93,15 @@ public class MuleConfigConverter {
         List<Statement> workers = new ArrayList<>();
 
         // Read flow blocks
-        for (MuleRecord record : flowBlocks) {
-            List<Statement> stmts = convertMuleBlock(ctx, record);
+        for (int i = 0; i < flowBlocks.size(); i++) {
+            MuleRecord record = flowBlocks.get(i);
+            List<Statement> stmts;
+            if (canStreamDbSelect(ctx, flowBlocks, i)) {
+                // The for-each is converted along with the select so that it consumes the rows as they are read
+                stmts = convertStreamingDbSelect(ctx, (Database) record, (Foreach) flowBlocks.get(++i));
+            } else {
+                stmts = convertMuleBlock(ctx, record);
+            }
             // TODO: handle these properly
             if (stmts.size() > 1 && stmts.getFirst() instanceof NamedWorkerDecl namedWorkerDecl) {
                 workers.add(namedWorkerDecl);
@@ -438,6 +448,31 @@ public class MuleConfigConverter {
         return stmts;
     }
 
+    /**
+     * Returns the module-level client for an HTTP request config and URL, declaring it the first time it is used. All
+     * flows share the client, so requests reuse its pooled connections instead of opening new ones each time.
+     */
+    private static String getHttpClient(Context ctx, String configRef, String url) {
+        Context.HttpClientLookupKey key = new Context.HttpClientLookupKey(configRef, url);
+        String clientName = ctx.projectCtx.httpClients.get(key);
+        if (clientName != null) {
+            return clientName;
+        }
+        String baseName = ConversionUtils.convertToBalIdentifier(configRef);
+        clientName = baseName;
+        for (int suffix = 1; ctx.projectCtx.httpClients.containsValue(clientName); suffix++) {
+            clientName = baseName + suffix;
+        }
+        HTTPRequestConfig config = ctx.projectCtx.getHttpRequestConfig(configRef);
+        HttpClientSettings settings = config != null ? config.clientSettings() : HttpClientSettings.DEFAULT;
+        for (ModuleVar configurable : settings.configurables(clientName)) {
+            ctx.addConfigurableVar(configurable.name(), configurable);
+        }
+        ctx.currentFileCtx.balConstructs.moduleVars.put(clientName, settings.client(clientName, url));
+        ctx.projectCtx.httpClients.put(key, clientName);
+        return clientName;
+    }
+
     private static List<Statement> convertHttpRequest(Context ctx, HttpRequest httpRequest) {
         List<Statement> stmts = new ArrayList<>();
         String path = getBallerinaClientResourcePath(ctx, httpRequest.path());
@@ -446,8 +481,7 @@ public class MuleConfigConverter {
         Map<String, String> queryParams = httpRequest.queryParams();
 
         stmts.add(stmtFrom("\n\n// http client request\n"));
-        String escapedConfigRef = ConversionUtils.convertToBalIdentifier(httpRequest.configRef());
-        stmts.add(stmtFrom(String.format("http:Client %s = check new(\"%s\");", escapedConfigRef, url)));
+        String escapedConfigRef = getHttpClient(ctx, httpRequest.configRef(), "\"%s\"".formatted(url));
         String clientResultVar = String.format(Constants.VAR_CLIENT_RESULT_TEMPLATE,
                 ctx.projectCtx.counters.clientResultVarCount++);
         stmts.add(stmtFrom("%s %s = check %s->%s.%s(%s);".formatted(Constants.HTTP_RESPONSE_TYPE,
@@ -459,12 +493,110 @@ public class MuleConfigConverter {
     }
 
     private static List<Statement> convertDatabase(Context ctx, Database database) {
+        List<Statement> stmts = new ArrayList<>();
+        String dbStreamVarName = addDbQueryStatements(ctx, database, stmts);
+        if (database.kind() == Kind.DB_SELECT) {
+            String streamConstraintType = Constants.GENERIC_RECORD_TYPE_REF;
+            String dbSelectVarName = Constants.VAR_DB_SELECT_TEMPLATE
+                    .formatted(ctx.projectCtx.counters.dbSelectVarCount++);
+            stmts.add(stmtFrom(String.format("%s[] %s = check from %s %s in %s select %s;", streamConstraintType,
+                    dbSelectVarName, streamConstraintType, Constants.VAR_ITERATOR, dbStreamVarName,
+                    Constants.VAR_ITERATOR)));
+            // db:select implicitly sets the payload
+            stmts.add(stmtFrom("%s.payload = %s;".formatted(Constants.CONTEXT_REFERENCE, dbSelectVarName)));
+        }
+        return stmts;
+    }
+
+    /**
+     * Converts a {@code db:select} followed by a for-each over its result so that the rows are iterated straight from
+     * the query stream instead of being read into an array first. The stream is closed if the loop body fails before
+     * all rows are read, and the payload is left empty after the loop since the rows are not kept.
+     */
+    private static List<Statement> convertStreamingDbSelect(Context ctx, Database database, Foreach foreach) {
+        List<Statement> stmts = new ArrayList<>();
+        String dbStreamVarName = addDbQueryStatements(ctx, database, stmts);
+        String iteratorVar = String.format(Constants.VAR_ITERATOR_TEMPLATE,
+                ctx.projectCtx.counters.foreachIteratorCount++);
+
+        List<Statement> loopBody = new ArrayList<>();
+        loopBody.add(stmtFrom(String.format("check from %s %s in %s do {", Constants.GENERIC_RECORD_TYPE_REF,
+                iteratorVar, dbStreamVarName)));
+        loopBody.add(stmtFrom(String.format("%s.payload = %s;", Constants.CONTEXT_REFERENCE, iteratorVar)));
+        loopBody.addAll(convertMuleBlocks(ctx, foreach.flowBlocks()));
+        loopBody.add(stmtFrom("};"));
+
+        String errVarName = dbStreamVarName + "Err";
+        OnFailClause closeStream = new OnFailClause(List.of(
+                stmtFrom("check %s.close();".formatted(dbStreamVarName)),
+                stmtFrom("fail %s;".formatted(errVarName))), new TypeBindingPattern(BAL_ERROR_TYPE, errVarName));
+
+        stmts.add(stmtFrom("\n\n// foreach loop over the streamed rows\n"));
+        stmts.add(new DoStatement(loopBody, closeStream));
+        stmts.add(stmtFrom(String.format("%s.payload = ();", Constants.CONTEXT_REFERENCE)));
+        return stmts;
+    }
+
+    /**
+     * Checks whether the {@code db:select} at the given index can hand its rows to the for-each that follows it as a
+     * stream. That is the case when the for-each iterates the payload and no processor after the loop reads the select
+     * result before the payload is replaced. A result that is still the payload at the end of the flow may be read by
+     * the caller, so it is only dropped when streaming was requested explicitly.
+     */
+    private static boolean canStreamDbSelect(Context ctx, List<MuleRecord> flowBlocks, int index) {
+        if (index + 1 >= flowBlocks.size() || !(flowBlocks.get(index) instanceof Database database) ||
+                database.kind() != Kind.DB_SELECT || !(flowBlocks.get(index + 1) instanceof Foreach foreach) ||
+                !isPayloadExpr(foreach.collection())) {
+            return false;
+        }
+        for (MuleRecord muleRecord : flowBlocks.subList(index + 2, flowBlocks.size())) {
+            if (readsPayload(muleRecord)) {
+                return false;
+            }
+            if (replacesPayload(muleRecord)) {
+                return true;
+            }
+        }
+        return ctx.isStreamDbResults();
+    }
+
+    /**
+     * Checks whether the processor may read the payload. Processors that are not known to leave it alone are assumed
+     * to read it.
+     */
+    private static boolean readsPayload(MuleRecord muleRecord) {
+        return switch (muleRecord) {
+            case Payload payload -> payload.expr().contains("payload");
+            case Database database -> referencesPayload(database);
+            case Logger logger -> logger.message().contains("payload");
+            case SetVariable setVariable -> setVariable.value().contains("payload");
+            case RemoveVariable ignored -> false;
+            default -> true;
+        };
+    }
+
+    private static boolean replacesPayload(MuleRecord muleRecord) {
+        return switch (muleRecord) {
+            case Payload ignored -> true;
+            case Database database -> database.kind() == Kind.DB_SELECT;
+            default -> false;
+        };
+    }
+
+    private static boolean referencesPayload(Database database) {
+        return database.query().contains("payload");
+    }
+
+    private static boolean isPayloadExpr(String expr) {
+        return expr.replaceAll("\\s", "").equals("#[payload]");
+    }
+
+    private static String addDbQueryStatements(Context ctx, Database database, List<Statement> stmts) {
         ctx.addImport(new Import(Constants.ORG_BALLERINA, Constants.MODULE_SQL, Optional.empty()));
         String streamConstraintType = Constants.GENERIC_RECORD_TYPE_REF;
         ctx.currentFileCtx.balConstructs.typeDefs.put(streamConstraintType,
                 new ModuleTypeDef(streamConstraintType, typeFrom(Constants.GENERIC_RECORD_TYPE)));
 
-        List<Statement> stmts = new ArrayList<>();
         stmts.add(stmtFrom("\n\n// database operation\n"));
         String dbQueryVarName = Constants.VAR_DB_QUERY_TEMPLATE.formatted(ctx.projectCtx.counters.dbQueryVarCount++);
         stmts.add(stmtFrom("%s %s = %s;".formatted(Constants.SQL_PARAMETERIZED_QUERY_TYPE,
@@ -476,17 +608,7 @@ public class MuleConfigConverter {
         stmts.add(stmtFrom("%s %s= %s->query(%s);"
                 .formatted(Constants.DB_QUERY_DEFAULT_TEMPLATE.formatted(streamConstraintType),
                         dbStreamVarName, escapedDbConfigRef, dbQueryVarName)));
-
-        if (database.kind() == Kind.DB_SELECT) {
-            String dbSelectVarName = Constants.VAR_DB_SELECT_TEMPLATE
-                    .formatted(ctx.projectCtx.counters.dbSelectVarCount++);
-            stmts.add(stmtFrom(String.format("%s[] %s = check from %s %s in %s select %s;", streamConstraintType,
-                    dbSelectVarName, streamConstraintType, Constants.VAR_ITERATOR, dbStreamVarName,
-                    Constants.VAR_ITERATOR)));
-            // db:select implicitly sets the payload
-            stmts.add(stmtFrom("%s.payload = %s;".formatted(Constants.CONTEXT_REFERENCE, dbSelectVarName)));
-        }
-        return stmts;
+        return dbStreamVarName;
     }
 
     private static List<Statement> convertAsync(Context ctx, Async async) {
@@ -17,6 +17,9 @@
  */
 package mule.v3.model;
 
+import mule.common.DbPoolSettings;
+import mule.common.HttpClientSettings;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -264,32 +267,35 @@ public record MuleModel() {
         }
     }
 
-    public record HTTPRequestConfig(Kind kind, String name, String host, String port,
-                                    String protocol) implements MuleRecord {
-        public HTTPRequestConfig(String name, String host, String port, String protocol) {
-            this(Kind.HTTP_REQUEST_CONFIG, name, host, port, protocol);
+    public record HTTPRequestConfig(Kind kind, String name, String host, String port, String protocol,
+                                    HttpClientSettings clientSettings) implements MuleRecord {
+        public HTTPRequestConfig(String name, String host, String port, String protocol,
+                                 HttpClientSettings clientSettings) {
+            this(Kind.HTTP_REQUEST_CONFIG, name, host, port, protocol, clientSettings);
         }
     }
 
     // TODO: typo - MySQL
     public record DbMSQLConfig(Kind kind, String name, String host, String port, String user, String password,
-                               String database) implements MuleRecord {
-        public DbMSQLConfig(String name, String host, String port, String user, String password, String database) {
-            this(Kind.DB_MYSQL_CONFIG, name, host, port, user, password, database);
+                               String database, DbPoolSettings poolSettings) implements MuleRecord {
+        public DbMSQLConfig(String name, String host, String port, String user, String password, String database,
+                            DbPoolSettings poolSettings) {
+            this(Kind.DB_MYSQL_CONFIG, name, host, port, user, password, database, poolSettings);
         }
     }
 
     public record DbOracleConfig(Kind kind, String name, String host, String port, String user, String password,
-                               String instance) implements MuleRecord {
-        public DbOracleConfig(String name, String host, String port, String user, String password, String instance) {
-            this(Kind.DB_ORACLE_CONFIG, name, host, port, user, password, instance);
+                               String instance, DbPoolSettings poolSettings) implements MuleRecord {
+        public DbOracleConfig(String name, String host, String port, String user, String password, String instance,
+                              DbPoolSettings poolSettings) {
+            this(Kind.DB_ORACLE_CONFIG, name, host, port, user, password, instance, poolSettings);
         }
     }
 
-    public record DbGenericConfig(Kind kind, String name, String url, String user, String password)
-            implements MuleRecord {
-        public DbGenericConfig(String name, String url, String user, String password) {
-            this(Kind.DB_GENERIC_CONFIG, name, url, user, password);
+    public record DbGenericConfig(Kind kind, String name, String url, String user, String password,
+                                  DbPoolSettings poolSettings) implements MuleRecord {
+        public DbGenericConfig(String name, String url, String user, String password, DbPoolSettings poolSettings) {
+            this(Kind.DB_GENERIC_CONFIG, name, url, user, password, poolSettings);
         }
     }
 
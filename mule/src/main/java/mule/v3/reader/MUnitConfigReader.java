@@ -45,6 +45,9 @@ import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -56,7 +59,7 @@ import javax.xml.parsers.ParserConfigurationException;
 
 public class MUnitConfigReader {
 
-    public static TestSuite readMUnitTestSuite(Context ctx, MuleXMLNavigator navigator, String xmlFilePath) {
+    public static TestSuite readMUnitTestSuite(Context ctx, MuleXMLNavigator navigator, Path xmlFilePath) {
         assert ctx != null && navigator != null && xmlFilePath != null;
 
         Element root;
@@ -67,7 +70,7 @@ public class MUnitConfigReader {
         }
 
         if (ctx.currentFileCtx == null) {
-            ctx.currentFileCtx = new Context.FileContext(xmlFilePath, ctx.projectCtx);
+            ctx.currentFileCtx = new Context.FileContext(xmlFilePath.toString(), ctx.projectCtx);
         }
 
         MuleElement muleElement = navigator.createRootMuleElement(root);
@@ -94,7 +97,7 @@ public class MUnitConfigReader {
                 case MUNIT_AFTER_TEST -> afterTest = Optional.of(readLifecycleBlock(ctx, child));
                 default -> {
                     if (MUnitXMLTag.isMUnitTag(tagName)) {
-                        ctx.logger.logWarn("Unsupported MUnit element ignored: <%s>".formatted(tagName));
+                        ctx.logger.logWarn(() -> "Unsupported MUnit element ignored: <%s>".formatted(tagName));
                     } else {
                         MuleConfigReader.readGlobalConfigElement(ctx, child);
                     }
@@ -105,7 +108,7 @@ public class MUnitConfigReader {
         return new TestSuite(suiteName, tests, beforeSuite, afterSuite, beforeTest, afterTest);
     }
 
-    private static Element parseMUnitXMLFile(String uri)
+    private static Element parseMUnitXMLFile(Path xmlFilePath)
             throws ParserConfigurationException, SAXException, IOException {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
@@ -118,7 +121,10 @@ public class MUnitConfigReader {
         factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
         factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
         DocumentBuilder builder = factory.newDocumentBuilder();
-        Document document = builder.parse(new java.io.File(uri));
+        Document document;
+        try (InputStream in = Files.newInputStream(xmlFilePath)) {
+            document = builder.parse(in);
+        }
         document.getDocumentElement().normalize();
         return document.getDocumentElement();
     }
@@ -17,6 +17,8 @@
  */
 package mule.v3.reader;
 
+import mule.common.DbPoolSettings;
+import mule.common.HttpClientSettings;
 import mule.common.MuleXMLNavigator;
 import mule.common.MuleXMLNavigator.MuleElement;
 import mule.v3.Constants;
@@ -29,6 +31,9 @@ import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -96,7 +101,7 @@ import static mule.v3.model.MuleModel.ProcessorChain;
 public class MuleConfigReader {
 
     public static ParseResult readMuleConfigFromRoot(Context ctx, MuleXMLNavigator muleXMLNavigator,
-                                                     String xmlFilePath) {
+                                                     Path xmlFilePath) {
         Element root;
         try {
             root = parseMuleXMLConfigurationFile(xmlFilePath);
@@ -129,12 +134,16 @@ public class MuleConfigReader {
         return new ParseResult(flows, subFlows);
     }
 
-    private static Element parseMuleXMLConfigurationFile(String uri) throws ParserConfigurationException, SAXException,
-            IOException {
+    private static Element parseMuleXMLConfigurationFile(Path xmlFilePath) throws ParserConfigurationException,
+            SAXException, IOException {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         factory.setNamespaceAware(true);
         DocumentBuilder builder = factory.newDocumentBuilder();
-        Document document = builder.parse(uri);
+        Document document;
+        // Read through the path's own file system, since the config may be an entry of a mounted archive
+        try (InputStream in = Files.newInputStream(xmlFilePath)) {
+            document = builder.parse(in);
+        }
         document.getDocumentElement().normalize();
         return document.getDocumentElement();
     }
@@ -738,7 +747,10 @@ public class MuleConfigReader {
         String host = element.getAttribute("host");
         String port = element.getAttribute("port");
         String protocol = element.getAttribute("protocol");
-        return new HTTPRequestConfig(configName, host, port, protocol);
+        HttpClientSettings clientSettings = new HttpClientSettings(element.getAttribute("responseTimeout"),
+                element.getAttribute("maxConnections"), element.getAttribute("connectionIdleTimeout"),
+                element.getAttribute("usePersistentConnections"));
+        return new HTTPRequestConfig(configName, host, port, protocol, clientSettings);
     }
 
     private static DbMSQLConfig readDbMySQLConfig(Context ctx, MuleElement muleElement) {
@@ -751,7 +763,8 @@ public class MuleConfigReader {
         String user = element.getAttribute("user");
         String password = element.getAttribute("password");
         String database = element.getAttribute("database");
-        return new DbMSQLConfig(name, host, port, user, password, database);
+        return new DbMSQLConfig(name, host, port, user, password, database,
+                DbPoolSettings.fromPoolingProfile(element));
     }
 
     private static DbOracleConfig readDbOracleConfig(Context ctx, MuleElement muleElement) {
@@ -764,7 +777,8 @@ public class MuleConfigReader {
         String user = element.getAttribute("user");
         String password = element.getAttribute("password");
         String instance = element.getAttribute("instance");
-        return new DbOracleConfig(name, host, port, user, password, instance);
+        return new DbOracleConfig(name, host, port, user, password, instance,
+                DbPoolSettings.fromPoolingProfile(element));
     }
 
     private static DbGenericConfig readDbGenericConfig(Context ctx, MuleElement muleElement) {
@@ -774,7 +788,7 @@ public class MuleConfigReader {
         String url = element.getAttribute("url");
         String user = element.getAttribute("user");
         String password = element.getAttribute("password");
-        return new DbGenericConfig(name, url, user, password);
+        return new DbGenericConfig(name, url, user, password, DbPoolSettings.fromPoolingProfile(element));
     }
 
     private static DbTemplateQuery readDbTemplateQuery(Context ctx, MuleElement muleElement) {
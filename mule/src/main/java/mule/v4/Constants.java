@@ -74,10 +74,25 @@ public class Constants {
     public static final String VAR_DB_SELECT_TEMPLATE = "dbSelect%s";
     public static final String FUNC_NAME_ENRICHER_TEMPLATE = "enricher%s";
     public static final String FUNC_NAME_ASYC_TEMPLATE = "async%s";
+    public static final String FUNC_NAME_ASYNC_START_TEMPLATE = "start%s";
+    public static final String FUNC_NAME_ASYNC_BODY_TEMPLATE = "%sBody";
+    public static final String VAR_ASYNC_MAX_CONCURRENCY_TEMPLATE = "%s_max_concurrency";
+    public static final String VAR_ASYNC_RUNS_TEMPLATE = "%s_runs";
     public static final String VAR_PAYLOAD_TEMPLATE = "payload%s";
     public static final String VAR_CLIENT_RESULT_TEMPLATE = "clientResult%s";
     public static final String FUNC_NAME_VM_RECEIVE_TEMPLATE = "vmReceive%s";
     public static final String VAR_ITERATOR_TEMPLATE = "item%s";
+    public static final String VAR_FOREACH_ITEMS_TEMPLATE = "items%s";
+    public static final String VAR_FOREACH_BATCHES_TEMPLATE = "batches%s";
+    public static final String VAR_FOREACH_BATCH_TEMPLATE = "batch%s";
+    public static final String FUNC_NAME_FOREACH_TEMPLATE = "foreach%s";
+    public static final String VAR_FOREACH_MAX_CONCURRENCY_TEMPLATE = "%s_max_concurrency";
+    public static final String VAR_FOREACH_GROUP_TEMPLATE = "group%s";
+    public static final String VAR_FOREACH_ITERATIONS_TEMPLATE = "iterations%s";
+    public static final String VAR_FOREACH_ITERATION_TEMPLATE = "iteration%s";
+    public static final String VAR_FOREACH_ITERATION_CTX_TEMPLATE = "iterationCtx%s";
+    public static final String VAR_FOREACH_ITERATION_RESULT_TEMPLATE = "iterationResult%s";
+    public static final int DEFAULT_FOREACH_MAX_CONCURRENCY = 8;
     public static final String VAR_ORIGINAL_PAYLOAD_TEMPLATE = "originalPayload%s";
     public static final String VAR_WORKER_RESULT_TEMPLATE = "workerResults%s";
     public static final String VAR_SCATTER_GATHER_TEMPLATE = "scatterGatherResults%s";
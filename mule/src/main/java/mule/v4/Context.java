@@ -34,7 +34,6 @@ import mule.v4.model.MuleModel.PubSubConfig;
 import mule.v4.model.ParseResult;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -71,9 +70,9 @@ public class Context extends ContextBase {
     public FileContext currentFileCtx;
     private final boolean isStandaloneBalFile;
     public final MigrationMetrics<DWConstruct> migrationMetrics = new MigrationMetrics<>();
-    private final Map<File, ParseResult> parseResults = new HashMap<>();
-    private final Map<File, FileContext> fileContexts = new HashMap<>();
-    private final Map<File, mule.common.MUnitModel.TestSuite> munitParseResults = new HashMap<>();
+    private final Map<Path, ParseResult> parseResults = new HashMap<>();
+    private final Map<Path, FileContext> fileContexts = new HashMap<>();
+    private final Map<Path, mule.common.MUnitModel.TestSuite> munitParseResults = new HashMap<>();
     public String currentServiceBasePath;
     public String currentResourcePath;
     public String currentListenerPort;
@@ -84,9 +83,12 @@ public class Context extends ContextBase {
     public Map<JMSMessageProducerLookupKey, BallerinaModel.Expression.VariableReference> messageProducers =
             new HashMap<>();
     public boolean inServiceGen = false;
+    // Whether an error raised with check in the statements being converted is returned by the enclosing function or
+    // caught by an on-fail clause, rather than having to be rethrown as a panic
+    public boolean checkedErrorsHandled = false;
 
-    public Context(List<File> xmlFiles, List<File> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
-                   List<File> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
+    public Context(List<Path> xmlFiles, List<Path> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
+                   List<Path> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
                    mule.common.MuleLogger logger, mule.common.ProjectMigrationResult result,
                    mule.common.MultiRootContext multiRootContext) {
         super(xmlFiles, yamlFiles, muleAppDir, muleVersion, propertyFiles, sourceName, dryRun, keepStructure,
@@ -94,27 +96,27 @@ public class Context extends ContextBase {
         isStandaloneBalFile = muleAppDir == null;
     }
 
-    public Context(List<File> xmlFiles, List<File> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
-                   List<File> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
+    public Context(List<Path> xmlFiles, List<Path> yamlFiles, Path muleAppDir, MuleVersion muleVersion,
+                   List<Path> propertyFiles, String sourceName, boolean dryRun, boolean keepStructure,
                    mule.common.MuleLogger logger, mule.common.ProjectMigrationResult result,
-                   mule.common.MultiRootContext multiRootContext, List<File> munitXmlFiles) {
+                   mule.common.MultiRootContext multiRootContext, List<Path> munitXmlFiles) {
         super(xmlFiles, yamlFiles, muleAppDir, muleVersion, propertyFiles, sourceName, dryRun, keepStructure,
                 logger, result, multiRootContext, munitXmlFiles);
         isStandaloneBalFile = muleAppDir == null;
     }
 
-    public Context(List<File> xmlFiles, List<File> yamlFiles, mule.common.MuleLogger logger) {
+    public Context(List<Path> xmlFiles, List<Path> yamlFiles, mule.common.MuleLogger logger) {
         this(xmlFiles, yamlFiles, null, null, Collections.emptyList(), null, false, false, logger, null, null);
     }
 
     public void parseMUnitFiles() {
-        for (File munitFile : munitXmlFiles) {
+        for (Path munitFile : munitXmlFiles) {
             currentFileCtx = this.fileContexts.computeIfAbsent(munitFile,
-                    (path) -> new FileContext(path.getPath(), projectCtx));
+                    (path) -> new FileContext(path.toString(), projectCtx));
             try {
                 mule.common.MUnitModel.TestSuite testSuite =
                         mule.v4.reader.MUnitConfigReader.readMUnitTestSuite(this, getMUnitXMLNavigator(),
-                                munitFile.getPath());
+                                munitFile);
                 munitParseResults.put(munitFile, testSuite);
             } catch (Exception ex) {
                 logger.logSevere("Error while parsing MUnit file %s: %s".formatted(munitFile, ex.getMessage()));
@@ -124,12 +126,12 @@ public class Context extends ContextBase {
 
     public List<BallerinaModel.TextDocument> munitCodeGen() {
         List<BallerinaModel.TextDocument> testDocs = new ArrayList<>();
-        for (Map.Entry<File, mule.common.MUnitModel.TestSuite> entry : munitParseResults.entrySet()) {
-            File munitFile = entry.getKey();
+        for (Map.Entry<Path, mule.common.MUnitModel.TestSuite> entry : munitParseResults.entrySet()) {
+            Path munitFile = entry.getKey();
             mule.common.MUnitModel.TestSuite testSuite = entry.getValue();
             currentFileCtx = this.fileContexts.get(munitFile);
 
-            String balFileName = munitFile.getName().replace(".xml", "");
+            String balFileName = munitFile.getFileName().toString().replace(".xml", "");
             balFileName = "tests/" + balFileName + ".bal";
             try {
                 BallerinaModel.TextDocument testDoc =
@@ -163,16 +165,18 @@ public class Context extends ContextBase {
 
     @Override
     public void parseAllFiles() {
-        for (File xmlFile : xmlFiles) {
+        for (Path xmlFile : xmlFiles) {
             currentFileCtx =
                     this.fileContexts.computeIfAbsent(xmlFile,
-                            (path) -> new FileContext(path.getPath(), projectCtx));
-            try {
-                parseResults.put(xmlFile, readMuleConfigFromRoot(this, getXMLNavigator(),
-                        xmlFile.getPath()));
-            } catch (Exception ex) {
-                logger.logSevere("Error while parsing %s".formatted(xmlFile));
-            }
+                            (path) -> new FileContext(path.toString(), projectCtx));
+            parseFile(xmlFile, () -> {
+                try {
+                    parseResults.put(xmlFile, readMuleConfigFromRoot(this, getXMLNavigator(),
+                            xmlFile));
+                } catch (Exception ex) {
+                    logger.logSevere("Error while parsing %s".formatted(xmlFile));
+                }
+            });
         }
     }
 
@@ -194,10 +198,7 @@ public class Context extends ContextBase {
                     ParseResult parseResult = parseResults.get(xmlFile);
                     assert currentFileCtx != null : "We should have created file ctx when we parse the file";
 
-                    String balFileName = muleAppDir != null
-                            ? muleAppDir.relativize(xmlFile.toPath()).toString().replace(File.separator, ".")
-                            .replace(".xml", "")
-                            : "internal.bal";
+                    String balFileName = muleAppDir != null ? configName(xmlFile) : "internal.bal";
                     try {
                         return generateTextDocument(this, balFileName, parseResult.flows(),
                                 parseResult.subFlows());
@@ -292,6 +293,7 @@ public class Context extends ContextBase {
         public final LinkedHashMap<String, String> attributes = new LinkedHashMap<>();
         public final HashMap<String, String> vmQueueNameToBalFuncMap = new LinkedHashMap<>();
         public final Map<String, BallerinaModel.Expression.VariableReference> jmsConnectionConfig = new HashMap<>();
+        public final Map<HttpClientLookupKey, String> httpClients = new HashMap<>();
 
         // Track last HTTP service across all files for API Kit resource merging
         public BallerinaModel.Service lastHttpService = null;
@@ -500,4 +502,8 @@ public class Context extends ContextBase {
     public record JMSMessageProducerLookupKey(String connectionConfig, String destination) {
 
     }
+
+    public record HttpClientLookupKey(String configRef, String url) {
+
+    }
 }
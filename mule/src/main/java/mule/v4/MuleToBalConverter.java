@@ -22,6 +22,7 @@ import common.BallerinaModel.TypeDesc.RecordTypeDesc;
 import common.BallerinaModel.TypeDesc.RecordTypeDesc.RecordField;
 import common.CodeGenerator;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import mule.common.DbPoolSettings;
 import mule.common.MuleLogger;
 import mule.v4.converter.ScriptConversionException;
 import mule.v4.model.MuleModel.AnypointMqSubscriber;
@@ -43,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static common.BallerinaModel.BlockFunctionBody;
 import static common.BallerinaModel.ClassDef;
@@ -95,7 +97,17 @@ import static mule.v4.model.MuleModel.VMListener;
 public class MuleToBalConverter {
 
     public static SyntaxTree convertStandaloneXMLFileToBallerina(String xmlFilePath, MuleLogger logger) {
-        Context ctx = new Context(List.of(Path.of(xmlFilePath).toFile()), List.of(), logger);
+        return convertStandaloneXMLFileToBallerina(xmlFilePath, logger, ctx -> {
+        });
+    }
+
+    /**
+     * Converts a standalone Mule XML file, letting the caller set conversion options on the context first.
+     */
+    public static SyntaxTree convertStandaloneXMLFileToBallerina(String xmlFilePath, MuleLogger logger,
+                                                                 Consumer<Context> configureContext) {
+        Context ctx = new Context(List.of(Path.of(xmlFilePath)), List.of(), logger);
+        configureContext.accept(ctx);
         ctx.parseAllFiles();
         TextDocument txtDoc = ctx.codeGen().getFirst();
         return new CodeGenerator(txtDoc).generateSyntaxTree();
@@ -171,38 +183,43 @@ public class MuleToBalConverter {
         List<ModuleVar> moduleVars = new ArrayList<>();
         for (DbConfig dbConfig : ctx.currentFileCtx.configs.dbConfigs.values()) {
             DbConnection dbConnection = dbConfig.dbConnection();
+            String clientName = convertToBalIdentifier(dbConfig.name());
             TypeDesc dbClientType;
-            Expression balExpr;
+            List<String> clientArgs;
             if (dbConnection.kind() == Kind.DB_MYSQL_CONNECTION) {
                 DbMySqlConnection con = (DbMySqlConnection) dbConnection;
                 dbClientType = typeFrom(Constants.MYSQL_CLIENT_TYPE);
-                balExpr = exprFrom("check new (%s, %s, %s, %s, %s)".formatted(
-                        getAttrVal(ctx, con.host()), getAttrVal(ctx, con.user()),
+                clientArgs = List.of(getAttrVal(ctx, con.host()), getAttrVal(ctx, con.user()),
                         getAttrVal(ctx, con.password()), getAttrVal(ctx, con.database()),
-                        getAttrValInt(ctx, con.port())));
+                        getAttrValInt(ctx, con.port()));
             } else if (dbConnection.kind() == Kind.DB_ORACLE_CONNECTION) {
                 DbOracleConnection con = (DbOracleConnection) dbConnection;
                 dbClientType = typeFrom(Constants.ORACLEDB_CLIENT_TYPE);
                 String database = con.instance().isEmpty() ? con.serviceName() : con.instance();
                 String port = con.port().isEmpty() ? "1521" : con.port();
-                balExpr = exprFrom(String.format("check new (%s, %s, %s, %s, %s)",
-                        getAttrVal(ctx, con.host()), getAttrVal(ctx, con.user()),
+                clientArgs = List.of(getAttrVal(ctx, con.host()), getAttrVal(ctx, con.user()),
                         getAttrVal(ctx, con.password()), getAttrVal(ctx, database),
-                        getAttrValInt(ctx, port)));
+                        getAttrValInt(ctx, port));
             } else if (dbConnection.kind() == Kind.DB_GENERIC_CONNECTION) {
                 DbGenericConnection con = (DbGenericConnection) dbConnection;
                 dbClientType = typeFrom(Constants.JDBC_CLIENT_TYPE);
                 String url = getAttrVal(ctx, con.url());
                 JavaDependencies javaDependencies = determineJdbcDependencyFromUrl(url);
                 ctx.projectCtx.addJavaDependency(javaDependencies);
-                balExpr = exprFrom(String.format("check new (%s, %s, %s)",
-                        url, getAttrVal(ctx, con.user()), getAttrVal(ctx, con.password())));
+                clientArgs = List.of(url, getAttrVal(ctx, con.user()), getAttrVal(ctx, con.password()));
             } else {
                 throw new IllegalStateException("Unsupported DB connection type: " + dbConnection.kind());
             }
 
-            moduleVars
-                    .add(new ModuleVar(convertToBalIdentifier(dbConfig.name()), dbClientType, balExpr));
+            DbPoolSettings poolSettings = dbConfig.poolSettings();
+            if (poolSettings.isDefined()) {
+                ctx.addImport(new Import(Constants.ORG_BALLERINA, Constants.MODULE_SQL, Optional.empty()));
+                for (ModuleVar configurable : poolSettings.configurables(clientName)) {
+                    ctx.addConfigurableVar(configurable.name(), configurable);
+                }
+            }
+            moduleVars.add(new ModuleVar(clientName, dbClientType,
+                    exprFrom(poolSettings.newClient(clientName, clientArgs))));
         }
 
         moduleVars.addAll(ctx.currentFileCtx.balConstructs.moduleVars.values());
@@ -276,7 +293,7 @@ public class MuleToBalConverter {
         bodyStmts.add(stmtFrom("Context %s = {%s: %s};".formatted(Constants.CONTEXT_REFERENCE,
                 Constants.ATTRIBUTES_REF, attributesInitValue)));
 
-        List<Statement> bodyCoreStmts = convertTopLevelMuleBlocks(ctx, flow.flowBlocks());
+        List<Statement> bodyCoreStmts = convertBlocksReturningError(ctx, flow.flowBlocks());
         bodyStmts.addAll(bodyCoreStmts);
 
         // Add return statement
@@ -335,7 +352,7 @@ public class MuleToBalConverter {
         String attributesInitValue = "{ %s: %s }".formatted(JMS_MESSAGE_REF, message.ref());
         bodyStmts.add(stmtFrom("Context %s = {%s: %s};".formatted(Constants.CONTEXT_REFERENCE,
                 Constants.ATTRIBUTES_REF, attributesInitValue)));
-        bodyStmts.addAll(convertTopLevelMuleBlocks(ctx, flow.flowBlocks()));
+        bodyStmts.addAll(convertBlocksReturningError(ctx, flow.flowBlocks()));
 
         List<Parameter> params = List.of(message, caller);
 
@@ -613,6 +630,20 @@ public class MuleToBalConverter {
         };
     }
 
+    /**
+     * Converts the blocks of a flow into the body of a function that returns an error, so that errors raised in them
+     * can be checked.
+     */
+    private static List<Statement> convertBlocksReturningError(Context ctx, List<MuleRecord> flowBlocks) {
+        boolean checkedErrorsHandled = ctx.checkedErrorsHandled;
+        ctx.checkedErrorsHandled = true;
+        try {
+            return convertTopLevelMuleBlocks(ctx, flowBlocks);
+        } finally {
+            ctx.checkedErrorsHandled = checkedErrorsHandled;
+        }
+    }
+
     private static ClassDef genBalJobClass(Context ctx, String jobName, List<MuleRecord> flowBlocks) {
         List<Statement> bodyCoreStmts = convertTopLevelMuleBlocks(ctx, flowBlocks);
         Function executeFunc = Function.publicFunction("execute", List.of(), bodyCoreStmts);
@@ -741,7 +772,7 @@ public class MuleToBalConverter {
         ctx.currentResourcePath = resourcePath;
         ctx.currentListenerPort = listenerConfig.port();
 
-        List<Statement> bodyCoreStmts = convertTopLevelMuleBlocks(ctx, flowBlocks);
+        List<Statement> bodyCoreStmts = convertBlocksReturningError(ctx, flowBlocks);
         bodyStmts.addAll(bodyCoreStmts);
 
         // Add return statement
@@ -21,6 +21,7 @@ import common.BallerinaModel;
 import common.BallerinaModel.Expression.StringConstant;
 import common.BallerinaModel.Statement.ForeachStatement;
 import common.BallerinaModel.Statement.ForkStatement;
+import mule.common.HttpClientSettings;
 import mule.v4.Constants;
 import mule.v4.Context;
 import mule.v4.ConversionUtils;
@@ -86,6 +87,7 @@ import static mule.v4.model.MuleModel.OnErrorContinue;
 import static mule.v4.model.MuleModel.OnErrorPropagate;
 import static mule.v4.model.MuleModel.ExpressionComponent;
 import static mule.v4.model.MuleModel.FlowReference;
+import static mule.v4.model.MuleModel.HTTPRequestConfig;
 import static mule.v4.model.MuleModel.HttpRequest;
 import static mule.v4.model.MuleModel.Kind;
 import static mule.v4.model.MuleModel.LogLevel;
@@ -99,6 +101,7 @@ import static mule.v4.model.MuleModel.RemoveVariable;
 import static mule.v4.model.MuleModel.Route;
 import static mule.v4.model.MuleModel.ScatterGather;
 import static mule.v4.model.MuleModel.SetVariable;
+import static mule.v4.model.MuleModel.SetVariableElement;
 import static mule.v4.model.MuleModel.TransformMessage;
 import static mule.v4.model.MuleModel.Try;
 import static mule.v4.model.MuleModel.UnsupportedBlock;
@@ -127,15 +130,32 @@ public class MuleConfigConverter {
         List<Statement> body = new ArrayList<>();
         List<Statement> workers = new ArrayList<>();
 
+        // The blocks before an error handler end up in a do statement whose on-fail clause catches checked errors
+        int errorHandlerIndex = 0;
+        while (errorHandlerIndex < flowBlocks.size() && !(flowBlocks.get(errorHandlerIndex) instanceof ErrorHandler)) {
+            errorHandlerIndex++;
+        }
+        boolean checkedErrorsHandled = ctx.checkedErrorsHandled;
+
         // Read flow blocks
-        for (MuleRecord record : flowBlocks) {
+        for (int i = 0; i < flowBlocks.size(); i++) {
+            MuleRecord record = flowBlocks.get(i);
             ConversionResult result;
+            ctx.checkedErrorsHandled = checkedErrorsHandled
+                    || (i < errorHandlerIndex && errorHandlerIndex < flowBlocks.size());
             try {
-                result = convertMuleBlock(ctx, record);
+                if (canStreamDbSelect(ctx, flowBlocks, i)) {
+                    // The for-each is converted along with the select so that it consumes the rows as they are read
+                    result = convertStreamingDbSelect(ctx, (Database) record, (Foreach) flowBlocks.get(++i));
+                } else {
+                    result = convertMuleBlock(ctx, record);
+                }
             } catch (Exception e) {
                 ctx.logger.logSevere("Unexpected conversion error while trying to convert block %s skipping".formatted(
                         record.kind()));
                 continue;
+            } finally {
+                ctx.checkedErrorsHandled = checkedErrorsHandled;
             }
             if (result instanceof WorkerStatementResult(List<Statement> stmtList, List<NamedWorkerDecl> workerList)) {
                 workers.addAll(workerList);
@@ -678,6 +698,31 @@ public class MuleConfigConverter {
         return concat ? "string `%s`".formatted(body) : "\"%s\"".formatted(body);
     }
 
+    /**
+     * Returns the module-level client for an HTTP request config and URL, declaring it the first time it is used. All
+     * flows share the client, so requests reuse its pooled connections instead of opening new ones each time.
+     */
+    private static String getHttpClient(Context ctx, String configRef, String url) {
+        Context.HttpClientLookupKey key = new Context.HttpClientLookupKey(configRef, url);
+        String clientName = ctx.projectCtx.httpClients.get(key);
+        if (clientName != null) {
+            return clientName;
+        }
+        String baseName = ConversionUtils.convertToBalIdentifier(configRef);
+        clientName = baseName;
+        for (int suffix = 1; ctx.projectCtx.httpClients.containsValue(clientName); suffix++) {
+            clientName = baseName + suffix;
+        }
+        HTTPRequestConfig config = ctx.projectCtx.getHttpRequestConfig(configRef);
+        HttpClientSettings settings = config != null ? config.clientSettings() : HttpClientSettings.DEFAULT;
+        for (BallerinaModel.ModuleVar configurable : settings.configurables(clientName)) {
+            ctx.addConfigurableVar(configurable.name(), configurable);
+        }
+        ctx.currentFileCtx.balConstructs.moduleVars.put(clientName, settings.client(clientName, url));
+        ctx.projectCtx.httpClients.put(key, clientName);
+        return clientName;
+    }
+
     private static WorkerStatementResult convertHttpRequest(Context ctx, HttpRequest httpRequest) {
         List<Statement> stmts = new ArrayList<>();
         boolean isConfigurablePath = httpRequest.path().startsWith("${");
@@ -697,8 +742,7 @@ public class MuleConfigConverter {
         Map<String, String> queryParams = httpRequest.queryParams();
 
         stmts.add(stmtFrom("\n\n// http client request\n"));
-        String escapedConfigRef = ConversionUtils.convertToBalIdentifier(httpRequest.configRef());
-        stmts.add(stmtFrom(String.format("http:Client %s = check new(%s);", escapedConfigRef, url)));
+        String escapedConfigRef = getHttpClient(ctx, httpRequest.configRef(), url);
 
         String headersVar = httpRequest.headersScript()
                 .map(script -> processMapScript(ctx, script, stmts, "headers"))
@@ -873,6 +917,106 @@ public class MuleConfigConverter {
     }
 
     private static WorkerStatementResult convertDatabase(Context ctx, Database database) {
+        List<Statement> stmts = new ArrayList<>();
+        String dbStreamVarName = addDbQueryStatements(ctx, database, stmts);
+        if (database.kind() == Kind.DB_SELECT) {
+            String streamConstraintType = Constants.GENERIC_RECORD_TYPE_REF;
+            String dbSelectVarName = Constants.VAR_DB_SELECT_TEMPLATE
+                    .formatted(ctx.projectCtx.counters.dbSelectVarCount++);
+            stmts.add(stmtFrom(String.format("%s[] %s = check from %s %s in %s select %s;", streamConstraintType,
+                    dbSelectVarName, streamConstraintType, Constants.VAR_ITERATOR, dbStreamVarName,
+                    Constants.VAR_ITERATOR)));
+            // db:select implicitly sets the payload
+            stmts.add(stmtFrom("%s.payload = %s;".formatted(Constants.CONTEXT_REFERENCE, dbSelectVarName)));
+        }
+        return new WorkerStatementResult(stmts);
+    }
+
+    /**
+     * Converts a {@code db:select} followed by a for-each over its result so that the rows are iterated straight from
+     * the query stream instead of being read into an array first. Memory use is then bounded by the size of a row
+     * rather than the size of the result. The stream is closed if the loop body fails before all rows are read, and
+     * the payload is left empty after the loop since the rows are not kept.
+     */
+    private static WorkerStatementResult convertStreamingDbSelect(Context ctx, Database database, Foreach foreach) {
+        List<Statement> stmts = new ArrayList<>();
+        String dbStreamVarName = addDbQueryStatements(ctx, database, stmts);
+        String iteratorVar = String.format(Constants.VAR_ITERATOR_TEMPLATE,
+                ctx.projectCtx.counters.foreachIteratorCount++);
+
+        List<Statement> loopBody = new ArrayList<>();
+        loopBody.add(stmtFrom(String.format("%s.payload = %s;", Constants.CONTEXT_REFERENCE, iteratorVar)));
+        loopBody.addAll(convertTopLevelMuleBlocks(ctx, foreach.flowBlocks()));
+        String queryAction = String.format("check from %s %s in %s do { %s };", Constants.GENERIC_RECORD_TYPE_REF,
+                iteratorVar, dbStreamVarName, String.join("\n", loopBody.stream().map(Object::toString).toList()));
+
+        String errVarName = dbStreamVarName + "Err";
+        OnFailClause closeStream = new OnFailClause(List.of(
+                stmtFrom("check %s.close();".formatted(dbStreamVarName)),
+                stmtFrom("fail %s;".formatted(errVarName))), new TypeBindingPattern(BAL_ERROR_TYPE, errVarName));
+
+        stmts.add(stmtFrom("\n\n// foreach loop over the streamed rows\n"));
+        stmts.add(new DoStatement(List.of(stmtFrom(queryAction)), closeStream));
+        stmts.add(stmtFrom(String.format("%s.payload = ();", Constants.CONTEXT_REFERENCE)));
+        return new WorkerStatementResult(stmts);
+    }
+
+    /**
+     * Checks whether the {@code db:select} at the given index can hand its rows to the for-each that follows it as a
+     * stream. That is the case when the for-each iterates the payload and no processor after the loop reads the select
+     * result before the payload is replaced. A result that is still the payload at the end of the flow may be read by
+     * the caller, so it is only dropped when streaming was requested explicitly.
+     */
+    private static boolean canStreamDbSelect(Context ctx, List<MuleRecord> flowBlocks, int index) {
+        if (index + 1 >= flowBlocks.size() || !(flowBlocks.get(index) instanceof Database database) ||
+                database.kind() != Kind.DB_SELECT || !(flowBlocks.get(index + 1) instanceof Foreach foreach) ||
+                !isPayloadExpr(foreach.collection()) || foreach.batchSize().isPresent()) {
+            return false;
+        }
+        for (MuleRecord muleRecord : flowBlocks.subList(index + 2, flowBlocks.size())) {
+            if (readsPayload(muleRecord)) {
+                return false;
+            }
+            if (replacesPayload(muleRecord)) {
+                return true;
+            }
+        }
+        return ctx.isStreamDbResults();
+    }
+
+    /**
+     * Checks whether the processor may read the payload. Processors that are not known to leave it alone are assumed
+     * to read it.
+     */
+    private static boolean readsPayload(MuleRecord muleRecord) {
+        return switch (muleRecord) {
+            case Payload payload -> payload.expr().contains("payload");
+            case Database database -> referencesPayload(database);
+            case Logger logger -> logger.message().contains("payload");
+            case SetVariable setVariable -> setVariable.value().contains("payload");
+            case RemoveVariable ignored -> false;
+            default -> true;
+        };
+    }
+
+    private static boolean replacesPayload(MuleRecord muleRecord) {
+        return switch (muleRecord) {
+            case Payload ignored -> true;
+            case Database database -> database.kind() == Kind.DB_SELECT;
+            default -> false;
+        };
+    }
+
+    private static boolean referencesPayload(Database database) {
+        return database.query().contains("payload") ||
+                database.unsupportedBlocks().stream().anyMatch(block -> block.xmlBlock().contains("payload"));
+    }
+
+    private static boolean isPayloadExpr(String expr) {
+        return expr.replaceAll("\\s", "").equals("#[payload]");
+    }
+
+    private static String addDbQueryStatements(Context ctx, Database database, List<Statement> stmts) {
         ctx.addImport(new Import(Constants.ORG_BALLERINA, Constants.MODULE_SQL, Optional.empty()));
         String streamConstraintType = Constants.GENERIC_RECORD_TYPE_REF;
 
@@ -881,7 +1025,6 @@ public class MuleConfigConverter {
                     new ModuleTypeDef(streamConstraintType, typeFrom(Constants.GENERIC_RECORD_TYPE)));
         }
 
-        List<Statement> stmts = new ArrayList<>();
         stmts.add(stmtFrom("\n\n// database operation\n"));
         String dbQueryVarName = Constants.VAR_DB_QUERY_TEMPLATE.formatted(ctx.projectCtx.counters.dbQueryVarCount++);
         stmts.add(stmtFrom("%s %s = %s;".formatted(Constants.SQL_PARAMETERIZED_QUERY_TYPE, dbQueryVarName,
@@ -896,32 +1039,74 @@ public class MuleConfigConverter {
         if (!database.unsupportedBlocks().isEmpty()) {
             stmts.add(stmtFrom(convertToUnsupportedTODO(ctx, database.unsupportedBlocks())));
         }
-
-        if (database.kind() == Kind.DB_SELECT) {
-            String dbSelectVarName = Constants.VAR_DB_SELECT_TEMPLATE
-                    .formatted(ctx.projectCtx.counters.dbSelectVarCount++);
-            stmts.add(stmtFrom(String.format("%s[] %s = check from %s %s in %s select %s;", streamConstraintType,
-                    dbSelectVarName, streamConstraintType, Constants.VAR_ITERATOR, dbStreamVarName,
-                    Constants.VAR_ITERATOR)));
-            // db:select implicitly sets the payload
-            stmts.add(stmtFrom("%s.payload = %s;".formatted(Constants.CONTEXT_REFERENCE, dbSelectVarName)));
-        }
-        return new WorkerStatementResult(stmts);
+        return dbStreamVarName;
     }
 
     private static WorkerStatementResult convertAsync(Context ctx, Async async) {
-        List<Statement> body = convertTopLevelMuleBlocks(ctx, async.flowBlocks());
+        List<Statement> body = new ArrayList<>(convertTopLevelMuleBlocks(ctx, async.flowBlocks()));
         int asyncFuncId = ctx.projectCtx.counters.asyncFuncCount++;
         String funcName = String.format(FUNC_NAME_ASYC_TEMPLATE, asyncFuncId);
-        Function function = Function.publicFunction(funcName, Constants.FUNC_PARAMS_WITH_CONTEXT, body);
-        ctx.currentFileCtx.balConstructs.functions.add(function);
 
         List<Statement> stmts = new ArrayList<>();
         stmts.add(stmtFrom("\n\n// async operation\n"));
-        stmts.add(stmtFrom(String.format("_ = start %s(%s);", funcName, Constants.CONTEXT_REFERENCE)));
+        if (async.maxConcurrency().isEmpty()) {
+            ctx.currentFileCtx.balConstructs.functions.add(
+                    Function.publicFunction(funcName, Constants.FUNC_PARAMS_WITH_CONTEXT, body));
+            stmts.add(stmtFrom(String.format("_ = start %s(%s);", funcName, Constants.CONTEXT_REFERENCE)));
+        } else {
+            String startFuncName = addBoundedAsync(ctx, funcName, body, async.maxConcurrency().get());
+            stmts.add(stmtFrom("%s(%s);".formatted(startFuncName, Constants.CONTEXT_REFERENCE)));
+        }
         return new WorkerStatementResult(stmts);
     }
 
+    /**
+     * Bounds the number of concurrently running instances of an async scope, the same way the {@code maxConcurrency}
+     * of a Mule async scope does, and returns the name of the function that starts an instance.
+     * <p>
+     * The futures of the last {@code maxConcurrency} started instances are kept in a module-level pool. Once the pool
+     * is full, a new instance takes over the slot of the oldest one and is started waiting on its future, so at most
+     * {@code maxConcurrency} bodies run at a time and the waiting instances are blocked on {@code wait} instead of
+     * polling. As in Mule, the flow that reaches the scope goes on without waiting for a free slot. Each body runs
+     * under {@code trap}, so an instance that fails or panics still hands its slot over.
+     *
+     * @return name of the function that starts an instance of the async scope
+     */
+    private static String addBoundedAsync(Context ctx, String asyncFuncName, List<Statement> asyncBody,
+                                          int maxConcurrency) {
+        String maxConcurrencyVar = Constants.VAR_ASYNC_MAX_CONCURRENCY_TEMPLATE.formatted(asyncFuncName);
+        String runsVar = Constants.VAR_ASYNC_RUNS_TEMPLATE.formatted(asyncFuncName);
+        ctx.addConfigurableVar(maxConcurrencyVar, BallerinaModel.ModuleVar.configurable(maxConcurrencyVar,
+                typeFrom("int"), exprFrom(String.valueOf(maxConcurrency))));
+        ctx.currentFileCtx.balConstructs.moduleVars.put(runsVar,
+                new BallerinaModel.ModuleVar(runsVar, typeFrom("future<error?>[]"), exprFrom("[]")));
+
+        String bodyFuncName = Constants.FUNC_NAME_ASYNC_BODY_TEMPLATE.formatted(asyncFuncName);
+        List<Parameter> asyncFuncParams = new ArrayList<>(Constants.FUNC_PARAMS_WITH_CONTEXT);
+        asyncFuncParams.add(new Parameter("previousRun", typeFrom("future<error?>?")));
+        List<Statement> asyncFuncBody = List.of(
+                stmtFrom("""
+                        if previousRun is future<error?> {
+                            error? previousResult = wait previousRun;
+                        }"""),
+                stmtFrom("return trap %s(%s);".formatted(bodyFuncName, Constants.CONTEXT_REFERENCE)));
+        ctx.currentFileCtx.balConstructs.functions.add(Function.publicFunction(asyncFuncName,
+                asyncFuncParams, typeFrom("error?"), asyncFuncBody));
+        ctx.currentFileCtx.balConstructs.functions.add(Function.publicFunction(bodyFuncName,
+                Constants.FUNC_PARAMS_WITH_CONTEXT, typeFrom("error?"), asyncBody));
+
+        String startFuncName = Constants.FUNC_NAME_ASYNC_START_TEMPLATE
+                .formatted(Character.toUpperCase(asyncFuncName.charAt(0)) + asyncFuncName.substring(1));
+        List<Statement> startBody = List.of(stmtFrom("""
+                lock {
+                    future<error?>? previousRun = %1$s.length() < %2$s ? () : %1$s.shift();
+                    %1$s.push(start %3$s(%4$s, previousRun));
+                }""".formatted(runsVar, maxConcurrencyVar, asyncFuncName, Constants.CONTEXT_REFERENCE)));
+        ctx.currentFileCtx.balConstructs.functions.add(
+                Function.publicFunction(startFuncName, Constants.FUNC_PARAMS_WITH_CONTEXT, startBody));
+        return startFuncName;
+    }
+
     private static WorkerStatementResult convertTry(Context ctx, Try tr) {
         List<Statement> stmts = convertTopLevelMuleBlocks(ctx, tr.flowBlocks());
         return new WorkerStatementResult(stmts);
@@ -938,8 +1123,8 @@ public class MuleConfigConverter {
         }
 
         // Generate unique variable names for the foreach loop
-        String iteratorVar = String.format(Constants.VAR_ITERATOR_TEMPLATE,
-                ctx.projectCtx.counters.foreachIteratorCount++);
+        int foreachId = ctx.projectCtx.counters.foreachIteratorCount++;
+        String iteratorVar = String.format(Constants.VAR_ITERATOR_TEMPLATE, foreachId);
         String originalPayloadVar = String.format(Constants.VAR_ORIGINAL_PAYLOAD_TEMPLATE,
                 ctx.projectCtx.counters.originalPayloadVarCount++);
 
@@ -949,21 +1134,117 @@ public class MuleConfigConverter {
         stmts.add(stmtFrom(
                 String.format("anydata %s = %s.payload;", originalPayloadVar, Constants.CONTEXT_REFERENCE)));
 
-        List<Statement> foreachBody = new ArrayList<>();
-        foreachBody.add(stmtFrom(String.format("%s.payload = %s;", Constants.CONTEXT_REFERENCE, iteratorVar)));
-        foreachBody.addAll(convertTopLevelMuleBlocks(ctx, foreach.flowBlocks()));
+        if (foreach.batchSize().isPresent()) {
+            // Each iteration gets a sub-array of up to batchSize elements as its payload, as in Mule
+            int batchSize = foreach.batchSize().get();
+            String itemsVar = Constants.VAR_FOREACH_ITEMS_TEMPLATE.formatted(foreachId);
+            String batchesVar = Constants.VAR_FOREACH_BATCHES_TEMPLATE.formatted(foreachId);
+            String batchVar = Constants.VAR_FOREACH_BATCH_TEMPLATE.formatted(foreachId);
+            stmts.add(stmtFrom("anydata[] %s = <anydata[]>%s;".formatted(itemsVar, collection)));
+            stmts.add(stmtFrom(("anydata[] %1$s = from int %2$s in 0 ..< (%3$s.length() + %4$d) / %5$d " +
+                    "select %3$s.slice(%2$s * %5$d, int:min(%3$s.length(), %2$s * %5$d + %5$d));")
+                    .formatted(batchesVar, batchVar, itemsVar, batchSize - 1, batchSize)));
+            collection = batchesVar;
+        }
 
-        ForeachStatement foreachStmt = new ForeachStatement(
-                new TypeBindingPattern(typeFrom("anydata"), iteratorVar),
-                exprFrom(collection),
-                foreachBody);
-        stmts.add(foreachStmt);
+        if (ctx.isParallelForeach() && foreach.flowBlocks().stream().allMatch(MuleConfigConverter::isIterationLocal)) {
+            stmts.addAll(convertParallelForeachLoop(ctx, foreach, foreachId, collection));
+        } else {
+            List<Statement> foreachBody = new ArrayList<>();
+            foreachBody.add(stmtFrom(String.format("%s.payload = %s;", Constants.CONTEXT_REFERENCE, iteratorVar)));
+            foreachBody.addAll(convertTopLevelMuleBlocks(ctx, foreach.flowBlocks()));
+
+            ForeachStatement foreachStmt = new ForeachStatement(
+                    new TypeBindingPattern(typeFrom("anydata"), iteratorVar),
+                    exprFrom(collection),
+                    foreachBody);
+            stmts.add(foreachStmt);
+        }
 
         // Restore original payload after foreach
         stmts.add(stmtFrom(String.format("%s.payload = %s;", Constants.CONTEXT_REFERENCE, originalPayloadVar)));
         return new WorkerStatementResult(stmts);
     }
 
+    /**
+     * Runs the iterations of a for-each concurrently. The body is moved into a function that is started for each
+     * element with its own copy of the context, so iterations don't see each other's payload. At most
+     * {@code <foreach>_max_concurrency} iterations run at a time and the loop waits for a group to finish before
+     * starting the next one, so a large collection doesn't start a strand per element all at once.
+     * <p>
+     * The copy of the context shares everything but the payload, which is cloned so that no iteration aliases the
+     * collection. That is enough since the body only holds blocks accepted by {@link #isIterationLocal}. The error of
+     * a failed iteration is checked when the enclosing function returns it or an error handler of the flow catches it.
+     * Otherwise, as in the function of a private flow or sub-flow, which does not return an error, it is rethrown as a
+     * panic.
+     */
+    private static List<Statement> convertParallelForeachLoop(Context ctx, Foreach foreach, int foreachId,
+                                                              String collection) {
+        String funcName = Constants.FUNC_NAME_FOREACH_TEMPLATE.formatted(foreachId);
+        List<Statement> body = convertTopLevelMuleBlocks(ctx, foreach.flowBlocks());
+        ctx.currentFileCtx.balConstructs.functions.add(Function.publicFunction(funcName,
+                Constants.FUNC_PARAMS_WITH_CONTEXT, typeFrom("error?"), body));
+
+        String maxConcurrencyVar = Constants.VAR_FOREACH_MAX_CONCURRENCY_TEMPLATE.formatted(funcName);
+        ctx.addConfigurableVar(maxConcurrencyVar, BallerinaModel.ModuleVar.configurable(maxConcurrencyVar,
+                typeFrom("int"), exprFrom(String.valueOf(Constants.DEFAULT_FOREACH_MAX_CONCURRENCY))));
+
+        String iterationVar = Constants.VAR_FOREACH_ITERATION_TEMPLATE.formatted(foreachId);
+        String waitIteration;
+        if (ctx.checkedErrorsHandled) {
+            waitIteration = "check wait %s;".formatted(iterationVar);
+        } else {
+            String resultVar = Constants.VAR_FOREACH_ITERATION_RESULT_TEMPLATE.formatted(foreachId);
+            waitIteration = """
+                    error? %1$s = wait %2$s;
+                            if %1$s is error {
+                                panic %1$s;
+                            }""".formatted(resultVar, iterationVar);
+        }
+
+        // Batches are already collected into an array, other collections are cast so they can be sliced
+        List<Statement> stmts = new ArrayList<>();
+        String elements = collection;
+        if (foreach.batchSize().isEmpty()) {
+            elements = Constants.VAR_FOREACH_ITEMS_TEMPLATE.formatted(foreachId);
+            stmts.add(stmtFrom("anydata[] %s = <anydata[]>%s;".formatted(elements, collection)));
+        }
+        stmts.add(stmtFrom("""
+                foreach int %1$s in 0 ..< (%2$s.length() + %3$s - 1) / %3$s {
+                    future<error?>[] %4$s = [];
+                    foreach anydata %5$s in %2$s.slice(%1$s * %3$s, int:min(%2$s.length(), (%1$s + 1) * %3$s)) {
+                        %6$s %7$s = {...%8$s};
+                        %7$s.payload = %5$s.clone();
+                        future<error?> %10$s = start %9$s(%7$s);
+                        %4$s.push(%10$s);
+                    }
+                    foreach future<error?> %10$s in %4$s {
+                        %11$s
+                    }
+                }""".formatted(Constants.VAR_FOREACH_GROUP_TEMPLATE.formatted(foreachId), elements,
+                maxConcurrencyVar, Constants.VAR_FOREACH_ITERATIONS_TEMPLATE.formatted(foreachId),
+                Constants.VAR_ITERATOR_TEMPLATE.formatted(foreachId), Constants.CONTEXT_RECORD_TYPE,
+                Constants.VAR_FOREACH_ITERATION_CTX_TEMPLATE.formatted(foreachId), Constants.CONTEXT_REFERENCE,
+                funcName, iterationVar, waitIteration)));
+        return stmts;
+    }
+
+    /**
+     * Returns whether a block of a for-each body only changes the payload of its own iteration, so iterations can
+     * run concurrently on copies of the context. HTTP requests and database operations qualify since they only assign
+     * the payload and call module level clients, which can be shared between strands. Blocks that write variables or
+     * attributes, or whose effects aren't known, such as flow references, make the iterations depend on each other.
+     */
+    private static boolean isIterationLocal(MuleRecord muleRecord) {
+        return switch (muleRecord.kind()) {
+            case LOGGER, PAYLOAD, HTTP_REQUEST, DB_SELECT, DB_INSERT, DB_UPDATE, DB_DELETE, OBJECT_TO_JSON,
+                 OBJECT_TO_STRING -> true;
+            case TRANSFORM_MESSAGE -> ((TransformMessage) muleRecord).children().stream()
+                    .noneMatch(child -> child instanceof SetVariableElement);
+            default -> false;
+        };
+    }
+
     private static WorkerStatementResult convertScatterGather(Context ctx, ScatterGather scatterGather) {
         List<Route> routes = scatterGather.routes();
         if (routes.isEmpty()) {
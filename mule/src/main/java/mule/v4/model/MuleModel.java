@@ -17,6 +17,9 @@
  */
 package mule.v4.model;
 
+import mule.common.DbPoolSettings;
+import mule.common.HttpClientSettings;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -223,9 +226,10 @@ public record MuleModel() {
         }
     }
 
-    public record Async(Kind kind, List<MuleRecord> flowBlocks) implements MuleRecord {
-        public Async(List<MuleRecord> flowBlocks) {
-            this(Kind.ASYNC, flowBlocks);
+    public record Async(Kind kind, Optional<Integer> maxConcurrency, List<MuleRecord> flowBlocks)
+            implements MuleRecord {
+        public Async(Optional<Integer> maxConcurrency, List<MuleRecord> flowBlocks) {
+            this(Kind.ASYNC, maxConcurrency, flowBlocks);
         }
     }
 
@@ -235,9 +239,10 @@ public record MuleModel() {
         }
     }
 
-    public record Foreach(Kind kind, String collection, List<MuleRecord> flowBlocks) implements MuleRecord {
-        public Foreach(String collection, List<MuleRecord> flowBlocks) {
-            this(Kind.FOREACH, collection, flowBlocks);
+    public record Foreach(Kind kind, String collection, Optional<Integer> batchSize, List<MuleRecord> flowBlocks)
+            implements MuleRecord {
+        public Foreach(String collection, Optional<Integer> batchSize, List<MuleRecord> flowBlocks) {
+            this(Kind.FOREACH, collection, batchSize, flowBlocks);
         }
     }
 
@@ -394,10 +399,11 @@ public record MuleModel() {
         }
     }
 
-    public record HTTPRequestConfig(Kind kind, String name, String host, String port,
-                                    String protocol) implements MuleRecord {
-        public HTTPRequestConfig(String name, String host, String port, String protocol) {
-            this(Kind.HTTP_REQUEST_CONFIG, name, host, port, protocol);
+    public record HTTPRequestConfig(Kind kind, String name, String host, String port, String protocol,
+                                    HttpClientSettings clientSettings) implements MuleRecord {
+        public HTTPRequestConfig(String name, String host, String port, String protocol,
+                                 HttpClientSettings clientSettings) {
+            this(Kind.HTTP_REQUEST_CONFIG, name, host, port, protocol, clientSettings);
         }
     }
 
@@ -431,9 +437,10 @@ public record MuleModel() {
         }
     }
 
-    public record DbConfig(Kind kind, String name, DbConnection dbConnection) implements MuleRecord {
-        public DbConfig(String name, DbConnection dbConnection) {
-            this(Kind.DB_CONFIG, name, dbConnection);
+    public record DbConfig(Kind kind, String name, DbConnection dbConnection, DbPoolSettings poolSettings)
+            implements MuleRecord {
+        public DbConfig(String name, DbConnection dbConnection, DbPoolSettings poolSettings) {
+            this(Kind.DB_CONFIG, name, dbConnection, poolSettings);
         }
     }
 
@@ -17,6 +17,8 @@
  */
 package mule.v4.reader;
 
+import mule.common.DbPoolSettings;
+import mule.common.HttpClientSettings;
 import mule.common.MuleXMLNavigator;
 import mule.common.MuleXMLNavigator.MuleElement;
 import mule.v4.Constants;
@@ -31,6 +33,9 @@ import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -114,7 +119,7 @@ import static mule.v4.model.MuleXMLTag.HTTP_REQUEST_CONNECTION;
 public class MuleConfigReader {
 
     public static ParseResult readMuleConfigFromRoot(Context ctx, MuleXMLNavigator muleXMLNavigator,
-                                                     String xmlFilePath) {
+                                                     Path xmlFilePath) {
         Element root;
         try {
             root = parseMuleXMLConfigurationFile(xmlFilePath);
@@ -147,12 +152,16 @@ public class MuleConfigReader {
         return new ParseResult(flows, subFlows);
     }
 
-    private static Element parseMuleXMLConfigurationFile(String uri) throws ParserConfigurationException, SAXException,
-            IOException {
+    private static Element parseMuleXMLConfigurationFile(Path xmlFilePath) throws ParserConfigurationException,
+            SAXException, IOException {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         factory.setNamespaceAware(true);
         DocumentBuilder builder = factory.newDocumentBuilder();
-        Document document = builder.parse(uri);
+        Document document;
+        // Read through the path's own file system, since the config may be an entry of a mounted archive
+        try (InputStream in = Files.newInputStream(xmlFilePath)) {
+            document = builder.parse(in);
+        }
         document.getDocumentElement().normalize();
         return document.getDocumentElement();
     }
@@ -574,6 +583,9 @@ public class MuleConfigReader {
     }
 
     private static Async readAsync(Context ctx, MuleElement muleElement) {
+        String maxConcurrencyAttr = muleElement.getElement().getAttribute("maxConcurrency").trim();
+        // Expressions and placeholders can't be resolved here, so those scopes stay unbounded like before
+        Optional<Integer> maxConcurrency = readPositiveInt(maxConcurrencyAttr);
         List<MuleRecord> flowBlocks = new ArrayList<>();
         while (muleElement.peekChild() != null) {
             MuleElement child = muleElement.consumeChild();
@@ -581,7 +593,7 @@ public class MuleConfigReader {
             flowBlocks.add(muleRec);
         }
 
-        return new Async(flowBlocks);
+        return new Async(maxConcurrency, flowBlocks);
     }
 
     private static Try readTry(Context ctx, MuleElement muleElement) {
@@ -603,6 +615,8 @@ public class MuleConfigReader {
         if (collection.isEmpty()) {
             collection = "#[payload]";
         }
+        // Elements are processed one at a time unless a literal batch size is given
+        Optional<Integer> batchSize = readPositiveInt(element.getAttribute("batchSize").trim());
 
         List<MuleRecord> flowBlocks = new ArrayList<>();
         while (muleElement.peekChild() != null) {
@@ -611,7 +625,11 @@ public class MuleConfigReader {
             flowBlocks.add(muleRec);
         }
 
-        return new Foreach(collection, flowBlocks);
+        return new Foreach(collection, batchSize, flowBlocks);
+    }
+
+    private static Optional<Integer> readPositiveInt(String value) {
+        return value.matches("\\d{1,9}") ? Optional.of(Integer.parseInt(value)).filter(i -> i > 0) : Optional.empty();
     }
 
     private static ScatterGather readScatterGather(Context ctx, MuleElement muleElement) {
@@ -962,6 +980,9 @@ public class MuleConfigReader {
         String host = "";
         String port = "";
         String protocol = "";
+        String maxConnections = "";
+        String connectionIdleTimeout = "";
+        String usePersistentConnections = "";
 
         while (muleElement.peekChild() != null) {
             MuleElement child = muleElement.consumeChild();
@@ -970,9 +991,14 @@ public class MuleConfigReader {
                 host = childElement.getAttribute("host");
                 port = childElement.getAttribute("port");
                 protocol = childElement.getAttribute("protocol");
+                maxConnections = childElement.getAttribute("maxConnections");
+                connectionIdleTimeout = childElement.getAttribute("connectionIdleTimeout");
+                usePersistentConnections = childElement.getAttribute("usePersistentConnections");
             }
         }
-        return new HTTPRequestConfig(configName, host, port, protocol);
+        HttpClientSettings clientSettings = new HttpClientSettings(element.getAttribute("responseTimeout"),
+                maxConnections, connectionIdleTimeout, usePersistentConnections);
+        return new HTTPRequestConfig(configName, host, port, protocol, clientSettings);
     }
 
     private static VMConfig readVmConfig(Context ctx, MuleElement muleElement) {
@@ -1058,13 +1084,13 @@ public class MuleConfigReader {
             Element childElement = child.getElement();
             if (childElement.getTagName().equals(DB_MY_SQL_CONNECTION.tag())) {
                 connection = readDbMySqlConnection(ctx, childElement, name);
-                return new DbConfig(name, connection);
+                return new DbConfig(name, connection, DbPoolSettings.fromPoolingProfile(childElement));
             } else if (childElement.getTagName().equals(DB_ORACLE_CONNECTION.tag())) {
                 connection = readDbOracleConnection(ctx, childElement, name);
-                return new DbConfig(name, connection);
+                return new DbConfig(name, connection, DbPoolSettings.fromPoolingProfile(childElement));
             } else if (childElement.getTagName().equals(DB_GENERIC_CONNECTION.tag())) {
                 connection = readDbGenericConnection(ctx, childElement, name);
-                return new DbConfig(name, connection);
+                return new DbConfig(name, connection, DbPoolSettings.fromPoolingProfile(childElement));
             } else {
                 UnsupportedBlock unsupportedBlock = readUnsupportedBlock(ctx, child);
                 ctx.currentFileCtx.configs.unsupportedBlocks.add(unsupportedBlock);
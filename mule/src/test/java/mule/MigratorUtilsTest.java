@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package mule;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public class MigratorUtilsTest {
+
+    private static final String MULE_V4_HEADER = """
+            <mule xmlns:ee="http://www.mulesoft.org/schema/mule/ee/core"
+                  xmlns:http="http://www.mulesoft.org/schema/mule/http"
+                  xmlns="http://www.mulesoft.org/schema/mule/core">
+            """;
+    private static final String MULE_V3_HEADER = """
+            <mule xmlns:dw="http://www.mulesoft.org/schema/mule/ee/dw"
+                  xmlns:http="http://www.mulesoft.org/schema/mule/http"
+                  xmlns="http://www.mulesoft.org/schema/mule/core">
+            """;
+    private static final String PLAIN_HEADER = """
+            <mule xmlns:http="http://www.mulesoft.org/schema/mule/http"
+                  xmlns:doc="http://www.mulesoft.org/schema/mule/documentation"
+                  xmlns="http://www.mulesoft.org/schema/mule/core">
+            """;
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("mule-version-detection");
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testDetectVersionFromRootNamespaces() throws IOException {
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(write("v4.xml", MULE_V4_HEADER + "</mule>")),
+                MuleMigrator.MuleVersion.MULE_V4);
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(write("v3.xml", MULE_V3_HEADER + "</mule>")),
+                MuleMigrator.MuleVersion.MULE_V3);
+    }
+
+    @Test
+    public void testDetectVersionFromBody() throws IOException {
+        Path docId = write("doc_id.xml", PLAIN_HEADER + """
+                    <flow name="demoFlow" doc:id="7e3855d0-bb40-460c-999b-b4705f53198c"/>
+                </mule>
+                """);
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(docId), MuleMigrator.MuleVersion.MULE_V4);
+
+        Path listenerConnection = write("listener_connection.xml", PLAIN_HEADER + """
+                    <http:listener-config name="config">
+                        <http:listener-connection host="0.0.0.0" port="8081"/>
+                    </http:listener-config>
+                </mule>
+                """);
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(listenerConnection), MuleMigrator.MuleVersion.MULE_V4);
+    }
+
+    @Test
+    public void testMuleV4MarkerWinsOverEarlierMuleV3Marker() throws IOException {
+        Path transform = write("v3_header_v4_body.xml", MULE_V3_HEADER + """
+                    <flow name="demoFlow">
+                        <ee:transform/>
+                    </flow>
+                </mule>
+                """);
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(transform), MuleMigrator.MuleVersion.MULE_V4);
+
+        Path docId = write("v3_transform_v4_doc_id.xml", MULE_V3_HEADER + """
+                    <flow name="demoFlow">
+                        <dw:transform-message/>
+                        <logger doc:id="7e3855d0-bb40-460c-999b-b4705f53198c"/>
+                    </flow>
+                </mule>
+                """);
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(docId), MuleMigrator.MuleVersion.MULE_V4);
+    }
+
+    @Test
+    public void testDetectVersionWithUndeclaredPrefixes() throws IOException {
+        Path config = write("undeclared_prefix.xml", """
+                <mule>
+                    <flow name="demoFlow" doc:id="7e3855d0-bb40-460c-999b-b4705f53198c"/>
+                </mule>
+                """);
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(config), MuleMigrator.MuleVersion.MULE_V4);
+    }
+
+    @Test
+    public void testDetectVersionOfMalformedMuleV4Config() throws IOException {
+        Path config = write("malformed_v4.xml", "<mule><flow><ee:transform></mule>");
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(config), MuleMigrator.MuleVersion.MULE_V4);
+    }
+
+    @Test
+    public void testDetectVersionDefaultsToMuleV3() throws IOException {
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(write("plain.xml", PLAIN_HEADER + "</mule>")),
+                MuleMigrator.MuleVersion.MULE_V3);
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(write("malformed.xml", "<mule><flow></mule>")),
+                MuleMigrator.MuleVersion.MULE_V3);
+    }
+
+    @Test
+    public void testDetectedVersionIsRefreshedWhenFileChanges() throws IOException {
+        Path config = write("changed.xml", MULE_V3_HEADER + "</mule>");
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(config), MuleMigrator.MuleVersion.MULE_V3);
+
+        write("changed.xml", MULE_V4_HEADER + "</mule>");
+        Files.setLastModifiedTime(config, FileTime.from(Instant.now().plusSeconds(60)));
+        Assert.assertEquals(MigratorUtils.detectVersionForFile(config), MuleMigrator.MuleVersion.MULE_V4);
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), content);
+    }
+}
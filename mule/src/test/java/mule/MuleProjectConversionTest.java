@@ -17,14 +17,32 @@
  */
 package mule;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import common.metrics.MetricsRecord;
+import common.output.ZipOutputSink;
+import mule.common.ContextBase;
+import mule.common.MuleLogger;
+import mule.common.MultiRootContext;
+import mule.common.ProjectMigrationResult;
+import mule.common.report.AggregateReportGenerator;
+import mule.common.report.IndividualReportGenerator;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 public class MuleProjectConversionTest {
 
@@ -208,5 +226,179 @@ public class MuleProjectConversionTest {
         var result4 = MuleMigrator.migrateMule(invalidMultiRootParams);
         Assert.assertTrue(result4.containsKey("error"), "Should return error for invalid path");
     }
-}
 
+    @Test(groups = {"mule", "converter"})
+    public void testMultiRootAssessment() throws IOException {
+        Path multiRootSource = Path.of("src", "test", "resources", "mule", "v3", "projects");
+        Path outputDir = Files.createTempDirectory("mule-assess-test");
+        Path metricsFile = Files.createTempDirectory("mule-assess-metrics").resolve("metrics.ndjson");
+
+        MuleMigrator.migrateAndExportMuleSource(multiRootSource.toString(), outputDir.toString(),
+                MuleMigrator.MigrationOptions.builder().multiRoot(true).metricsOut(metricsFile).assess(true).build());
+
+        // Only the reports are written
+        List<Path> writtenFiles;
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            writtenFiles = files.filter(Files::isRegularFile).toList();
+        }
+        Assert.assertTrue(writtenFiles.stream().noneMatch(file -> file.toString().endsWith(".bal") ||
+                file.getFileName().toString().equals("Ballerina.toml")), "Unexpected generated files: " + writtenFiles);
+        String aggregateReport = Files.readString(
+                outputDir.resolve(AggregateReportGenerator.AGGREGATE_MIGRATION_REPORT_NAME));
+        Assert.assertTrue(aggregateReport.contains(AggregateReportGenerator.MIGRATION_ASSESSMENT_TITLE));
+
+        Map<String, JsonNode> projectRecords = new HashMap<>();
+        ObjectMapper mapper = new ObjectMapper();
+        for (String line : Files.readAllLines(metricsFile)) {
+            JsonNode metricsRecord = mapper.readTree(line);
+            if (metricsRecord.get("type").asText().equals(MetricsRecord.PROJECT)) {
+                projectRecords.put(metricsRecord.get("project").asText(), metricsRecord);
+            }
+        }
+
+        for (String project : List.of("demo_project_bi", "demo_project_classic")) {
+            String report = Files.readString(outputDir.resolve(project)
+                    .resolve(IndividualReportGenerator.INDIVIDUAL_REPORT_NAME));
+            Assert.assertTrue(report.contains(IndividualReportGenerator.MIGRATION_ASSESSMENT_TITLE));
+
+            long configCount;
+            try (Stream<Path> files = Files.walk(multiRootSource.resolve(project).resolve("src/main/app"))) {
+                configCount = files.filter(file -> file.toString().endsWith(".xml")).count();
+            }
+            JsonNode projectRecord = projectRecords.get(project);
+            Assert.assertNotNull(projectRecord, "No metrics recorded for " + project);
+            int elementCount = projectRecord.get("elements").get("total").asInt();
+            Assert.assertTrue(elementCount > 0);
+            long expectedLines = Math.round(MuleMigrator.ESTIMATED_LINES_PER_CONFIG * configCount +
+                    MuleMigrator.ESTIMATED_LINES_PER_ELEMENT * elementCount);
+            Assert.assertEquals(projectRecord.get("generated").get("estimatedLines").asLong(), expectedLines);
+        }
+    }
+
+    @Test(groups = {"mule", "converter"})
+    public void testMultiRootContextDoesNotRetainProjects() throws InterruptedException {
+        Path muleAppDir = Path.of("src", "test", "resources", "mule", "v3", "projects", "demo_project_classic", "src",
+                "main", "app");
+        List<Path> xmlFiles = new ArrayList<>();
+        MigratorUtils.collectXmlFiles(muleAppDir, xmlFiles);
+        ProjectMigrationResult result = new ProjectMigrationResult();
+        result.setOrgName("testOrg");
+        result.setProjectName("demo_project_classic");
+        MultiRootContext multiRootContext = new MultiRootContext();
+
+        ContextBase ctx = new mule.v3.Context(xmlFiles, List.of(), muleAppDir, MuleMigrator.MuleVersion.MULE_V3,
+                List.of(), "demo_project_classic", false, false, new MuleLogger(false), result, multiRootContext);
+        ctx.registerFlows();
+        ctx.parseAllFiles();
+        WeakReference<ContextBase> projectContext = new WeakReference<>(ctx);
+        ctx = null;
+
+        // Once a project is generated, the shared context must not keep its parsed model alive
+        for (int attempt = 0; attempt < 20 && projectContext.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assert.assertNull(projectContext.get(), "The project context is still referenced");
+        Assert.assertEquals(multiRootContext.lookupFlow("commonConfig1Flow"), Optional.of(
+                new MultiRootContext.LookupResult("testOrg", "demo_project_classic", "commonConfig1Flow")));
+        Assert.assertEquals(multiRootContext.lookupFlow("commonConfig2Sub_Flow"), Optional.of(
+                new MultiRootContext.LookupResult("testOrg", "demo_project_classic", "commonConfig2Sub_Flow")));
+        Assert.assertTrue(multiRootContext.lookupFlow("missingFlow").isEmpty());
+    }
+
+    @Test(groups = {"mule", "converter"}, dataProvider = "archiveLayoutProvider")
+    public void testArchiveConversion(boolean topLevelDirectory) throws IOException {
+        Path muleProject = Path.of("src", "test", "resources", "mule", "v3", "projects", "demo_project_bi");
+        Path archiveDir = Files.createTempDirectory("mule-archive-input");
+        Path expectedDir = Files.createTempDirectory("mule-archive-expected");
+        Path outputDir = Files.createTempDirectory("mule-archive-output");
+        try {
+            // Without a top level directory the project name has to come from the archive name
+            Path archive = archiveDir.resolve("demo_project_bi.zip");
+            zipProject(muleProject, archive, topLevelDirectory ? "demo_project_bi/" : "");
+            MuleMigrator.MigrationOptions options = MuleMigrator.MigrationOptions.builder().orgName("testOrg").build();
+
+            MuleMigrator.migrateAndExportMuleSource(muleProject.toString(), expectedDir.toString(), options);
+            MuleMigrator.migrateAndExportMuleSource(archive.toString(), outputDir.toString(), options);
+
+            Map<String, String> generatedFiles = generatedFiles(outputDir);
+            Assert.assertTrue(generatedFiles.keySet().stream().anyMatch(file -> file.endsWith(".bal")),
+                    "No Ballerina files generated from the archive: " + generatedFiles.keySet());
+            Assert.assertEquals(generatedFiles, generatedFiles(expectedDir));
+        } finally {
+            deleteDirectory(archiveDir);
+            deleteDirectory(expectedDir);
+            deleteDirectory(outputDir);
+        }
+    }
+
+    @Test(groups = {"mule", "converter"})
+    public void testMultiRootArchiveConversion() throws IOException {
+        Path multiRootSource = Path.of("src", "test", "resources", "mule", "v3", "projects");
+        Path archiveDir = Files.createTempDirectory("mule-multiroot-archive-input");
+        Path expectedDir = Files.createTempDirectory("mule-multiroot-archive-expected");
+        Path outputDir = Files.createTempDirectory("mule-multiroot-archive-output");
+        try {
+            zipProject(multiRootSource.resolve("demo_project_bi"), archiveDir.resolve("demo_project_bi.zip"),
+                    "demo_project_bi/");
+            zipProject(multiRootSource.resolve("demo_project_classic"), archiveDir.resolve("demo_project_classic.jar"),
+                    "");
+            MuleMigrator.MigrationOptions options = MuleMigrator.MigrationOptions.builder().orgName("testOrg")
+                    .multiRoot(true).build();
+
+            MuleMigrator.migrateAndExportMuleSource(multiRootSource.toString(), expectedDir.toString(), options);
+            MuleMigrator.migrateAndExportMuleSource(archiveDir.toString(), outputDir.toString(), options);
+
+            Map<String, String> generatedFiles = generatedFiles(outputDir);
+            for (String project : List.of("demo_project_bi", "demo_project_classic")) {
+                Assert.assertTrue(generatedFiles.keySet().stream()
+                                .anyMatch(file -> file.startsWith(project + "/") && file.endsWith(".bal")),
+                        "No Ballerina files generated for " + project + ": " + generatedFiles.keySet());
+            }
+            Assert.assertEquals(generatedFiles, generatedFiles(expectedDir));
+        } finally {
+            deleteDirectory(archiveDir);
+            deleteDirectory(expectedDir);
+            deleteDirectory(outputDir);
+        }
+    }
+
+    @DataProvider
+    public Object[][] archiveLayoutProvider() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    private static void zipProject(Path projectDir, Path archive, String entryPrefix) throws IOException {
+        // The expected Ballerina project kept next to the sources is not part of the Mule project
+        Path expectedProject = projectDir.resolve(projectDir.getFileName());
+        try (ZipOutputSink sink = new ZipOutputSink(archive); Stream<Path> files = Files.walk(projectDir)) {
+            for (Path file : files.filter(Files::isRegularFile).filter(file -> !file.startsWith(expectedProject))
+                    .toList()) {
+                sink.write(entryPrefix + projectDir.relativize(file).toString().replace('\\', '/'),
+                        Files.readString(file));
+            }
+        }
+    }
+
+    private static Map<String, String> generatedFiles(Path outputDir) throws IOException {
+        Map<String, String> generatedFiles = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(".bal") || fileName.endsWith(".toml")) {
+                    generatedFiles.put(outputDir.relativize(file).toString().replace('\\', '/'),
+                            Files.readString(file));
+                }
+            }
+        }
+        return generatedFiles;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -41,4 +41,16 @@ public class DatabaseConnectorTest extends AbstractBlockTest {
     public void testGenericDbSelect() {
         testMule3ToBal("database-connector/generic_db_select.xml", "database-connector/generic_db_select.bal");
     }
+
+    @Test
+    public void testDbSelectStreamedToForeach() {
+        testMule3ToBal("database-connector/db_select_streamed_to_foreach.xml",
+                "database-connector/db_select_streamed_to_foreach.bal");
+    }
+
+    @Test
+    public void testDbConfigWithPoolingProfile() {
+        testMule3ToBal("database-connector/db_config_with_pooling_profile.xml",
+                "database-connector/db_config_with_pooling_profile.bal");
+    }
 }
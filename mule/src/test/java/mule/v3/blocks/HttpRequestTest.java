@@ -37,4 +37,10 @@ public class HttpRequestTest extends AbstractBlockTest {
         testMule3ToBal("http-request/http_request_with_http_source.xml",
                 "http-request/http_request_with_http_source.bal");
     }
+
+    @Test
+    public void testHttpRequestWithConnectionSettings() {
+        testMule3ToBal("http-request/http_request_with_connection_settings.xml",
+                "http-request/http_request_with_connection_settings.bal");
+    }
 }
@@ -43,7 +43,7 @@ public class MUnitTest {
 
     @Test
     public void testSampleMUnitConversion() {
-        String xmlPath = MULE_RESOURCE_DIR.resolve("munit/sample_munit_test.xml").toString();
+        Path xmlPath = MULE_RESOURCE_DIR.resolve("munit/sample_munit_test.xml");
 
         MuleLogger logger = new MuleLogger(false);
         Context ctx = new Context(List.of(), List.of(), logger);
@@ -61,7 +61,7 @@ public class MUnitTest {
 
     @Test
     public void testMUnitCodeGeneration() {
-        String xmlPath = MULE_RESOURCE_DIR.resolve("munit/sample_munit_test.xml").toString();
+        Path xmlPath = MULE_RESOURCE_DIR.resolve("munit/sample_munit_test.xml");
 
         MuleLogger logger = new MuleLogger(false);
         Context ctx = new Context(List.of(), List.of(), logger);
@@ -93,7 +93,7 @@ public class MUnitTest {
 
     @Test
     public void testMUnitTestWithMock() {
-        String xmlPath = MULE_RESOURCE_DIR.resolve("munit/sample_munit_test.xml").toString();
+        Path xmlPath = MULE_RESOURCE_DIR.resolve("munit/sample_munit_test.xml");
 
         MuleLogger logger = new MuleLogger(false);
         Context ctx = new Context(List.of(), List.of(), logger);
@@ -26,7 +26,6 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -232,10 +231,10 @@ public class YamlToTomlConverterTest {
         configurableVars.add("db_username");
         configurableVars.add("app_name");
         configurableVars.add("app_version");
-        MuleMigrator.processPropertiesFile(logger, propertiesFile.toFile(), tomlContent, configurableVars);
+        MuleMigrator.processPropertiesFile(logger, propertiesFile, tomlContent, configurableVars);
         tomlContent.append("\n");
         tomlContent.append("# Properties from config.yaml\n");
-        MuleMigrator.processYamlFile(logger, yamlFile.toFile(), tomlContent, configurableVars);
+        MuleMigrator.processYamlFile(logger, yamlFile, tomlContent, configurableVars);
         tomlContent.append("\n");
 
         assertEquals(tomlContent.toString(), expectedToml);
@@ -251,7 +250,7 @@ public class YamlToTomlConverterTest {
         StringBuilder tomlContent = new StringBuilder();
         tomlContent.append("# Properties from ").append(filename).append("\n");
         MuleLogger logger = new MuleLogger(true);
-        MuleMigrator.processYamlFile(logger, yamlFile.toFile(), tomlContent, configurableVars);
+        MuleMigrator.processYamlFile(logger, yamlFile, tomlContent, configurableVars);
         tomlContent.append("\n");
 
         assertEquals(tomlContent.toString(), expectedToml);
@@ -287,8 +286,8 @@ public class YamlToTomlConverterTest {
         Set<String> configurableVars = loadVariableNames(testCaseDir);
 
         // 2. Collect YAML and properties files from test directory
-        List<File> yamlFiles = collectFiles(testCaseDir, "*.yaml");
-        List<File> propertyFiles = collectFiles(testCaseDir, "*.properties");
+        List<Path> yamlFiles = collectFiles(testCaseDir, "*.yaml");
+        List<Path> propertyFiles = collectFiles(testCaseDir, "*.properties");
 
         // 3. Call genConfigTOMLFile
         MuleLogger logger = new MuleLogger(false);
@@ -327,13 +326,13 @@ public class YamlToTomlConverterTest {
         return new HashSet<>(variableList);
     }
 
-    private List<File> collectFiles(Path directory, String pattern) throws IOException {
-        List<File> files = new ArrayList<>();
+    private List<Path> collectFiles(Path directory, String pattern) throws IOException {
+        List<Path> files = new ArrayList<>();
         String regex = pattern.replace("*", ".*");
 
         try (Stream<Path> paths = Files.list(directory)) {
             paths.filter(path -> path.getFileName().toString().matches(regex))
-                    .forEach(path -> files.add(path.toFile()));
+                    .forEach(files::add);
         }
 
         return files;
@@ -19,12 +19,14 @@ package mule.v4.blocks;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import mule.common.MuleLogger;
+import mule.v4.Context;
 import org.testng.Assert;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
 
 import static mule.v4.MuleToBalConverter.convertStandaloneXMLFileToBallerina;
 
@@ -42,13 +44,19 @@ public class AbstractBlockTest {
     private static final boolean UPDATE_ASSERTS = "true".equalsIgnoreCase(System.getenv("BLESS"));
 
     public static void testMule4ToBal(String sourcePath, String targetPath) {
-        testMuleToBal(MULE_V4_DIR, sourcePath, targetPath);
+        testMule4ToBal(sourcePath, targetPath, ctx -> {
+        });
     }
 
-    private static void testMuleToBal(String muleVersionDir, String sourcePath, String targetPath) {
+    public static void testMule4ToBal(String sourcePath, String targetPath, Consumer<Context> configureContext) {
+        testMuleToBal(MULE_V4_DIR, sourcePath, targetPath, configureContext);
+    }
+
+    private static void testMuleToBal(String muleVersionDir, String sourcePath, String targetPath,
+                                      Consumer<Context> configureContext) {
         Path testDir = MULE_RESOURCE_DIR.resolve(muleVersionDir).resolve(BLOCKS_DIR);
         SyntaxTree syntaxTree = convertStandaloneXMLFileToBallerina(testDir.resolve(sourcePath).toString(),
-                new MuleLogger(false));
+                new MuleLogger(false), configureContext);
         String expectedBalCode = getSourceText(testDir.resolve(targetPath));
         String actualBalCode = syntaxTree.toSourceCode();
         updateAssertFile(testDir.resolve(targetPath), actualBalCode);
@@ -25,4 +25,15 @@ public class AsyncTest extends AbstractBlockTest {
     public void testSimpleAsync() {
         testMule4ToBal("async/simple_async.xml", "async/simple_async.bal");
     }
+
+    @Test
+    public void testAsyncWithMaxConcurrency() {
+        testMule4ToBal("async/async_with_max_concurrency.xml", "async/async_with_max_concurrency.bal");
+    }
+
+    @Test
+    public void testAsyncWithMaxConcurrencyAndCheckInBody() {
+        testMule4ToBal("async/async_with_max_concurrency_and_db_select.xml",
+                "async/async_with_max_concurrency_and_db_select.bal");
+    }
 }
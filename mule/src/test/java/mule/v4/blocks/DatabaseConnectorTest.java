@@ -36,6 +36,31 @@ public class DatabaseConnectorTest extends AbstractBlockTest {
         testMule4ToBal("database-connector/generic_db_select.xml", "database-connector/generic_db_select.bal");
     }
 
+    @Test
+    public void testDbSelectStreamedToForeach() {
+        testMule4ToBal("database-connector/db_select_streamed_to_foreach.xml",
+                "database-connector/db_select_streamed_to_foreach.bal");
+    }
+
+    @Test
+    public void testDbSelectNotStreamedWhenNextSelectUsesPayload() {
+        testMule4ToBal("database-connector/db_select_foreach_then_select_using_payload.xml",
+                "database-connector/db_select_foreach_then_select_using_payload.bal");
+    }
+
+    @Test
+    public void testStreamDbResultsKeepsRowsReadAfterLoop() {
+        testMule4ToBal("database-connector/db_select_foreach_then_select_using_payload.xml",
+                "database-connector/db_select_foreach_then_select_using_payload.bal",
+                ctx -> ctx.setStreamDbResults(true));
+    }
+
+    @Test
+    public void testDbConfigWithPoolingProfile() {
+        testMule4ToBal("database-connector/db_config_with_pooling_profile.xml",
+                "database-connector/db_config_with_pooling_profile.bal");
+    }
+
     @Test
     public void testDbInputParameters() {
         // Note: this is yet to support. This is to check the TODO comment
@@ -25,4 +25,29 @@ public class ForEachTest extends AbstractBlockTest {
     public void testBasicForeach() {
         testMule4ToBal("for-each/basic_for_each.xml", "for-each/basic_for_each.bal");
     }
+
+    @Test
+    public void testForeachWithBatchSize() {
+        testMule4ToBal("for-each/for_each_with_batch_size.xml", "for-each/for_each_with_batch_size.bal");
+    }
+
+    @Test
+    public void testParallelForeach() {
+        testMule4ToBal("for-each/for_each_parallel.xml", "for-each/for_each_parallel.bal",
+                ctx -> ctx.setParallelForeach(true));
+    }
+
+    @Test
+    public void testParallelForeachInPrivateFlow() {
+        testMule4ToBal("for-each/for_each_parallel_in_private_flow.xml",
+                "for-each/for_each_parallel_in_private_flow.bal",
+                ctx -> ctx.setParallelForeach(true));
+    }
+
+    @Test
+    public void testParallelForeachInErrorHandlingFlow() {
+        testMule4ToBal("for-each/for_each_parallel_in_error_handling_flow.xml",
+                "for-each/for_each_parallel_in_error_handling_flow.bal",
+                ctx -> ctx.setParallelForeach(true));
+    }
 }
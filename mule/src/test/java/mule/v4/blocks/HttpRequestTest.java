@@ -50,6 +50,12 @@ public class HttpRequestTest extends AbstractBlockTest {
                 "http-request/http_request_with_headers.bal");
     }
 
+    @Test
+    public void testHttpRequestWithConnectionSettings() {
+        testMule4ToBal("http-request/http_request_with_connection_settings.xml",
+                "http-request/http_request_with_connection_settings.bal");
+    }
+
     // TODO: due to some reason depends on the order, fix it
     @Test(enabled = false)
     public void testHttpRequestWithMelConfig() {
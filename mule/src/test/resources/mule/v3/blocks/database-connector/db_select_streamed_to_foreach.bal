@@ -0,0 +1,52 @@
+import ballerina/http;
+import ballerina/log;
+import ballerina/sql;
+import ballerinax/mysql;
+import ballerinax/mysql.driver as _;
+
+public type InboundProperties record {|
+    http:Request request;
+    http:Response response;
+    map<string> uriParams = {};
+|};
+
+public type Context record {|
+    anydata payload = ();
+    InboundProperties inboundProperties;
+|};
+
+public type Record record {
+};
+
+mysql:Client MySQL_Configuration = check new ("localhost", "root", "admin123", "test_db", 3306);
+public listener http:Listener config = new (8081);
+
+service /mule3 on config {
+    resource function get .(http:Request request) returns http:Response|error {
+        Context ctx = {inboundProperties: {request, response: new}};
+
+        // database operation
+        sql:ParameterizedQuery dbQuery0 = `SELECT * FROM users;`;
+        stream<Record, sql:Error?> dbStream0 = MySQL_Configuration->query(dbQuery0);
+
+        // foreach loop over the streamed rows
+        do {
+            check from Record iterator0 in dbStream0
+                do {
+                    ctx.payload = iterator0;
+                    log:printInfo(string `Current user: ${ctx.payload.toString()}`);
+                };
+        } on fail error dbStream0Err {
+            check dbStream0.close();
+            fail dbStream0Err;
+        }
+        ctx.payload = ();
+
+        // set payload
+        string payload0 = "Users processed";
+        ctx.payload = payload0;
+
+        ctx.inboundProperties.response.setPayload(ctx.payload);
+        return ctx.inboundProperties.response;
+    }
+}
@@ -5,10 +5,11 @@ public type Context record {|
     anydata payload = ();
 |};
 
+final http:Client HTTP_Request_Config = check new ("jsonplaceholder.typicode.com:80");
+
 public function callExternalApiFlow(Context ctx) {
 
     // http client request
-    http:Client HTTP_Request_Config = check new ("jsonplaceholder.typicode.com:80");
     http:Response clientResult0 = check HTTP_Request_Config->/posts/latest.get();
     ctx.payload = check clientResult0.getJsonPayload();
     log:printInfo(string `Received from external API: ${ctx.payload.toString()}`);
@@ -0,0 +1,18 @@
+import ballerina/http;
+import ballerina/log;
+
+public type Context record {|
+    anydata payload = ();
+|};
+
+configurable decimal HTTP_Request_Config_timeout = 5;
+configurable http:KeepAlive HTTP_Request_Config_keep_alive = http:KEEPALIVE_NEVER;
+final http:Client HTTP_Request_Config = check new ("jsonplaceholder.typicode.com:80", {timeout: HTTP_Request_Config_timeout, http1Settings: {keepAlive: HTTP_Request_Config_keep_alive}});
+
+public function callExternalApiFlow(Context ctx) {
+
+    // http client request
+    http:Response clientResult0 = check HTTP_Request_Config->/posts/latest.get();
+    ctx.payload = check clientResult0.getJsonPayload();
+    log:printInfo(string `Received from external API: ${ctx.payload.toString()}`);
+}
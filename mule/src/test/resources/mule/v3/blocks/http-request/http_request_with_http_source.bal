@@ -12,6 +12,7 @@ public type Context record {|
     InboundProperties inboundProperties;
 |};
 
+final http:Client HTTP_Request_Config = check new ("jsonplaceholder.typicode.com:80");
 public listener http:Listener HTTP_Listener_Config = new (8081);
 
 service /mule3 on HTTP_Listener_Config {
@@ -19,7 +20,6 @@ service /mule3 on HTTP_Listener_Config {
         Context ctx = {inboundProperties: {request, response: new}};
 
         // http client request
-        http:Client HTTP_Request_Config = check new ("jsonplaceholder.typicode.com:80");
         http:Response clientResult0 = check HTTP_Request_Config->/posts/latest.get();
         ctx.payload = check clientResult0.getJsonPayload();
         log:printInfo(string `Received from external API: ${ctx.payload.toString()}`);
@@ -0,0 +1,41 @@
+import ballerina/log;
+
+public type Context record {|
+    anydata payload = ();
+|};
+
+configurable int async0_max_concurrency = 4;
+future<error?>[] async0_runs = [];
+
+public function demoFlow(Context ctx) {
+
+    // set payload
+    string payload0 = "John";
+    ctx.payload = payload0;
+
+    // async operation
+    startAsync0(ctx);
+    log:printInfo(string `Payload is '${ctx.payload.toString()}'`);
+}
+
+public function async0(Context ctx, future<error?>? previousRun) returns error? {
+    if previousRun is future<error?> {
+        error? previousResult = wait previousRun;
+    }
+    return trap async0Body(ctx);
+}
+
+public function async0Body(Context ctx) returns error? {
+
+    // set payload
+    string payload1 = "Harry";
+    ctx.payload = payload1;
+    log:printInfo(string `Payload updated to: ${ctx.payload.toString()}`);
+}
+
+public function startAsync0(Context ctx) {
+    lock {
+        future<error?>? previousRun = async0_runs.length() < async0_max_concurrency ? () : async0_runs.shift();
+        async0_runs.push(start async0(ctx, previousRun));
+    }
+}
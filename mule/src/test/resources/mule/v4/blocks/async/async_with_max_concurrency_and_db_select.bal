@@ -0,0 +1,61 @@
+import ballerina/http;
+import ballerina/sql;
+import ballerinax/java.jdbc;
+
+public type Attributes record {|
+    http:Request request?;
+    http:Response response?;
+    map<string> uriParams = {};
+|};
+
+public type Context record {|
+    anydata payload = ();
+    Attributes attributes;
+|};
+
+public type Record record {
+};
+
+configurable int async0_max_concurrency = 2;
+jdbc:Client mySql_Config = check new ("jdbc:postgresql://localhost:5432/bookstore", "root", "admin");
+future<error?>[] async0_runs = [];
+public listener http:Listener config = new (8081);
+
+service /mule4 on config {
+    function init() returns error? {
+    }
+
+    resource function get db(http:Request request) returns http:Response|error {
+        Context ctx = {attributes: {request, response: new}};
+
+        // async operation
+        startAsync0(ctx);
+
+        (<http:Response>ctx.attributes.response).setPayload(ctx.payload);
+        return <http:Response>ctx.attributes.response;
+    }
+}
+
+public function async0(Context ctx, future<error?>? previousRun) returns error? {
+    if previousRun is future<error?> {
+        error? previousResult = wait previousRun;
+    }
+    return trap async0Body(ctx);
+}
+
+public function async0Body(Context ctx) returns error? {
+
+    // database operation
+    sql:ParameterizedQuery dbQuery0 = `SELECT * FROM users;`;
+    stream<Record, sql:Error?> dbStream0 = mySql_Config->query(dbQuery0);
+    Record[] dbSelect0 = check from Record _iterator_ in dbStream0
+        select _iterator_;
+    ctx.payload = dbSelect0;
+}
+
+public function startAsync0(Context ctx) {
+    lock {
+        future<error?>? previousRun = async0_runs.length() < async0_max_concurrency ? () : async0_runs.shift();
+        async0_runs.push(start async0(ctx, previousRun));
+    }
+}
@@ -0,0 +1,55 @@
+import ballerina/http;
+import ballerina/log;
+import ballerina/sql;
+import ballerinax/mysql;
+import ballerinax/mysql.driver as _;
+
+public type Attributes record {|
+    http:Request request?;
+    http:Response response?;
+    map<string> uriParams = {};
+|};
+
+public type Context record {|
+    anydata payload = ();
+    Attributes attributes;
+|};
+
+public type Record record {
+};
+
+mysql:Client mySql_Config = check new ("localhost", "root", "admin123", "test_db", 3306);
+public listener http:Listener config = new (8081);
+
+service /mule4 on config {
+    function init() returns error? {
+    }
+
+    resource function get db(http:Request request) returns http:Response|error {
+        Context ctx = {attributes: {request, response: new}};
+
+        // database operation
+        sql:ParameterizedQuery dbQuery0 = `SELECT * FROM users;`;
+        stream<Record, sql:Error?> dbStream0 = mySql_Config->query(dbQuery0);
+
+        // foreach loop over the streamed rows
+        do {
+            check from Record item0 in dbStream0
+                do {
+                    ctx.payload = item0;
+                    log:printInfo(string `Current user: ${ctx.payload.toString()}`);
+                };
+        } on fail error dbStream0Err {
+            check dbStream0.close();
+            fail dbStream0Err;
+        }
+        ctx.payload = ();
+
+        // set payload
+        string payload0 = "Users processed";
+        ctx.payload = payload0;
+
+        (<http:Response>ctx.attributes.response).setPayload(ctx.payload);
+        return <http:Response>ctx.attributes.response;
+    }
+}
@@ -0,0 +1,53 @@
+import ballerina/http;
+import ballerina/log;
+
+public type Attributes record {|
+    http:Request request?;
+    http:Response response?;
+    map<string> uriParams = {};
+|};
+
+public type Context record {|
+    anydata payload = ();
+    Attributes attributes;
+|};
+
+configurable int foreach0_max_concurrency = 8;
+public listener http:Listener HTTP_Listener_config = new (9090);
+
+service / on HTTP_Listener_config {
+    function init() returns error? {
+    }
+
+    resource function post demo(http:Request request) returns http:Response|error {
+        Context ctx = {attributes: {request, response: new}};
+
+        // set payload
+        string payload0 = "[\"Alice\", \"Bob\", \"Charlie\"]";
+        ctx.payload = payload0;
+
+        // foreach loop
+        anydata originalPayload0 = ctx.payload;
+        anydata[] items0 = <anydata[]>ctx.payload;
+        foreach int group0 in 0 ..< (items0.length() + foreach0_max_concurrency - 1) / foreach0_max_concurrency {
+            future<error?>[] iterations0 = [];
+            foreach anydata item0 in items0.slice(group0 * foreach0_max_concurrency, int:min(items0.length(), (group0 + 1) * foreach0_max_concurrency)) {
+                Context iterationCtx0 = {...ctx};
+                iterationCtx0.payload = item0.clone();
+                future<error?> iteration0 = start foreach0(iterationCtx0);
+                iterations0.push(iteration0);
+            }
+            foreach future<error?> iteration0 in iterations0 {
+                check wait iteration0;
+            }
+        }
+        ctx.payload = originalPayload0;
+
+        (<http:Response>ctx.attributes.response).setPayload(ctx.payload);
+        return <http:Response>ctx.attributes.response;
+    }
+}
+
+public function foreach0(Context ctx) returns error? {
+    log:printInfo(string `Current item: ${ctx.payload.toString()}`);
+}
@@ -0,0 +1,44 @@
+import ballerina/log;
+
+public type Context record {|
+    anydata payload = ();
+|};
+
+configurable int foreach0_max_concurrency = 8;
+
+public function demoFlow(Context ctx) {
+    do {
+
+        // foreach loop
+        anydata originalPayload0 = ctx.payload;
+        anydata[] items0 = <anydata[]>ctx.payload;
+        foreach int group0 in 0 ..< (items0.length() + foreach0_max_concurrency - 1) / foreach0_max_concurrency {
+            future<error?>[] iterations0 = [];
+            foreach anydata item0 in items0.slice(group0 * foreach0_max_concurrency, int:min(items0.length(), (group0 + 1) * foreach0_max_concurrency)) {
+                Context iterationCtx0 = {...ctx};
+                iterationCtx0.payload = item0.clone();
+                future<error?> iteration0 = start foreach0(iterationCtx0);
+                iterations0.push(iteration0);
+            }
+            foreach future<error?> iteration0 in iterations0 {
+                check wait iteration0;
+            }
+        }
+        ctx.payload = originalPayload0;
+    } on fail error err {
+        my_error_handler(ctx, err);
+    }
+}
+
+public function foreach0(Context ctx) returns error? {
+    log:printInfo(string `Current item: ${ctx.payload.toString()}`);
+}
+
+public function my_error_handler(Context ctx, error err) {
+    // on-error-propagate
+    log:printError("Message: " + err.message());
+    log:printError("Trace: " + err.stackTrace().toString());
+
+    log:printInfo("Error handled in on-error-propagate");
+    panic err;
+}
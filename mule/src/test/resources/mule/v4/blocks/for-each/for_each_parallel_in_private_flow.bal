@@ -0,0 +1,52 @@
+import ballerina/http;
+import ballerina/sql;
+import ballerinax/mysql;
+import ballerinax/mysql.driver as _;
+
+public type Context record {|
+    anydata payload = ();
+|};
+
+public type Record record {
+};
+
+configurable int foreach0_max_concurrency = 8;
+mysql:Client mySql_Config = check new ("localhost", "root", "admin123", "test_db", 3306);
+final http:Client http_request_config = check new ("jsonplaceholder.typicode.com:80");
+
+public function demoFlow(Context ctx) {
+
+    // foreach loop
+    anydata originalPayload0 = ctx.payload;
+    anydata[] items0 = <anydata[]>ctx.payload;
+    foreach int group0 in 0 ..< (items0.length() + foreach0_max_concurrency - 1) / foreach0_max_concurrency {
+        future<error?>[] iterations0 = [];
+        foreach anydata item0 in items0.slice(group0 * foreach0_max_concurrency, int:min(items0.length(), (group0 + 1) * foreach0_max_concurrency)) {
+            Context iterationCtx0 = {...ctx};
+            iterationCtx0.payload = item0.clone();
+            future<error?> iteration0 = start foreach0(iterationCtx0);
+            iterations0.push(iteration0);
+        }
+        foreach future<error?> iteration0 in iterations0 {
+            error? iterationResult0 = wait iteration0;
+            if iterationResult0 is error {
+                panic iterationResult0;
+            }
+        }
+    }
+    ctx.payload = originalPayload0;
+}
+
+public function foreach0(Context ctx) returns error? {
+
+    // http client request
+    http:Response clientResult0 = check http_request_config->/posts/latest.get();
+    ctx.payload = check clientResult0.getJsonPayload();
+
+    // database operation
+    sql:ParameterizedQuery dbQuery0 = `SELECT * FROM users;`;
+    stream<Record, sql:Error?> dbStream0 = mySql_Config->query(dbQuery0);
+    Record[] dbSelect0 = check from Record _iterator_ in dbStream0
+        select _iterator_;
+    ctx.payload = dbSelect0;
+}
@@ -0,0 +1,42 @@
+import ballerina/http;
+import ballerina/log;
+
+public type Attributes record {|
+    http:Request request?;
+    http:Response response?;
+    map<string> uriParams = {};
+|};
+
+public type Context record {|
+    anydata payload = ();
+    Attributes attributes;
+|};
+
+public listener http:Listener HTTP_Listener_config = new (9090);
+
+service / on HTTP_Listener_config {
+    function init() returns error? {
+    }
+
+    resource function post demo(http:Request request) returns http:Response|error {
+        Context ctx = {attributes: {request, response: new}};
+
+        // set payload
+        string payload0 = "[\"Alice\", \"Bob\", \"Charlie\"]";
+        ctx.payload = payload0;
+
+        // foreach loop
+        anydata originalPayload0 = ctx.payload;
+        anydata[] items0 = <anydata[]>ctx.payload;
+        anydata[] batches0 = from int batch0 in 0 ..< (items0.length() + 1) / 2
+            select items0.slice(batch0 * 2, int:min(items0.length(), batch0 * 2 + 2));
+        foreach anydata item0 in batches0 {
+            ctx.payload = item0;
+            log:printInfo(string `Current batch: ${ctx.payload.toString()}`);
+        }
+        ctx.payload = originalPayload0;
+
+        (<http:Response>ctx.attributes.response).setPayload(ctx.payload);
+        return <http:Response>ctx.attributes.response;
+    }
+}
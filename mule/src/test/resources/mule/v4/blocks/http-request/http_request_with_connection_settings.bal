@@ -0,0 +1,23 @@
+import ballerina/http;
+import ballerina/log;
+
+public type Context record {|
+    anydata payload = ();
+|};
+
+configurable decimal http_request_config_timeout = 30;
+configurable http:PoolConfiguration http_request_config_pool_config = {maxActiveConnections: 20, minEvictableIdleTime: 15};
+configurable http:KeepAlive http_request_config_keep_alive = http:KEEPALIVE_NEVER;
+final http:Client http_request_config = check new ("jsonplaceholder.typicode.com:80", {timeout: http_request_config_timeout, poolConfig: http_request_config_pool_config, http1Settings: {keepAlive: http_request_config_keep_alive}});
+
+public function demoFlow(Context ctx) {
+
+    // http client request
+    http:Response clientResult0 = check http_request_config->/posts/latest.get();
+    ctx.payload = check clientResult0.getJsonPayload();
+
+    // http client request
+    http:Response clientResult1 = check http_request_config->/posts/first.get();
+    ctx.payload = check clientResult1.getJsonPayload();
+    log:printInfo(string `Received from external API: ${ctx.payload.toString()}`);
+}
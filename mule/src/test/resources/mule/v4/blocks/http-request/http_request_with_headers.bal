@@ -7,11 +7,11 @@ public type Context record {|
 
 configurable string anypoint_auth_client_id = ?;
 configurable string anypoint_auth_client_secret = ?;
+final http:Client http_request_config = check new ("jsonplaceholder.typicode.com:80");
 
 public function demoFlow(Context ctx) {
 
     // http client request
-    http:Client http_request_config = check new ("jsonplaceholder.typicode.com:80");
     map<string?> headers_nilable = {
         "client-id": anypoint_auth_client_id,
         "client-secret": anypoint_auth_client_secret,
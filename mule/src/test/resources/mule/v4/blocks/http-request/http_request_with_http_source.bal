@@ -12,6 +12,7 @@ public type Context record {|
     Attributes attributes;
 |};
 
+final http:Client http_request_config = check new ("https://jsonplaceholder.typicode.com:80");
 public listener http:Listener listener_config = new (8081);
 
 service /mule4 on listener_config {
@@ -22,7 +23,6 @@ service /mule4 on listener_config {
         Context ctx = {attributes: {request, response: new}};
 
         // http client request
-        http:Client http_request_config = check new ("https://jsonplaceholder.typicode.com:80");
         http:Response clientResult0 = check http_request_config->/posts/latest.get();
         ctx.payload = check clientResult0.getJsonPayload();
         log:printInfo(string `Received from external API: ${ctx.payload.toString()}`);
@@ -11,11 +11,11 @@ configurable string secure_api_host = ?;
 configurable string secure_api_port = ?;
 configurable string anypoint_auth_client_id = ?;
 configurable string anypoint_auth_client_secret = ?;
+final http:Client http_request_config = check new (string `${secure_api_host}:${secure_api_port}`);
 
 public function demoFlow(Context ctx) {
 
     // http client request
-    http:Client http_request_config = check new (string `${secure_api_host}:${secure_api_port}`);
     map<string?> headers_nilable = {
         "client-id": anypoint_auth_client_id,
         "client-secret": anypoint_auth_client_secret,
@@ -27,7 +27,9 @@ import java.util.List;
 /**
  * Project-wide state shared across every artifact and every converter for a single migration run.
  *
- * <p>A single instance is created in {@code SynapseConverter} and threaded through all converters.
+ * <p>A single instance is created in {@code SynapseConverter} and threaded through all converters. When
+ * artifacts are converted in parallel, each artifact gets its own instance instead and the outputs are
+ * written in artifact order once all of them are converted.
  * Scope-local state (the statements, payload and {@code respondInitialized} flag of the resource or
  * sequence currently being converted) does <b>not</b> live here; it lives on a {@link ScopeContext},
  * which holds a reference back to this context.
@@ -35,8 +37,8 @@ import java.util.List;
  * <p>State here falls into two categories:
  * <ul>
  *   <li><b>Per-artifact output</b> ({@link #services()}, {@link #functions()}, {@link #records()})
- *       is accumulated while an artifact is converted, flushed to the generated package, then
- *       discarded via {@link #clearArtifactOutput()} before the next artifact is read.</li>
+ *       is accumulated while an artifact is converted, then merged with the output of the other
+ *       artifacts into the generated package. {@link #clearArtifactOutput()} discards it.</li>
  *   <li><b>Cross-artifact metadata</b> (e.g. a registry of generated services / sequences for
  *       resolving references between artifacts) must survive {@link #clearArtifactOutput()}, so it
  *       belongs in fields that the clear does not touch. See the extension point below.</li>
@@ -50,6 +52,8 @@ public class ConversionContext {
 
     // Extension point: cross-artifact metadata (e.g. a sequence/service registry keyed by name) that
     // must outlive a single artifact goes here, and must NOT be touched by clearArtifactOutput().
+    // Artifacts converted in parallel do not share an instance, so such metadata also has to be merged
+    // by SynapseConverter before the artifacts that depend on it are converted.
 
     public void addService(Service service) {
         services.add(service);
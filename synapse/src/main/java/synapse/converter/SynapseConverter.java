@@ -18,6 +18,7 @@
 
 package synapse.converter;
 
+import common.ArchiveUtils;
 import common.BallerinaModel.Function;
 import common.BallerinaModel.Import;
 import common.BallerinaModel.Listener;
@@ -25,20 +26,35 @@ import common.BallerinaModel.Listener.HTTPListener;
 import common.BallerinaModel.ModuleTypeDef;
 import common.BallerinaModel.Service;
 import common.BallerinaModel.TextDocument;
+import common.metrics.MetricsRecord;
+import common.metrics.MetricsRecorder;
+import common.metrics.NdjsonMetricsWriter;
+import common.metrics.PhaseTimer;
 import synapse.converter.BIRConverter.APIConverter;
+import synapse.model.Synapse.Api;
+import synapse.model.Synapse.InSequence;
 import synapse.model.Synapse.Kind;
+import synapse.model.Synapse.Resource;
+import synapse.model.Synapse.Sequence;
 import synapse.model.Synapse.SynapseNode;
 import synapse.reader.SynapseConfigReader;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 /**
  * Entry point for converting WSO2 Synapse (ESB / Micro Integrator) artifacts to Ballerina.
@@ -71,13 +87,12 @@ public final class SynapseConverter {
     /**
      * Migrate a Synapse project directory or a single artifact file to a Ballerina package.
      *
-     * <p>Artifacts are processed one at a time: each artifact file is parsed, converted and flushed
-     * to the generated Ballerina package before the next one is read, so the whole project is never
-     * held in memory at once. The generated constructs are consolidated by kind across all artifacts:
-     * services (with the shared HTTP listener) go to {@code main.bal}, functions to
+     * <p>Each artifact file is parsed and converted into its own context. The generated constructs
+     * are then merged by kind across all artifacts, in artifact order, and each generated file is
+     * rendered once: services (with the shared HTTP listener) go to {@code main.bal}, functions to
      * {@code functions.bal} and record types to {@code types.bal}.
      *
-     * @param sourcePath    Synapse project directory or artifact file path
+     * @param sourcePath    Synapse project directory, artifact file path, or zip/jar archive of a project
      * @param outputPath    output directory for the generated Ballerina package (nullable -> default)
      * @param keepStructure preserve the original artifact structure instead of the standard BI layout
      * @param verbose       enable verbose logging during conversion
@@ -89,6 +104,46 @@ public final class SynapseConverter {
     public static void migrateSynapse(String sourcePath, String outputPath, boolean keepStructure, boolean verbose,
                                       boolean dryRun, boolean multiRoot, Optional<String> orgName,
                                       Optional<String> projectName) {
+        migrateSynapse(sourcePath, outputPath, keepStructure, verbose, dryRun, multiRoot, orgName, projectName,
+                Optional.empty());
+    }
+
+    /**
+     * Migrate a Synapse project directory or a single artifact file to a Ballerina package, streaming a
+     * newline-delimited JSON metrics record for each artifact and for the project as soon as it is done.
+     *
+     * @param metricsOut file to write the metrics records to
+     * @see #migrateSynapse(String, String, boolean, boolean, boolean, boolean, Optional, Optional)
+     */
+    public static void migrateSynapse(String sourcePath, String outputPath, boolean keepStructure, boolean verbose,
+                                      boolean dryRun, boolean multiRoot, Optional<String> orgName,
+                                      Optional<String> projectName, Optional<Path> metricsOut) {
+        migrateSynapse(sourcePath, outputPath, keepStructure, verbose, dryRun, multiRoot, orgName, projectName,
+                metricsOut, 1);
+    }
+
+    /**
+     * Migrate a Synapse project directory, a single artifact file or, in multi-root mode, a directory of projects,
+     * converting up to {@code jobs} artifacts at the same time.
+     *
+     * <p>With more than one job, the artifacts of a project are parsed and converted in parallel, each into its
+     * own {@link ConversionContext}. Whatever the number of jobs, the converted artifacts are merged in artifact
+     * order and each generated file is rendered once, as described in
+     * {@link #migrateSynapse(String, String, boolean, boolean, boolean, boolean, Optional, Optional)}, so the output
+     * does not depend on the number of jobs.
+     *
+     * <p>In multi-root mode every child directory or archive of {@code sourcePath} is migrated as a separate
+     * project into {@code <outputPath>/<child>_converted}. The package is named after the child, prefixed with
+     * {@code projectName} when it is given so that the packages of the children stay distinct. A project that fails
+     * to migrate does not stop the others.
+     *
+     * @param metricsOut file to write the metrics records to
+     * @param jobs       maximum number of artifacts converted at the same time
+     * @see #migrateSynapse(String, String, boolean, boolean, boolean, boolean, Optional, Optional)
+     */
+    public static void migrateSynapse(String sourcePath, String outputPath, boolean keepStructure, boolean verbose,
+                                      boolean dryRun, boolean multiRoot, Optional<String> orgName,
+                                      Optional<String> projectName, Optional<Path> metricsOut, int jobs) {
 
         if (keepStructure) {
             throw new UnsupportedOperationException("The 'keepStructure' option is not supported yet.");
@@ -96,42 +151,165 @@ public final class SynapseConverter {
         if (verbose) {
             throw new UnsupportedOperationException("The 'verbose' option is not supported yet.");
         }
-        if (multiRoot) {
-            throw new UnsupportedOperationException("The 'multiRoot' option is not supported yet.");
+        if (jobs < 1) {
+            throw new IllegalArgumentException("The number of jobs must be positive: " + jobs);
+        }
+
+        MetricsRecorder metrics = MetricsRecorder.NONE;
+        NdjsonMetricsWriter metricsWriter = null;
+        if (metricsOut.isPresent()) {
+            try {
+                metricsWriter = NdjsonMetricsWriter.open(metricsOut.get());
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to create metrics file: " + metricsOut.get(), e);
+            }
+            metrics = metricsWriter;
+        }
+        Optional<ExecutorService> executor = jobs > 1 ? Optional.of(Executors.newFixedThreadPool(jobs))
+                : Optional.empty();
+        try (metricsWriter) {
+            if (multiRoot) {
+                migrateMultiRoot(Paths.get(sourcePath), sourcePath, outputPath, dryRun, orgName, projectName, metrics,
+                        executor);
+            } else {
+                migrateSource(Paths.get(sourcePath), sourcePath, outputPath, dryRun, orgName, projectName, metrics,
+                        executor);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error while writing the metrics file: " + metricsOut.orElseThrow(), e);
+        } finally {
+            executor.ifPresent(ExecutorService::shutdownNow);
+        }
+    }
+
+    private static void migrateMultiRoot(Path sourceDir, String sourcePath, String outputPath, boolean dryRun,
+                                         Optional<String> orgName, Optional<String> projectName,
+                                         MetricsRecorder metrics, Optional<ExecutorService> executor) {
+        if (!Files.isDirectory(sourceDir)) {
+            throw new RuntimeException("Multi-root conversion requires a directory, but a file was provided: " +
+                    sourcePath);
+        }
+        List<Path> projects;
+        try (Stream<Path> children = Files.list(sourceDir)) {
+            projects = children.filter(child -> Files.isDirectory(child) || ArchiveUtils.isArchive(child))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new RuntimeException("Error while reading the directory: " + sourcePath, e);
+        }
+
+        String targetRoot = outputPath != null ? outputPath : sourcePath + "_converted";
+        List<String> failedProjects = new ArrayList<>();
+        for (Path project : projects) {
+            String childName = ArchiveUtils.isArchive(project) ? ArchiveUtils.archiveName(project)
+                    : project.getFileName().toString();
+            String packageName = projectName.map(name -> name + "_" + childName).orElse(childName);
+            try {
+                migrateSource(project, project.toString(), Paths.get(targetRoot, childName + "_converted").toString(),
+                        dryRun, orgName, Optional.of(packageName), metrics, executor);
+            } catch (RuntimeException e) {
+                // A broken project must not stop the migration of the others
+                failedProjects.add(childName + ": " + e.getMessage());
+            }
+        }
+        if (!failedProjects.isEmpty()) {
+            throw new RuntimeException("Failed to migrate " + failedProjects.size() + " of " + projects.size() +
+                    " projects:" + System.lineSeparator() + String.join(System.lineSeparator(), failedProjects));
+        }
+    }
+
+    private static void migrateSource(Path source, String sourcePath, String outputPath, boolean dryRun,
+                                      Optional<String> orgName, Optional<String> projectName,
+                                      MetricsRecorder metrics, Optional<ExecutorService> executor) {
+        if (!ArchiveUtils.isArchive(source)) {
+            migrateArtifacts(source, SynapseConfigReader.collectArtifactFiles(source), sourcePath, outputPath, dryRun,
+                    orgName, projectName, metrics, executor);
+            return;
+        }
+        // Artifacts are read straight out of the archive, without extracting it
+        try (FileSystem archive = ArchiveUtils.openArchive(source)) {
+            Path projectRoot = ArchiveUtils.projectRoot(archive);
+            migrateArtifacts(projectRoot, SynapseConfigReader.collectArtifactFiles(projectRoot), sourcePath,
+                    outputPath, dryRun, orgName, projectName, metrics, executor);
+        } catch (IOException e) {
+            throw new RuntimeException("Error while reading the Synapse archive: " + sourcePath, e);
         }
+    }
 
-        List<File> artifactFiles = SynapseConfigReader.collectArtifactFiles(sourcePath);
+    private static void migrateArtifacts(Path sourceRoot, List<Path> artifactFiles, String sourcePath,
+                                         String outputPath, boolean dryRun, Optional<String> orgName,
+                                         Optional<String> projectName, MetricsRecorder metrics,
+                                         Optional<ExecutorService> executor) {
         if (artifactFiles.isEmpty()) {
             throw new RuntimeException("No Synapse .xml artifacts found at: " + sourcePath);
         }
 
-        if (dryRun) {
-            for (File artifact : artifactFiles) {
-                convertArtifact(artifact, new ConversionContext());
+        String packageName = projectName.orElse(DEFAULT_PACKAGE);
+        ProjectMetrics projectMetrics = new ProjectMetrics(metrics, sourceRoot, packageName, dryRun);
+        List<ConvertedArtifact> convertedArtifacts = executor.isPresent()
+                ? convertArtifacts(artifactFiles, executor.get())
+                : artifactFiles.stream().map(SynapseConverter::convertArtifact).toList();
+        convertedArtifacts.forEach(converted -> projectMetrics.artifactDone(converted.artifact(),
+                converted.context(), converted.metrics()));
+        if (!dryRun) {
+            try {
+                // Every job count merges the artifacts the same way, so the output does not depend on the jobs
+                long start = System.nanoTime();
+                Path targetDir = createPackage(sourcePath, outputPath, orgName, packageName);
+                projectMetrics.lines = writePackage(targetDir, convertedArtifacts);
+                projectMetrics.phases.add("write", start);
+            } catch (IOException e) {
+                throw new RuntimeException("Error while writing the Ballerina package: ", e);
             }
-            return;
         }
+        projectMetrics.projectDone();
+    }
 
-        String targetPath = outputPath != null ? outputPath : stripExtension(sourcePath) + "_converted";
+    /**
+     * Parses and converts the artifacts in parallel, each into its own context, and returns them in the order of
+     * {@code artifactFiles}.
+     */
+    private static List<ConvertedArtifact> convertArtifacts(List<Path> artifactFiles, ExecutorService executor) {
+        List<Future<ConvertedArtifact>> futures = new ArrayList<>(artifactFiles.size());
+        for (Path artifact : artifactFiles) {
+            futures.add(executor.submit(() -> convertArtifact(artifact)));
+        }
+        List<ConvertedArtifact> convertedArtifacts = new ArrayList<>(futures.size());
         try {
-            Path targetDir = Paths.get(targetPath);
-            Files.createDirectories(targetDir);
-            Files.writeString(targetDir.resolve("Ballerina.toml"),
-                    ballerinaToml(orgName.orElse(DEFAULT_ORG), projectName.orElse(DEFAULT_PACKAGE)));
-
-            ConversionContext context = new ConversionContext();
-            for (File artifact : artifactFiles) {
-                convertArtifact(artifact, context);
-                writeArtifacts(targetDir, context);
-                context.clearArtifactOutput();
+            for (Future<ConvertedArtifact> future : futures) {
+                convertedArtifacts.add(future.get());
             }
-        } catch (IOException e) {
-            throw new RuntimeException("Error while writing the Ballerina package: ", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while converting the Synapse artifacts", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Error while converting the Synapse artifacts", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
         }
+        return convertedArtifacts;
+    }
+
+    private static Path createPackage(String sourcePath, String outputPath, Optional<String> orgName,
+                                      String packageName) throws IOException {
+        String targetPath = outputPath != null ? outputPath : stripExtension(sourcePath) + "_converted";
+        Path targetDir = Paths.get(targetPath);
+        Files.createDirectories(targetDir);
+        Files.writeString(targetDir.resolve("Ballerina.toml"), ballerinaToml(orgName.orElse(DEFAULT_ORG), packageName));
+        return targetDir;
     }
 
-    private static ConversionContext convertArtifact(File artifact, ConversionContext context) {
+    private static ConvertedArtifact convertArtifact(Path artifact) {
+        ArtifactMetrics artifactMetrics = new ArtifactMetrics();
+        ConversionContext context = new ConversionContext();
+        long start = System.nanoTime();
         List<SynapseNode> nodes = SynapseConfigReader.parse(artifact);
+        artifactMetrics.phases.add("parse", start);
+        artifactMetrics.nodes = nodes;
+        start = System.nanoTime();
         for (SynapseNode node : nodes) {
             BIRConverter<ConversionContext> converter = ROOT_CONVERTERS.get(node.kind());
             if (converter == null) {
@@ -139,38 +317,148 @@ public final class SynapseConverter {
             }
             converter.convert(node, context);
         }
-        return context;
+        artifactMetrics.phases.add("convert", start);
+        return new ConvertedArtifact(artifact, context, artifactMetrics);
     }
 
-    private static void writeArtifacts(Path targetDir, ConversionContext context) throws IOException {
-        appendToFile(targetDir.resolve(MAIN_BAL_FILE), List.of(new Import("ballerina", "http")),
-                List.of(new HTTPListener(LISTENER_NAME, DEFAULT_PORT, DEFAULT_HOST)),
-                context.services(), List.of(), List.of());
-        if (!context.functions().isEmpty()) {
-            appendToFile(targetDir.resolve(FUNCTIONS_BAL_FILE), List.of(), List.of(),
-                List.of(), context.functions(), List.of());
+    /**
+     * Merges the output of the artifacts, in artifact order, into one document per generated file and renders each
+     * file once.
+     *
+     * @return number of lines written
+     */
+    private static long writePackage(Path targetDir, List<ConvertedArtifact> convertedArtifacts) throws IOException {
+        List<Service> services = new ArrayList<>();
+        List<Function> functions = new ArrayList<>();
+        List<ModuleTypeDef> records = new ArrayList<>();
+        for (ConvertedArtifact converted : convertedArtifacts) {
+            services.addAll(converted.context().services());
+            functions.addAll(converted.context().functions());
+            records.addAll(converted.context().records());
+        }
+        long lines = writeFile(targetDir.resolve(MAIN_BAL_FILE), List.of(new Import("ballerina", "http")),
+                List.of(new HTTPListener(LISTENER_NAME, DEFAULT_PORT, DEFAULT_HOST)), services, List.of(), List.of());
+        if (!functions.isEmpty()) {
+            lines += writeFile(targetDir.resolve(FUNCTIONS_BAL_FILE), List.of(), List.of(), List.of(), functions,
+                    List.of());
         }
-        if (!context.records().isEmpty()) {
-            appendToFile(targetDir.resolve(TYPES_BAL_FILE), List.of(), List.of(),
-                List.of(), List.of(), context.records());
+        if (!records.isEmpty()) {
+            lines += writeFile(targetDir.resolve(TYPES_BAL_FILE), List.of(), List.of(), List.of(), List.of(),
+                    records);
         }
+        return lines;
     }
 
-    private static void appendToFile(Path file, List<Import> imports, List<Listener> listeners,
-                                     List<Service> services, List<Function> functions,
-                                     List<ModuleTypeDef> records) throws IOException {
-        boolean exists = Files.exists(file);
-        if (exists && services.isEmpty() && functions.isEmpty() && records.isEmpty()) {
-            return;
-        }
-        TextDocument document = new TextDocument(file.getFileName().toString(),
-                exists ? List.of() : imports, records, List.of(), exists ? List.of() : listeners,
-                services, functions, List.of(), List.of(), List.of());
+    /**
+     * Renders the constructs into a generated file.
+     *
+     * @return number of lines written
+     */
+    private static long writeFile(Path file, List<Import> imports, List<Listener> listeners, List<Service> services,
+                                  List<Function> functions, List<ModuleTypeDef> records) throws IOException {
+        TextDocument document = new TextDocument(file.getFileName().toString(), imports, records, List.of(),
+                listeners, services, functions, List.of(), List.of(), List.of());
         String source = document.toSource();
-        if (exists) {
-            Files.writeString(file, System.lineSeparator() + source, StandardOpenOption.APPEND);
-        } else {
-            Files.writeString(file, source);
+        Files.writeString(file, source);
+        return source.lines().count();
+    }
+
+    /**
+     * An artifact converted into its own context, waiting to be merged into the generated package.
+     */
+    private record ConvertedArtifact(Path artifact, ConversionContext context, ArtifactMetrics metrics) {
+
+    }
+
+    /**
+     * Metrics collected while converting a single artifact.
+     */
+    private static final class ArtifactMetrics {
+
+        private final PhaseTimer phases = new PhaseTimer();
+        private List<SynapseNode> nodes = List.of();
+    }
+
+    /**
+     * Records a {@code file} metrics record for each converted artifact and a {@code project} record with the totals
+     * once all artifacts are done.
+     */
+    private static final class ProjectMetrics {
+
+        private static final String TOOL = "synapse";
+
+        private final MetricsRecorder recorder;
+        private final Path sourceRoot;
+        private final String project;
+        private final boolean dryRun;
+        private final PhaseTimer phases = new PhaseTimer();
+        private final Map<String, Integer> nodeCounts = new TreeMap<>();
+        private final Map<String, Long> generated = new LinkedHashMap<>();
+        private int artifactCount;
+        private long lines;
+
+        ProjectMetrics(MetricsRecorder recorder, Path sourceRoot, String project, boolean dryRun) {
+            this.recorder = recorder;
+            this.sourceRoot = sourceRoot;
+            this.project = project;
+            this.dryRun = dryRun;
+        }
+
+        void artifactDone(Path artifact, ConversionContext context, ArtifactMetrics artifactMetrics) {
+            if (!recorder.isEnabled()) {
+                return;
+            }
+            Map<String, Integer> artifactNodeCounts = new TreeMap<>();
+            countNodes(artifactMetrics.nodes, artifactNodeCounts);
+            Map<String, Long> artifactGenerated = new LinkedHashMap<>();
+            artifactGenerated.put("services", (long) context.services().size());
+            artifactGenerated.put("functions", (long) context.functions().size());
+            artifactGenerated.put("records", (long) context.records().size());
+
+            artifactCount++;
+            artifactNodeCounts.forEach((kind, count) -> nodeCounts.merge(kind, count, Integer::sum));
+            artifactGenerated.forEach((key, count) -> generated.merge(key, count, Long::sum));
+            phases.add(artifactMetrics.phases);
+            recorder.record(MetricsRecord.of(MetricsRecord.SOURCE_FILE, TOOL)
+                    .put("project", project)
+                    .put("file", relativePath(artifact))
+                    .put("elements", artifactNodeCounts)
+                    .put("generated", artifactGenerated)
+                    .phases(artifactMetrics.phases));
+        }
+
+        void projectDone() {
+            if (!recorder.isEnabled()) {
+                return;
+            }
+            generated.put("lines", lines);
+            recorder.record(MetricsRecord.of(MetricsRecord.PROJECT, TOOL)
+                    .put("project", project)
+                    .put("dryRun", dryRun)
+                    .put("artifacts", artifactCount)
+                    .put("elements", nodeCounts)
+                    .put("generated", generated)
+                    .phases(phases));
+        }
+
+        private String relativePath(Path artifact) {
+            String relativePath = artifact.startsWith(sourceRoot) ? sourceRoot.relativize(artifact).toString() : "";
+            return relativePath.isEmpty() ? String.valueOf(artifact.getFileName()) : relativePath;
+        }
+
+        private static void countNodes(List<SynapseNode> nodes, Map<String, Integer> counts) {
+            for (SynapseNode node : nodes) {
+                counts.merge(node.kind().name(), 1, Integer::sum);
+                if (node instanceof Api api) {
+                    countNodes(api.resources(), counts);
+                } else if (node instanceof Resource resource && resource.inSequence() != null) {
+                    countNodes(List.of(resource.inSequence()), counts);
+                } else if (node instanceof InSequence inSequence) {
+                    countNodes(inSequence.mediators(), counts);
+                } else if (node instanceof Sequence sequence) {
+                    countNodes(sequence.mediators(), counts);
+                }
+            }
         }
     }
 
@@ -22,15 +22,16 @@ import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 import synapse.model.Synapse.SynapseNode;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -49,21 +50,33 @@ public class SynapseConfigReader {
      * @param path Synapse project directory or artifact file path
      * @return the artifact files to convert, in deterministic order
      */
-    public static List<File> collectArtifactFiles(String path) {
-        Path sourcePath = Paths.get(path);
+    public static List<Path> collectArtifactFiles(String path) {
+        return collectArtifactFiles(Paths.get(path));
+    }
+
+    /**
+     * Resolve the Synapse artifact files to convert from a source path on any file system, such as a
+     * directory inside a mounted archive.
+     *
+     * @param sourcePath Synapse project directory or artifact file path
+     * @return the artifact files to convert, in deterministic order
+     */
+    public static List<Path> collectArtifactFiles(Path sourcePath) {
         if (!Files.isDirectory(sourcePath)) {
-            String fileName = sourcePath.getFileName() == null ? "" :
-                    sourcePath.getFileName().toString().toLowerCase(Locale.ROOT);
-            if (Files.isRegularFile(sourcePath) && fileName.endsWith(".xml")) {
-                return List.of(sourcePath.toFile());
+            if (Files.isRegularFile(sourcePath) && isXmlFile(sourcePath)) {
+                return List.of(sourcePath);
             }
             return List.of();
         }
 
-        List<File> xmlFiles = new ArrayList<>();
-        collectXmlFiles(sourcePath.toFile(), xmlFiles);
-        xmlFiles.sort(Comparator.comparing(File::getAbsolutePath));
-        return xmlFiles;
+        try (Stream<Path> paths = Files.walk(sourcePath)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(SynapseConfigReader::isXmlFile)
+                    .sorted(Comparator.comparing(Path::toString))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading the Synapse project: " + sourcePath, e);
+        }
     }
 
     /**
@@ -72,34 +85,22 @@ public class SynapseConfigReader {
      * @param xmlFile the Synapse {@code .xml} artifact file
      * @return the {@link SynapseNode}s declared in the file
      */
-    public static List<SynapseNode> parse(File xmlFile) {
+    public static List<SynapseNode> parse(Path xmlFile) {
         try {
             Element rootElement = readXMLConfigurationFile(xmlFile);
             return SynapseModelGenerator.generateModel(rootElement);
         } catch (ParserConfigurationException | SAXException | IOException e) {
             throw new RuntimeException("Error while parsing the Synapse XML configuration file: "
-                    + xmlFile.getPath(), e);
+                    + xmlFile, e);
         }
     }
 
-    /**
-     * Recursively collect every {@code .xml} file under {@code folder} into {@code xmlFiles}.
-     */
-    static void collectXmlFiles(File folder, List<File> xmlFiles) {
-        File[] files = folder.listFiles();
-        if (files == null) {
-            return;
-        }
-        for (File file : files) {
-            if (file.isDirectory()) {
-                collectXmlFiles(file, xmlFiles);
-            } else if (file.getName().toLowerCase().endsWith(".xml")) {
-                xmlFiles.add(file);
-            }
-        }
+    private static boolean isXmlFile(Path path) {
+        Path fileName = path.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(".xml");
     }
 
-    public static Element readXMLConfigurationFile(File xmlFile) throws ParserConfigurationException,
+    public static Element readXMLConfigurationFile(Path xmlFile) throws ParserConfigurationException,
             SAXException, IOException {
 
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
@@ -111,7 +112,10 @@ public class SynapseConfigReader {
         factory.setExpandEntityReferences(false);
 
         DocumentBuilder builder = factory.newDocumentBuilder();
-        Document document = builder.parse(xmlFile);
+        Document document;
+        try (InputStream inputStream = Files.newInputStream(xmlFile)) {
+            document = builder.parse(inputStream, xmlFile.toUri().toString());
+        }
         document.getDocumentElement().normalize();
 
         return document.getDocumentElement();
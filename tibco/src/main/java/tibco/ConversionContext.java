@@ -19,7 +19,12 @@
 package tibco;
 
 import common.BallerinaModel;
+import common.CodeGenerator;
+import common.FormattingMode;
 import common.LoggingUtils;
+import common.MigrationLogger;
+import common.MinutiaeNormalizer;
+import common.metrics.MetricsRecorder;
 import tibco.analyzer.CombinedSummaryReport;
 import tibco.converter.ConversionUtils;
 import tibco.converter.ProjectConverter.ProjectResources;
@@ -44,26 +49,68 @@ public final class ConversionContext implements LoggingContext {
 
     private final String org;
     private final boolean dryRun;
+    private final boolean assess;
     private final boolean keepStructure;
+    private final FormattingMode formattingMode;
     private final Consumer<String> stateCallback;
-    private final Consumer<String> logCallback;
+    private final MigrationLogger logger;
+    private final MetricsRecorder metrics;
     private final Map<Resource.ResourceIdentifier, ProjectResource> projectResourceMap = new HashMap<>();
     private final Map<Process.ProcessIdentifier, ProjectProcess> projectProcessMap = new HashMap<>();
+    // Outlives the process models, so that released projects can still be called by the others
+    private final Map<Process.ProcessIdentifier, ProjectConversionContext> processOrigins = new HashMap<>();
     private final Map<Process, Collection<ProcessCodeGenData>> processCodeGenData;
+    private final List<Map.Entry<String, Collection<ProcessCodeGenData>>> releasedProcessCodeGenData =
+            new ArrayList<>();
 
     public ConversionContext(String org, boolean dryRun, boolean keepStructure,
                              Consumer<String> stateCallback, Consumer<String> logCallback) {
+        this(org, dryRun, keepStructure, FormattingMode.defaultMode(), stateCallback, logCallback);
+    }
+
+    public ConversionContext(String org, boolean dryRun, boolean keepStructure, FormattingMode formattingMode,
+                             Consumer<String> stateCallback, Consumer<String> logCallback) {
+        this(org, dryRun, keepStructure, formattingMode, stateCallback, MigrationLogger.forCallback(logCallback));
+    }
+
+    public ConversionContext(String org, boolean dryRun, boolean keepStructure, FormattingMode formattingMode,
+                             Consumer<String> stateCallback, MigrationLogger logger) {
+        this(org, dryRun, keepStructure, formattingMode, stateCallback, logger, MetricsRecorder.NONE);
+    }
+
+    public ConversionContext(String org, boolean dryRun, boolean keepStructure, FormattingMode formattingMode,
+                             Consumer<String> stateCallback, MigrationLogger logger, MetricsRecorder metrics) {
+        this(org, dryRun, false, keepStructure, formattingMode, stateCallback, logger, metrics);
+    }
+
+    /**
+     * Creates a conversion context.
+     *
+     * @param assess whether to only assess the projects. Projects are parsed to count their activities but no code is
+     *               generated, and the generated line count in the reports is estimated.
+     */
+    public ConversionContext(String org, boolean dryRun, boolean assess, boolean keepStructure,
+                             FormattingMode formattingMode, Consumer<String> stateCallback, MigrationLogger logger,
+                             MetricsRecorder metrics) {
         this.org = org;
-        this.dryRun = dryRun;
+        this.dryRun = dryRun || assess;
+        this.assess = assess;
         this.keepStructure = keepStructure;
+        this.formattingMode = formattingMode;
         this.stateCallback = stateCallback;
-        this.logCallback = logCallback;
+        this.logger = logger;
+        this.metrics = metrics;
         processCodeGenData = new IdentityHashMap<>();
     }
 
     @Override
     public void log(LoggingUtils.Level level, String message) {
-        logCallback.accept("[" + level + "] " + message);
+        logger.log(level, message);
+    }
+
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return logger.isEnabled(level);
     }
 
     public String org() {
@@ -74,10 +121,22 @@ public final class ConversionContext implements LoggingContext {
         return dryRun;
     }
 
+    public boolean assess() {
+        return assess;
+    }
+
     public boolean keepStructure() {
         return keepStructure;
     }
 
+    public FormattingMode formattingMode() {
+        return formattingMode;
+    }
+
+    public MetricsRecorder metrics() {
+        return metrics;
+    }
+
     @Override
     public void logState(String message) {
         stateCallback.accept(message);
@@ -116,13 +175,33 @@ public final class ConversionContext implements LoggingContext {
             ProjectProcess projectProcess = new ProjectProcess(process, originProject);
             Process.ProcessIdentifier identifier = new Process.ProcessIdentifier(process.path());
             projectProcessMap.put(identifier, projectProcess);
+            processOrigins.put(identifier, originProject);
         });
     }
 
+    /**
+     * Releases the models of a project once its code has been written, so that only the projects still to be
+     * generated stay in memory. The processes and resources of the project can no longer be looked up, but the other
+     * projects can still call its processes through {@link #processFunction(String)}.
+     *
+     * @param project project whose code has been written
+     */
+    public void releaseProject(ProjectConversionContext project) {
+        projectResourceMap.values().removeIf(projectResource -> projectResource.originProject() == project);
+        projectProcessMap.values().removeIf(projectProcess -> projectProcess.originProject() == project);
+        for (Process process : project.releaseModels()) {
+            Collection<ProcessCodeGenData> codeGenData = processCodeGenData.remove(process);
+            if (codeGenData != null) {
+                releasedProcessCodeGenData.add(Map.entry(process.name(), codeGenData));
+            }
+        }
+    }
+
     public void registerProcessTextDocument(String projectName, Process process,
                                             BallerinaModel.TextDocument textdocument) {
         processCodeGenData.computeIfAbsent(process, k -> new ArrayList<>())
-                .add(new ProcessCodeGenData(projectName, ConversionUtils.lineCount(textdocument.toSource())));
+                .add(new ProcessCodeGenData(projectName, ConversionUtils.lineCount(MinutiaeNormalizer.canonicalize(
+                        new CodeGenerator(textdocument).generateUnformattedSyntaxTree()))));
     }
 
     record ProcessCodeGenData(String projectName, ConversionUtils.LineCount lineCount) {
@@ -132,20 +211,20 @@ public final class ConversionContext implements LoggingContext {
 
     public Collection<CombinedSummaryReport.DuplicateProcessData> getDuplicateProcessData() {
         List<CombinedSummaryReport.DuplicateProcessData> duplicates = new ArrayList<>();
+        for (Map.Entry<String, Collection<ProcessCodeGenData>> entry : releasedProcessCodeGenData) {
+            getDuplicateProcessDataInner(entry.getKey(), entry.getValue()).ifPresent(duplicates::add);
+        }
         for (Map.Entry<Process, Collection<ProcessCodeGenData>> entry : processCodeGenData.entrySet()) {
-            getDuplicateProcessDataInner(entry).ifPresent(duplicates::add);
+            getDuplicateProcessDataInner(entry.getKey().name(), entry.getValue()).ifPresent(duplicates::add);
         }
         return Collections.unmodifiableCollection(duplicates);
     }
 
     private static Optional<CombinedSummaryReport.DuplicateProcessData> getDuplicateProcessDataInner(
-            Map.Entry<Process, Collection<ProcessCodeGenData>> entry) {
-        Process process = entry.getKey();
-        Collection<ProcessCodeGenData> codeGenData = entry.getValue();
+            String processName, Collection<ProcessCodeGenData> codeGenData) {
         if (codeGenData == null || codeGenData.isEmpty()) {
             return Optional.empty();
         }
-        String processName = process.name();
         Map<String, ConversionUtils.LineCount> projectLineCounts = new HashMap<>();
         for (ProcessCodeGenData data : codeGenData) {
             projectLineCounts.merge(data.projectName(), data.lineCount(), ConversionUtils.LineCount::sum);
@@ -155,11 +234,11 @@ public final class ConversionContext implements LoggingContext {
     }
 
     public Optional<LookupResult> processFunction(String processName) {
-        ProjectProcess process = projectProcessMap.get(new Process.ProcessIdentifier(processName));
-        if (process == null) {
+        ProjectConversionContext originProject = processOrigins.get(new Process.ProcessIdentifier(processName));
+        if (originProject == null) {
             return Optional.empty();
         }
-        return Optional.of(new LookupResult(Optional.of(process.originProject.getImport()),
+        return Optional.of(new LookupResult(Optional.of(originProject.getImport()),
                 ConversionUtils.processFunctionName(processName)));
     }
 
@@ -169,7 +248,8 @@ public final class ConversionContext implements LoggingContext {
         return "ConversionContext[" +
                 "org=" + org + ", " +
                 "dryRun=" + dryRun + ", " +
-                "keepStructure=" + keepStructure + "]";
+                "keepStructure=" + keepStructure + ", " +
+                "formattingMode=" + formattingMode + "]";
     }
 
 }
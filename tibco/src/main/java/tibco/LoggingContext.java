@@ -19,9 +19,33 @@ package tibco;
 
 import common.LoggingUtils;
 
+import java.util.function.Supplier;
+
 public interface LoggingContext {
 
     void log(LoggingUtils.Level level, String message);
 
+    /**
+     * Returns whether messages of the given level reach the underlying logger.
+     *
+     * @param level log level
+     * @return {@code true} if messages of the level are logged
+     */
+    default boolean isLogEnabled(LoggingUtils.Level level) {
+        return true;
+    }
+
+    /**
+     * Logs a message that is only built when the level is enabled. Use this for messages that are costly to format.
+     *
+     * @param level   log level
+     * @param message supplier of the message
+     */
+    default void log(LoggingUtils.Level level, Supplier<String> message) {
+        if (isLogEnabled(level)) {
+            log(level, message.get());
+        }
+    }
+
     void logState(String message);
 }
@@ -19,7 +19,10 @@
 package tibco;
 
 import common.BallerinaModel;
+import common.FormattingMode;
 import common.LoggingUtils;
+import common.metrics.MetricsRecorder;
+import common.metrics.PhaseTimer;
 import tibco.converter.ConversionUtils;
 import tibco.model.Process;
 import tibco.model.Resource;
@@ -40,6 +43,7 @@ public final class ProjectConversionContext implements LoggingContext {
     private final Set<Process> sharedProcesses = new HashSet<>();
     private final Set<Resource> resources = new HashSet<>();
     private final Set<Process> processes = new HashSet<>();
+    private final PhaseTimer phaseTimer = new PhaseTimer();
 
     public ProjectConversionContext(ConversionContext cx, String name) {
         this.cx = cx;
@@ -50,6 +54,10 @@ public final class ProjectConversionContext implements LoggingContext {
         cx.log(level, message);
     }
 
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return cx.isLogEnabled(level);
+    }
+
     public void logState(String message) {
         cx.logState(message);
     }
@@ -66,6 +74,10 @@ public final class ProjectConversionContext implements LoggingContext {
         return cx.dryRun();
     }
 
+    public boolean assess() {
+        return cx.assess();
+    }
+
     public List<TibcoToBalConverter.JavaDependencies> javaDependencies() {
         return Collections.unmodifiableList(javaDependencies);
     }
@@ -74,6 +86,18 @@ public final class ProjectConversionContext implements LoggingContext {
         return cx.keepStructure();
     }
 
+    public FormattingMode formattingMode() {
+        return cx.formattingMode();
+    }
+
+    public MetricsRecorder metrics() {
+        return cx.metrics();
+    }
+
+    public PhaseTimer phaseTimer() {
+        return phaseTimer;
+    }
+
     public void addJavaDependency(TibcoToBalConverter.JavaDependencies dependencies) {
         javaDependencies.add(dependencies);
     }
@@ -94,6 +118,20 @@ public final class ProjectConversionContext implements LoggingContext {
         sharedProcesses.add(process);
     }
 
+    /**
+     * Drops the references to the parsed processes and resources of the project.
+     *
+     * @return processes of the project
+     */
+    List<Process> releaseModels() {
+        List<Process> released = List.copyOf(processes);
+        processes.clear();
+        resources.clear();
+        sharedProcesses.clear();
+        sharedResources.clear();
+        return released;
+    }
+
     public boolean isResourceShared(Resource resource) {
         return sharedResources.contains(resource);
     }
@@ -41,6 +41,7 @@ import tibco.parser.TypeContext;
 import tibco.parser.XmlToTibcoModelParser;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -98,8 +99,8 @@ public class TibcoToBalConverter {
 
     private static final ParsingUnit<Process> PROCESS_PARSING_UNIT = pcx -> {
         Set<Process> elements = new HashSet<>();
-        for (String s : getBwpFiles(pcx.projectPath())) {
-            Element element = parseXmlFile(s);
+        for (String s : getBwpFiles(pcx)) {
+            Element element = parseXmlFile(pcx.resolvePath(s));
             Optional<Process> parsedElement = XmlToTibcoModelParser.parseProcess(new ProcessContext(pcx, s),
                     element);
             if (parsedElement.isPresent()) {
@@ -120,7 +121,7 @@ public class TibcoToBalConverter {
                     TibcoToBalConverter::getResourceContext);
     private static final ParsingUnit<Resource.JDBCSharedResource> SHARED_JDBC_RESOURCE_PARSING_UNIT =
             new ParsingUnit.SimpleParsingUnit<>(
-                    (String projectPath) -> getFilesWithExtension(projectPath, "sharedjdbc"),
+                    (ProjectContext pcx) -> getFilesWithExtension(pcx, "sharedjdbc"),
                     XmlToTibcoModelParser::parseSharedJDBCResource,
                     TibcoToBalConverter::getResourceContext);
     private static final ParsingUnit<Resource.HTTPConnectionResource> HTTP_CONN_RESOURCE_PARSING_UNIT =
@@ -139,11 +140,10 @@ public class TibcoToBalConverter {
                 throws IOException, ParserConfigurationException, SAXException {
             Set<Resource.SharedVariable> variables = new HashSet<>();
 
-            for (String s : getFilesWithExtension(pcx.projectPath(), "sharedvariable")) {
-                String relativePath = "/" + Paths.get(pcx.projectPath()).relativize(Paths.get(s)).toString();
+            for (String s : getFilesWithExtension(pcx, "sharedvariable")) {
                 Optional<Resource.SharedVariable> var = XmlToTibcoModelParser.parseSharedVariable(
                         new ResourceContext(pcx, s),
-                        parseXmlFile(s));
+                        parseXmlFile(pcx.resolvePath(s)));
                 if (var.isPresent()) {
                     variables.add(var.get());
                 } else {
@@ -151,10 +151,10 @@ public class TibcoToBalConverter {
                 }
             }
 
-            for (String s : getFilesWithExtension(pcx.projectPath(), "jobsharedvariable")) {
+            for (String s : getFilesWithExtension(pcx, "jobsharedvariable")) {
                 Optional<Resource.SharedVariable> var = XmlToTibcoModelParser.parseJobSharedVariable(
                         new ResourceContext(pcx, s),
-                        parseXmlFile(s));
+                        parseXmlFile(pcx.resolvePath(s)));
                 if (var.isPresent()) {
                     variables.add(var.get());
                 } else {
@@ -177,9 +177,9 @@ public class TibcoToBalConverter {
         public Set<Resource.HTTPSharedResource> parse(ProjectContext pcx) throws
                 IOException, ParserConfigurationException, SAXException {
             Set<Resource.HTTPSharedResource> result = new LinkedHashSet<>();
-            for (String file : getHTTPSharedResourceFiles(pcx.projectPath())) {
-                Element element = parseXmlFile(file);
-                Path filePath = Path.of(file);
+            for (String file : getHTTPSharedResourceFiles(pcx)) {
+                Path filePath = pcx.resolvePath(file);
+                Element element = parseXmlFile(filePath);
                 String fileName = filePath.getFileName().toString();
                 Optional<Resource.HTTPSharedResource> resource = XmlToTibcoModelParser.parseHTTPSharedResource(
                         new ResourceContext(pcx, file),
@@ -201,9 +201,9 @@ public class TibcoToBalConverter {
         public Set<Resource.JMSSharedResource> parse(ProjectContext pcx) throws
                 IOException, ParserConfigurationException, SAXException {
             Set<Resource.JMSSharedResource> result = new LinkedHashSet<>();
-            for (String file : getFilesWithExtension(pcx.projectPath(), "sharedjmscon")) {
-                Element element = parseXmlFile(file);
-                Path filePath = Path.of(file);
+            for (String file : getFilesWithExtension(pcx, "sharedjmscon")) {
+                Path filePath = pcx.resolvePath(file);
+                Element element = parseXmlFile(filePath);
                 String fileName = filePath.getFileName().toString();
                 Optional<Resource.JMSSharedResource> resource = XmlToTibcoModelParser.parseJMSSharedResource(
                         new ResourceContext(pcx, file),
@@ -233,8 +233,8 @@ public class TibcoToBalConverter {
             public Set<E> parse(ProjectContext pcx)
                     throws IOException, ParserConfigurationException, SAXException {
                 Set<E> elements = new HashSet<>();
-                for (String s : fileFinder.findFiles(pcx.projectPath())) {
-                    Element element = parseXmlFile(s);
+                for (String s : fileFinder.findFiles(pcx)) {
+                    Element element = parseXmlFile(pcx.resolvePath(s));
                     Optional<E> parsedElement = parsingFn.apply(contextSupplier.apply(pcx, s), element);
                     if (parsedElement.isPresent()) {
                         elements.add(parsedElement.get());
@@ -250,55 +250,61 @@ public class TibcoToBalConverter {
     @FunctionalInterface
     private interface FileFinder {
 
-        Collection<String> findFiles(String projectPath) throws IOException;
+        Collection<String> findFiles(ProjectContext pcx) throws IOException;
     }
 
-    private static List<String> getJDBCResourceFiles(String projectPath) throws IOException {
-        return getFilesWithExtension(projectPath, "jdbcResource");
+    private static List<String> getJDBCResourceFiles(ProjectContext pcx) throws IOException {
+        return getFilesWithExtension(pcx, "jdbcResource");
     }
 
-    private static List<String> getHTTPClientResourceFiles(String projectPath) throws IOException {
-        return getFilesWithExtension(projectPath, "httpClientResource");
+    private static List<String> getHTTPClientResourceFiles(ProjectContext pcx) throws IOException {
+        return getFilesWithExtension(pcx, "httpClientResource");
     }
 
-    private static List<String> getHTTPSharedResourceFiles(String projectPath) throws IOException {
-        return getFilesWithExtension(projectPath, "sharedhttp");
+    private static List<String> getHTTPSharedResourceFiles(ProjectContext pcx) throws IOException {
+        return getFilesWithExtension(pcx, "sharedhttp");
     }
 
-    private static List<String> getHTTPConnectionResourceFiles(String projectPath) throws IOException {
-        return getFilesWithExtension(projectPath, "httpConnResource");
+    private static List<String> getHTTPConnectionResourceFiles(ProjectContext pcx) throws IOException {
+        return getFilesWithExtension(pcx, "httpConnResource");
     }
 
-    private static List<String> getXSDFiles(String projectPath) throws IOException {
-        return getFilesWithExtension(projectPath, "xsd");
+    private static List<String> getXSDFiles(ProjectContext pcx) throws IOException {
+        return getFilesWithExtension(pcx, "xsd");
     }
 
-    private static List<String> getBwpFiles(String projectPath) throws IOException {
-        List<String> bwpFiles = getFilesWithExtension(projectPath, "bwp");
-        List<String> processFiles = getFilesWithExtension(projectPath, "process");
+    private static List<String> getBwpFiles(ProjectContext pcx) throws IOException {
+        List<String> bwpFiles = getFilesWithExtension(pcx, "bwp");
+        List<String> processFiles = getFilesWithExtension(pcx, "process");
         return Stream.concat(bwpFiles.stream(), processFiles.stream())
                 .toList();
     }
 
-    private static List<String> getFilesWithExtension(String projectPath, String extension) throws IOException {
-        String extensionWithDot = "." + extension;
-        try (var pathStream = Files.walk(Paths.get(projectPath))) {
-            return pathStream
-                    .filter(Files::isRegularFile)
-                    .map(Path::toString)
-                    .sorted()
-                    .filter(string -> string.endsWith(extensionWithDot))
-                    .toList();
-        }
+    private static List<String> getFilesWithExtension(ProjectContext pcx, String extension) throws IOException {
+        return pcx.fileIndex().filesWithExtension(extension);
     }
 
     public static Element parseXmlFile(String xmlFilePath)
             throws IOException, SAXException, ParserConfigurationException {
+        return parseXmlFile(Path.of(xmlFilePath));
+    }
+
+    /**
+     * Parses an XML file on any file system, such as a mounted archive.
+     *
+     * @param xmlFilePath path of the XML file
+     * @return document element of the file
+     */
+    public static Element parseXmlFile(Path xmlFilePath)
+            throws IOException, SAXException, ParserConfigurationException {
 
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         factory.setNamespaceAware(true);
         DocumentBuilder builder = factory.newDocumentBuilder();
-        Document document = builder.parse(xmlFilePath);
+        Document document;
+        try (InputStream inputStream = Files.newInputStream(xmlFilePath)) {
+            document = builder.parse(inputStream, xmlFilePath.toUri().toString());
+        }
 
         document.getDocumentElement().normalize();
 
@@ -22,6 +22,7 @@ import common.ProjectSummary;
 import common.ReportUtils;
 import common.TimeEstimation;
 import common.UnhandledElement;
+import common.report.PagedReport;
 import tibco.converter.ConversionUtils;
 
 import java.util.ArrayList;
@@ -40,6 +41,8 @@ public class CombinedSummaryReport {
 
     }
 
+    private static final String PROJECTS_SECTION = "projects";
+
     private final String reportTitle;
     private final List<ProjectSummary> projectSummaries;
     private final Collection<DuplicateProcessData> duplicateProcessData;
@@ -607,21 +610,38 @@ public class CombinedSummaryReport {
      * @return A string containing the HTML report
      */
     public String toHTML() {
-        StringBuilder html = new StringBuilder();
+        return toPagedReport().toHTML();
+    }
 
-        html.append(generateHtmlHeader());
+    /**
+     * Generates the report as an HTML shell with the project cards kept in a separate data file and shown a page at
+     * a time.
+     *
+     * @return The paged report
+     */
+    public PagedReport toPagedReport() {
+        return new PagedReport(scripts -> {
+            StringBuilder html = new StringBuilder();
 
-        if (projectSummaries.isEmpty()) {
-            html.append(generateEmptyProjectsMessage());
-        } else {
-            html.append(generateOverallStatistics());
-            html.append(generateProjectSummaries());
-            html.append(generateOverallTimeEstimation());
-        }
+            html.append(generateHtmlHeader());
 
-        html.append(generateHtmlFooter());
+            if (projectSummaries.isEmpty()) {
+                html.append(generateEmptyProjectsMessage());
+            } else {
+                html.append(generateOverallStatistics());
+                html.append(generateProjectSummaries());
+                html.append(generateOverallTimeEstimation());
+            }
+
+            html.append(generateHtmlFooter(scripts));
 
-        return html.toString();
+            return html.toString();
+        }, writer -> {
+            writer.beginSection(PROJECTS_SECTION);
+            for (ProjectSummary project : projectSummaries) {
+                writer.addHtml(generateProjectCard(project));
+            }
+        });
     }
 
     private String generateHtmlHeader() {
@@ -638,9 +658,10 @@ public class CombinedSummaryReport {
                 """.formatted(reportTitle, CSS_STYLES, reportTitle);
     }
 
-    private String generateHtmlFooter() {
+    private String generateHtmlFooter(String scripts) {
         return """
                     </div>
+                """ + scripts + """
                     <footer>
                         <p>Report generated on: <span id="datetime"></span></p>
                     </footer>
@@ -810,17 +831,11 @@ public class CombinedSummaryReport {
     }
 
     private String generateProjectSummaries() {
-        StringBuilder projectCards = new StringBuilder();
-
-        for (ProjectSummary project : projectSummaries) {
-            projectCards.append(generateProjectCard(project));
-        }
-
         return """
                 <div class="projects-container">
                 %s
                 </div>
-                """.formatted(projectCards.toString());
+                """.formatted(PagedReport.section(PROJECTS_SECTION));
     }
 
     private String generateProjectCard(ProjectSummary project) {
@@ -41,8 +41,8 @@ public class LoggingAnalysisPass extends AnalysisPass {
     @Override
     public @NotNull AnalysisResult getResult(ProcessAnalysisContext cx, Process process) {
         cx.log(LoggingUtils.Level.INFO,
-                String.format("Process Statistics - Name: %s, Total Activities: %d, Unhandled Activities: %d",
-                process.name(), totalActivityCount, unhandledActivityCount));
+                () -> String.format("Process Statistics - Name: %s, Total Activities: %d, Unhandled Activities: %d",
+                        process.name(), totalActivityCount, unhandledActivityCount));
         return AnalysisResult.empty();
     }
 
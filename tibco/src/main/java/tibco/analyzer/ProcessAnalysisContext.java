@@ -339,6 +339,11 @@ public class ProcessAnalysisContext implements LoggingContext {
         projectAnalysisContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return projectAnalysisContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         projectAnalysisContext.logState(message);
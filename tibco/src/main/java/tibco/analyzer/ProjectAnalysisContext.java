@@ -154,6 +154,11 @@ public class ProjectAnalysisContext implements LoggingContext {
         cx.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return cx.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         cx.logState(message);
@@ -21,6 +21,7 @@ package tibco.analyzer;
 import common.ProjectSummary;
 import common.TimeEstimation;
 import common.UnhandledElement;
+import common.report.PagedReport;
 import common.report.ProjectReport;
 import org.w3c.dom.Element;
 import tibco.analyzer.TibcoAnalysisReport.UnhandledActivityElement.NamedUnhandledActivityElement;
@@ -34,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 
 public final class TibcoAnalysisReport {
 
@@ -280,6 +282,19 @@ public final class TibcoAnalysisReport {
      * @return A string containing the HTML report
      */
     public String toHTML() {
+        return toProjectReport().toHTML();
+    }
+
+    /**
+     * Generates the report as an HTML shell plus a data file holding the code of the unhandled activities.
+     *
+     * @return The paged report
+     */
+    public PagedReport toPagedReport() {
+        return toProjectReport().toPagedReport();
+    }
+
+    private ProjectReport toProjectReport() {
         // Create a map of unhandled elements grouped by their kind
         Map<String, Collection<UnhandledElement>> unhandledElementsMap = createUnhandledElementsMap();
 
@@ -289,8 +304,7 @@ public final class TibcoAnalysisReport {
         Map<String, Collection<UnhandledElement>> partiallySupportedElementsMap =
                 createPartiallySupportedElementsMap();
 
-        // Create and use a generic ProjectReport
-        ProjectReport report = new ProjectReport(
+        return new ProjectReport(
                 REPORT_TITLE,
                 totalActivityCount,
                 unhandledActivityCount,
@@ -301,8 +315,6 @@ public final class TibcoAnalysisReport {
                 manualConversionEstimation,
                 lineCount
         );
-
-        return report.toHTML();
     }
 
     /**
@@ -353,6 +365,21 @@ public final class TibcoAnalysisReport {
         return unhandledActivityElements;
     }
 
+    /**
+     * Counts the unhandled activities by type. Activities without a type are counted under {@code unnamed}.
+     *
+     * @return number of unhandled activities keyed by type, sorted by type
+     */
+    public Map<String, Integer> unhandledActivityCountsByType() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (UnhandledActivityElement element : unhandledActivityElements) {
+            String type = element instanceof NamedUnhandledActivityElement namedElement ? namedElement.type()
+                    : "unnamed";
+            counts.merge(type, 1, Integer::sum);
+        }
+        return counts;
+    }
+
     public int partiallySupportedActivityCount() {
         return partiallySupportedActivityCount;
     }
@@ -44,6 +44,11 @@ public class ActivityContext implements LoggingContext {
         processContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return processContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         processContext.logState(message);
@@ -101,6 +106,10 @@ public class ActivityContext implements LoggingContext {
         return processContext.getHttpClient(path);
     }
 
+    BallerinaModel.Expression getXsltStyleSheet(String styleSheet) {
+        return processContext.getXsltStyleSheet(styleSheet);
+    }
+
     public String getJsonToXMLFunction() {
         return processContext.getJsonToXMLFunction();
     }
@@ -282,13 +282,8 @@ final class ActivityConverter {
 
         VarDeclStatment result = new VarDeclStatment(XML, cx.getAnnonVarName());
         body.add(result);
-        ActivityConversionResult streamingResult;
-        if (jdbcQuery.maxRow().isPresent()) {
-            streamingResult =
-                    finishSelectQuery(cx, jdbcSetup.client(), jdbcSetup.query(), body, jdbcQuery.maxRow().get());
-        } else {
-            streamingResult = finishSelectQuery(cx, jdbcSetup.client(), jdbcSetup.query(), body);
-        }
+        ActivityConversionResult streamingResult =
+                finishSelectQuery(cx, jdbcSetup.client(), jdbcSetup.query(), body, jdbcQuery.maxRow());
         body.add(new Statement.VarAssignStatement(result.ref(), streamingResult.result()));
         return new ActivityConversionResult(result.ref(), body);
     }
@@ -1116,7 +1111,7 @@ final class ActivityConverter {
             cx.addLibraryImport(Library.XSLT);
             VarDeclStatment transformResult = new VarDeclStatment(XML, cx.getAnnonVarName(), new Check(
                     new FunctionCall(XSLTConstants.XSLT_TRANSFORM_FUNCTION,
-                            List.of(input, new XMLTemplate(xsltContent),
+                            List.of(input, cx.getXsltStyleSheet(xsltContent),
                                     cx.contextVarRef()))));
             body.add(transformResult);
             return new ActivityConversionResult(transformResult.ref(), body);
@@ -1526,48 +1521,18 @@ final class ActivityConverter {
     }
 
     private static @NotNull ActivityConverter.ActivityConversionResult finishSelectQuery(
-            ActivityContext cx, VariableReference dbClient, VariableReference query, List<Statement> body,
-            int maxRowCount) {
-        StreamTypeDesc streamTypeDesc = new StreamTypeDesc(
-                // map<anydata> don't work due to some reason
-                typeFrom("record{|anydata...;|}"),
-                UnionTypeDesc.of(ERROR, NIL));
-        VarDeclStatment stream = new VarDeclStatment(
-                streamTypeDesc, cx.getAnnonVarName(),
-                new RemoteMethodCallAction(dbClient, BallerinaSQLConstants.QUERY_METHOD,
-                        List.of(query)));
-        body.add(stream);
-
-        VarDeclStatment accum = new VarDeclStatment(XML, cx.getAnnonVarName(), new XMLTemplate(""));
-        body.add(accum);
-
-        VarDeclStatment count =
-                new VarDeclStatment(INT, cx.getAnnonVarName(), new BallerinaModel.Expression.IntConstant(0));
-        body.add(count);
-
-        String toXmlFn = cx.getToXmlFunction();
-        String xmlVar = cx.getAnnonVarName();
-
-        body.add(stmtFrom("""
-                while %6$s < %7$s {
-                    var each = %1$s.next();
-                    if each is error? {
-                        break;
-                    }
-                    %6$s += 1;
-                    xml %2$s = check %3$s(each);
-                    %4$s = %5$s + xml `<Record>${%2$s}</Record>`;
-                }
-                """.formatted(stream.ref(), xmlVar, toXmlFn, accum.ref(), accum.ref(), count.ref(), maxRowCount)));
-
-        VarDeclStatment result = new VarDeclStatment(XML, cx.getAnnonVarName(),
-                new XMLTemplate("<root>${%s}</root>".formatted(accum.ref())));
-        body.add(result);
-        return new ActivityConversionResult(result.ref(), body);
+            ActivityContext cx, VariableReference dbClient, VariableReference query, List<Statement> body) {
+        return finishSelectQuery(cx, dbClient, query, body, Optional.empty());
     }
 
+    /**
+     * Reads the rows of a query into a {@code <root>} element with a {@code <Record>} child per row. The rows are
+     * collected into a list and concatenated once at the end, since appending each row to the result would copy it
+     * for every row. The stream is closed whether the rows are exhausted, the row limit is hit or a row fails.
+     */
     private static @NotNull ActivityConverter.ActivityConversionResult finishSelectQuery(
-            ActivityContext cx, VariableReference dbClient, VariableReference query, List<Statement> body) {
+            ActivityContext cx, VariableReference dbClient, VariableReference query, List<Statement> body,
+            Optional<Integer> maxRowCount) {
         StreamTypeDesc streamTypeDesc = new StreamTypeDesc(
                 // map<anydata> don't work due to some reason
                 typeFrom("record{|anydata...;|}"),
@@ -1578,20 +1543,24 @@ final class ActivityConverter {
                         List.of(query)));
         body.add(stream);
 
-        VarDeclStatment accum = new VarDeclStatment(XML, cx.getAnnonVarName(), new XMLTemplate(""));
-        body.add(accum);
+        VarDeclStatment records = new VarDeclStatment(typeFrom("xml[]"), cx.getAnnonVarName(), exprFrom("[]"));
+        body.add(records);
         String toXmlFn = cx.getToXmlFunction();
         String xmlVar = cx.getAnnonVarName();
+        String iterationResult = cx.getAnnonVarName();
+        String limitClause = maxRowCount.map(" limit %d"::formatted).orElse("");
 
         body.add(stmtFrom("""
-                check from var each in %1$s do {
-                    xml %2$s = check %3$s(each);
-                    %4$s = %5$s + xml `<Record>${%2$s}</Record>`;
+                error? %1$s = from var each in %2$s%3$s do {
+                    xml %4$s = check %5$s(each);
+                    %6$s.push(xml `<Record>${%4$s}</Record>`);
                 };
-                """.formatted(stream.ref(), xmlVar, toXmlFn, accum.ref(), accum.ref())));
+                """.formatted(iterationResult, stream.ref(), limitClause, xmlVar, toXmlFn, records.ref())));
+        body.add(stmtFrom("check %s.close();".formatted(stream.ref())));
+        body.add(stmtFrom("check %s;".formatted(iterationResult)));
 
         VarDeclStatment result = new VarDeclStatment(XML, cx.getAnnonVarName(),
-                new XMLTemplate("<root>${%s}</root>".formatted(accum.ref())));
+                new XMLTemplate("<root>${xml:concat(...%s)}</root>".formatted(records.ref())));
         body.add(result);
         return new ActivityConversionResult(result.ref(), body);
     }
@@ -1835,7 +1804,7 @@ final class ActivityConverter {
         List<String> nonStandardFunctions = detectNonStandardFunctions(styleSheet);
 
         BallerinaModel.Expression expression = new Check(new FunctionCall(XSLTConstants.XSLT_TRANSFORM_FUNCTION,
-                List.of(inputVariable, new XMLTemplate(styleSheet),
+                List.of(inputVariable, cx.getXsltStyleSheet(styleSheet),
                         new BallerinaModel.Expression.FieldAccess(cx.contextVarRef(), "variables"))));
 
         return new XsltTransformResult(expression, nonStandardFunctions);
@@ -58,6 +58,9 @@ import static tibco.converter.BallerinaSQLConstants.PARAMETERIZED_QUERY_TYPE;
 
 public final class ConversionUtils {
 
+    private static final int ESTIMATED_LINES_PER_PROCESS = 82;
+    private static final int ESTIMATED_LINES_PER_ACTIVITY = 15;
+
     public static @NotNull BallerinaModel.TypeDesc jsonResponseTypeDesc(
             BallerinaModel.TypeDesc.TypeReference responseTypeRef) {
         return BallerinaModel.TypeDesc.IntersectionTypeDesc.of(
@@ -363,6 +366,20 @@ public final class ConversionUtils {
         return "start_" + sanitizes(processName);
     }
 
+    /**
+     * Estimates the number of lines the conversion of a project generates, as counted by {@link #lineCount(String)}
+     * and normalized, without generating any code. The coefficients are a least squares fit over the sample projects
+     * in the test resources, which the estimate is within about 25% of on average: each process brings its service or
+     * function scaffolding and each activity roughly a function with its input and output mapping.
+     *
+     * @param processCount  number of processes in the project
+     * @param activityCount number of activities in the project
+     * @return estimated number of generated lines
+     */
+    public static long estimateLineCount(int processCount, int activityCount) {
+        return ESTIMATED_LINES_PER_PROCESS * processCount + ESTIMATED_LINES_PER_ACTIVITY * activityCount;
+    }
+
     public record LineCount(long ballerina, long xml) {
 
         public static LineCount sum(LineCount a, LineCount b) {
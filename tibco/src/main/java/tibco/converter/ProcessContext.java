@@ -75,6 +75,11 @@ public class ProcessContext implements ContextWithFile, LoggingContext {
         projectContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return projectContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         projectContext.logState(message);
@@ -303,6 +308,10 @@ public class ProcessContext implements ContextWithFile, LoggingContext {
         return projectContext.getHttpClient(path);
     }
 
+    BallerinaModel.Expression getXsltStyleSheet(String styleSheet) {
+        return projectContext.getXsltStyleSheet(styleSheet);
+    }
+
     void allocatedDefaultClient(List<BallerinaModel.Service> services) {
         if (services.isEmpty() || defaultListener == null) {
             return;
@@ -750,7 +750,7 @@ private static Optional<BallerinaModel.Function> tryGenerateFunction(
         List<String> nonStandardFunctions = ActivityConverter.detectNonStandardFunctions(xsltContent);
 
         Expression expression = new CheckPanic(new FunctionCall(ActivityConverter.XSLTConstants.XSLT_TRANSFORM_FUNCTION,
-                List.of(inputVariable, new XMLTemplate(xsltContent))));
+                List.of(inputVariable, cx.getXsltStyleSheet(xsltContent))));
 
         return new ActivityConverter.XsltTransformResult(expression, nonStandardFunctions);
     }
@@ -22,6 +22,7 @@ import common.BallerinaModel;
 import common.BallerinaModel.Expression.FunctionCall;
 import common.BallerinaModel.Statement.Return;
 import common.BallerinaModel.TypeDesc.UnionTypeDesc;
+import common.FormattingMode;
 import common.LoggingUtils;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import org.jetbrains.annotations.NotNull;
@@ -44,11 +45,15 @@ import tibco.model.Scope;
 import tibco.model.Type;
 import tibco.parser.XmlToTibcoModelParser;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -95,6 +100,7 @@ public class ProjectContext implements LoggingContext {
     private final ProjectConversionContext conversionContext;
     private final Map<String, String> generatedResources = new HashMap<>();
     private final Map<String, BallerinaModel.Expression.VariableReference> httpClients = new HashMap<>();
+    private final Map<String, VariableReference> xsltStyleSheets = new HashMap<>();
     private final Map<BallerinaModel.TypeDesc, String> dataBindingFunctions = new HashMap<>();
     private final Map<String, String> renderJsonAsXMLFunction = new HashMap<>();
     private final Map<String, Resource.JMSSharedResource> jmsResourceMap = new HashMap<>();
@@ -115,11 +121,20 @@ public class ProjectContext implements LoggingContext {
         conversionContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return conversionContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         conversionContext.logState(message);
     }
 
+    FormattingMode formattingMode() {
+        return conversionContext.formattingMode();
+    }
+
     ProcessContext getProcessContext(Process process) {
         return processContextMap.computeIfAbsent(process, p -> new ProcessContext(this, p));
     }
@@ -131,7 +146,7 @@ public class ProjectContext implements LoggingContext {
     BallerinaModel.Module serialize(Collection<BallerinaModel.TextDocument> textDocuments) {
         List<BallerinaModel.TextDocument> combinedTextDocuments = Stream.concat(textDocuments.stream(),
                 Stream.of(typesFile(), utilsFile())).toList();
-        log(LoggingUtils.Level.INFO, String.format("Type Statistics - Total Types: %d", typeCount));
+        log(LoggingUtils.Level.INFO, () -> "Type Statistics - Total Types: " + typeCount);
         return new BallerinaModel.Module("tibco", combinedTextDocuments);
     }
 
@@ -460,6 +475,37 @@ public class ProjectContext implements LoggingContext {
         return ref;
     }
 
+    /**
+     * Returns the stylesheet to pass to {@code xslt:transform}. Each distinct stylesheet is declared once per project
+     * as a module level {@code final xml} named after a hash of its content, so the generated code does not rebuild
+     * the stylesheet on every transformation and stylesheets shared by several activities are not repeated across the
+     * generated sources. Stylesheets that interpolate values are kept inline since they depend on the local scope.
+     *
+     * @param styleSheet content of the stylesheet
+     * @return reference to the module level declaration, or the inline stylesheet
+     */
+    BallerinaModel.Expression getXsltStyleSheet(String styleSheet) {
+        if (styleSheet.contains("${")) {
+            return new BallerinaModel.Expression.XMLTemplate(styleSheet);
+        }
+        return xsltStyleSheets.computeIfAbsent(styleSheet.trim(), content -> {
+            String name = ConversionUtils.getSanitizedUniqueName("styleSheet_" + contentHash(content),
+                    utilityVars.keySet());
+            utilityVars.put(name, BallerinaModel.ModuleVar.finalVar(name, XML,
+                    new BallerinaModel.Expression.XMLTemplate(content)));
+            return new VariableReference(name);
+        });
+    }
+
+    private static String contentHash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     public String getConfigVarName(String varName) {
         var varDecl = utilityVars.get(varName);
         if (varDecl == null) {
@@ -822,6 +868,11 @@ public class ProjectContext implements LoggingContext {
             cx.log(level, message);
         }
 
+        @Override
+        public boolean isLogEnabled(LoggingUtils.Level level) {
+            return cx.isLogEnabled(level);
+        }
+
         @Override
         public void logState(String message) {
             cx.logState(message);
@@ -34,6 +34,7 @@ import tibco.model.Resource.HTTPClientResource;
 import tibco.model.Resource.HTTPConnectionResource;
 import tibco.model.Resource.JDBCResource;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,9 @@ import java.util.stream.Stream;
 
 import static common.BallerinaModel.TypeDesc.BuiltinType.INT;
 import static common.BallerinaModel.TypeDesc.BuiltinType.STRING;
+import static common.ConversionUtils.connectionPoolVarName;
+import static common.ConversionUtils.exprFrom;
+import static common.ConversionUtils.typeFrom;
 import static tibco.converter.Library.JMS;
 
 final class ResourceConvertor {
@@ -54,14 +58,15 @@ final class ResourceConvertor {
     public static void convertJDBCResource(ProjectContext cx, JDBCResource resource) {
         try {
             Map<String, ModuleVar> substitutions = convertSubstitutionBindings(cx, resource.substitutionBindings());
-            NewExpression constructorCall = new NewExpression(
-                    Stream.of(resource.dbUrl(), resource.userName(), resource.password())
-                            .map(value -> toExpr(substitutions, value))
-                            .toList());
-            ModuleVar resourceVar = new ModuleVar(cx.getUtilityVarName(
-                    ConversionUtils.resourceNameFromPath(resource.path())), "jdbc:Client",
-                    Optional.of(new CheckPanic(constructorCall)), false, false);
-            cx.addResourceDeclaration(resource.path(), resourceVar, substitutions.values(), List.of(Library.JDBC));
+            String clientName = cx.getUtilityVarName(ConversionUtils.resourceNameFromPath(resource.path()));
+            List<Expression> args = new ArrayList<>(Stream.of(resource.dbUrl(), resource.userName(),
+                    resource.password()).map(value -> toExpr(substitutions, value)).toList());
+            List<ModuleVar> configurables = new ArrayList<>(substitutions.values());
+            List<Library> imports = new ArrayList<>(List.of(Library.JDBC));
+            addConnectionPool(clientName, resource.maxConnections(), args, configurables, imports);
+            ModuleVar resourceVar = new ModuleVar(clientName, "jdbc:Client",
+                    Optional.of(new CheckPanic(new NewExpression(args))), false, false);
+            cx.addResourceDeclaration(resource.path(), resourceVar, configurables, imports);
             cx.addJavaDependency(pickJavaSQLConnector(cx, resource.dbUrl()));
         } catch (Exception e) {
             cx.registerResourceConversionFailure(resource);
@@ -138,11 +143,14 @@ final class ResourceConvertor {
     public static void convertJDBCSharedResource(ProjectContext cx, Resource.JDBCSharedResource resource) {
         try {
             String clientName = cx.getUtilityVarName(ConversionUtils.resourceNameFromPath(resource.path()));
-            NewExpression constructorCall = new NewExpression(
+            List<Expression> args = new ArrayList<>(
                     List.of(getOptionalConfigurableValueString(cx, resource.location(), clientName + "Location")));
+            List<ModuleVar> configurables = new ArrayList<>();
+            List<Library> imports = new ArrayList<>(List.of(Library.JDBC));
+            addConnectionPool(clientName, resource.maxConnections(), args, configurables, imports);
             ModuleVar resourceVar = new ModuleVar(clientName, "jdbc:Client",
-                    Optional.of(new CheckPanic(constructorCall)), false, false);
-            cx.addResourceDeclaration(resource.path(), resourceVar, List.of(), List.of(Library.JDBC));
+                    Optional.of(new CheckPanic(new NewExpression(args))), false, false);
+            cx.addResourceDeclaration(resource.path(), resourceVar, configurables, imports);
             cx.addJavaDependency(
                     resource.location().map(location -> pickJavaSQLConnector(cx, location)).orElseGet(() -> {
                         cx.log(LoggingUtils.Level.WARN, "JDBC url not given. Defaulting to H2 connector.");
@@ -153,6 +161,22 @@ final class ResourceConvertor {
         }
     }
 
+    /**
+     * Keeps the maximum number of connections configured for a JDBC resource by declaring a configurable
+     * {@code sql:ConnectionPool} and passing it to the client. Without a limit the client uses the default pool.
+     */
+    private static void addConnectionPool(String clientName, Optional<Integer> maxConnections, List<Expression> args,
+                                          List<ModuleVar> configurables, List<Library> imports) {
+        if (maxConnections.isEmpty() || maxConnections.get() <= 0) {
+            return;
+        }
+        String poolName = connectionPoolVarName(clientName);
+        configurables.add(ModuleVar.configurable(poolName, typeFrom("sql:ConnectionPool"),
+                exprFrom("{maxOpenConnections: %d}".formatted(maxConnections.get()))));
+        args.add(exprFrom("connectionPool = " + poolName));
+        imports.add(Library.SQL);
+    }
+
     @NotNull
     static BallerinaModel.Listener.JMSListener convertJMSSharedResource(
             ProjectContext cx, JMSQueueEventSource jmsQueueEventSource, Resource.JMSSharedResource jmsResource,
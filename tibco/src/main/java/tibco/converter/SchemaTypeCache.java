@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package tibco.converter;
+
+import common.FormattingMode;
+import common.LoggingUtils;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+import tibco.LoggingContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Content-addressed cache of the Ballerina types generated from XSD schemas.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the serialized schemas, in order, together with the formatting mode and
+ * the tool version. Schemas are converted as a whole since they may refer to each other, so projects that share the
+ * same schemas, such as the roots of a multi-root migration, convert and format them only once per run. Entries are
+ * kept in memory for the run and, when the {@code BAL_MIGRATE_TYPE_CACHE_DIR} environment variable names a
+ * directory, also on disk so that later runs over the same estate can reuse them. The tool version is read from the
+ * {@code Implementation-Version} of the jar manifest; a build without one, such as a run from the class directories,
+ * only caches in memory since its entries could not be told apart from those written by a different build.
+ */
+final class SchemaTypeCache {
+
+    private static final int MAX_IN_MEMORY_ENTRIES = 64;
+    private static final String SOURCE_SUFFIX = ".bal";
+    private static final String DIAGNOSTICS_SUFFIX = ".diagnostics";
+    private static final Optional<String> TOOL_VERSION = Optional.ofNullable(
+            SchemaTypeCache.class.getPackage().getImplementationVersion());
+    private static final SchemaTypeCache INSTANCE = new SchemaTypeCache(TOOL_VERSION
+            .flatMap(version -> Optional.ofNullable(System.getenv("BAL_MIGRATE_TYPE_CACHE_DIR")))
+            .filter(dir -> !dir.isBlank()).map(Paths::get).orElse(null));
+
+    private final Path cacheDir;
+    private final Map<String, CachedTypes> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedTypes> eldest) {
+            return size() > MAX_IN_MEMORY_ENTRIES;
+        }
+    };
+
+    /**
+     * Types generated from a set of schemas.
+     *
+     * @param types       formatted syntax tree of the type definitions
+     * @param diagnostics messages reported while generating the types
+     */
+    record CachedTypes(SyntaxTree types, List<String> diagnostics) {
+
+    }
+
+    /**
+     * Creates a cache backed by the given directory.
+     *
+     * @param cacheDir directory to store the entries in, or {@code null} to only cache in memory
+     */
+    SchemaTypeCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    static SchemaTypeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Computes the cache key of a set of schemas.
+     *
+     * @param schemas        serialized schemas in the order they are converted
+     * @param formattingMode formatting mode the types are laid out with
+     * @return hex encoded SHA-256 digest of the tool version, formatting mode and schemas
+     */
+    static String key(String[] schemas, FormattingMode formattingMode) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, TOOL_VERSION.orElse("dev"));
+        update(digest, formattingMode.name());
+        Arrays.stream(schemas).forEach(schema -> update(digest, schema));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Length prefix each part so that ("ab", "c") and ("a", "bc") produce different keys
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    /**
+     * Returns the cached types for the key, or converts the schemas and caches the result. Failed conversions are not
+     * cached.
+     *
+     * @param cx        context to report cache failures to
+     * @param key       cache key computed with {@link #key(String[], FormattingMode)}
+     * @param converter converts the schemas on a cache miss
+     * @return the cached or freshly generated types
+     */
+    CachedTypes getOrConvert(LoggingContext cx, String key, Supplier<CachedTypes> converter) {
+        synchronized (entries) {
+            CachedTypes cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        CachedTypes result = read(key).orElse(null);
+        if (result == null) {
+            result = converter.get();
+            write(cx, key, result);
+        }
+        synchronized (entries) {
+            entries.put(key, result);
+        }
+        return result;
+    }
+
+    private Optional<CachedTypes> read(String key) {
+        if (cacheDir == null) {
+            return Optional.empty();
+        }
+        try {
+            String source = Files.readString(cacheDir.resolve(key + SOURCE_SUFFIX), StandardCharsets.UTF_8);
+            List<String> diagnostics = Files.readAllLines(cacheDir.resolve(key + DIAGNOSTICS_SUFFIX),
+                    StandardCharsets.UTF_8);
+            // The source was formatted before it was stored, so parsing it back is all that is needed
+            return Optional.of(new CachedTypes(SyntaxTree.from(TextDocuments.from(source)), diagnostics));
+        } catch (IOException e) {
+            // Missing or unreadable entries are treated as a cache miss
+            return Optional.empty();
+        }
+    }
+
+    private void write(LoggingContext cx, String key, CachedTypes types) {
+        if (cacheDir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheDir);
+            // The diagnostics are written first, so an entry is only visible once both of its files exist
+            writeAtomically(key + DIAGNOSTICS_SUFFIX, String.join("\n", types.diagnostics().stream()
+                    .map(message -> message.replace('\n', ' ')).toList()));
+            writeAtomically(key + SOURCE_SUFFIX, types.types().toSourceCode());
+        } catch (IOException e) {
+            // The cache is an optimization, a failure to store an entry must not fail the migration
+            cx.log(LoggingUtils.Level.WARN, "Failed to cache generated types: " + e.getMessage());
+        }
+    }
+
+    private void writeAtomically(String fileName, String content) throws IOException {
+        Path tempFile = Files.createTempFile(cacheDir, fileName, ".tmp");
+        Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+        Files.move(tempFile, cacheDir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -18,11 +18,23 @@
 
 package tibco.converter;
 
+import common.ArchiveUtils;
+import common.AsyncMigrationLogger;
 import common.BICodeConverter;
 import common.BallerinaModel;
-import common.CodeGenerator;
+import common.FormattingMode;
 import common.LoggingUtils;
+import common.MigrationLogger;
+import common.MinutiaeNormalizer;
+import common.ParallelCodeGenerator;
 import common.ProjectSummary;
+import common.metrics.MetricsRecord;
+import common.metrics.MetricsRecorder;
+import common.metrics.NdjsonMetricsWriter;
+import common.output.DirectoryOutputSink;
+import common.output.InMemoryOutputSink;
+import common.output.OutputSink;
+import common.report.PagedReport;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import org.jetbrains.annotations.NotNull;
 import tibco.ConversionContext;
@@ -42,18 +54,22 @@ import tibco.model.Process;
 import tibco.model.Type.Schema;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -62,6 +78,9 @@ import static common.LoggingUtils.Level.SEVERE;
 
 public class TibcoConverter {
 
+    private static final String METRICS_TOOL = "tibco";
+    private static AsyncMigrationLogger verboseLogger;
+
     record MigrationResult(TibcoAnalysisReport report) {
     }
 
@@ -87,8 +106,37 @@ public class TibcoConverter {
     }
 
     public static @NotNull ParsedProject parseProject(ProjectConversionContext cx, String projectPath) {
+        return parseProject(cx, Path.of(projectPath));
+    }
+
+    /**
+     * Parses the project at the given path. The path may be a project directory or a zip, jar or ear archive of the
+     * project, in which case the files are read directly from the archive without extracting it.
+     *
+     * @param cx          conversion context of the project
+     * @param projectPath project directory or archive
+     * @return parsed project
+     */
+    public static @NotNull ParsedProject parseProject(ProjectConversionContext cx, Path projectPath) {
+        if (!ArchiveUtils.isArchive(projectPath)) {
+            return parseProjectDir(cx, new tibco.parser.ProjectContext(cx, projectPath), projectPath);
+        }
+        // All project files are read while parsing, so the archive can be closed as soon as parsing is done
+        try (FileSystem archive = ArchiveUtils.openArchive(projectPath)) {
+            // An archive without a top level directory has the project at its root, which is named after the archive
+            tibco.parser.ProjectContext pcx = new tibco.parser.ProjectContext(cx, ArchiveUtils.projectRoot(archive),
+                    ArchiveUtils.archiveName(projectPath));
+            return parseProjectDir(cx, pcx, projectPath);
+        } catch (IOException e) {
+            cx.log(LoggingUtils.Level.SEVERE, "Unable to read project archive: " + projectPath + ": " + e.getMessage());
+            throw new UncheckedIOException("Error while reading project archive: " + projectPath, e);
+        }
+    }
+
+    private static @NotNull ParsedProject parseProjectDir(ProjectConversionContext cx,
+                                                          tibco.parser.ProjectContext pcx, Path projectPath) {
+        long start = System.nanoTime();
         try {
-            tibco.parser.ProjectContext pcx = new tibco.parser.ProjectContext(cx, projectPath);
             Set<Process> processes = TibcoToBalConverter.parseProcesses(pcx);
             Set<Schema> types = TibcoToBalConverter.parseTypes(pcx);
             ProjectResources resources = TibcoToBalConverter.parseResources(pcx);
@@ -97,11 +145,16 @@ public class TibcoConverter {
             processes.forEach(cx::addProcess);
             resources.stream().forEach(cx::addResource);
 
-            // Add all parsed resources to the ConversionContext for global lookup
-            cx.conversionContext().addProjectResources(resources, cx);
+            // Global lookups are only needed for code generation. Assessments skip them so that a project can be
+            // released as soon as it has been assessed.
+            if (!cx.assess()) {
+                // Add all parsed resources to the ConversionContext for global lookup
+                cx.conversionContext().addProjectResources(resources, cx);
 
-            // Add all parsed processes to the ConversionContext for global lookup
-            cx.conversionContext().addProjectProcesses(processes, cx);
+                // Add all parsed processes to the ConversionContext for global lookup
+                cx.conversionContext().addProjectProcesses(processes, cx);
+            }
+            cx.phaseTimer().add("parse", start);
 
             return new ParsedProject(processes, types, resources, pcx);
         } catch (Exception e) {
@@ -111,59 +164,114 @@ public class TibcoConverter {
         }
     }
 
+    /**
+     * Builds the analysis report of a parsed project without analyzing it or generating any code. Only the activities
+     * the parser could not handle are reported as unsupported, and the generated line count is estimated from the
+     * number of processes and activities.
+     *
+     * @param cx     project conversion context
+     * @param parsed parsed project
+     * @return analysis report of the project
+     */
+    public static @NotNull TibcoAnalysisReport assessProject(ProjectConversionContext cx, ParsedProject parsed) {
+        long start = System.nanoTime();
+        tibco.parser.ProjectContext pcx = parsed.parserContext();
+        int activityCount = pcx.getTotalActivityCount();
+        TibcoAnalysisReport report = new TibcoAnalysisReport(activityCount, pcx.getUnhandledActivities().size(),
+                pcx.getUnhandledActivities(), pcx.getPartiallySupportedActivities().size(),
+                pcx.getPartiallySupportedActivities());
+        report.lineCount(ConversionUtils.estimateLineCount(parsed.processes().size(), activityCount));
+        cx.phaseTimer().add("assess", start);
+        recordProjectMetrics(cx, report, 0);
+        return report;
+    }
+
     public static @NotNull AnalyzedProject analyzeProject(ProjectConversionContext cx, ParsedProject parsed,
                                                          ModelAnalyser modelAnalyser) {
-
+        long start = System.nanoTime();
         ProjectAnalysisContext analysisContext = new ProjectAnalysisContext(cx, parsed.resources());
         analysisContext.setCurrentProcesses(parsed.processes());
         Map<Process, AnalysisResult> analysisResults =
                 modelAnalyser.analyseProject(analysisContext, parsed.processes(), parsed.types(), parsed.resources());
         ProjectResources resources = ProjectResources.merge(parsed.resources(), analysisContext.capturedResources());
+        cx.phaseTimer().add("analyze", start);
         return new AnalyzedProject(parsed.processes(), parsed.types(), resources, parsed.parserContext(),
                 analysisResults);
     }
 
     public static @NotNull GeneratedProject generateCode(ProjectConversionContext cx, AnalyzedProject analyzed) {
+        long start = System.nanoTime();
         ConversionResult result = ProjectConverter.convertProject(cx, analyzed.analysisResults(), analyzed.processes(),
                 analyzed.types(), analyzed.resources(), analyzed.parserContext());
+        cx.phaseTimer().add("generate", start);
         return new GeneratedProject(result);
     }
 
     public static @NotNull SerializedProject serializeProject(ProjectConversionContext cx, GeneratedProject generated,
                                                               Collection<BallerinaModel.Import> allProjectImports) {
-        Map<String, String> files = new HashMap<>();
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        try {
+            TibcoAnalysisReport report = serializeProject(cx, generated, allProjectImports, sink);
+            return new SerializedProject(sink.files(), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serializes the generated project, writing each file to the sink as soon as it is ready.
+     *
+     * @param cx                project conversion context
+     * @param generated         generated project
+     * @param allProjectImports imports of all projects converted together with this one
+     * @param sink              destination of the generated files
+     * @return analysis report of the project, including the line count of the written files
+     * @throws IOException if writing to the sink fails
+     */
+    public static @NotNull TibcoAnalysisReport serializeProject(ProjectConversionContext cx,
+                                                                GeneratedProject generated,
+                                                                Collection<BallerinaModel.Import> allProjectImports,
+                                                                OutputSink sink) throws IOException {
+        long start = System.nanoTime();
         ConversionResult result = generated.conversionResult();
 
         BallerinaModel.Module module = cx.keepStructure() ? result.module() :
                 new BICodeConverter(BICodeConverter.DEFAULT_IS_CONFIGURABLE_PREDICATE,
                         BICodeConverter.DEFAULT_IS_CONNECTION_PREDICATE,
                         BICodeConverter.DEFAULT_SKIP_CONVERSION_PREDICATE, allProjectImports).convert(result.module());
-        for (BallerinaModel.TextDocument textDocument : module.textDocuments()) {
-            SyntaxTree st = new CodeGenerator(textDocument).generateSyntaxTree();
-            files.put(textDocument.documentName(), st.toSourceCode());
-        }
-
-        SyntaxTree typesTree = result.types();
-        if (typesTree != null) {
-            String xsdTypeSource = typesTree.toSourceCode();
-            String typeSource;
-            if (files.containsKey("types.bal")) {
-                typeSource = files.get("types.bal") + "\n" + xsdTypeSource;
-            } else {
-                typeSource = xsdTypeSource;
-            }
-            files.put("types.bal", typeSource);
-        }
-        files.put("Ballerina.toml", ballerinaToml(cx));
+        ProjectFileSink files = new ProjectFileSink(cx, sink);
+        new ParallelCodeGenerator(cx.formattingMode(), cx::log).generateSources(module.textDocuments(), files);
+        files.writeTypes(result.types());
+        files.write("Ballerina.toml", ballerinaToml(cx));
 
         TibcoAnalysisReport report = result.report();
-        report.lineCount(
-                files.values().stream()
-                        .map(ConversionUtils::lineCount)
-                        .mapToLong(ConversionUtils.LineCount::normalize)
-                        .sum());
+        report.lineCount(files.lineCount());
+        cx.phaseTimer().add("serialize", start);
+        recordProjectMetrics(cx, report, files.fileCount());
+        return report;
+    }
 
-        return new SerializedProject(files, report);
+    private static void recordProjectMetrics(ProjectConversionContext cx, TibcoAnalysisReport report, int fileCount) {
+        MetricsRecorder metrics = cx.metrics();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        metrics.record(MetricsRecord.of(MetricsRecord.PROJECT, METRICS_TOOL)
+                .put("project", cx.name())
+                .put("dryRun", cx.dryRun())
+                .put("assess", cx.assess())
+                .put("coverage", report.toJSON().get("coverageOverview"))
+                .put("activities", Map.of("total", report.totalActivityCount(),
+                        "unhandled", report.unhandledActivityCount(),
+                        "partiallySupported", report.partiallySupportedActivityCount()))
+                .put("unsupportedActivities", report.unhandledActivityCountsByType())
+                .put("generated", Map.of("files", fileCount, "lines", report.lineCount()))
+                .phases(cx.phaseTimer()));
+    }
+
+    // Lines are counted on the canonical layout so that the report does not depend on the formatting mode
+    private static String lineCountSource(String fileName, String source) {
+        return fileName.endsWith(".bal") ? MinutiaeNormalizer.canonicalize(source) : source;
     }
 
     public static void migrateTibcoProject(ProjectConversionContext cx, String projectPath, String targetPath)
@@ -173,53 +281,215 @@ public class TibcoConverter {
                 new DefaultAnalysisPass(),
                 new LoggingAnalysisPass())));
         GeneratedProject generated = generateCode(cx, analyzed);
-        SerializedProject serialized = serializeProject(cx, generated, List.of());
-        writeProjectFiles(cx, serialized, targetPath, false);
+        TibcoAnalysisReport report;
+        try (OutputSink sink = openProjectSink(cx, targetPath, false)) {
+            report = serializeProject(cx, generated, List.of(), sink);
+        }
+        writeProjectReport(cx, report, targetPath);
     }
 
     static void writeProjectFiles(LoggingContext cx, SerializedProject serialized, String targetPath, boolean dryRun)
             throws IOException {
-        Path targetDir = Paths.get(targetPath);
-        Path codeGenDir = targetDir;
-        java.nio.file.Path tempDir = null;
+        try (OutputSink sink = openProjectSink(cx, targetPath, dryRun)) {
+            for (Map.Entry<String, String> entry : serialized.files().entrySet()) {
+                sink.write(entry.getKey(), entry.getValue());
+            }
+        }
+        writeProjectReport(cx, serialized.report(), targetPath);
+    }
 
+    // In dry run mode the generated code goes to a temporary directory instead of the target directory
+    static OutputSink openProjectSink(LoggingContext cx, String targetPath, boolean dryRun) throws IOException {
+        Path codeGenDir = Paths.get(targetPath);
         if (dryRun) {
-            tempDir = Files.createTempDirectory("tibco-dryrun");
-            codeGenDir = tempDir;
+            codeGenDir = Files.createTempDirectory("tibco-dryrun");
             cx.logState("Generating code in temporary directory: " + codeGenDir);
             cx.log(LoggingUtils.Level.INFO, "[Dry Run] Generating code in temporary directory: " + codeGenDir);
-        } else {
-            if (!Files.exists(targetDir)) {
-                Files.createDirectories(targetDir);
-                cx.log(LoggingUtils.Level.INFO, "Created target directory: " + targetDir);
-            }
-        }
-
-        for (Map.Entry<String, String> entry : serialized.files().entrySet()) {
-            Path filePath = codeGenDir.resolve(entry.getKey());
-            Files.writeString(filePath, entry.getValue());
+        } else if (!Files.exists(codeGenDir)) {
+            Files.createDirectories(codeGenDir);
+            cx.log(LoggingUtils.Level.INFO, "Created target directory: " + codeGenDir);
         }
+        return new DirectoryOutputSink(codeGenDir);
+    }
 
+    static void writeProjectReport(LoggingContext cx, TibcoAnalysisReport report, String targetPath)
+            throws IOException {
+        Path targetDir = Paths.get(targetPath);
         if (!Files.exists(targetDir)) {
             Files.createDirectories(targetDir);
             cx.log(LoggingUtils.Level.INFO, "Created target directory: " + targetDir);
         }
-        writeAnalysisReport(cx, targetDir, serialized.report().toHTML());
-
-        if (dryRun) {
-            cx.log(LoggingUtils.Level.INFO, "[Dry Run] Temporary code generation directory: " + tempDir);
-        }
+        writeAnalysisReport(cx, targetDir, report.toPagedReport());
     }
 
     public static void migrateTibco(String sourcePath, String outputPath, boolean keepStructure, boolean verbose,
             boolean dryRun, boolean multiRoot, Optional<String> orgName, Optional<String> projectName) {
+        migrateTibco(sourcePath, outputPath, MigrationOptions.builder().orgName(orgName.orElse(null))
+                .projectName(projectName.orElse(null)).keepStructure(keepStructure).verbose(verbose).dryRun(dryRun)
+                .multiRoot(multiRoot).build());
+    }
+
+    /**
+     * Settings of a migration. Assessing never generates code, so it implies a dry run.
+     *
+     * @param orgName        organization name of the generated packages, or {@code null} for the default
+     * @param projectName    name of the generated package, or {@code null} to name it after the source
+     * @param keepStructure  keep the structure of the TIBCO project in the generated package
+     * @param verbose        log the progress of the migration
+     * @param dryRun         only write the reports, without writing the generated code
+     * @param multiRoot      migrate each child directory or archive of the source as a separate project
+     * @param formattingMode how the generated code is formatted
+     * @param metricsOut     file to stream a newline-delimited JSON metrics record to for each generated file and
+     *                       project as soon as it is done, or {@code null} to skip recording metrics
+     * @param assess         only parse the projects and write their reports, with an estimated generated line count,
+     *                       instead of generating code. Projects are assessed one at a time and released as soon as
+     *                       they are done.
+     */
+    public record MigrationOptions(String orgName, String projectName, boolean keepStructure, boolean verbose,
+                                   boolean dryRun, boolean multiRoot, FormattingMode formattingMode,
+                                   Path metricsOut, boolean assess) {
+
+        public MigrationOptions {
+            dryRun = dryRun || assess;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * Builds {@link MigrationOptions}, starting from the defaults of the command line tools.
+         */
+        public static final class Builder {
+
+            private String orgName;
+            private String projectName;
+            private boolean keepStructure;
+            private boolean verbose;
+            private boolean dryRun;
+            private boolean multiRoot;
+            private FormattingMode formattingMode = FormattingMode.defaultMode();
+            private Path metricsOut;
+            private boolean assess;
+
+            private Builder() {
+            }
+
+            public Builder orgName(String orgName) {
+                this.orgName = orgName;
+                return this;
+            }
+
+            public Builder projectName(String projectName) {
+                this.projectName = projectName;
+                return this;
+            }
+
+            public Builder keepStructure(boolean keepStructure) {
+                this.keepStructure = keepStructure;
+                return this;
+            }
+
+            public Builder verbose(boolean verbose) {
+                this.verbose = verbose;
+                return this;
+            }
+
+            public Builder dryRun(boolean dryRun) {
+                this.dryRun = dryRun;
+                return this;
+            }
+
+            public Builder multiRoot(boolean multiRoot) {
+                this.multiRoot = multiRoot;
+                return this;
+            }
+
+            public Builder formattingMode(FormattingMode formattingMode) {
+                this.formattingMode = formattingMode;
+                return this;
+            }
+
+            public Builder metricsOut(Path metricsOut) {
+                this.metricsOut = metricsOut;
+                return this;
+            }
+
+            public Builder assess(boolean assess) {
+                this.assess = assess;
+                return this;
+            }
+
+            public MigrationOptions build() {
+                return new MigrationOptions(orgName, projectName, keepStructure, verbose, dryRun, multiRoot,
+                        formattingMode, metricsOut, assess);
+            }
+        }
+    }
+
+    /**
+     * Migrates or assesses the TIBCO project, or each child project in multi-root mode, and writes the generated
+     * packages and reports.
+     *
+     * @param sourcePath TIBCO project directory, process file, project archive or, in multi-root mode, directory of
+     *                   projects
+     * @param outputPath directory to write the generated packages to, or {@code null} to use the default
+     * @param options    settings of the migration
+     */
+    public static void migrateTibco(String sourcePath, String outputPath, MigrationOptions options) {
+        boolean verbose = options.verbose();
+        Path metricsOut = options.metricsOut();
         Logger logger = verbose ? createVerboseLogger("migrate-tibco") : createDefaultLogger("migrate-tibco");
-        Consumer<String> stateCallback = LoggingUtils.wrapLoggerForStateCallback(logger);
-        Consumer<String> logCallback = LoggingUtils.wrapLoggerForLogCallback(logger);
-        String escapedOrgName = common.ConversionUtils.escapeIdentifier(orgName.orElse("converter"));
+        Consumer<String> loggerStateCallback = LoggingUtils.wrapLoggerForStateCallback(logger);
+        Consumer<String> stateCallback = loggerStateCallback;
+        MigrationLogger migrationLogger;
+        if (verbose) {
+            // Verbose output is written off the conversion threads. State messages flush it first to keep the order.
+            AsyncMigrationLogger asyncLogger = getVerboseLogger(logger);
+            migrationLogger = asyncLogger;
+            stateCallback = message -> {
+                asyncLogger.flush();
+                loggerStateCallback.accept(message);
+            };
+        } else {
+            migrationLogger = MigrationLogger.forLogger(logger, LoggingUtils.Level.WARN);
+        }
+        NdjsonMetricsWriter metricsWriter = null;
+        if (metricsOut != null) {
+            try {
+                metricsWriter = NdjsonMetricsWriter.open(metricsOut);
+            } catch (IOException e) {
+                migrationLogger.log(SEVERE, "Unable to create metrics file: " + metricsOut + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        String escapedOrgName = common.ConversionUtils.escapeIdentifier(
+                options.orgName() != null ? options.orgName() : "converter");
+        MetricsRecorder metrics = metricsWriter != null ? metricsWriter : MetricsRecorder.NONE;
         ConversionContext context =
-                new ConversionContext(escapedOrgName, dryRun, keepStructure,
-                                stateCallback, logCallback);
+                new ConversionContext(escapedOrgName, options.dryRun(), options.assess(), options.keepStructure(),
+                        options.formattingMode(), stateCallback, migrationLogger, metrics);
+        try {
+            migrateTibcoSource(context, sourcePath, outputPath, options.multiRoot(),
+                    Optional.ofNullable(options.projectName()));
+        } finally {
+            closeMetricsWriter(context, metricsWriter);
+            if (migrationLogger instanceof AsyncMigrationLogger asyncLogger) {
+                asyncLogger.flush();
+            }
+        }
+    }
+
+    private static synchronized AsyncMigrationLogger getVerboseLogger(Logger logger) {
+        // Every verbose run writes to the same named logger, so the runs of a process share one appender thread
+        if (verboseLogger == null) {
+            verboseLogger = new AsyncMigrationLogger(MigrationLogger.forLogger(logger, LoggingUtils.Level.INFO));
+        }
+        return verboseLogger;
+    }
+
+    private static void migrateTibcoSource(ConversionContext context, String sourcePath, String outputPath,
+                                           boolean multiRoot, Optional<String> projectName) {
         Path inputPath = null;
         try {
             inputPath = Paths.get(sourcePath).toRealPath();
@@ -235,13 +505,28 @@ public class TibcoConverter {
                         + sourcePath);
                 System.exit(1);
             }
-            migrateTibcoMultiRoot(context, inputPath, outputPath, projectName);
+            if (context.assess()) {
+                assessTibcoMultiRoot(context, inputPath, outputPath, projectName);
+            } else {
+                migrateTibcoMultiRoot(context, inputPath, outputPath, projectName);
+            }
             return;
         }
 
         migrateTibcoInner(context, sourcePath, outputPath, projectName);
     }
 
+    private static void closeMetricsWriter(ConversionContext context, NdjsonMetricsWriter metricsWriter) {
+        if (metricsWriter == null) {
+            return;
+        }
+        try {
+            metricsWriter.close();
+        } catch (IOException e) {
+            context.log(SEVERE, e.getMessage());
+        }
+    }
+
     public record MultiRootProjectInfo(
                     String childPath,
             String childName,
@@ -250,34 +535,33 @@ public class TibcoConverter {
 
     public record MultiRootSerializedProjectInfo(
             MultiRootProjectInfo info,
-            ParsedProject parsed,
-            AnalyzedProject analyzed,
-            GeneratedProject generated,
             SerializedProject serialized) {
     }
 
     public static List<MultiRootSerializedProjectInfo> processMultiRootProjects(ConversionContext cx, Path inputPath,
             Optional<String> projectName) {
-        // Stage 0: Initialize project info
-        List<MultiRootProjectInfo> projectInfoList = new ArrayList<>();
-        try {
-            Files.list(inputPath)
-                    .filter(Files::isDirectory)
-                    .forEach(childDir -> {
-                        String childName = childDir.getFileName().toString();
-                        String finalProjectName = projectName.orElse(childName);
-                        String escapedProjectName = common.ConversionUtils.escapeIdentifier(finalProjectName);
-                        ProjectConversionContext context = new ProjectConversionContext(cx, escapedProjectName);
+        return processMultiRootProjects(cx, inputPath, projectName, info -> new InMemoryOutputSink());
+    }
 
-                        projectInfoList.add(new MultiRootProjectInfo(
-                                childDir.toString(),
-                                        childName,
-                                context));
-                    });
-        } catch (IOException e) {
-            cx.log(SEVERE, "Error reading directory: " + inputPath);
-            return new ArrayList<>();
-        }
+    /**
+     * Converts every child project of the input directory, writing the files of each project to the sink created for
+     * it as soon as they are generated. Only files written to an {@link InMemoryOutputSink} are retained in the
+     * returned {@link SerializedProject}s.
+     *
+     * <p>Projects can use the processes and resources of each other, so every project is parsed and analyzed before
+     * any code is generated. Code is then generated one project at a time, and the models of a project are released
+     * as soon as its files are written, so only the projects still to be generated stay in memory.
+     *
+     * @param cx          conversion context shared by all projects
+     * @param inputPath   directory containing the projects, either as directories or as zip, jar or ear archives
+     * @param projectName name to use for the generated packages instead of the directory names
+     * @param sinkFactory creates the sink the files of a project are written to
+     * @return serialized projects, excluding the ones that failed to convert
+     */
+    public static List<MultiRootSerializedProjectInfo> processMultiRootProjects(ConversionContext cx, Path inputPath,
+            Optional<String> projectName, Function<MultiRootProjectInfo, OutputSink> sinkFactory) {
+        // Stage 0: Initialize project info
+        List<MultiRootProjectInfo> projectInfoList = listMultiRootProjects(cx, inputPath, projectName);
 
         // Stage 1: Parse all projects
         record ParsedProjectInfo(
@@ -285,7 +569,7 @@ public class TibcoConverter {
                         ParsedProject parsed) {
         }
 
-        List<ParsedProjectInfo> parsedProjects = new ArrayList<>();
+        Queue<ParsedProjectInfo> parsedProjects = new ArrayDeque<>();
         for (MultiRootProjectInfo info : projectInfoList) {
             cx.logState("Parsing project: " + info.childPath());
             cx.log(LoggingUtils.Level.INFO, "Parsing project: " + info.childPath());
@@ -301,12 +585,12 @@ public class TibcoConverter {
         // Stage 2: Analyze all projects
         record AnalyzedProjectInfo(
                 MultiRootProjectInfo info,
-                ParsedProject parsed,
                 AnalyzedProject analyzed) {
         }
 
-        List<AnalyzedProjectInfo> analyzedProjects = new ArrayList<>();
-        for (ParsedProjectInfo parsedInfo : parsedProjects) {
+        Queue<AnalyzedProjectInfo> analyzedProjects = new ArrayDeque<>();
+        ParsedProjectInfo parsedInfo;
+        while ((parsedInfo = parsedProjects.poll()) != null) {
             cx.logState("Analyzing project: " + parsedInfo.info().childName());
             try {
                 ModelAnalyser modelAnalyser = new ModelAnalyser(List.of(
@@ -315,91 +599,139 @@ public class TibcoConverter {
                         new DependencyAnalysisPass()));
                 AnalyzedProject analyzed = analyzeProject(parsedInfo.info().context(), parsedInfo.parsed(),
                         modelAnalyser);
-                analyzedProjects.add(new AnalyzedProjectInfo(
-                        parsedInfo.info(),
-                        parsedInfo.parsed(),
-                        analyzed));
+                analyzedProjects.add(new AnalyzedProjectInfo(parsedInfo.info(), analyzed));
             } catch (Exception e) {
                 cx.log(SEVERE, "Failed to analyze project: " + parsedInfo.info().childName() + ": " + e.getMessage());
                 // Skip this project
             }
         }
 
-        // Stage 3: Generate code for all projects
-        record GeneratedProjectInfo(
-                MultiRootProjectInfo info,
-                ParsedProject parsed,
-                AnalyzedProject analyzed,
-                GeneratedProject generated) {
-        }
+        // Stage 3: Generate and serialize the projects one at a time. A project is dropped from the queue once its
+        // files are written, and its models are released, so that they can be collected.
+        List<MultiRootSerializedProjectInfo> serializedProjects = new ArrayList<>();
+        List<BallerinaModel.Import> allProjectImports = analyzedProjects.stream()
+                .map(analyzedInfo -> analyzedInfo.info().context().getImport())
+                .collect(Collectors.toList());
 
-        List<GeneratedProjectInfo> generatedProjects = new ArrayList<>();
-        for (AnalyzedProjectInfo analyzedInfo : analyzedProjects) {
-            cx.logState("Generating code for project: " + analyzedInfo.info().childName());
+        AnalyzedProjectInfo analyzedInfo;
+        while ((analyzedInfo = analyzedProjects.poll()) != null) {
+            MultiRootProjectInfo info = analyzedInfo.info();
+            cx.logState("Generating code for project: " + info.childName());
+            GeneratedProject generated;
             try {
-                GeneratedProject generated = generateCode(analyzedInfo.info().context(), analyzedInfo.analyzed());
-                generatedProjects.add(new GeneratedProjectInfo(
-                        analyzedInfo.info(),
-                        analyzedInfo.parsed(),
-                        analyzedInfo.analyzed(),
-                        generated));
+                generated = generateCode(info.context(), analyzedInfo.analyzed());
             } catch (Exception e) {
-                cx.log(SEVERE, "Failed to generate code for project: " + analyzedInfo.info().childName() + ": "
-                        + e.getMessage());
+                cx.log(SEVERE, "Failed to generate code for project: " + info.childName() + ": " + e.getMessage());
+                cx.releaseProject(info.context());
                 // Skip this project
+                continue;
             }
-        }
-
-        // Stage 4: Serialize all projects
-        List<MultiRootSerializedProjectInfo> serializedProjects = new ArrayList<>();
-        List<BallerinaModel.Import> allProjectImports = generatedProjects.stream()
-                .map(generatedInfo -> generatedInfo.info().context().getImport())
-                .collect(Collectors.toList());
 
-        for (GeneratedProjectInfo generatedInfo : generatedProjects) {
-            cx.logState("Serializing project: " + generatedInfo.info().childName());
+            cx.logState("Serializing project: " + info.childName());
             try {
-                SerializedProject serialized =
-                        serializeProject(generatedInfo.info().context(), generatedInfo.generated(),
-                                allProjectImports);
-                serializedProjects.add(new MultiRootSerializedProjectInfo(
-                        generatedInfo.info(),
-                        generatedInfo.parsed(),
-                        generatedInfo.analyzed(),
-                        generatedInfo.generated(),
-                        serialized));
+                SerializedProject serialized;
+                try (OutputSink sink = sinkFactory.apply(info)) {
+                    TibcoAnalysisReport report = serializeProject(info.context(), generated, allProjectImports,
+                            sink);
+                    Map<String, String> files = sink instanceof InMemoryOutputSink inMemorySink ?
+                            inMemorySink.files() : Map.of();
+                    serialized = new SerializedProject(files, report);
+                }
+                serializedProjects.add(new MultiRootSerializedProjectInfo(info, serialized));
             } catch (Exception e) {
-                cx.log(SEVERE,
-                        "Failed to serialize project: " + generatedInfo.info().childName() + ": " + e.getMessage());
+                cx.log(SEVERE, "Failed to serialize project: " + info.childName() + ": " + e.getMessage());
                 // Skip this project
+            } finally {
+                cx.releaseProject(info.context());
             }
         }
 
         return serializedProjects;
     }
 
-    static void migrateTibcoMultiRoot(ConversionContext cx, Path inputPath, String outputPath,
+    private static List<MultiRootProjectInfo> listMultiRootProjects(ConversionContext cx, Path inputPath,
+                                                                    Optional<String> projectName) {
+        List<MultiRootProjectInfo> projectInfoList = new ArrayList<>();
+        try {
+            Files.list(inputPath)
+                    .filter(child -> Files.isDirectory(child) || ArchiveUtils.isArchive(child))
+                    .forEach(childDir -> {
+                        String childName = ArchiveUtils.isArchive(childDir) ? ArchiveUtils.archiveName(childDir)
+                                : childDir.getFileName().toString();
+                        String finalProjectName = projectName.orElse(childName);
+                        String escapedProjectName = common.ConversionUtils.escapeIdentifier(finalProjectName);
+                        ProjectConversionContext context = new ProjectConversionContext(cx, escapedProjectName);
+
+                        projectInfoList.add(new MultiRootProjectInfo(
+                                childDir.toString(),
+                                        childName,
+                                context));
+                    });
+        } catch (IOException e) {
+            cx.log(SEVERE, "Error reading directory: " + inputPath);
+            return new ArrayList<>();
+        }
+        return projectInfoList;
+    }
+
+    /**
+     * Assesses every child project of the input directory. Each project is parsed, reported and released before the
+     * next one is read, so memory use does not grow with the number of projects; only their summaries are kept for
+     * the combined report.
+     */
+    static void assessTibcoMultiRoot(ConversionContext cx, Path inputPath, String outputPath,
             Optional<String> projectName) {
-        List<MultiRootSerializedProjectInfo> serializedProjects = processMultiRootProjects(cx, inputPath, projectName);
+        List<ProjectSummary> projectSummaries = new ArrayList<>();
+        // Projects are dropped from the queue once assessed so that their parsed processes can be collected
+        Queue<MultiRootProjectInfo> pending = new ArrayDeque<>(listMultiRootProjects(cx, inputPath, projectName));
+        MultiRootProjectInfo info;
+        while ((info = pending.poll()) != null) {
+            cx.logState("Assessing project: " + info.childPath());
+            try {
+                ProjectConversionContext context = info.context();
+                TibcoAnalysisReport report = assessProject(context, parseProject(context, info.childPath()));
+                writeProjectReport(context, report, childOutputPath(outputPath, info));
+                projectSummaries.add(report.toProjectSummary(info.childName(), info.childPath(),
+                        info.childName() + "_converted/report.html"));
+            } catch (Exception e) {
+                cx.log(SEVERE, "Failed to assess project: " + info.childPath() + ": " + e.getMessage());
+            }
+        }
 
-        // Stage 5: Write all projects to disk and collect summaries
+        Path summaryOutputPath = outputPath != null ? Paths.get(outputPath) : inputPath;
+        try {
+            writeCombinedSummaryReport(cx, summaryOutputPath, projectSummaries);
+        } catch (IOException e) {
+            cx.log(SEVERE, "Error creating combined summary report");
+        }
+    }
+
+    static void migrateTibcoMultiRoot(ConversionContext cx, Path inputPath, String outputPath,
+            Optional<String> projectName) {
+        // Generated files are streamed to disk while serializing, so only the reports are left to write afterward
+        List<MultiRootSerializedProjectInfo> serializedProjects = processMultiRootProjects(cx, inputPath, projectName,
+                info -> {
+                    try {
+                        return openProjectSink(info.context(), childOutputPath(outputPath, info),
+                                info.context().dryRun());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        // Stage 5: Write project reports and collect summaries
         List<ProjectSummary> projectSummaries = new ArrayList<>();
         List<String> packageNames = new ArrayList<>();
 
         for (MultiRootSerializedProjectInfo serializedInfo : serializedProjects) {
             String childName = serializedInfo.info().childName();
-            String childOutputPath;
-            if (outputPath != null) {
-                childOutputPath = Paths.get(outputPath, childName + "_converted").toString();
-            } else {
-                childOutputPath = serializedInfo.info().childPath() + "_converted";
-            }
+            String childOutputPath = childOutputPath(outputPath, serializedInfo.info());
             ProjectConversionContext context = serializedInfo.info().context();
             packageNames.add(Paths.get(childOutputPath).getFileName().toString());
 
             cx.logState("Writing project: " + childName);
             try {
-                writeProjectFiles(context, serializedInfo.serialized(), childOutputPath, context.dryRun());
+                writeProjectReport(context, serializedInfo.serialized().report(), childOutputPath);
 
                 // Create project summary
                 String reportRelativePath = childName + "_converted/report.html";
@@ -432,6 +764,13 @@ public class TibcoConverter {
     }
 
 
+    private static String childOutputPath(String outputPath, MultiRootProjectInfo info) {
+        if (outputPath != null) {
+            return Paths.get(outputPath, info.childName() + "_converted").toString();
+        }
+        return Paths.get(info.childPath()).resolveSibling(info.childName() + "_converted").toString();
+    }
+
     private static Optional<MigrationResult> migrateTibcoInner(ConversionContext cx, String sourcePath,
                                                                String outputPath, Optional<String> projectName) {
         Path inputPath;
@@ -442,13 +781,19 @@ public class TibcoConverter {
             System.exit(1);
             return Optional.empty();
         }
-        String finalProjectName = projectName.orElse(inputPath.getFileName().toString());
+        boolean isArchive = ArchiveUtils.isArchive(inputPath);
+        String finalProjectName = projectName.orElse(isArchive ? ArchiveUtils.archiveName(inputPath)
+                : inputPath.getFileName().toString());
         String escapedProjectName = common.ConversionUtils.escapeIdentifier(finalProjectName);
         ProjectConversionContext context = new ProjectConversionContext(cx, escapedProjectName);
 
         String projectPath;
         String targetPath;
-        if (Files.isRegularFile(inputPath)) {
+        if (isArchive) {
+            projectPath = inputPath.toString();
+            targetPath = outputPath != null ? outputPath
+                    : inputPath.resolveSibling(ArchiveUtils.archiveName(inputPath) + "_converted").toString();
+        } else if (Files.isRegularFile(inputPath)) {
             projectPath = inputPath.getParent().toString();
             targetPath = outputPath != null ? outputPath : projectPath + "_converted";
         } else if (Files.isDirectory(inputPath)) {
@@ -462,14 +807,22 @@ public class TibcoConverter {
 
         try {
             ParsedProject parsed = parseProject(context, projectPath);
+            if (context.assess()) {
+                TibcoAnalysisReport report = assessProject(context, parsed);
+                writeProjectReport(context, report, targetPath);
+                return Optional.of(new MigrationResult(report));
+            }
             AnalyzedProject analyzed = analyzeProject(context, parsed, new ModelAnalyser(List.of(
                     new DefaultAnalysisPass(),
                     new LoggingAnalysisPass())));
             GeneratedProject generated = generateCode(context, analyzed);
-            SerializedProject serialized = serializeProject(context, generated, List.of());
-            writeProjectFiles(context, serialized, targetPath, context.dryRun());
+            TibcoAnalysisReport report;
+            try (OutputSink sink = openProjectSink(context, targetPath, context.dryRun())) {
+                report = serializeProject(context, generated, List.of(), sink);
+            }
+            writeProjectReport(context, report, targetPath);
 
-            return Optional.of(new MigrationResult(serialized.report()));
+            return Optional.of(new MigrationResult(report));
         } catch (Exception e) {
             context.log(SEVERE, "Error during project conversion: " + e.getMessage());
             return Optional.empty();
@@ -478,9 +831,9 @@ public class TibcoConverter {
 
 
     private static void writeAnalysisReport(LoggingContext context, Path targetDir,
-                                            String htmlContent) throws IOException {
+                                            PagedReport report) throws IOException {
         Path reportFilePath = targetDir.resolve("report.html");
-        Files.writeString(reportFilePath, htmlContent);
+        report.write(new DirectoryOutputSink(targetDir), "report.html");
         context.log(LoggingUtils.Level.INFO, "Created analysis report at: " + reportFilePath);
     }
 
@@ -490,8 +843,7 @@ public class TibcoConverter {
         CombinedSummaryReport combinedReport =
                 new CombinedSummaryReport("Combined Migration Assessment",
                         projectSummaries, context.getDuplicateProcessData());
-        String htmlContent = combinedReport.toHTML();
-        Files.writeString(reportFilePath, htmlContent);
+        combinedReport.toPagedReport().write(new DirectoryOutputSink(targetDir), "combined_summary_report.html");
         context.log(
                 LoggingUtils.Level.INFO, "Created combined summary report at: " + reportFilePath);
     }
@@ -531,6 +883,66 @@ public class TibcoConverter {
         context.log(LoggingUtils.Level.INFO, "Created workspace Ballerina.toml at: " + workspaceTomlPath);
     }
 
+    /**
+     * Counts the lines of the files passing through and holds back {@code types.bal} until the types generated from
+     * the XSD schemas can be appended to it.
+     */
+    private static final class ProjectFileSink implements OutputSink {
+
+        private static final String TYPES_FILE = "types.bal";
+
+        private final ProjectConversionContext cx;
+        private final OutputSink delegate;
+        private String typesSource;
+        private int fileCount;
+        private long lineCount;
+
+        ProjectFileSink(ProjectConversionContext cx, OutputSink delegate) {
+            this.cx = cx;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void write(String relativePath, String content) throws IOException {
+            if (TYPES_FILE.equals(relativePath)) {
+                typesSource = content;
+                return;
+            }
+            writeCounted(relativePath, content);
+        }
+
+        synchronized void writeTypes(SyntaxTree typesTree) throws IOException {
+            String source = typesSource;
+            if (typesTree != null) {
+                String xsdTypeSource = typesTree.toSourceCode();
+                source = source != null ? source + "\n" + xsdTypeSource : xsdTypeSource;
+            }
+            typesSource = null;
+            if (source != null) {
+                writeCounted(TYPES_FILE, source);
+            }
+        }
+
+        synchronized long lineCount() {
+            return lineCount;
+        }
+
+        synchronized int fileCount() {
+            return fileCount;
+        }
+
+        private void writeCounted(String relativePath, String content) throws IOException {
+            long lines = ConversionUtils.lineCount(lineCountSource(relativePath, content)).normalize();
+            lineCount += lines;
+            fileCount++;
+            delegate.write(relativePath, content);
+            cx.metrics().record(MetricsRecord.of(MetricsRecord.OUTPUT_FILE, METRICS_TOOL)
+                    .put("project", cx.name())
+                    .put("file", relativePath)
+                    .put("lines", lines));
+        }
+    }
+
     private static String ballerinaToml(ProjectConversionContext cx) {
         String version = "0.1.0";
         String distribution = "2201.12.0";
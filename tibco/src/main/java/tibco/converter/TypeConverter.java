@@ -29,6 +29,7 @@ import common.BallerinaModel.Statement.Return;
 import common.BallerinaModel.Statement.VarDeclStatment;
 import common.BallerinaModel.TypeDesc.MapTypeDesc;
 import common.CodeGenerator;
+import common.FormattingMode;
 import common.LoggingUtils;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocuments;
@@ -66,26 +67,40 @@ class TypeConverter {
         for (int i = 0; i < content.length; i++) {
             cx.getProjectContext().incrementTypeCount();
         }
+        // Nodes generated from the XSDs are not guaranteed to carry whitespace minutiae, so they always get at least
+        // the fast layout pass
+        FormattingMode formattingMode = cx.getProjectContext().formattingMode();
+        FormattingMode typeFormattingMode =
+                formattingMode == FormattingMode.NONE ? FormattingMode.FAST : formattingMode;
+        // Projects often share the same schemas, so identical schema sets are only converted and formatted once
+        SchemaTypeCache.CachedTypes types = SchemaTypeCache.getInstance().getOrConvert(cx,
+                SchemaTypeCache.key(content, typeFormattingMode), () -> generateTypes(content, typeFormattingMode));
+        logTypeConversionErrors(cx, types.diagnostics());
+        cx.logState("Done converting XSD schemas to Ballerina types");
+        return types.types();
+    }
+
+    private static SchemaTypeCache.CachedTypes generateTypes(String[] content, FormattingMode formattingMode) {
         try {
             NodeResponse response = generateNodes(content);
-            logTypeConversionErrors(cx, response);
             SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(""));
             syntaxTree = syntaxTree.modifyWith(response.types());
-            cx.logState("Done converting XSD schemas to Ballerina types");
-            return CodeGenerator.formatSyntaxTree(syntaxTree);
+            List<String> diagnostics = response.diagnostics().stream().map(each -> each.message()).toList();
+            return new SchemaTypeCache.CachedTypes(CodeGenerator.formatSyntaxTree(syntaxTree, formattingMode),
+                    diagnostics);
         } catch (Exception e) {
             throw new RuntimeException("Type conversion failed due to: " + e.getMessage(), e);
         }
     }
 
-    private static void logTypeConversionErrors(LoggingContext cx, NodeResponse response) {
-        if (response.diagnostics().isEmpty()) {
+    private static void logTypeConversionErrors(LoggingContext cx, List<String> diagnostics) {
+        if (diagnostics.isEmpty()) {
             return;
         }
         cx.log(LoggingUtils.Level.WARN, "Errors detected while trying to convert XSD schemas to Ballerina types. " +
                 "Falling back to placeholder types");
-        for (var each : response.diagnostics()) {
-            cx.log(LoggingUtils.Level.WARN, each.message());
+        for (String each : diagnostics) {
+            cx.log(LoggingUtils.Level.WARN, each);
         }
     }
 
@@ -53,7 +53,8 @@ public sealed interface Resource {
 
     }
 
-    record JDBCSharedResource(String name, String path, Optional<String> location) implements Resource {
+    record JDBCSharedResource(String name, String path, Optional<String> location, Optional<Integer> maxConnections)
+            implements Resource {
 
         @Override
         public Collection<SubstitutionBinding> substitutionBindings() {
@@ -67,7 +68,8 @@ public sealed interface Resource {
     }
 
     record JDBCResource(String name, String path, String userName, String password, String jdbcDriver, String dbUrl,
-                        Collection<SubstitutionBinding> substitutionBindings) implements Resource {
+                        Collection<SubstitutionBinding> substitutionBindings, Optional<Integer> maxConnections)
+            implements Resource {
 
         @Override
         public ResourceKind kind() {
@@ -38,7 +38,7 @@ public class ProcessContext implements Context, LoggingContext {
 
     public ProcessContext(ProjectContext projectContext, String filePath) {
         this.projectContext = projectContext;
-        this.filePath = Path.of(filePath);
+        this.filePath = projectContext.resolvePath(filePath);
         this.fileName = getFileName(this.filePath);
     }
 
@@ -132,6 +132,11 @@ public class ProcessContext implements Context, LoggingContext {
         projectContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return projectContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         projectContext.logState(message);
@@ -33,7 +33,6 @@ import tibco.converter.ConversionUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -42,7 +41,9 @@ public final class ProjectContext implements Context, LoggingContext {
     private long nextAnonProcessIndex = 0;
     private long nextAnonXSLTIndex = 0;
     private long nextUnhandledActivityIndex = 0;
-    private final String projectPath;
+    private final Path projectDir;
+    private final String projectName;
+    private ProjectFileIndex fileIndex;
     private final ProjectConversionContext conversionContext;
     private final Set<TibcoAnalysisReport.UnhandledActivityElement> unhandledActivities = new HashSet<>();
     private final Set<TibcoAnalysisReport.PartiallySupportedActivityElement> partiallySupportedActivities =
@@ -51,8 +52,33 @@ public final class ProjectContext implements Context, LoggingContext {
     private int totalActivityCount = 0;
 
     public ProjectContext(ProjectConversionContext cx, String projectPath) {
+        this(cx, Path.of(projectPath));
+    }
+
+    /**
+     * Creates a context for the project in the given directory. The directory may belong to any file system, such as
+     * a mounted archive, and all project files are resolved against that file system.
+     *
+     * @param cx         conversion context of the project
+     * @param projectDir project directory
+     */
+    public ProjectContext(ProjectConversionContext cx, Path projectDir) {
+        this(cx, projectDir, projectDir.getFileName() != null ? projectDir.getFileName().toString() : "");
+    }
+
+    /**
+     * Creates a context for a project whose directory may not have a name of its own, such as the root of an archive
+     * that does not wrap the project in a top level directory. Project relative paths start with the name of the
+     * project directory, so the given name stands in for it in that case.
+     *
+     * @param cx          conversion context of the project
+     * @param projectDir  project directory
+     * @param projectName name of the project
+     */
+    public ProjectContext(ProjectConversionContext cx, Path projectDir, String projectName) {
         assert cx != null : "Project conversion context cannot be null";
-        this.projectPath = projectPath;
+        this.projectDir = projectDir;
+        this.projectName = projectName;
         conversionContext = cx;
     }
 
@@ -61,6 +87,11 @@ public final class ProjectContext implements Context, LoggingContext {
         conversionContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return conversionContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         conversionContext.logState(message);
@@ -82,16 +113,63 @@ public final class ProjectContext implements Context, LoggingContext {
     }
 
     public String getFileContent(String relativePath) throws IOException {
-        Path fullPath = Paths.get(projectPath, "..", relativePath);
-        return Files.readString(fullPath);
+        return Files.readString(resolveRelativePath(relativePath));
+    }
+
+    private Path resolveRelativePath(String relativePath) {
+        if (!isFileSystemRoot()) {
+            return projectDir.getFileSystem().getPath(projectDir.toString(), "..", relativePath);
+        }
+        // The root has no parent to resolve "<project>/..." against, so the project name is dropped instead
+        String path = relativePath.startsWith("/") ? relativePath.substring(1) : relativePath;
+        String projectPrefix = projectName + "/";
+        return projectDir.resolve(path.startsWith(projectPrefix) ? path.substring(projectPrefix.length()) : path);
+    }
+
+    private boolean isFileSystemRoot() {
+        return projectDir.getParent() == null && projectDir.getFileName() == null;
     }
 
     public String projectPath() {
-        return projectPath;
+        return projectDir.toString();
+    }
+
+    public Path projectDir() {
+        return projectDir;
+    }
+
+    /**
+     * Returns the index of the project files, scanning the project directory on first use.
+     *
+     * @return index of the project files
+     * @throws IOException if the project directory cannot be walked
+     */
+    public ProjectFileIndex fileIndex() throws IOException {
+        if (fileIndex == null) {
+            fileIndex = ProjectFileIndex.scan(projectDir);
+        }
+        return fileIndex;
+    }
+
+    /**
+     * Resolves a path string found while walking the project against the file system of the project.
+     *
+     * @param path path string
+     * @return path on the project file system
+     */
+    public Path resolvePath(String path) {
+        return projectDir.getFileSystem().getPath(path);
     }
 
     public String getRelativePath(Path filePath) {
-        return Paths.get(projectPath, "..").relativize(filePath).toString().replace("\\", "/");
+        // Relativize against the parent directory rather than "<project>/.." since zip file systems do not resolve
+        // ".." while relativizing
+        if (isFileSystemRoot()) {
+            return projectName + "/" + projectDir.relativize(filePath).toString().replace("\\", "/");
+        }
+        Path parent = projectDir.getParent();
+        Path base = parent != null ? parent : projectDir.getFileSystem().getPath(projectDir.toString(), "..");
+        return base.relativize(filePath).toString().replace("\\", "/");
     }
 
     @Override
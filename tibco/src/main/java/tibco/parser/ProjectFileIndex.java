@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package tibco.parser;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the files of a project by extension, built with a single walk of the project directory.
+ * <p>
+ * Every parsing unit looks up the files it handles in the same index instead of walking the project itself, so the
+ * project tree is traversed once regardless of how many file kinds are parsed.
+ */
+public final class ProjectFileIndex {
+
+    /**
+     * Directories skipped by default. These hold version control metadata and never contain project files.
+     */
+    public static final List<String> DEFAULT_IGNORE_PATTERNS = List.of(".git", ".svn", ".hg");
+
+    private final Map<String, List<String>> filesByExtension;
+
+    private ProjectFileIndex(Map<String, List<String>> filesByExtension) {
+        this.filesByExtension = filesByExtension;
+    }
+
+    public static ProjectFileIndex scan(Path projectDir) throws IOException {
+        return scan(projectDir, DEFAULT_IGNORE_PATTERNS);
+    }
+
+    /**
+     * Walks the project directory once and indexes every regular file by its extension.
+     *
+     * @param projectDir     project directory, on any file system
+     * @param ignorePatterns glob patterns of files and directories to skip. A pattern is matched against both the path
+     *                       relative to the project directory and the file name, so {@code .git} skips every
+     *                       {@code .git} directory while {@code Tests/**} only skips the top level {@code Tests}
+     *                       directory.
+     * @return index of the project files
+     * @throws IOException if the project directory cannot be walked
+     */
+    public static ProjectFileIndex scan(Path projectDir, Collection<String> ignorePatterns) throws IOException {
+        FileSystem fileSystem = projectDir.getFileSystem();
+        List<PathMatcher> ignoreMatchers = ignorePatterns.stream()
+                .map(pattern -> fileSystem.getPathMatcher("glob:" + pattern))
+                .toList();
+        Map<String, List<String>> filesByExtension = new HashMap<>();
+        Files.walkFileTree(projectDir, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (!dir.equals(projectDir) && isIgnored(projectDir, dir, ignoreMatchers)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!Files.isRegularFile(file) || isIgnored(projectDir, file, ignoreMatchers)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String fileName = file.getFileName().toString();
+                int dotIndex = fileName.lastIndexOf('.');
+                if (dotIndex >= 0) {
+                    filesByExtension.computeIfAbsent(fileName.substring(dotIndex + 1), key -> new ArrayList<>())
+                            .add(file.toString());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        // Keep the order stable regardless of the order in which the file system lists directory entries
+        filesByExtension.replaceAll((extension, files) -> files.stream().sorted().toList());
+        return new ProjectFileIndex(filesByExtension);
+    }
+
+    private static boolean isIgnored(Path projectDir, Path path, List<PathMatcher> ignoreMatchers) {
+        if (ignoreMatchers.isEmpty()) {
+            return false;
+        }
+        Path relativePath = projectDir.relativize(path);
+        Path fileName = path.getFileName();
+        for (PathMatcher matcher : ignoreMatchers) {
+            if (matcher.matches(relativePath) || (fileName != null && matcher.matches(fileName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the files with the given extension.
+     *
+     * @param extension extension without the leading dot, e.g. {@code bwp}
+     * @return paths of the matching files, sorted
+     */
+    public List<String> filesWithExtension(String extension) {
+        return filesByExtension.getOrDefault(extension, List.of());
+    }
+}
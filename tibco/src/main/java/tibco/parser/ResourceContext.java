@@ -31,7 +31,7 @@ public class ResourceContext implements Context, LoggingContext {
 
     public ResourceContext(ProjectContext projectContext, String filePath) {
         this.projectContext = projectContext;
-        this.filePath = Path.of(filePath);
+        this.filePath = projectContext.resolvePath(filePath);
     }
 
     @Override
@@ -39,6 +39,11 @@ public class ResourceContext implements Context, LoggingContext {
         projectContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return projectContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         projectContext.logState(message);
@@ -99,6 +99,11 @@ public class TypeContext implements Context, LoggingContext {
         projectContext.log(level, message);
     }
 
+    @Override
+    public boolean isLogEnabled(LoggingUtils.Level level) {
+        return projectContext.isLogEnabled(level);
+    }
+
     @Override
     public void logState(String message) {
         projectContext.logState(message);
@@ -82,9 +82,10 @@ public final class XmlToTibcoModelParser {
             name = tryGetFirstChildWithTag(root, "name").map(org.w3c.dom.Element::getTextContent).orElse("");
             Element configuration = getFirstChildWithTag(root, "config");
             Optional<String> location = parseOptionalString(configuration, "location");
+            Optional<Integer> maxConnections = parseOptionalInt(configuration, "maxConnections");
             cx.log(INFO, "Done parsing JDBCSharedResource: " + name);
             cx.logState("Parsed JDBCSharedResource: " + name);
-            return Optional.of(new Resource.JDBCSharedResource(name, cx.getResourcePath(), location));
+            return Optional.of(new Resource.JDBCSharedResource(name, cx.getResourcePath(), location, maxConnections));
         } catch (Exception ex) {
             cx.registerPartiallySupportedResource(root, name);
             return Optional.empty();
@@ -185,6 +186,8 @@ public final class XmlToTibcoModelParser {
             Element configuration = getFirstChildWithTag(root, "configuration");
             String username = parseOptionalAttribute(configuration, "username").orElse("username");
             String password = parseOptionalAttribute(configuration, "password").orElse("password");
+            Optional<Integer> maxConnections =
+                    tryParseConfig(parseOptionalAttribute(configuration, "maxConnections"), Integer::parseInt);
             Element connectionConfig = getFirstChildWithTag(configuration, "connectionConfig");
             String jdbcDriver = parseOptionalAttribute(connectionConfig, "jdbcDriver").orElse("jdbcDriver");
             String dbUrl = parseOptionalAttribute(connectionConfig, "dbURL").orElse("dbURL");
@@ -194,7 +197,7 @@ public final class XmlToTibcoModelParser {
             cx.log(INFO, "Done parsing JDBCResource: " + name);
             cx.logState("Parsed JDBCResource: " + name);
             return Optional.of(new Resource.JDBCResource(name, cx.getResourcePath(), username, password,
-                    jdbcDriver, dbUrl, substitutionBindings));
+                    jdbcDriver, dbUrl, substitutionBindings, maxConnections));
         } catch (Exception ex) {
             cx.registerUnsupportedResource(root, name);
             return Optional.empty();
@@ -35,7 +35,7 @@ public class ResourceLookupTest {
     public void testResourceLookupInProjectResources() {
         // Create test resources
         Resource.JDBCResource localResource = new Resource.JDBCResource(
-                "testJdbc", "/test/path", "user", "pass", "driver", "url", new ArrayList<>());
+                "testJdbc", "/test/path", "user", "pass", "driver", "url", new ArrayList<>(), Optional.empty());
 
         ProjectResources projectResources = new ProjectResources(
                 List.of(localResource), new ArrayList<>(), new ArrayList<>(),
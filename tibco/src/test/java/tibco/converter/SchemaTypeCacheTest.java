@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package tibco.converter;
+
+import common.FormattingMode;
+import common.LoggingUtils;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import tibco.LoggingContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SchemaTypeCacheTest {
+
+    private static final LoggingContext NO_LOGGING = new LoggingContext() {
+        @Override
+        public void log(LoggingUtils.Level level, String message) {
+        }
+
+        @Override
+        public void logState(String message) {
+        }
+    };
+
+    @Test
+    public void testKeyDependsOnSchemasAndFormattingMode() {
+        String[] schemas = {"<xs:schema>a</xs:schema>", "<xs:schema>b</xs:schema>"};
+        String key = SchemaTypeCache.key(schemas, FormattingMode.FULL);
+        Assert.assertEquals(SchemaTypeCache.key(schemas.clone(), FormattingMode.FULL), key);
+        Assert.assertNotEquals(SchemaTypeCache.key(new String[]{schemas[1], schemas[0]}, FormattingMode.FULL), key);
+        Assert.assertNotEquals(SchemaTypeCache.key(schemas, FormattingMode.FAST), key);
+        Assert.assertNotEquals(SchemaTypeCache.key(new String[]{"ab", "c"}, FormattingMode.FULL),
+                SchemaTypeCache.key(new String[]{"a", "bc"}, FormattingMode.FULL));
+    }
+
+    @Test
+    public void testIdenticalSchemasAreConvertedOnce() {
+        String key = SchemaTypeCache.key(new String[]{"<xs:schema>testIdenticalSchemas</xs:schema>"},
+                FormattingMode.FULL);
+        AtomicInteger conversions = new AtomicInteger();
+        SchemaTypeCache.CachedTypes converted = new SchemaTypeCache.CachedTypes(
+                SyntaxTree.from(TextDocuments.from("type Foo record {};\n")), List.of("warning"));
+
+        SchemaTypeCache cache = SchemaTypeCache.getInstance();
+        SchemaTypeCache.CachedTypes first = cache.getOrConvert(NO_LOGGING, key, () -> {
+            conversions.incrementAndGet();
+            return converted;
+        });
+        SchemaTypeCache.CachedTypes second = cache.getOrConvert(NO_LOGGING, key, () -> {
+            conversions.incrementAndGet();
+            return converted;
+        });
+
+        Assert.assertEquals(conversions.get(), 1);
+        Assert.assertEquals(second.types().toSourceCode(), first.types().toSourceCode());
+        Assert.assertEquals(second.diagnostics(), List.of("warning"));
+    }
+
+    @Test
+    public void testEntriesAreReadBackFromDisk() throws IOException {
+        Path cacheDir = Files.createTempDirectory("schema-type-cache");
+        try {
+            assertRoundTrip(cacheDir, "<xs:schema>withDiagnostics</xs:schema>", List.of("first", "second"));
+            assertRoundTrip(cacheDir, "<xs:schema>withoutDiagnostics</xs:schema>", List.of());
+        } finally {
+            try (var paths = Files.walk(cacheDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    private static void assertRoundTrip(Path cacheDir, String schema, List<String> diagnostics) {
+        String key = SchemaTypeCache.key(new String[]{schema}, FormattingMode.FULL);
+        String source = "type Foo record {\n    string bar;\n};\n";
+        new SchemaTypeCache(cacheDir).getOrConvert(NO_LOGGING, key, () -> new SchemaTypeCache.CachedTypes(
+                SyntaxTree.from(TextDocuments.from(source)), diagnostics));
+        Assert.assertTrue(Files.exists(cacheDir.resolve(key + ".bal")));
+        Assert.assertTrue(Files.exists(cacheDir.resolve(key + ".diagnostics")));
+
+        // A fresh instance has nothing in memory, so the entry can only come from the cache directory
+        SchemaTypeCache.CachedTypes read = new SchemaTypeCache(cacheDir).getOrConvert(NO_LOGGING, key, () -> {
+            throw new AssertionError("Cached entry was not read from disk");
+        });
+        Assert.assertEquals(read.types().toSourceCode(), source);
+        Assert.assertEquals(read.diagnostics(), diagnostics);
+    }
+}
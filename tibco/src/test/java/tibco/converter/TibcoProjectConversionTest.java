@@ -20,13 +20,21 @@ package tibco.converter;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import common.FormattingMode;
+import common.MigrationLogger;
+import common.metrics.MetricsRecord;
+import common.metrics.MetricsRecorder;
+import common.output.InMemoryOutputSink;
+import common.output.ZipOutputSink;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import tibco.ConversionContext;
 import tibco.ProjectConversionContext;
+import tibco.model.Process;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -35,6 +43,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 public class TibcoProjectConversionTest {
@@ -282,6 +292,89 @@ public class TibcoProjectConversionTest {
         }
     }
 
+    @Test(groups = {"tibco", "converter"})
+    public void testLineCountsIndependentOfFormattingMode() throws Exception {
+        Path tibcoProject = Path.of("src", "test", "resources", "tibco.projects", "SimpleServiceChain");
+        Map<FormattingMode, Map<String, Object>> lineCounts = new HashMap<>();
+        for (FormattingMode formattingMode : FormattingMode.values()) {
+            List<MetricsRecord> records = new CopyOnWriteArrayList<>();
+            MetricsRecorder recorder = new MetricsRecorder() {
+                @Override
+                public boolean isEnabled() {
+                    return true;
+                }
+
+                @Override
+                public void record(MetricsRecord record) {
+                    records.add(record);
+                }
+            };
+            ConversionContext conversionContext = new ConversionContext("testOrg", false, false, false,
+                    formattingMode, s -> {
+                    }, MigrationLogger.forCallback(s -> {
+                    }), recorder);
+            ProjectConversionContext cx = new ProjectConversionContext(conversionContext, "SimpleServiceChain");
+            Path tempDir = Files.createTempDirectory("tibco-line-count-test");
+            try {
+                TibcoConverter.migrateTibcoProject(cx, tibcoProject.toString(), tempDir.toString());
+            } finally {
+                TestUtils.deleteDirectory(tempDir);
+            }
+
+            Map<String, Object> counts = new TreeMap<>();
+            for (MetricsRecord record : records) {
+                Map<String, Object> fields = record.fields();
+                if (MetricsRecord.OUTPUT_FILE.equals(fields.get("type"))) {
+                    counts.put((String) fields.get("file"), fields.get("lines"));
+                } else if (MetricsRecord.PROJECT.equals(fields.get("type"))) {
+                    counts.put("<project>", ((Map<?, ?>) fields.get("generated")).get("lines"));
+                }
+            }
+            Assert.assertTrue(counts.containsKey("<project>"), "No project metrics recorded in " + formattingMode);
+            lineCounts.put(formattingMode, counts);
+        }
+
+        Assert.assertEquals(lineCounts.get(FormattingMode.NONE), lineCounts.get(FormattingMode.FULL));
+        Assert.assertEquals(lineCounts.get(FormattingMode.FAST), lineCounts.get(FormattingMode.FULL));
+    }
+
+    @Test(groups = {"tibco", "converter"}, dataProvider = "archiveLayoutProvider")
+    public void testArchiveConversion(boolean topLevelDirectory) throws Exception {
+        Path tibcoProject = Path.of("src", "test", "resources", "tibco.projects", "XMLTransform");
+        Path expectedBallerinaProject = Path.of("src", "test", "resources", "tibco.projects.converted",
+                "XMLTransform");
+        Path archiveDir = Files.createTempDirectory("tibco-archive-input");
+        Path tempDir = Files.createTempDirectory("tibco-archive-test");
+        try {
+            // The stylesheet is referenced as /XMLTransform/Resources/transform.xslt, so without a top level
+            // directory the project name has to come from the archive name
+            Path archive = archiveDir.resolve("XMLTransform.zip");
+            zipProject(tibcoProject, archive, topLevelDirectory ? "XMLTransform/" : "");
+            ProjectConversionContext cx = TestUtils.createTestProjectConversionContext("testOrg", "XMLTransform");
+
+            TibcoConverter.migrateTibcoProject(cx, archive.toString(), tempDir.toString());
+
+            TestUtils.compareDirectories(tempDir, expectedBallerinaProject);
+        } finally {
+            TestUtils.deleteDirectory(archiveDir);
+            TestUtils.deleteDirectory(tempDir);
+        }
+    }
+
+    @DataProvider
+    public Object[][] archiveLayoutProvider() {
+        return new Object[][]{{true}, {false}};
+    }
+
+    private static void zipProject(Path projectDir, Path archive, String entryPrefix) throws IOException {
+        try (ZipOutputSink sink = new ZipOutputSink(archive); Stream<Path> files = Files.walk(projectDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                sink.write(entryPrefix + projectDir.relativize(file).toString().replace('\\', '/'),
+                        Files.readString(file));
+            }
+        }
+    }
+
     @Test(groups = {"tibco", "converter"})
     public void testMultiRootConversion() throws IOException {
         // Create temporary directories for input and output
@@ -339,6 +432,38 @@ public class TibcoProjectConversionTest {
         }
     }
 
+    @Test(groups = {"tibco", "converter"})
+    public void testMultiRootReleasesWrittenProjects() throws InterruptedException {
+        Path multiRootSource = Path.of("src", "test", "resources", "multi-root");
+        // Called by the helloWorld project
+        Process.ProcessIdentifier sharedProcess = new Process.ProcessIdentifier("/lib/Process/shared.process");
+        ConversionContext cx = TestUtils.createTestConversionContext("testOrg", false, false);
+        AtomicReference<WeakReference<Process>> libProcess = new AtomicReference<>();
+
+        List<TibcoConverter.MultiRootSerializedProjectInfo> serializedProjects =
+                TibcoConverter.processMultiRootProjects(cx, multiRootSource, Optional.empty(), info -> {
+                    if (info.childName().equals("lib")) {
+                        cx.lookupProcess(sharedProcess).ifPresent(process ->
+                                libProcess.set(new WeakReference<>(process)));
+                    }
+                    return new InMemoryOutputSink();
+                });
+
+        Assert.assertEquals(serializedProjects.size(), 2);
+        Assert.assertNotNull(libProcess.get(), "The lib process should be resident until its files are written");
+        Assert.assertTrue(cx.lookupProcess(sharedProcess).isEmpty());
+        Assert.assertTrue(cx.processFunction(sharedProcess.name()).isPresent(),
+                "Released projects should still be callable by name");
+
+        // Nothing reachable from the results or the shared context still refers to the model of the lib project
+        for (int attempt = 0; attempt < 20 && libProcess.get().get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assert.assertNull(libProcess.get().get(), "The lib process model is still referenced");
+        Assert.assertFalse(serializedProjects.get(0).serialized().files().isEmpty());
+    }
+
     @Test(groups = { "tibco", "converter" })
     public void testMultiRootConversionByAPI() throws IOException {
         // Setup multi-root source directory structure
@@ -490,6 +615,69 @@ public class TibcoProjectConversionTest {
                 "Aggregate report should contain title");
     }
 
+    @Test(groups = {"tibco", "converter"})
+    public void testMultiRootAssessment() throws IOException {
+        Path multiRootSource = Path.of("src", "test", "resources", "multi-root");
+        Path tempOutputDir = Files.createTempDirectory("tibco-multiroot-assess");
+        List<MetricsRecord> records = new CopyOnWriteArrayList<>();
+        MetricsRecorder recorder = new MetricsRecorder() {
+
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public void record(MetricsRecord record) {
+                records.add(record);
+            }
+        };
+        ConversionContext cx = new ConversionContext("testOrg", false, true, false, FormattingMode.defaultMode(),
+                s -> {
+                }, MigrationLogger.forCallback(s -> {
+                }), recorder);
+
+        try {
+            TibcoConverter.assessTibcoMultiRoot(cx, multiRootSource, tempOutputDir.toString(), Optional.empty());
+
+            // Only the reports are written
+            List<Path> writtenFiles;
+            try (Stream<Path> files = Files.walk(tempOutputDir)) {
+                writtenFiles = files.filter(Files::isRegularFile).toList();
+            }
+            Assert.assertTrue(writtenFiles.stream().noneMatch(file -> file.toString().endsWith(".bal") ||
+                    file.getFileName().toString().equals("Ballerina.toml")),
+                    "Unexpected generated files: " + writtenFiles);
+            String combinedReport = Files.readString(tempOutputDir.resolve("combined_summary_report.html"));
+            Assert.assertTrue(combinedReport.contains("Combined Migration Assessment"));
+
+            for (String project : List.of("helloWorld", "lib")) {
+                Assert.assertTrue(Files.exists(tempOutputDir.resolve(project + "_converted").resolve("report.html")),
+                        "Report of " + project + " should exist");
+
+                long processCount;
+                try (Stream<Path> files = Files.walk(multiRootSource.resolve(project))) {
+                    processCount = files.map(file -> file.getFileName().toString())
+                            .filter(name -> name.endsWith(".bwp") || name.endsWith(".process"))
+                            .count();
+                }
+                Map<String, Object> projectRecord = records.stream()
+                        .map(MetricsRecord::fields)
+                        .filter(fields -> MetricsRecord.PROJECT.equals(fields.get("type")) &&
+                                project.equals(fields.get("project")))
+                        .findFirst()
+                        .orElseThrow(() -> new AssertionError("No metrics recorded for " + project));
+                Assert.assertEquals(projectRecord.get("assess"), true);
+                int activityCount = (Integer) ((Map<?, ?>) projectRecord.get("activities")).get("total");
+                long expectedLines = ConversionUtils.estimateLineCount((int) processCount, activityCount);
+                Assert.assertTrue(expectedLines > 0);
+                Assert.assertEquals(((Map<?, ?>) projectRecord.get("generated")).get("lines"), expectedLines);
+            }
+        } finally {
+            TestUtils.deleteDirectory(tempOutputDir);
+        }
+    }
+
     @Test(groups = {"tibco", "converter"})
     public void testMigrateTIBCOAPIErrorHandling() {
         // Test missing parameter
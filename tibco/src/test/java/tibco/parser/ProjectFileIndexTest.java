@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package tibco.parser;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ProjectFileIndexTest {
+
+    @Test
+    public void testFilesIndexedByExtension() throws IOException {
+        Path projectDir = Files.createTempDirectory("file-index-test");
+        Path processes = Files.createDirectories(projectDir.resolve("Processes"));
+        Path resources = Files.createDirectories(projectDir.resolve("Resources"));
+        Files.writeString(processes.resolve("b.bwp"), "");
+        Files.writeString(processes.resolve("a.bwp"), "");
+        Files.writeString(resources.resolve("db.sharedjdbc"), "");
+        Files.writeString(resources.resolve("schema.xsd"), "");
+
+        ProjectFileIndex index = ProjectFileIndex.scan(projectDir);
+
+        assertEquals(index.filesWithExtension("bwp"),
+                List.of(processes.resolve("a.bwp").toString(), processes.resolve("b.bwp").toString()));
+        assertEquals(index.filesWithExtension("sharedjdbc"), List.of(resources.resolve("db.sharedjdbc").toString()));
+        assertEquals(index.filesWithExtension("xsd"), List.of(resources.resolve("schema.xsd").toString()));
+        assertTrue(index.filesWithExtension("process").isEmpty());
+    }
+
+    @Test
+    public void testIgnoredPathsAreSkipped() throws IOException {
+        Path projectDir = Files.createTempDirectory("file-index-test");
+        Path vcsDir = Files.createDirectories(projectDir.resolve(".git").resolve("objects"));
+        Path testsDir = Files.createDirectories(projectDir.resolve("Tests"));
+        Files.writeString(vcsDir.resolve("stale.bwp"), "");
+        Files.writeString(testsDir.resolve("test.bwp"), "");
+        Files.writeString(projectDir.resolve("main.bwp"), "");
+
+        assertEquals(ProjectFileIndex.scan(projectDir).filesWithExtension("bwp"),
+                List.of(projectDir.resolve("Tests").resolve("test.bwp").toString(),
+                        projectDir.resolve("main.bwp").toString()));
+        assertEquals(ProjectFileIndex.scan(projectDir, List.of(".git", "Tests")).filesWithExtension("bwp"),
+                List.of(projectDir.resolve("main.bwp").toString()));
+    }
+}
@@ -7,20 +7,7 @@ import testOrg/lib;
 
 function Call_shared_process(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform2" match="/">
-        <InvokeProcessInput>
-                    
-    <options>
-                            
-        <xsl:value-of select="$post/root/item/req" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </options>
-                
-</InvokeProcessInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_4f1c5376, cx.variables);
     addToContext(cx, "$Start", var1);
     lib:start_lib_Process_shared_process(cx);
     xml var2 = cx.result;
@@ -35,24 +22,7 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function LogLoadedVars(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-                            
-        <sharedValue>
-                                    
-            <xsl:value-of select="$loadSharedVariable" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </sharedValue>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_3db3122a, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "LogLoadedVars", var2);
@@ -60,39 +30,28 @@ function LogLoadedVars(Context cx) returns error? {
 
 function SQL_Direct(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform3" match="/">
-        <jdbcGeneralActivityInput>
-                    
-    <statement>
-                            SELECT * FROM DB WHERE USER_ID=
-        <xsl:value-of select="$post//UserId" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </statement>
-                
-</jdbcGeneralActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_e9605277, cx.variables);
     string var2 = (var1/**/<statement>/*).toString().trim();
     sql:ParameterizedQuery var3 = ``;
     var3.strings = [var2];
     xml var4;
     if var2.startsWith("SELECT") {
         stream<record {|anydata...;|}, error?> var5 = JDBCConnection->query(var3);
-        xml var6 = xml ``;
-        check from var each in var5
+        xml[] var6 = [];
+        error? var8 = from var each in var5
             do {
                 xml var7 = check toXML(each);
-                var6 = var6 + xml `<Record>${var7}</Record>`;
+                var6.push(xml `<Record>${var7}</Record>`);
             };
 
-        xml var8 = xml `<root>${var6}</root>`;
-        var4 = var8;
+        check var5.close();
+        check var8;
+        xml var9 = xml `<root>${xml:concat(...var6)}</root>`;
+        var4 = var9;
     } else {
-        sql:ExecutionResult var9 = check JDBCConnection->execute(var3);
-        xml var10 = xml `<root></root>`;
-        var4 = var10;
+        sql:ExecutionResult var10 = check JDBCConnection->execute(var3);
+        xml var11 = xml `<root></root>`;
+        var4 = var11;
     }
     // WARNING: validate jdbc query result mapping
     addToContext(cx, "SQL-Direct", var4);
@@ -130,20 +89,7 @@ function start_Processes_Main_process(Context cx) returns () {
 
 function storeSharedVariable(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable"/>     <xsl:template name="Transform1" match="/">
-        <root>
-                    
-    <count>
-                            
-        <xsl:value-of select="$loadSharedVariable/root/count + 1" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </count>
-                
-</root>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_4605528c, cx.variables);
     setSharedVariable(cx, "shared", var1);
     addToContext(cx, "storeSharedVariable", var1);
 }
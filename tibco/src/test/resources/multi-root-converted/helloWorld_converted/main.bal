@@ -1,5 +1,65 @@
 import ballerina/http;
 
+final xml styleSheet_3db3122a = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable"/>     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
+                    
+    <message>
+                            
+        <sharedValue>
+                                    
+            <xsl:value-of select="$loadSharedVariable" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                
+        </sharedValue>
+                        
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_4605528c = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable"/>     <xsl:template name="Transform1" match="/">
+        <root>
+                    
+    <count>
+                            
+        <xsl:value-of select="$loadSharedVariable/root/count + 1" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </count>
+                
+</root>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_4f1c5376 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform2" match="/">
+        <InvokeProcessInput>
+                    
+    <options>
+                            
+        <xsl:value-of select="$post/root/item/req" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </options>
+                
+</InvokeProcessInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_e9605277 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform3" match="/">
+        <jdbcGeneralActivityInput>
+                    
+    <statement>
+                            SELECT * FROM DB WHERE USER_ID=
+        <xsl:value-of select="$post//UserId" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </statement>
+                
+</jdbcGeneralActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener http:Listener placeholder_listener = new (8080);
 
 service on placeholder_listener {
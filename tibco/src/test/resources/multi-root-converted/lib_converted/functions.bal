@@ -3,17 +3,7 @@ import ballerina/xslt;
 
 function Log(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>Called shared process</message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_b7daa7e9, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log", var2);
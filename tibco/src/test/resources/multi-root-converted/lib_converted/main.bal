@@ -1,3 +1,14 @@
+final xml styleSheet_b7daa7e9 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
+                    
+    <message>Called shared process</message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 xmlns "http://xmlns.tibco.com/bw/process/2003" as pd;
 xmlns "http://www.w3.org/1999/XSL/Transform" as xsl;
 xmlns "http://www.tibco.com/pe/EngineTypes" as ns;
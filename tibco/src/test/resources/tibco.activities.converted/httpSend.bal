@@ -1,7 +1,6 @@
 function activityExtension(Context cx) returns error? {
     xml var0 = getFromContext(cx, "InputVariable");
-    xml var1 = check xslt:transform(var0, xml`<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:tns4="http://tns.tibco.com/bw/activity/sendhttprequest/input+255a70f6-2bf4-4f72-928d-3fe2a72ce7a0+RequestActivityInput" xmlns:tns6="/y54cuadtcxtfstqs3rux2gfdaxppoqgc/T1535409245354Converted/JsonSchema" version="2.0"><xsl:param name="Payload"/><xsl:param name="Start"/><xsl:template name="SendHTTPRequest-input" match="/"><tns4:RequestActivityInput><Method><xsl:value-of select="'POST'"/></Method><RequestURI><xsl:value-of select="'/service'"/></RequestURI><PostData><xsl:value-of select="$Payload/root/jsonString"/></PostData><Headers><Accept><xsl:value-of select="'application/json'"/></Accept><Content-Type><xsl:value-of select="'application/json'"/></Content-Type></Headers><parameters></parameters></tns4:RequestActivityInput></xsl:template></xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_f630f0a0, cx.variables);
     string var2 = (var1/**/<Method>[0]).data();
     string var3 = (var1/**/<RequestURI>[0]).data();
     json var4 = ();
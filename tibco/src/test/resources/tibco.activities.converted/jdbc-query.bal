@@ -0,0 +1,20 @@
+function JDBC_Query(Context cx) returns error? {
+    xml var0 = xml`<root></root>`;
+    sql:ParameterizedQuery var1 = `select * FROM DB`;
+    
+// WARNING: Missing DB client resource '/CRUD/SharedResources/JDBCConnection.sharedjdbc'. Using placeholder client.
+
+    xml var2;
+    stream<record{|anydata...;|}, error?> var3 = placeholder_db_connection->query(var1);
+    xml[] var4 = [];
+    error? var6 = from var each in var3 limit 100 do {
+    xml var5 = check toXML(each);
+    var4.push(xml `<Record>${var5}</Record>`);
+};
+
+    check var3.close();
+    check var6;
+    xml var7 = xml`<root>${xml:concat(...var4)}</root>`;
+    var2 = var7;
+    addToContext(cx, "JDBC-Query", var2);
+}
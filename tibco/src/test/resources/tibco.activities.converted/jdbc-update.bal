@@ -1,19 +1,6 @@
 function JDBC_Update(Context cx) returns error? {
     xml var0 = xml`<root></root>`;
-    xml var1 = check xslt:transform(var0, xml`<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
-        <jdbcUpdateActivityInput>
-                
-    <UserId>
-                        
-        <xsl:value-of select="$post//UserId"/>
-                    
-    </UserId>
-            
-</jdbcUpdateActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_90bbb2ef, cx.variables);
     
 // WARNING: Prepared data is not supported, validate generated query
 
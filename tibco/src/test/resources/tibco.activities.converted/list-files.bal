@@ -1,16 +1,6 @@
 function List_Files_Test(Context cx) returns error? {
     xml var0 = xml`<root></root>`;
-    xml var1 = check xslt:transform(var0, xml`<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="2.0">
-     <xsl:template name="Transform0" match="/">
-        <ns1:ListFilesActivityConfig>
-                
-    <fileName>test/path/*.txt</fileName>
-            
-</ns1:ListFilesActivityConfig>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_fc5f9b3e, cx.variables);
     
 // WARNING: Only fileName and fullName are supported in ListFilesActivity output.
 
@@ -1,18 +1,6 @@
 function SOAPRequestReply(Context cx) returns error? {
     xml var0 = xml`<root></root>`;
-    xml var1 = check xslt:transform(var0, xml`<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" version="2.0">
-     <xsl:template name="Transform0" match="/">
-        <inputMessage>
-                
-    <message>
-                "foo bar"
-            </message>
-            
-</inputMessage>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_3f21a405, cx.variables);
     soap11:Client var2 = check new ("http://localhost:8800");
     xml var3 = xml`<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/"
   soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
@@ -11,21 +11,7 @@ function Catch(Context cx) returns error? {
 
 function ErrorLog(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform5" match="/">
-        <ActivityInput>
-                    
-    <message>
-                            
-        <xsl:value-of select="Error" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_b8a21e87, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "ErrorLog", var2);
@@ -39,13 +25,7 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function JDBC_Delete(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform3" match="/">
-        <jdbcUpdateActivityInput/>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_5c41f06c, cx.variables);
     sql:ParameterizedQuery var2 = `delete from DB where USER_ID=foo`;
     xml var3;
     sql:ExecutionResult var4 = check JDBCConnection->execute(var2);
@@ -57,48 +37,27 @@ function JDBC_Delete(Context cx) returns error? {
 
 function JDBC_Query(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform2" match="/">
-        <jdbcQueryActivityInput/>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_1d9b4c6d, cx.variables);
     sql:ParameterizedQuery var2 = `select * FROM DB`;
     xml var3;
     stream<record {|anydata...;|}, error?> var4 = JDBCConnection->query(var2);
-    xml var5 = xml ``;
-    int var6 = 0;
-    while var6 < 100 {
-        var each = var4.next();
-        if each is error? {
-            break;
-        }
-        var6 += 1;
-        xml var7 = check toXML(each);
-        var5 = var5 + xml `<Record>${var7}</Record>`;
-    }
-    xml var8 = xml `<root>${var5}</root>`;
+    xml[] var5 = [];
+    error? var7 = from var each in var4
+        limit 100
+        do {
+            xml var6 = check toXML(each);
+            var5.push(xml `<Record>${var6}</Record>`);
+        };
+    check var4.close();
+    check var7;
+    xml var8 = xml `<root>${xml:concat(...var5)}</root>`;
     var3 = var8;
     addToContext(cx, "JDBC-Query", var3);
 }
 
 function JDBC_Update(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform4" match="/">
-        <jdbcUpdateActivityInput>
-                    
-    <UserId>
-                            
-        <xsl:value-of select="$post//UserId" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </UserId>
-                
-</jdbcUpdateActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_303a5139, cx.variables);
     // WARNING: Prepared data is not supported, validate generated query
     sql:ParameterizedQuery var2 = `INSERT INTO DB (USER_ID) VALUES (?)`;
     xml var3;
@@ -111,19 +70,7 @@ function JDBC_Update(Context cx) returns error? {
 
 function Log(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-         Request received for lat:
-        <xsl:value-of select="$post//UserId" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_f2fac382, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log", var2);
@@ -131,38 +78,28 @@ function Log(Context cx) returns error? {
 
 function SQL_Direct(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform1" match="/">
-        <jdbcGeneralActivityInput>
-                    
-    <statement>
-                    SELECT * FROM DB WHERE USER_ID=foo
-                </statement>
-                
-</jdbcGeneralActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_1b3f426c, cx.variables);
     string var2 = (var1/**/<statement>/*).toString().trim();
     sql:ParameterizedQuery var3 = ``;
     var3.strings = [var2];
     xml var4;
     if var2.startsWith("SELECT") {
         stream<record {|anydata...;|}, error?> var5 = JDBCConnection->query(var3);
-        xml var6 = xml ``;
-        check from var each in var5
+        xml[] var6 = [];
+        error? var8 = from var each in var5
             do {
                 xml var7 = check toXML(each);
-                var6 = var6 + xml `<Record>${var7}</Record>`;
+                var6.push(xml `<Record>${var7}</Record>`);
             };
 
-        xml var8 = xml `<root>${var6}</root>`;
-        var4 = var8;
+        check var5.close();
+        check var8;
+        xml var9 = xml `<root>${xml:concat(...var6)}</root>`;
+        var4 = var9;
     } else {
-        sql:ExecutionResult var9 = check JDBCConnection->execute(var3);
-        xml var10 = xml `<root></root>`;
-        var4 = var10;
+        sql:ExecutionResult var10 = check JDBCConnection->execute(var3);
+        xml var11 = xml `<root></root>`;
+        var4 = var11;
     }
     // WARNING: validate jdbc query result mapping
     addToContext(cx, "SQL-Direct", var4);
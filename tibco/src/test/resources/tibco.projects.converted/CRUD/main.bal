@@ -1,5 +1,74 @@
 import ballerina/http;
 
+final xml styleSheet_1b3f426c = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+     <xsl:template name="Transform1" match="/">
+        <jdbcGeneralActivityInput>
+                    
+    <statement>
+                    SELECT * FROM DB WHERE USER_ID=foo
+                </statement>
+                
+</jdbcGeneralActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_1d9b4c6d = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+     <xsl:template name="Transform2" match="/">
+        <jdbcQueryActivityInput/>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_303a5139 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform4" match="/">
+        <jdbcUpdateActivityInput>
+                    
+    <UserId>
+                            
+        <xsl:value-of select="$post//UserId" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </UserId>
+                
+</jdbcUpdateActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_5c41f06c = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+     <xsl:template name="Transform3" match="/">
+        <jdbcUpdateActivityInput/>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_b8a21e87 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+     <xsl:template name="Transform5" match="/">
+        <ActivityInput>
+                    
+    <message>
+                            
+        <xsl:value-of select="Error" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </message>
+                
+</ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_f2fac382 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
+                    
+    <message>
+         Request received for lat:
+        <xsl:value-of select="$post//UserId" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener http:Listener GeneralConnection = new (9090, {host: "localhost"});
 
 service on GeneralConnection {
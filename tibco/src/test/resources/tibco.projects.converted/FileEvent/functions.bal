@@ -13,20 +13,7 @@ function File_Poller(Context cx) returns error? {
 
 function Log(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/file" version="2.0"><xsl:param name="File-Poller"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema">
-                    
-    <message>
-                            
-        <xsl:value-of select="$File-Poller/root/ns1:EventSourceOutputNoContentClass/fileInfo/fileName" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_1c9b992d, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log", var2);
@@ -1,5 +1,19 @@
 import ballerina/file;
 
+final xml styleSheet_1c9b992d = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/file" version="2.0"><xsl:param name="File-Poller"/>     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema">
+                    
+    <message>
+                            
+        <xsl:value-of select="$File-Poller/root/ns1:EventSourceOutputNoContentClass/fileInfo/fileName" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener file:Listener File_PollerListener = new (
     path = "./TestDir/",
     recursive = true
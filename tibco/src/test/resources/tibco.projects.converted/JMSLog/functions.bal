@@ -42,21 +42,7 @@ function JMS_Queue_Receiver(Context cx) returns error? {
 
 function JMS_Send(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0">
-     <xsl:template name="Transform1" match="/">
-        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms">
-                    
-    <Body>
-                            
-        <xsl:value-of select="&quot;RECEIVED&quot;" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </Body>
-                
-</ns1:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_9b68a47c, cx.variables);
     jms:Connection var2 = check new (initialContextFactory = "org.apache.activemq.jndi.ActiveMQInitialContextFactory", providerUrl = "tcp://localhost:61617", username = "userName", password = "password");
     jms:Session var3 = check var2->createSession();
     // WARNING: using default destination configuration
@@ -70,20 +56,7 @@ function JMS_Send(Context cx) returns error? {
 
 function Log(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0"><xsl:param name="JMS-Queue-Receiver"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema">
-                    
-    <message>
-                            
-        <xsl:value-of select="$JMS-Queue-Receiver/root/ns1:ActivityOutput/Body" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_585b7167, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log", var2);
@@ -91,20 +64,7 @@ function Log(Context cx) returns error? {
 
 function Log_End(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0"><xsl:param name="JMS-Get"/>     <xsl:template name="Transform3" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema">
-                    
-    <message>
-                            
-        <xsl:value-of select="$JMS-Get/root/ns1:ActivityOutput/Body" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_a3bc8de0, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log-End", var2);
@@ -112,21 +72,7 @@ function Log_End(Context cx) returns error? {
 
 function Sleep(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0">
-     <xsl:template name="Transform2" match="/">
-        <ns0:SleepInputSchema xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer">
-                    
-    <IntervalInMillisec>
-                            
-        <xsl:value-of select="100" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </IntervalInMillisec>
-                
-</ns0:SleepInputSchema>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_997fbebb, cx.variables);
     decimal var2 = check decimal:fromString((var1/**/<IntervalInMillisec>/*).toString().trim());
     runtime:sleep(var2 / 1000);
     xml var3 = xml `<root></root>`;
@@ -135,20 +81,7 @@ function Sleep(Context cx) returns error? {
 
 function Topic_Send(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0"><xsl:param name="JMS-Get"/>     <xsl:template name="Transform4" match="/">
-        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms">
-                    
-    <Body>
-                            
-        <xsl:value-of select="$JMS-Get/root/ns1:ActivityOutput/Body" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </Body>
-                
-</ns1:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_7cadd867, cx.variables);
     jms:Connection var2 = check new (initialContextFactory = "org.apache.activemq.jndi.ActiveMQInitialContextFactory", providerUrl = "tcp://localhost:61616");
     jms:Session var3 = check var2->createSession();
     // WARNING: using default destination configuration
@@ -1,5 +1,77 @@
 import ballerinax/java.jms;
 
+final xml styleSheet_585b7167 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0"><xsl:param name="JMS-Queue-Receiver"/>     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema">
+                    
+    <message>
+                            
+        <xsl:value-of select="$JMS-Queue-Receiver/root/ns1:ActivityOutput/Body" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_7cadd867 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0"><xsl:param name="JMS-Get"/>     <xsl:template name="Transform4" match="/">
+        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms">
+                    
+    <Body>
+                            
+        <xsl:value-of select="$JMS-Get/root/ns1:ActivityOutput/Body" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </Body>
+                
+</ns1:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_997fbebb = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0">
+     <xsl:template name="Transform2" match="/">
+        <ns0:SleepInputSchema xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer">
+                    
+    <IntervalInMillisec>
+                            
+        <xsl:value-of select="100" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </IntervalInMillisec>
+                
+</ns0:SleepInputSchema>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_9b68a47c = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0">
+     <xsl:template name="Transform1" match="/">
+        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms">
+                    
+    <Body>
+                            
+        <xsl:value-of select="&quot;RECEIVED&quot;" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </Body>
+                
+</ns1:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_a3bc8de0 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema" xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/timer" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/jms" version="2.0"><xsl:param name="JMS-Get"/>     <xsl:template name="Transform3" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/WriteToLogActivitySchema">
+                    
+    <message>
+                            
+        <xsl:value-of select="$JMS-Get/root/ns1:ActivityOutput/Body" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener jms:Listener jmsJMS_Queue_ReceiverListener = new jms:Listener(
     connectionConfig = {initialContextFactory: "org.apache.activemq.jndi.ActiveMQInitialContextFactory", providerUrl: "tcp://localhost:61616"},
     consumerOptions = {
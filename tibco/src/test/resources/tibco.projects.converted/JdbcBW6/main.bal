@@ -1,5 +1,18 @@
 import ballerina/http;
 
+final xml styleSheet_4861719f = xml `<?xml version="1.0" encoding="UTF-8"?>
+                    <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
+                    xmlns:ns1="http://xmlns.example.com/test/api"
+                    version="2.0">
+                    <xsl:param name="QueryRecords"/>
+                    <xsl:template name="reply-template" match="/">
+                    <ns1:Response>
+                    <ns1:Score><xsl:value-of select="$QueryRecords/root/resultSet/Record[1]/score"/></ns1:Score>
+                    </ns1:Response>
+                    </xsl:template>
+                    </xsl:stylesheet>`;
+final xml styleSheet_f731693a = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:tns="http://www.tibco.com/namespaces/tnt/plugins/jdbc+b75f079e-d363-4c28-9b66-44009f6eacf8+input" xmlns:tns1="http://www.example.com/namespaces/tns/1535845694732" version="2.0"><xsl:param name="Start"/><xsl:template name="JDBCQuery-input" match="/"><tns:jdbcQueryActivityInput><firstName><xsl:value-of select="$Start/root/FirstName"/></firstName><lastName><xsl:value-of select="$Start/root/LastName"/></lastName><age><xsl:value-of select="$Start/root/Age"/></age></tns:jdbcQueryActivityInput></xsl:template></xsl:stylesheet>`;
 public listener http:Listener test_api_MainProcess_listener = new (8080, {host: "localhost"});
 
 service /TestAPI on test_api_MainProcess_listener {
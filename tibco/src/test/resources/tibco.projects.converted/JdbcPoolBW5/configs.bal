@@ -0,0 +1,3 @@
+import ballerina/sql;
+
+configurable sql:ConnectionPool JDBCConnectionConnectionPool = {maxOpenConnections: 10};
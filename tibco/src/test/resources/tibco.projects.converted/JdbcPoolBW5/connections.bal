@@ -0,0 +1,3 @@
+import ballerinax/java.jdbc;
+
+jdbc:Client JDBCConnection = checkpanic new ("jdbc:h2:~/path/to/database", connectionPool = JDBCConnectionConnectionPool);
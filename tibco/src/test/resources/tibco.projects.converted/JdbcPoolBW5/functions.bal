@@ -0,0 +1,153 @@
+import ballerina/data.xmldata;
+import ballerina/log;
+import ballerina/sql;
+import ballerina/xslt;
+
+function Catch(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = xml `<root>${var0}</root>`;
+    addToContext(cx, "Catch", var1);
+}
+
+function ErrorLog(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = check xslt:transform(var0, styleSheet_b8a21e87, cx.variables);
+    xml var2 = var1/**/<message>/*;
+    log:printInfo(var2.toString());
+    addToContext(cx, "ErrorLog", var2);
+}
+
+function HTTP_Receiver(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = xml `<root>${var0}</root>`;
+    addToContext(cx, "HTTP-Receiver", var1);
+}
+
+function JDBC_Delete(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = check xslt:transform(var0, styleSheet_5c41f06c, cx.variables);
+    sql:ParameterizedQuery var2 = `delete from DB where USER_ID=foo`;
+    xml var3;
+    sql:ExecutionResult var4 = check JDBCConnection->execute(var2);
+    xml var5 = xml `<root></root>`;
+    var3 = var5;
+    // WARNING: validate jdbc update result mapping
+    addToContext(cx, "JDBC-Delete", var3);
+}
+
+function JDBC_Query(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = check xslt:transform(var0, styleSheet_1d9b4c6d, cx.variables);
+    sql:ParameterizedQuery var2 = `select * FROM DB`;
+    xml var3;
+    stream<record {|anydata...;|}, error?> var4 = JDBCConnection->query(var2);
+    xml[] var5 = [];
+    error? var7 = from var each in var4
+        limit 100
+        do {
+            xml var6 = check toXML(each);
+            var5.push(xml `<Record>${var6}</Record>`);
+        };
+    check var4.close();
+    check var7;
+    xml var8 = xml `<root>${xml:concat(...var5)}</root>`;
+    var3 = var8;
+    addToContext(cx, "JDBC-Query", var3);
+}
+
+function JDBC_Update(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = check xslt:transform(var0, styleSheet_303a5139, cx.variables);
+    // WARNING: Prepared data is not supported, validate generated query
+    sql:ParameterizedQuery var2 = `INSERT INTO DB (USER_ID) VALUES (?)`;
+    xml var3;
+    sql:ExecutionResult var4 = check JDBCConnection->execute(var2);
+    xml var5 = xml `<root></root>`;
+    var3 = var5;
+    // WARNING: validate jdbc update result mapping
+    addToContext(cx, "JDBC-Update", var3);
+}
+
+function Log(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = check xslt:transform(var0, styleSheet_f2fac382, cx.variables);
+    xml var2 = var1/**/<message>/*;
+    log:printInfo(var2.toString());
+    addToContext(cx, "Log", var2);
+}
+
+function SQL_Direct(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = check xslt:transform(var0, styleSheet_1b3f426c, cx.variables);
+    string var2 = (var1/**/<statement>/*).toString().trim();
+    sql:ParameterizedQuery var3 = ``;
+    var3.strings = [var2];
+    xml var4;
+    if var2.startsWith("SELECT") {
+        stream<record {|anydata...;|}, error?> var5 = JDBCConnection->query(var3);
+        xml[] var6 = [];
+        error? var8 = from var each in var5
+            do {
+                xml var7 = check toXML(each);
+                var6.push(xml `<Record>${var7}</Record>`);
+            };
+
+        check var5.close();
+        check var8;
+        xml var9 = xml `<root>${xml:concat(...var6)}</root>`;
+        var4 = var9;
+    } else {
+        sql:ExecutionResult var10 = check JDBCConnection->execute(var3);
+        xml var11 = xml `<root></root>`;
+        var4 = var11;
+    }
+    // WARNING: validate jdbc query result mapping
+    addToContext(cx, "SQL-Direct", var4);
+}
+
+function scope0ActivityRunner(Context cx) returns error? {
+    check HTTP_Receiver(cx);
+    check Log(cx);
+    check SQL_Direct(cx);
+    check JDBC_Query(cx);
+    check JDBC_Delete(cx);
+    check JDBC_Update(cx);
+}
+
+function scope0FaultHandler(error err, Context cx) returns () {
+    checkpanic Catch(cx);
+    checkpanic ErrorLog(cx);
+}
+
+function scope0ScopeFn(Context cx) returns () {
+    error? result = scope0ActivityRunner(cx);
+    if result is error {
+        scope0FaultHandler(result, cx);
+    }
+}
+
+function start_Processes_Main_process(Context cx) returns () {
+    return scope0ScopeFn(cx);
+}
+
+function toXML(map<anydata> data) returns error|xml {
+    return xmldata:toXml(data);
+}
+
+function addToContext(Context context, string varName, xml value) {
+    xml children = value/*;
+    xml transformed = xml `<root>${children}</root>`;
+    context.variables[varName] = transformed;
+    context.result = value;
+}
+
+function initContext(map<xml> initVariables = {},
+        map<SharedVariableContext> jobSharedVariables = {})
+            returns Context {
+    map<SharedVariableContext> sharedVariables = {};
+
+    foreach var key in jobSharedVariables.keys() {
+        sharedVariables[key] = jobSharedVariables.get(key);
+    }
+    return {variables: initVariables, result: xml `<root/>`, sharedVariables};
+}
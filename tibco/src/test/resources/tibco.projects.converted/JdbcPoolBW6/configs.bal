@@ -0,0 +1,4 @@
+import ballerina/sql;
+
+configurable string dbURL = ?;
+configurable sql:ConnectionPool dbConnectionConnectionPool = {maxOpenConnections: 10};
@@ -0,0 +1,120 @@
+import ballerina/data.jsondata;
+import ballerina/data.xmldata;
+import ballerina/http;
+import ballerina/sql;
+import ballerina/xslt;
+
+function activityExtension(Context cx) returns error? {
+    xml var0 = getFromContext(cx, "QueryRecords-input");
+    xml var1 = check xslt:transform(var0, styleSheet_f731693a, cx.variables);
+    string firstName = (var1/<firstName>/*).toString().trim();
+    string lastName = (var1/<lastName>/*).toString().trim();
+    string age = (var1/<age>/*).toString().trim();
+    sql:ParameterizedQuery var2 = `select * from table where firstName like ${firstName} and lastName like ${lastName} and age < ${age}`;
+    stream<record {|anydata...;|}, error?> var3 = dbConnection->query(var2);
+    xml[] var4 = [];
+    error? var6 = from var each in var3
+        do {
+            xml var5 = check toXML(each);
+            var4.push(xml `<Record>${var5}</Record>`);
+        };
+    check var3.close();
+    check var6;
+    xml var7 = xml `<root>${xml:concat(...var4)}</root>`;
+    addToContext(cx, "QueryRecords", var7);
+}
+
+function receiveEvent(Context cx) returns error? {
+    addToContext(cx, "Start", getFromContext(cx, "$input"));
+}
+
+function reply(Context cx) returns error? {
+    xml var0 = xml `<root></root>`;
+    xml var1 = check xslt:transform(var0, styleSheet_4861719f, cx.variables);
+    setXMLResponse(cx, var1, {});
+}
+
+function scopeActivityRunner(Context cx) returns error? {
+    check receiveEvent(cx);
+    check activityExtension(cx);
+    check reply(cx);
+}
+
+function scopeFaultHandler(error err, Context cx) returns () {
+    panic err;
+}
+
+function scopeScopeFn(Context cx) returns () {
+    error? result = scopeActivityRunner(cx);
+    if result is error {
+        scopeFaultHandler(result, cx);
+    }
+}
+
+function start_test_api_MainProcess(Context params) returns () {
+    scopeScopeFn(params);
+}
+
+function toXML(map<anydata> data) returns error|xml {
+    return xmldata:toXml(data);
+}
+
+function tryBindToTestRequest(xml|json input) returns TestRequest|error {
+    return input is xml ? xmldata:parseAsType(input) : jsondata:parseAsType(input);
+}
+
+function addToContext(Context context, string varName, xml value) {
+    xml children = value/*;
+    xml transformed = xml `<root>${children}</root>`;
+    context.variables[varName] = transformed;
+    context.result = value;
+}
+
+function getFromContext(Context context, string varName) returns xml {
+    xml? value = context.variables[varName];
+    if value == () {
+        return xml `<root/>`;
+    }
+    return value;
+}
+
+function initContext(map<xml> initVariables = {},
+        map<SharedVariableContext> jobSharedVariables = {})
+            returns Context {
+    map<SharedVariableContext> sharedVariables = {};
+
+    foreach var key in jobSharedVariables.keys() {
+        sharedVariables[key] = jobSharedVariables.get(key);
+    }
+    return {variables: initVariables, result: xml `<root/>`, sharedVariables};
+}
+
+function responseFromContext(Context cx) returns http:Response {
+    http:Response httpRes = new;
+    Response_21? res = cx.response;
+    if res is JSONResponse {
+        httpRes.setJsonPayload(res.payload);
+    } else if res is XMLResponse {
+        httpRes.setXmlPayload(res.payload);
+    } else if res is TextResponse {
+        httpRes.setTextPayload(res.payload);
+    } else {
+        httpRes.setXmlPayload(cx.result);
+    }
+
+    if res != () {
+        foreach var header in res.headers.entries() {
+            httpRes.setHeader(header[0], header[1]);
+        }
+    }
+    return httpRes;
+}
+
+function setXMLResponse(Context cx, xml payload, map<string> headers) {
+    XMLResponse res = {
+        kind: "XMLResponse",
+        payload: payload.cloneReadOnly(),
+        headers: headers.cloneReadOnly()
+    };
+    cx.response = res;
+}
@@ -10,17 +10,7 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function List_Files(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform0" match="/">
-        <ns1:ListFilesActivityConfig xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/file">
-                    
-    <fileName>test/path/*.txt</fileName>
-                
-</ns1:ListFilesActivityConfig>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_f8c44766, cx.variables);
     // WARNING: Only fileName and fullName are supported in ListFilesActivity output.
     string var2 = (var1/**/<fileName>/*).toString().trim();
     FileData[] var3 = check filesInPath(var2, false);
@@ -1,5 +1,16 @@
 import ballerina/http;
 
+final xml styleSheet_f8c44766 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+     <xsl:template name="Transform0" match="/">
+        <ns1:ListFilesActivityConfig xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/file">
+                    
+    <fileName>test/path/*.txt</fileName>
+                
+</ns1:ListFilesActivityConfig>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener http:Listener GeneralConnection = new (9090, {host: "localhost"});
 
 service on GeneralConnection {
@@ -5,14 +5,7 @@ import ballerina/xslt;
 
 function activityExtension(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:tns="http://xmlns.example.com/test/api" version="2.0">
-    <xsl:template name="RenderOutput-input" match="/">
-        <tns:TestResponse>
-            <tns:response>Hello world</tns:response>
-        </tns:TestResponse>
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_abb79a25, cx.variables);
     // WARNING: assuming single element
     record {|
         string response;
@@ -25,21 +18,7 @@ function activityExtension(Context cx) returns error? {
 
 function activityExtension_2(Context cx) returns error? {
     xml var0 = getFromContext(cx, "RenderOutput");
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:tns1="http://tns.tibco.com/bw/activity/sendhttpresponse/xsd/input+3847aa9b-8275-4b15-9ea8-812816768fa4+ResponseActivityInput" version="2.0">
-    <xsl:template name="SendHTTPResponse-input" match="/">
-        <tns1:ResponseActivityInput>
-            <asciiContent>
-                <xsl:value-of select="/root/jsonString"/>
-            </asciiContent>
-            <Headers>
-                <Content-Type>
-                    <xsl:value-of select="'application/json'"/>
-                </Content-Type>
-            </Headers>
-        </tns1:ResponseActivityInput>
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_229a9bf3, cx.variables);
     // FIXME ignoring headers others than content type
     string var2 = (var1/**/<Content\-Type>/*).toString();
     string var3 = (var1/**/<asciiContent>/*).toString();
@@ -1,5 +1,28 @@
 import ballerina/http;
 
+final xml styleSheet_229a9bf3 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:tns1="http://tns.tibco.com/bw/activity/sendhttpresponse/xsd/input+3847aa9b-8275-4b15-9ea8-812816768fa4+ResponseActivityInput" version="2.0">
+    <xsl:template name="SendHTTPResponse-input" match="/">
+        <tns1:ResponseActivityInput>
+            <asciiContent>
+                <xsl:value-of select="/root/jsonString"/>
+            </asciiContent>
+            <Headers>
+                <Content-Type>
+                    <xsl:value-of select="'application/json'"/>
+                </Content-Type>
+            </Headers>
+        </tns1:ResponseActivityInput>
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_abb79a25 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:tns="http://xmlns.example.com/test/api" version="2.0">
+    <xsl:template name="RenderOutput-input" match="/">
+        <tns:TestResponse>
+            <tns:response>Hello world</tns:response>
+        </tns:TestResponse>
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener http:Listener test_api_MainProcess_listener = new (8080, {host: "localhost"});
 
 service /TestAPI on test_api_MainProcess_listener {
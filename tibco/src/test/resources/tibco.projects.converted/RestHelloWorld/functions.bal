@@ -15,21 +15,7 @@ function Catch(Context cx) returns error? {
 
 function ErrorLog(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform9" match="/">
-        <ActivityInput>
-                    
-    <message>
-                            
-        <xsl:value-of select="Error" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_f0de0bba, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "ErrorLog", var2);
@@ -43,20 +29,7 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function InvokeProcess(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="HTTP-Receiver"/>     <xsl:template name="Transform1" match="/">
-        <InvokeProcessInput>
-                    
-    <options>
-                            
-        <xsl:value-of select="$HTTP-Receiver/root/ProcessStarterOutput/QueryString" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </options>
-                
-</InvokeProcessInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_7896e238, cx.variables);
     addToContext(cx, "$Start", var1);
     start_Processes_Other_process(cx);
     xml var2 = cx.result;
@@ -65,20 +38,7 @@ function InvokeProcess(Context cx) returns error? {
 
 function Log(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Mapper"/>     <xsl:template name="Transform4" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-                            
-        <xsl:value-of select="$Mapper" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_68ed9582, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log", var2);
@@ -86,32 +46,14 @@ function Log(Context cx) returns error? {
 
 function Mapper(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="runAllTests"/>     <xsl:template name="Transform0" match="/">
-        <failedTestsCount>
-                    
-    <xsl:value-of select="count($runAllTests/root/ns:test-suites-results-msg/test-suites-results/ns3:test-suites-results//ns3:test-failure)" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                
-</failedTestsCount>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_75a3a7aa, cx.variables);
     xml var2 = xml `<root>${var1}</root>`;
     addToContext(cx, "Mapper", var2);
 }
 
 function Parse(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Render"/>     <xsl:template name="Transform6" match="/">
-        <xmlString>
-                    
-    <xsl:value-of select="$Render/root/xmlString" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                
-</xmlString>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_66528420, cx.variables);
     xml var2 = var1/<xmlString>/*;
     string var3 = var2.toString();
     xml var4 = check xml:fromString(var3);
@@ -121,21 +63,7 @@ function Parse(Context cx) returns error? {
 
 function Read_file(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform3" match="/">
-        <ReadActivityInputClass>
-                    
-    <fileName>
-                            
-        <xsl:value-of select="&quot;input.txt&quot;" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </fileName>
-                
-</ReadActivityInputClass>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_513e8271, cx.variables);
     string fileName = (var1/**/<fileName>/*).toString();
     string content = check io:fileReadString(fileName);
     xml var2 = xml `<ns:ReadActivityOutputTextClass xmlns:ns="http://www.tibco.com/namespaces/tnt/plugins/file">
@@ -148,12 +76,7 @@ function Read_file(Context cx) returns error? {
 
 function Render(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Mapper"/>     <xsl:template name="Transform5" match="/">
-        <xsl:copy-of select="$Mapper" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_41700847, cx.variables);
     string var2 = var1.toBalString();
     xml var3 = xml `<root><xmlString>${var2}</xmlString></root>`;
     addToContext(cx, "Render", var3);
@@ -161,19 +84,7 @@ function Render(Context cx) returns error? {
 
 function SOAPRequestReply(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform7" match="/">
-        <inputMessage>
-                    
-    <message>
-                    "foo bar"
-                </message>
-                
-</inputMessage>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_9b07e8c9, cx.variables);
     soap11:Client var2 = check new ("http://localhost:8800");
     xml var3 = xml `<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/"
     soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
@@ -189,40 +100,28 @@ function SOAPRequestReply(Context cx) returns error? {
 
 function SQL_Direct(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform8" match="/">
-        <jdbcGeneralActivityInput>
-                        
-    <statement>
-                                
-        <xsl:value-of select="'SELECT * FROM foo'" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                            
-    </statement>
-                    
-</jdbcGeneralActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_e4d3f891, cx.variables);
     string var2 = (var1/**/<statement>/*).toString().trim();
     sql:ParameterizedQuery var3 = ``;
     var3.strings = [var2];
     xml var4;
     if var2.startsWith("SELECT") {
         stream<record {|anydata...;|}, error?> var5 = JDBCConnection->query(var3);
-        xml var6 = xml ``;
-        check from var each in var5
+        xml[] var6 = [];
+        error? var8 = from var each in var5
             do {
                 xml var7 = check toXML(each);
-                var6 = var6 + xml `<Record>${var7}</Record>`;
+                var6.push(xml `<Record>${var7}</Record>`);
             };
 
-        xml var8 = xml `<root>${var6}</root>`;
-        var4 = var8;
+        check var5.close();
+        check var8;
+        xml var9 = xml `<root>${xml:concat(...var6)}</root>`;
+        var4 = var9;
     } else {
-        sql:ExecutionResult var9 = check JDBCConnection->execute(var3);
-        xml var10 = xml `<root></root>`;
-        var4 = var10;
+        sql:ExecutionResult var10 = check JDBCConnection->execute(var3);
+        xml var11 = xml `<root></root>`;
+        var4 = var11;
     }
     // WARNING: validate jdbc query result mapping
     addToContext(cx, "SQL-Direct", var4);
@@ -230,32 +129,7 @@ function SQL_Direct(Context cx) returns error? {
 
 function Write_File(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Mapper"/>     <xsl:template name="Transform2" match="/">
-        <ns0:WriteActivityInputTextClass xmlns:ns0="http://www.tibco.com/namespaces/tnt/plugins/file">
-                    
-    <fileName>
-                            
-        <xsl:value-of select="&quot;output.txt&quot;" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </fileName>
-                    
-    <textContent>
-                            
-        <xsl:value-of select="$Mapper" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </textContent>
-                    
-    <addLineSeparator>
-                            
-        <xsl:value-of select="true()" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </addLineSeparator>
-                
-</ns0:WriteActivityInputTextClass>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_76966023, cx.variables);
     string fileName = (var1/**/<fileName>/*).toString();
     string content = (var1/**/<textContent>/*).toString();
     check io:fileWriteString(fileName, content, "APPEND");
@@ -294,20 +168,7 @@ function HTTP_Receiver_12(Context cx) returns error? {
 
 function InnerLogElement(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="element"/>     <xsl:template name="Transform3" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                        
-    <message>
-                                
-        <xsl:value-of select="$element" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                            
-    </message>
-                    
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_7117b084, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "InnerLogElement", var2);
@@ -315,20 +176,7 @@ function InnerLogElement(Context cx) returns error? {
 
 function InnerLogIndex(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="index"/>     <xsl:template name="Transform4" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                        
-    <message>
-                                
-        <xsl:value-of select="$index" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                            
-    </message>
-                    
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_5b169a49, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "InnerLogIndex", var2);
@@ -336,20 +184,7 @@ function InnerLogIndex(Context cx) returns error? {
 
 function Log_14(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Mapper"/>     <xsl:template name="Transform1" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-                            
-        <xsl:value-of select="$Mapper" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_ad59453f, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log", var2);
@@ -375,36 +210,14 @@ function Loop(Context cx) returns error? {
 
 function Mapper_13(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="runAllTests"/>     <xsl:template name="Transform0" match="/">
-        <failedTestsCount>
-                    
-    <xsl:value-of select="count($runAllTests/root/ns:test-suites-results-msg/test-suites-results/ns3:test-suites-results//ns3:test-failure)" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                
-</failedTestsCount>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_96fbff98, cx.variables);
     xml var2 = xml `<root>${var1}</root>`;
     addToContext(cx, "Mapper", var2);
 }
 
 function Parse_JSON(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Start"/>     <xsl:template name="Transform5" match="/">
-        <ns1:ActivityInputClass xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json">
-                    
-    <jsonString>
-                            
-        <xsl:value-of select="$Start/root/foo" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </jsonString>
-                
-</ns1:ActivityInputClass>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_317784be, cx.variables);
     xmlns "http://www.tibco.com/namespaces/tnt/plugins/json" as ns;
     xml var2 = check renderJsonAsFooXML(var1);
     xml var3 = xml `<ActivityOutputClass>var2</ActivityOutputClass>`;
@@ -414,20 +227,7 @@ function Parse_JSON(Context cx) returns error? {
 
 function Render_JSON(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Parse-JSON"/>     <xsl:template name="Transform6" match="/">
-        <ns1:ActivityInputClass xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json">
-                        
-    <jsonString>
-                                
-        <xsl:value-of select="$Parse-JSON/root/ns1:ActivityOutputClass/Foo" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                            
-    </jsonString>
-                    
-</ns1:ActivityInputClass>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_478d416f, cx.variables);
     xml var2 = (var1/*);
     xmlns "http://www.tibco.com/namespaces/tnt/plugins/json" as ns;
     // WARNING: assuming single element
@@ -443,48 +243,7 @@ function Render_JSON(Context cx) returns error? {
 
 function Rest_call(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Schedule-Poller"/>     <xsl:template name="Transform7" match="/">
-        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json">
-                    
-    <ns1:Parameters>
-                            
-        <Body>
-                                    
-            <Multipart>
-                                            
-                <name>
-                                                    
-                    <xsl:value-of select="&quot;schedule&quot;" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                                
-                </name>
-                                            
-                <filename>
-                                                    
-                    <xsl:value-of select="$Schedule-Poller/root/ns:EventSourceOuputTextClass/fileInfo/fileName" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                                
-                </filename>
-                                            
-                <content>
-                                                    
-                    <fileName>
-                                                            
-                        <xsl:value-of select="concat($Schedule-Poller/root/ns:EventSourceOuputTextClass/fileInfo/location, &quot;\&quot;, $Schedule-Poller/root/ns:EventSourceOuputTextClass/fileInfo/fileName)" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                                        
-                    </fileName>
-                                                
-                </content>
-                                        
-            </Multipart>
-                                
-        </Body>
-                        
-    </ns1:Parameters>
-                
-</ns1:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_1e2157a7, cx.variables);
     xml var2 = var1/**/<Body>;
     map<json> var3 = <map<json>>xmlToJson(var2);
     http:Client var4 = check new ("https://eieio.azurewebsites.net/schedulepolling/uploadschedule");
@@ -497,19 +256,7 @@ function Rest_call(Context cx) returns error? {
 
 function SOAPSendReply(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0">
-     <xsl:template name="Transform2" match="/">
-        <Response>
-                    
-    <Body>
-                    "Foo bar"
-                </Body>
-                
-</Response>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_5319f0e9, cx.variables);
     xml var2 = xml `<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/"
     soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
     <soap:Header/>
@@ -11,21 +11,7 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function Log1(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-         Request received for lat:
-        <xsl:value-of select="$post//Latitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-        , long:
-        <xsl:value-of select="$post//Longitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_e11ba90d, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log1", var2);
@@ -33,34 +19,7 @@ function Log1(Context cx) returns error? {
 
 function Rest_call(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform1" match="/">
-        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json">
-                    
-    <ns1:Parameters>
-                            
-        <Body>
-                                    
-            <latitude>
-                                            
-                <xsl:value-of select="$post//Latitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                        
-            </latitude>
-                                    
-            <longitude>
-                                            
-                <xsl:value-of select="$post//Longitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                        
-            </longitude>
-                                
-        </Body>
-                        
-    </ns1:Parameters>
-                
-</ns1:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_a8288b47, cx.variables);
     xml var2 = var1/**/<Body>;
     map<json> var3 = <map<json>>xmlToJson(var2);
     http:Client var4 = check new ("http://localhost:8080/weather");
@@ -73,50 +32,7 @@ function Rest_call(Context cx) returns error? {
 
 function SOAP_Response(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Rest-call"/>     <xsl:template name="Transform2" match="/">
-        <ResponseActivityInput>
-                    
-    <asciiContent>
-                            
-        <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/" soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
-                                    
-            <soap:Header/>
-                                    
-            <soap:Body>
-                                            
-                <response>
-                                                    
-                    <temperature>
-                                                            
-                        <xsl:value-of select="$Rest-call//temperature" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                                        
-                    </temperature>
-                                                    
-                    <windSpeed>
-                                                            
-                        <xsl:value-of select="$Rest-call//windSpeed" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                                        
-                    </windSpeed>
-                                                    
-                    <humidity>
-                                                            
-                        <xsl:value-of select="$Rest-call//humidity" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                                        
-                    </humidity>
-                                                
-                </response>
-                                        
-            </soap:Body>
-                                
-        </soap:Envelope>
-                        
-    </asciiContent>
-                
-</ResponseActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_44bf4880, cx.variables);
     xml var2 = var1/**/<asciiContent>/*;
     xml var3 = xml `<root>${var2}</root>`;
     addToContext(cx, "SOAP-Response", var3);
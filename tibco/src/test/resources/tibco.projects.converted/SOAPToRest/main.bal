@@ -1,5 +1,92 @@
 import ballerina/http;
 
+final xml styleSheet_44bf4880 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Rest-call"/>     <xsl:template name="Transform2" match="/">
+        <ResponseActivityInput>
+                    
+    <asciiContent>
+                            
+        <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/" soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
+                                    
+            <soap:Header/>
+                                    
+            <soap:Body>
+                                            
+                <response>
+                                                    
+                    <temperature>
+                                                            
+                        <xsl:value-of select="$Rest-call//temperature" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                                        
+                    </temperature>
+                                                    
+                    <windSpeed>
+                                                            
+                        <xsl:value-of select="$Rest-call//windSpeed" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                                        
+                    </windSpeed>
+                                                    
+                    <humidity>
+                                                            
+                        <xsl:value-of select="$Rest-call//humidity" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                                        
+                    </humidity>
+                                                
+                </response>
+                                        
+            </soap:Body>
+                                
+        </soap:Envelope>
+                        
+    </asciiContent>
+                
+</ResponseActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_a8288b47 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform1" match="/">
+        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json">
+                    
+    <ns1:Parameters>
+                            
+        <Body>
+                                    
+            <latitude>
+                                            
+                <xsl:value-of select="$post//Latitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                        
+            </latitude>
+                                    
+            <longitude>
+                                            
+                <xsl:value-of select="$post//Longitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                        
+            </longitude>
+                                
+        </Body>
+                        
+    </ns1:Parameters>
+                
+</ns1:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_e11ba90d = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
+                    
+    <message>
+         Request received for lat:
+        <xsl:value-of select="$post//Latitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+        , long:
+        <xsl:value-of select="$post//Longitude" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener http:Listener MainConnection = new (9090, {host: "localhost"});
 
 service on MainConnection {
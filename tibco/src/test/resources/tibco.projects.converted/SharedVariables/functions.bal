@@ -9,30 +9,7 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function LogLoadedVars(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable"/><xsl:param name="loadJobSharedVariable"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-                            
-        <sharedValue>
-                                    
-            <xsl:value-of select="$loadSharedVariable" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </sharedValue>
-                            
-        <jobValue>
-                                    
-            <xsl:value-of select="$loadJobSharedVariable" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </jobValue>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_25772226, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "LogLoadedVars", var2);
@@ -40,30 +17,7 @@ function LogLoadedVars(Context cx) returns error? {
 
 function LogLoadedVars2(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable2"/><xsl:param name="loadJobSharedVariable2"/>     <xsl:template name="Transform3" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-                            
-        <sharedValue>
-                                    
-            <xsl:value-of select="$loadSharedVariable2" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </sharedValue>
-                            
-        <jobValue>
-                                    
-            <xsl:value-of select="$loadJobSharedVariable2" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </jobValue>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_c8932785, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "LogLoadedVars2", var2);
@@ -71,30 +25,7 @@ function LogLoadedVars2(Context cx) returns error? {
 
 function MapperXMLPayload(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable2"/><xsl:param name="loadJobSharedVariable2"/>     <xsl:template name="Transform4" match="/">
-        <payload>
-                    
-    <results>
-                            
-        <shared>
-                                    
-            <xsl:value-of select="$loadSharedVariable2" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </shared>
-                            
-        <job>
-                                    
-            <xsl:value-of select="$loadJobSharedVariable2" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </job>
-                        
-    </results>
-                
-</payload>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_a878064d, cx.variables);
     xml var2 = xml `<root>${var1}</root>`;
     addToContext(cx, "MapperXMLPayload", var2);
 }
@@ -153,40 +84,14 @@ function start_Processes_Main_process(Context cx) returns () {
 
 function storeJobSharedVariable(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadJobSharedVariable"/>     <xsl:template name="Transform2" match="/">
-        <root>
-                    
-    <count>
-                            
-        <xsl:value-of select="$loadJobSharedVariable/root/count + 1" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </count>
-                
-</root>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_5ab53818, cx.variables);
     setSharedVariable(cx, "sharedVariable", var1);
     addToContext(cx, "storeJobSharedVariable", var1);
 }
 
 function storeSharedVariable(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="loadSharedVariable"/>     <xsl:template name="Transform1" match="/">
-        <root>
-                    
-    <count>
-                            
-        <xsl:value-of select="$loadSharedVariable/root/count + 1" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </count>
-                
-</root>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_4605528c, cx.variables);
     setSharedVariable(cx, "callVar", var1);
     addToContext(cx, "storeSharedVariable", var1);
 }
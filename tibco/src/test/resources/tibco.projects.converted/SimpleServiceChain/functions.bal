@@ -4,20 +4,7 @@ import ballerina/xslt;
 
 function Call_Foo(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform1" match="/">
-        <InvokeProcessInput>
-                    
-    <options>
-                            
-        <xsl:value-of select="$post/root/item/req" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </options>
-                
-</InvokeProcessInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_7e8487b9, cx.variables);
     addToContext(cx, "$Start", var1);
     start_Processes_Foo_process(cx);
     xml var2 = cx.result;
@@ -32,24 +19,7 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function HTTP_Response(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Call-Foo"/>     <xsl:template name="Transform3" match="/">
-        <ResponseActivityInput>
-                    
-    <asciiContent>
-                            
-        <Response>
-                                    
-            <xsl:value-of select="$Call-Foo//FromBar" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                
-        </Response>
-                        
-    </asciiContent>
-                
-</ResponseActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_7f6927e1, cx.variables);
     xml var2 = var1/**/<asciiContent>/*;
     xml var3 = xml `<root>${var2}</root>`;
     addToContext(cx, "HTTP-Response", var3);
@@ -57,19 +27,7 @@ function HTTP_Response(Context cx) returns error? {
 
 function Log1(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-         Before calling Foo, initial payload 
-        <xsl:value-of select="$post" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_50331f61, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log1", var2);
@@ -77,19 +35,7 @@ function Log1(Context cx) returns error? {
 
 function Log2(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Call-Foo"/>     <xsl:template name="Transform2" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-        After calling Foo, received
-        <xsl:value-of select="$Call-Foo" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_bf1fd683, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log2", var2);
@@ -126,31 +72,7 @@ function Bar_Receiver(Context cx) returns error? {
 
 function HTTP_Response_6(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-     <xsl:template name="Transform0" match="/">
-        <ResponseActivityInput>
-                    
-    <asciiContent>
-                            
-        <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/" soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
-                                    
-            <soap:Header/>
-                                    
-            <soap:Body>
-                                            
-                <response> "bar" </response>
-                                        
-            </soap:Body>
-                                
-        </soap:Envelope>
-                        
-    </asciiContent>
-                
-</ResponseActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_fee7ee1f, cx.variables);
     xml var2 = var1/**/<asciiContent>/*;
     xml var3 = xml `<root>${var2}</root>`;
     addToContext(cx, "HTTP-Response", var3);
@@ -178,52 +100,14 @@ function start_Processes_Bar_process(Context cx) returns () {
 
 function BarMapper(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Call-Bar"/>     <xsl:template name="Transform2" match="/">
-        <BarResponse>
-                    
-    <xsl:value-of select="$Call-Bar//response" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                
-</BarResponse>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_12f7b633, cx.variables);
     xml var2 = xml `<root>${var1}</root>`;
     addToContext(cx, "BarMapper", var2);
 }
 
 function Call_Bar(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform1" match="/">
-        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json">
-                    
-    <ns1:Parameters>
-                            
-        <Body>
-                                    
-            <Main>
-                                            
-                <xsl:value-of select="$post/root/item/options" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                        
-            </Main>
-                                    
-            <Foo>
-                                            
-                <value>
-                                99
-                            </value>
-                                        
-            </Foo>
-                                
-        </Body>
-                        
-    </ns1:Parameters>
-                
-</ns1:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_d5b69a2b, cx.variables);
     soap11:Client var2 = check new ("http://localhost:9092");
     xml var3 = xml `<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/"
     soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
@@ -245,34 +129,7 @@ function Foo_Receiver(Context cx) returns error? {
 
 function HTTP_Response_11(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/><xsl:param name="BarMapper"/>     <xsl:template name="Transform3" match="/">
-        <ResponseActivityInput>
-                    
-    <asciiContent>
-                            
-        <FooResponse>
-                                    
-            <FromMain>
-                                            
-                <xsl:value-of select="$post" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                        
-            </FromMain>
-                                    
-            <FromBar>
-                                            
-                <xsl:value-of select="$BarMapper" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                                        
-            </FromBar>
-                                
-        </FooResponse>
-                        
-    </asciiContent>
-                
-</ResponseActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_648fc161, cx.variables);
     xml var2 = var1/**/<asciiContent>/*;
     xml var3 = xml `<root>${var2}</root>`;
     addToContext(cx, "HTTP-Response", var3);
@@ -280,20 +137,7 @@ function HTTP_Response_11(Context cx) returns error? {
 
 function Log1_8(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
-        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
-                    
-    <message>
-                            Called Foo with
-        <xsl:value-of select="$post" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </message>
-                
-</ns:ActivityInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
+    xml var1 = check xslt:transform(var0, styleSheet_86cacf81, cx.variables);
     xml var2 = var1/**/<message>/*;
     log:printInfo(var2.toString());
     addToContext(cx, "Log1", var2);
@@ -1,5 +1,170 @@
 import ballerina/http;
 
+final xml styleSheet_12f7b633 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="Call-Bar"/>     <xsl:template name="Transform2" match="/">
+        <BarResponse>
+                    
+    <xsl:value-of select="$Call-Bar//response" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                
+</BarResponse>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_50331f61 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
+                    
+    <message>
+         Before calling Foo, initial payload 
+        <xsl:value-of select="$post" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_648fc161 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/><xsl:param name="BarMapper"/>     <xsl:template name="Transform3" match="/">
+        <ResponseActivityInput>
+                    
+    <asciiContent>
+                            
+        <FooResponse>
+                                    
+            <FromMain>
+                                            
+                <xsl:value-of select="$post" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                        
+            </FromMain>
+                                    
+            <FromBar>
+                                            
+                <xsl:value-of select="$BarMapper" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                        
+            </FromBar>
+                                
+        </FooResponse>
+                        
+    </asciiContent>
+                
+</ResponseActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_7e8487b9 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform1" match="/">
+        <InvokeProcessInput>
+                    
+    <options>
+                            
+        <xsl:value-of select="$post/root/item/req" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </options>
+                
+</InvokeProcessInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_7f6927e1 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Call-Foo"/>     <xsl:template name="Transform3" match="/">
+        <ResponseActivityInput>
+                    
+    <asciiContent>
+                            
+        <Response>
+                                    
+            <xsl:value-of select="$Call-Foo//FromBar" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                
+        </Response>
+                        
+    </asciiContent>
+                
+</ResponseActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_86cacf81 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform0" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
+                    
+    <message>
+                            Called Foo with
+        <xsl:value-of select="$post" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_bf1fd683 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="Call-Foo"/>     <xsl:template name="Transform2" match="/">
+        <ns:ActivityInput xmlns:ns="http://www.tibco.com/pe/EngineTypes">
+                    
+    <message>
+        After calling Foo, received
+        <xsl:value-of select="$Call-Foo" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+    </message>
+                
+</ns:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_d5b69a2b = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json" version="2.0"><xsl:param name="post"/>     <xsl:template name="Transform1" match="/">
+        <ns1:ActivityInput xmlns:ns1="http://www.tibco.com/namespaces/tnt/plugins/json">
+                    
+    <ns1:Parameters>
+                            
+        <Body>
+                                    
+            <Main>
+                                            
+                <xsl:value-of select="$post/root/item/options" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                                        
+            </Main>
+                                    
+            <Foo>
+                                            
+                <value>
+                                99
+                            </value>
+                                        
+            </Foo>
+                                
+        </Body>
+                        
+    </ns1:Parameters>
+                
+</ns1:ActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_fee7ee1f = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+     <xsl:template name="Transform0" match="/">
+        <ResponseActivityInput>
+                    
+    <asciiContent>
+                            
+        <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/" soap:encodingStyle="http://schemas.xmlsoap.org/soap/encoding/">
+                                    
+            <soap:Header/>
+                                    
+            <soap:Body>
+                                            
+                <response> "bar" </response>
+                                        
+            </soap:Body>
+                                
+        </soap:Envelope>
+                        
+    </asciiContent>
+                
+</ResponseActivityInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener http:Listener BarConnection = new (9092, {host: "localhost"});
 public listener http:Listener FooConnection = new (9091, {host: "localhost"});
 public listener http:Listener MainConnection = new (9090, {host: "localhost"});
@@ -8,34 +8,8 @@ function HTTP_Receiver(Context cx) returns error? {
 
 function Transform_XML(Context cx) returns error? {
     xml var0 = xml `<root></root>`;
-    xml var1 = check xslt:transform(var0, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="HTTP-Receiver"/>     <xsl:template name="Transform0" match="/">
-        <textInput>
-                    
-    <xmlString>
-                            
-        <xsl:value-of select="$HTTP-Receiver/root/payload" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-                        
-    </xmlString>
-                
-</textInput>
-
-    </xsl:template>
-</xsl:stylesheet>`, cx.variables);
-    xml var2 = check xslt:transform(var1, xml `<?xml version="1.0" encoding="UTF-8"?>
-<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
-            xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes"
-            xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
-    <xsl:param name="HTTP-Receiver"/>
-    <xsl:template name="Transform2" match="/">
-        <ActivityInput>
-            <message>
-                <xsl:value-of select="$HTTP-Receiver/root/payload"
-                    xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
-            </message>
-        </ActivityInput>
-    </xsl:template>
-</xsl:stylesheet>`, cx);
+    xml var1 = check xslt:transform(var0, styleSheet_82c31b55, cx.variables);
+    xml var2 = check xslt:transform(var1, styleSheet_cefbc196, cx);
     addToContext(cx, "Transform-XML", var2);
 }
 
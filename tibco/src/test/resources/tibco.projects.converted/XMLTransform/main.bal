@@ -1,5 +1,33 @@
 import ballerina/http;
 
+final xml styleSheet_82c31b55 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes" xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0"><xsl:param name="HTTP-Receiver"/>     <xsl:template name="Transform0" match="/">
+        <textInput>
+                    
+    <xmlString>
+                            
+        <xsl:value-of select="$HTTP-Receiver/root/payload" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+                        
+    </xmlString>
+                
+</textInput>
+
+    </xsl:template>
+</xsl:stylesheet>`;
+final xml styleSheet_cefbc196 = xml `<?xml version="1.0" encoding="UTF-8"?>
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
+            xmlns:pd="http://xmlns.tibco.com/bw/process/2003" xmlns:ns="http://www.tibco.com/pe/EngineTypes"
+            xmlns:xsd="http://www.w3.org/2001/XMLSchema" version="2.0">
+    <xsl:param name="HTTP-Receiver"/>
+    <xsl:template name="Transform2" match="/">
+        <ActivityInput>
+            <message>
+                <xsl:value-of select="$HTTP-Receiver/root/payload"
+                    xmlns:xsl="http://www.w3.org/1999/XSL/Transform"/>
+            </message>
+        </ActivityInput>
+    </xsl:template>
+</xsl:stylesheet>`;
 public listener http:Listener GeneralConnection = new (9090, {host: "localhost"});
 
 service on GeneralConnection {